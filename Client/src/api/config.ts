@@ -26,6 +26,8 @@ export const API_ENDPOINTS = {
     IS_LIKED: (id: number) => `/videos/${id}/is-liked`,
     DELETE: (id: number) => `/videos/${id}`,
     SEARCH: '/videos/search',
+    SUGGEST: '/search/suggest',
+    TRENDING_TAGS: '/tags/trending',
     BY_TAG: (tag: string) => `/videos/tag/${encodeURIComponent(tag)}`,
     ALL: '/videos',
   },
@@ -1,6 +1,6 @@
 import { API_ENDPOINTS } from './config';
 import { authFetch, handleApiResponse, apiCallWithRetry } from './apiUtils';
-import { VideoSearchResponse } from './types';
+import { SuggestionResponse, TrendingTagResponse, VideoSearchResponse } from './types';
 
 // 키워드로 영상 검색
 export const searchVideosByKeyword = async (
@@ -107,4 +107,58 @@ export const getAllVideos = async (
       return { videos: [], total: 0, page, perPage: size };
     }
   });
+};
+
+// 검색어/태그 자동완성 (입력 중인 한글 음절도 접두어로 일치)
+export const getSearchSuggestions = async (
+  query: string,
+  limit: number = 10,
+  token?: string
+): Promise<SuggestionResponse[]> => {
+  if (!query.trim()) {
+    return [];
+  }
+  try {
+    const url = `${API_ENDPOINTS.VIDEO.SUGGEST}?q=${encodeURIComponent(query)}&limit=${limit}`;
+    const response = await authFetch(url, {
+      method: 'GET',
+      token,
+    });
+    
+    if (!response.ok) {
+      console.error('getSearchSuggestions HTTP 오류:', response.status, response.statusText);
+      return [];
+    }
+    
+    const result = await handleApiResponse<SuggestionResponse[]>(response);
+    return result.data || [];
+  } catch (error) {
+    console.error('getSearchSuggestions 네트워크 오류:', error);
+    return [];
+  }
+};
+
+// 최근 사용/반응이 많은 태그 (점수순)
+export const getTrendingTags = async (
+  limit: number = 20,
+  token?: string
+): Promise<TrendingTagResponse[]> => {
+  try {
+    const url = `${API_ENDPOINTS.VIDEO.TRENDING_TAGS}?limit=${limit}`;
+    const response = await authFetch(url, {
+      method: 'GET',
+      token,
+    });
+    
+    if (!response.ok) {
+      console.error('getTrendingTags HTTP 오류:', response.status, response.statusText);
+      return [];
+    }
+    
+    const result = await handleApiResponse<TrendingTagResponse[]>(response);
+    return result.data || [];
+  } catch (error) {
+    console.error('getTrendingTags 네트워크 오류:', error);
+    return [];
+  }
 };
\ No newline at end of file
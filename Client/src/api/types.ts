@@ -51,6 +51,25 @@ export interface VideoResponse {
   tags: string[];
   createdAt: string;
   isLiked?: boolean; // 좋아요 상태 추가
+  highlight?: SearchHighlight | null; // 검색 결과일 때만
+}
+
+// 검색어와 일치한 구간 ([시작, 끝), 문자열 인덱스 기준)
+export interface SearchHighlight {
+  title: [number, number][];
+  description: [number, number][];
+}
+
+// 검색 자동완성 항목
+export interface SuggestionResponse {
+  text: string;
+  type: 'TAG' | 'TITLE';
+  weight: number;
+}
+
+export interface TrendingTagResponse {
+  name: string;
+  score: number;
 }
 
 export interface VideoUploadRequest {
@@ -63,9 +82,11 @@ export interface VideoUploadRequest {
 
 export interface VideoSearchResponse {
   videos: VideoResponse[];
-  total: number;
+  total: number | null; // 커서 방식 조회에서는 null
   page: number;
   perPage: number;
+  nextCursor?: string | null; // 커서 방식 조회의 다음 페이지 커서
+  hasNext?: boolean;
 }
 
 // 사용자 관련 타입
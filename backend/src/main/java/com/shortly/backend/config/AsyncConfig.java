@@ -0,0 +1,84 @@
+package com.shortly.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+    
+    @Value("${video.ingest.pool-size:2}")
+    private int ingestPoolSize;
+    
+    @Value("${video.ingest.queue-capacity:500}")
+    private int ingestQueueCapacity;
+    
+    @Value("${video.derived.pool-size:1}")
+    private int derivedPoolSize;
+    
+    @Value("${timeline.pool-size:2}")
+    private int timelinePoolSize;
+    
+    // 업로드 후 FFprobe/FFmpeg 처리를 담당하는 워커 풀 (요청 스레드와 분리)
+    @Bean(name = "videoIngestExecutor")
+    public Executor videoIngestExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(ingestPoolSize);
+        executor.setMaxPoolSize(ingestPoolSize);
+        executor.setQueueCapacity(ingestQueueCapacity);
+        executor.setThreadNamePrefix("video-ingest-");
+        // 대기열이 가득 차면 버리지 않고 제출한 스레드(업로드 커밋 후 요청 스레드 등)에서 처리
+        // (거절된 비디오가 재시작 전까지 PROCESSING으로 남지 않도록 업로드 쪽에 속도 조절을 걸음)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+    
+    // 공개 후 스프라이트/HLS 패키징 등 오래 걸리는 파생 미디어 생성 전용 풀 (수집 워커와 분리)
+    @Bean(name = "derivedMediaExecutor")
+    public Executor derivedMediaExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(derivedPoolSize);
+        executor.setMaxPoolSize(derivedPoolSize);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("derived-media-");
+        executor.initialize();
+        return executor;
+    }
+    
+    // 관리자 일괄 작업(썸네일 재생성 등)의 진행 루프 전용 스레드
+    @Bean(name = "backfillExecutor")
+    public Executor backfillExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("backfill-");
+        executor.initialize();
+        return executor;
+    }
+    
+    // 업로드 완료 영상을 구독자 수신함에 나눠 넣는 전달 작업 전용 풀
+    @Bean(name = "timelineExecutor")
+    public Executor timelineExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(timelinePoolSize);
+        executor.setMaxPoolSize(timelinePoolSize);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("timeline-");
+        // 대기열이 가득 차도 발행한 쪽(수집 워커)으로 예외를 던지지 않고 그 스레드에서 바로 전달
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
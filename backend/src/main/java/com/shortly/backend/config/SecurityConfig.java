@@ -43,6 +43,9 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/api/videos/search").permitAll()
+                .requestMatchers("/api/search/**").permitAll()
+                .requestMatchers("/api/tags/**").permitAll()
+                .requestMatchers("/api/videos/events").permitAll()
                 .requestMatchers("/api/videos/tag/**").permitAll()
                 .requestMatchers("/api/videos").permitAll()
                 .requestMatchers("/api/videos/{videoId}").permitAll()
@@ -51,6 +54,8 @@ public class SecurityConfig {
                 .requestMatchers("/api/videos/{videoId}/is-liked").permitAll()
                 .requestMatchers("/api/videos/file/**").permitAll()
                 .requestMatchers("/api/videos/thumbnail/**").permitAll()
+                .requestMatchers("/api/videos/hls/**").permitAll()
+                .requestMatchers("/api/videos/sprites/**").permitAll()
                 .requestMatchers("/api/videos/admin/generate-thumbnails").permitAll()
                 .requestMatchers("/uploads/**").permitAll()
                 .requestMatchers("/api/videos/admin/**").permitAll()
@@ -65,8 +70,9 @@ public class SecurityConfig {
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOriginPatterns(Arrays.asList("*"));
-        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        configuration.setAllowedMethods(Arrays.asList("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        configuration.setExposedHeaders(Arrays.asList("Upload-Offset", "Accept-Ranges", "Content-Range", "Content-Length", "ETag"));
         configuration.setAllowCredentials(true);
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -0,0 +1,35 @@
+package com.shortly.backend.domain.analytics.controller;
+
+import com.shortly.backend.domain.analytics.dto.VideoEventBatchRequest;
+import com.shortly.backend.domain.analytics.dto.VideoEventBatchResponse;
+import com.shortly.backend.domain.analytics.service.VideoEventIngestService;
+import com.shortly.backend.domain.common.dto.ApiResponse;
+import com.shortly.backend.domain.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/videos/events")
+@RequiredArgsConstructor
+public class VideoEventController {
+    
+    private final VideoEventIngestService videoEventIngestService;
+    
+    // 노출/재생/시청 시간/완료 이벤트 묶음 수신 (저장은 백그라운드에서 일괄 처리하므로 202 반환)
+    @PostMapping
+    public ResponseEntity<ApiResponse<VideoEventBatchResponse>> collectEvents(
+            @RequestBody VideoEventBatchRequest request,
+            Authentication authentication) {
+        // JWT 필터가 넣어 둔 사용자 정보만 사용 (요청 스레드에서 DB 조회 없음)
+        Long userId = null;
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            userId = user.getId();
+        }
+        VideoEventBatchResponse result = videoEventIngestService.accept(userId, request.getEvents());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Events accepted", result));
+    }
+}
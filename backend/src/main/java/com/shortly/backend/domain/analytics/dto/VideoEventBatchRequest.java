@@ -0,0 +1,16 @@
+package com.shortly.backend.domain.analytics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VideoEventBatchRequest {
+    private List<VideoEventRequest> events;
+}
@@ -0,0 +1,16 @@
+package com.shortly.backend.domain.analytics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VideoEventBatchResponse {
+    private int accepted;
+    private int rejected; // 형식이 잘못된 이벤트
+    private int dropped; // 버퍼가 가득 차 버려진 이벤트 (클라이언트는 다시 보내지 않아도 됨)
+}
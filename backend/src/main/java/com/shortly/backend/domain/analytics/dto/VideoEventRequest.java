@@ -0,0 +1,16 @@
+package com.shortly.backend.domain.analytics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VideoEventRequest {
+    private Long videoId;
+    private String type; // IMPRESSION, PLAY_START, WATCH_TIME, COMPLETION
+    private Long watchMillis; // WATCH_TIME 이벤트의 시청 시간
+}
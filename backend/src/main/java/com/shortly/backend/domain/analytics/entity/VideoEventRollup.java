@@ -0,0 +1,40 @@
+package com.shortly.backend.domain.analytics.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비디오별 시청 이벤트 누적 집계 (이벤트 반영 시 증분으로 갱신, 랭킹 계산용)
+ */
+@Entity
+@Table(name = "video_event_rollups")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VideoEventRollup {
+    
+    @Id
+    @Column(name = "video_id")
+    private Long videoId;
+    
+    @Column(nullable = false)
+    private long impressions;
+    
+    @Column(name = "play_starts", nullable = false)
+    private long playStarts;
+    
+    @Column(nullable = false)
+    private long completions;
+    
+    @Column(name = "watch_millis", nullable = false)
+    private long watchMillis;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
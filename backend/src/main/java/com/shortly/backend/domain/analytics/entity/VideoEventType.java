@@ -0,0 +1,32 @@
+package com.shortly.backend.domain.analytics.entity;
+
+/**
+ * 클라이언트 시청 이벤트 종류 (video_events.event_type 에는 code 저장)
+ */
+public enum VideoEventType {
+    IMPRESSION(1),  // 목록에 노출됨
+    PLAY_START(2),  // 재생 시작
+    WATCH_TIME(3),  // 시청 시간 보고 (watchMillis)
+    COMPLETION(4);  // 끝까지 시청
+    
+    private final int code;
+    
+    VideoEventType(int code) {
+        this.code = code;
+    }
+    
+    public int getCode() {
+        return code;
+    }
+    
+    public static VideoEventType from(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
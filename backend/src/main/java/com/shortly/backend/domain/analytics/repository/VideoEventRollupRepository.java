@@ -0,0 +1,14 @@
+package com.shortly.backend.domain.analytics.repository;
+
+import com.shortly.backend.domain.analytics.entity.VideoEventRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface VideoEventRollupRepository extends JpaRepository<VideoEventRollup, Long> {
+    
+    List<VideoEventRollup> findByVideoIdIn(Collection<Long> videoIds);
+}
@@ -0,0 +1,224 @@
+package com.shortly.backend.domain.analytics.repository;
+
+import com.shortly.backend.domain.analytics.entity.VideoEventType;
+import com.shortly.backend.domain.analytics.service.VideoEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import com.shortly.backend.utils.LongHashSet;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시청 이벤트 저장소 (JDBC)
+ * video_events 는 추가만 하는 테이블로 occurred_at 기준 일 단위 RANGE 파티션을 두어
+ * 오래된 데이터는 파티션째 삭제하고, 기간 조회는 해당 파티션만 읽는다.
+ * JPA 자동 DDL은 파티션을 만들 수 없으므로 테이블과 파티션은 여기서 직접 관리한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class VideoEventStore {
+    
+    private static final String TABLE = "video_events";
+    private static final DateTimeFormatter PARTITION_DAY = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final String MAX_PARTITION = "pmax";
+    
+    // 한 INSERT 문에 담는 최대 행 수 (max_allowed_packet 여유 고려)
+    private static final int ROWS_PER_STATEMENT = 500;
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Value("${analytics.events.partition-days-ahead:3}")
+    private int partitionDaysAhead;
+    
+    @Value("${analytics.events.retention-days:90}")
+    private int retentionDays;
+    
+    @PostConstruct
+    public void initialize() {
+        LocalDate today = LocalDate.now();
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " (" +
+                "id BIGINT NOT NULL AUTO_INCREMENT, " +
+                "video_id BIGINT NOT NULL, " +
+                "user_id BIGINT NULL, " +
+                "event_type TINYINT NOT NULL, " +
+                "watch_millis INT NOT NULL DEFAULT 0, " +
+                "occurred_at DATETIME(3) NOT NULL, " +
+                "PRIMARY KEY (id, occurred_at), " +
+                "KEY idx_video_events_video_time (video_id, occurred_at)" +
+                ") ENGINE=InnoDB " +
+                "PARTITION BY RANGE COLUMNS (occurred_at) (" +
+                partitionDefinition(today) + ", " +
+                "PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+        maintainPartitions();
+    }
+    
+    /**
+     * 앞으로 쓸 날짜 파티션을 미리 만들고 보관 기간이 지난 파티션 삭제
+     */
+    @Scheduled(cron = "${analytics.events.partition-cron:0 10 0 * * *}")
+    public void maintainPartitions() {
+        // 여러 서버가 동시에 시작하면 같은 파티션을 추가/삭제하다 충돌하므로(중복 파티션 이름 등)
+        // 실패하면 바뀐 파티션 목록을 다시 읽어 남은 변경만 한 번 더 시도
+        try {
+            reorganizePartitions();
+        } catch (DataAccessException e) {
+            System.out.println("[VideoEventStore] 파티션 변경 충돌 - 다시 확인: " + e.getMessage());
+            reorganizePartitions();
+        }
+    }
+    
+    private void reorganizePartitions() {
+        List<LocalDate> existing = existingPartitionDays();
+        LocalDate today = LocalDate.now();
+        LocalDate last = existing.isEmpty() ? today.minusDays(1) : existing.get(existing.size() - 1);
+        
+        // pmax를 나눠 빠진 날짜 파티션 추가
+        List<String> additions = new ArrayList<>();
+        for (LocalDate day = last.plusDays(1); !day.isAfter(today.plusDays(partitionDaysAhead)); day = day.plusDays(1)) {
+            additions.add(partitionDefinition(day));
+        }
+        if (!additions.isEmpty()) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + MAX_PARTITION + " INTO (" +
+                    String.join(", ", additions) + ", PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+            System.out.println("[VideoEventStore] 파티션 추가: " + additions.size() + "개");
+        }
+        
+        List<String> expired = new ArrayList<>();
+        LocalDate cutoff = today.minusDays(retentionDays);
+        for (LocalDate day : existing) {
+            if (day.isBefore(cutoff)) {
+                expired.add(partitionName(day));
+            }
+        }
+        if (!expired.isEmpty()) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + String.join(", ", expired));
+            System.out.println("[VideoEventStore] 보관 기간 지난 파티션 삭제: " + expired);
+        }
+    }
+    
+    /**
+     * 이벤트 원본을 여러 행 INSERT로 추가
+     */
+    public void append(List<VideoEvent> events) {
+        for (int from = 0; from < events.size(); from += ROWS_PER_STATEMENT) {
+            List<VideoEvent> chunk = events.subList(from, Math.min(from + ROWS_PER_STATEMENT, events.size()));
+            StringBuilder sql = new StringBuilder("INSERT INTO " + TABLE +
+                    " (video_id, user_id, event_type, watch_millis, occurred_at) VALUES ");
+            Object[] args = new Object[chunk.size() * 5];
+            int i = 0;
+            for (VideoEvent event : chunk) {
+                sql.append(i == 0 ? "(?, ?, ?, ?, ?)" : ", (?, ?, ?, ?, ?)");
+                args[i++] = event.getVideoId();
+                args[i++] = event.getUserId();
+                args[i++] = event.getType().getCode();
+                args[i++] = event.getWatchMillis();
+                args[i++] = new Timestamp(event.getReceivedAtMillis());
+            }
+            jdbcTemplate.update(sql.toString(), args);
+        }
+    }
+    
+    /**
+     * 이벤트를 받을 수 있는(공개된) 비디오 ID (없는 비디오 ID로 집계 행이 생기지 않도록 저장 전에 거름)
+     */
+    public LongHashSet findReadyVideoIds(Collection<Long> videoIds) {
+        LongHashSet ready = new LongHashSet(videoIds.size());
+        List<Long> ids = new ArrayList<>(videoIds);
+        for (int from = 0; from < ids.size(); from += ROWS_PER_STATEMENT) {
+            List<Long> chunk = ids.subList(from, Math.min(from + ROWS_PER_STATEMENT, ids.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query("SELECT id FROM videos WHERE status = 'READY' AND id IN (" + placeholders + ")",
+                    rs -> {
+                        ready.add(rs.getLong("id"));
+                    }, chunk.toArray());
+        }
+        return ready;
+    }
+    
+    /**
+     * 비디오별 집계에 이번 배치의 증분을 더함 (없던 비디오는 새 행)
+     */
+    public void incrementRollups(List<VideoEvent> events) {
+        // videoId -> {노출, 재생 시작, 완료, 시청 시간}
+        Map<Long, long[]> deltas = new HashMap<>();
+        for (VideoEvent event : events) {
+            long[] delta = deltas.computeIfAbsent(event.getVideoId(), id -> new long[4]);
+            if (event.getType() == VideoEventType.IMPRESSION) {
+                delta[0]++;
+            } else if (event.getType() == VideoEventType.PLAY_START) {
+                delta[1]++;
+            } else if (event.getType() == VideoEventType.COMPLETION) {
+                delta[2]++;
+            }
+            delta[3] += event.getWatchMillis();
+        }
+        
+        List<Map.Entry<Long, long[]>> rows = new ArrayList<>(deltas.entrySet());
+        for (int from = 0; from < rows.size(); from += ROWS_PER_STATEMENT) {
+            List<Map.Entry<Long, long[]>> chunk = rows.subList(from, Math.min(from + ROWS_PER_STATEMENT, rows.size()));
+            StringBuilder sql = new StringBuilder("INSERT INTO video_event_rollups " +
+                    "(video_id, impressions, play_starts, completions, watch_millis, updated_at) VALUES ");
+            Object[] args = new Object[chunk.size() * 5];
+            int i = 0;
+            for (Map.Entry<Long, long[]> row : chunk) {
+                sql.append(i == 0 ? "(?, ?, ?, ?, ?, NOW())" : ", (?, ?, ?, ?, ?, NOW())");
+                long[] delta = row.getValue();
+                args[i++] = row.getKey();
+                args[i++] = delta[0];
+                args[i++] = delta[1];
+                args[i++] = delta[2];
+                args[i++] = delta[3];
+            }
+            sql.append(" ON DUPLICATE KEY UPDATE " +
+                    "impressions = impressions + VALUES(impressions), " +
+                    "play_starts = play_starts + VALUES(play_starts), " +
+                    "completions = completions + VALUES(completions), " +
+                    "watch_millis = watch_millis + VALUES(watch_millis), " +
+                    "updated_at = VALUES(updated_at)");
+            jdbcTemplate.update(sql.toString(), args);
+        }
+    }
+    
+    // 날짜 파티션 목록 (오름차순, pmax 제외)
+    private List<LocalDate> existingPartitionDays() {
+        List<String> names = jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+                "ORDER BY PARTITION_ORDINAL_POSITION", String.class, TABLE);
+        List<LocalDate> days = new ArrayList<>();
+        for (String name : names) {
+            if (name.equals(MAX_PARTITION)) {
+                continue;
+            }
+            try {
+                days.add(LocalDate.parse(name.substring(1), PARTITION_DAY));
+            } catch (DateTimeParseException | StringIndexOutOfBoundsException e) {
+                System.out.println("[VideoEventStore] 알 수 없는 파티션 무시: " + name);
+            }
+        }
+        return days;
+    }
+    
+    private String partitionName(LocalDate day) {
+        return "p" + day.format(PARTITION_DAY);
+    }
+    
+    // 해당 날짜의 이벤트를 담는 파티션 (다음 날 0시 미만)
+    private String partitionDefinition(LocalDate day) {
+        return "PARTITION " + partitionName(day) + " VALUES LESS THAN ('" + day.plusDays(1) + " 00:00:00')";
+    }
+}
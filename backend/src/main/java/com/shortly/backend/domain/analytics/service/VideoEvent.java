@@ -0,0 +1,19 @@
+package com.shortly.backend.domain.analytics.service;
+
+import com.shortly.backend.domain.analytics.entity.VideoEventType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 버퍼에 담기는 시청 이벤트 (수신 시각 기준으로 저장)
+ */
+@Getter
+@AllArgsConstructor
+public class VideoEvent {
+    
+    private final long videoId;
+    private final Long userId; // 비로그인이면 null
+    private final VideoEventType type;
+    private final int watchMillis;
+    private final long receivedAtMillis;
+}
@@ -0,0 +1,201 @@
+package com.shortly.backend.domain.analytics.service;
+
+import com.shortly.backend.domain.analytics.dto.VideoEventBatchResponse;
+import com.shortly.backend.domain.analytics.dto.VideoEventRequest;
+import com.shortly.backend.domain.analytics.entity.VideoEventType;
+import com.shortly.backend.domain.analytics.repository.VideoEventStore;
+import com.shortly.backend.domain.video.service.TrendingTagService;
+import com.shortly.backend.utils.Constants;
+import com.shortly.backend.utils.LongHashSet;
+import com.shortly.backend.utils.MpscRingBuffer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 시청 이벤트 수집
+ * 요청 스레드는 이벤트를 검증해 링 버퍼에 넣기만 하고(DB 접근 없음),
+ * 전용 스레드 하나가 버퍼를 비우며 원본 INSERT와 비디오별 집계 갱신을 한 트랜잭션으로 반영한다.
+ * 버퍼가 가득 차면 이벤트를 버리고 개수만 센다 (분석용 데이터라 요청 지연보다 유실을 택함).
+ * 없는 비디오나 공개 전 비디오의 이벤트는 저장할 때 걸러 집계와 인기 점수를 부풀리지 못하게 한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class VideoEventIngestService {
+    
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    
+    private final VideoEventStore videoEventStore;
+    private final TransactionTemplate transactionTemplate;
+    private final TrendingTagService trendingTagService;
+    
+    @Value("${analytics.events.buffer-capacity:65536}")
+    private int bufferCapacity;
+    
+    @Value("${analytics.events.flush-batch-size:5000}")
+    private int flushBatchSize;
+    
+    private MpscRingBuffer<VideoEvent> buffer;
+    private Thread flusher;
+    private volatile boolean running;
+    
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final AtomicLong failedEvents = new AtomicLong();
+    private final AtomicLong unknownVideoEvents = new AtomicLong();
+    
+    @PostConstruct
+    public void start() {
+        buffer = new MpscRingBuffer<>(Integer.highestOneBit(Math.max(2, bufferCapacity)));
+        running = true;
+        flusher = new Thread(this::flushLoop, "video-event-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+        System.out.println("[VideoEventIngest] 시작 - 버퍼: " + buffer.capacity() + ", 배치: " + flushBatchSize);
+    }
+    
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(flusher);
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+        // 남은 이벤트 마저 반영
+        List<VideoEvent> batch = new ArrayList<>(flushBatchSize);
+        while (buffer.drainTo(batch, flushBatchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+    
+    /**
+     * 클라이언트 이벤트 묶음 접수 (버퍼에 넣기만 하고 바로 반환)
+     */
+    public VideoEventBatchResponse accept(Long userId, List<VideoEventRequest> events) {
+        if (events == null || events.isEmpty()) {
+            return VideoEventBatchResponse.builder().build();
+        }
+        if (events.size() > Constants.Analytics.MAX_EVENTS_PER_REQUEST) {
+            throw new IllegalArgumentException("한 번에 보낼 수 있는 이벤트는 최대 "
+                    + Constants.Analytics.MAX_EVENTS_PER_REQUEST + "개입니다.");
+        }
+        
+        long now = System.currentTimeMillis();
+        int accepted = 0;
+        int rejected = 0;
+        int dropped = 0;
+        for (VideoEventRequest request : events) {
+            VideoEvent event = toEvent(userId, request, now);
+            if (event == null) {
+                rejected++;
+            } else if (buffer.offer(event)) {
+                accepted++;
+            } else {
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            droppedEvents.addAndGet(dropped);
+        }
+        return VideoEventBatchResponse.builder()
+                .accepted(accepted)
+                .rejected(rejected)
+                .dropped(dropped)
+                .build();
+    }
+    
+    private VideoEvent toEvent(Long userId, VideoEventRequest request, long now) {
+        if (request == null || request.getVideoId() == null || request.getVideoId() <= 0) {
+            return null;
+        }
+        VideoEventType type = VideoEventType.from(request.getType());
+        if (type == null) {
+            return null;
+        }
+        int watchMillis = 0;
+        if (type == VideoEventType.WATCH_TIME) {
+            if (request.getWatchMillis() == null || request.getWatchMillis() <= 0) {
+                return null;
+            }
+            watchMillis = (int) Math.min(request.getWatchMillis(), Constants.Analytics.MAX_WATCH_MILLIS_PER_EVENT);
+        }
+        return new VideoEvent(request.getVideoId(), userId, type, watchMillis, now);
+    }
+    
+    private void flushLoop() {
+        List<VideoEvent> batch = new ArrayList<>(flushBatchSize);
+        while (running) {
+            if (buffer.drainTo(batch, flushBatchSize) == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            write(batch);
+            batch.clear();
+        }
+    }
+    
+    private void write(List<VideoEvent> batch) {
+        try {
+            List<VideoEvent> known = dropUnknownVideos(batch);
+            if (known.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                videoEventStore.append(known);
+                videoEventStore.incrementRollups(known);
+            });
+            // 저장된 이벤트만 인기 태그 점수에 반영
+            trendingTagService.recordVideoEvents(known);
+        } catch (RuntimeException e) {
+            long failed = failedEvents.addAndGet(batch.size());
+            System.out.println("[VideoEventIngest] 이벤트 " + batch.size() + "건 저장 실패 (누적 " + failed + "건): "
+                    + e.getMessage());
+        }
+    }
+    
+    // 수집 API는 비디오 존재를 확인하지 않으므로 저장 직전에 배치 단위로 한 번 조회해 없는/공개 전 비디오 이벤트를 버림
+    private List<VideoEvent> dropUnknownVideos(List<VideoEvent> batch) {
+        LongHashSet videoIds = new LongHashSet(batch.size());
+        List<Long> distinct = new ArrayList<>();
+        for (VideoEvent event : batch) {
+            if (videoIds.add(event.getVideoId())) {
+                distinct.add(event.getVideoId());
+            }
+        }
+        LongHashSet ready = videoEventStore.findReadyVideoIds(distinct);
+        if (ready.size() == distinct.size()) {
+            return batch;
+        }
+        List<VideoEvent> known = new ArrayList<>(batch.size());
+        for (VideoEvent event : batch) {
+            if (ready.contains(event.getVideoId())) {
+                known.add(event);
+            }
+        }
+        unknownVideoEvents.addAndGet(batch.size() - known.size());
+        return known;
+    }
+    
+    public int getBufferedCount() {
+        return buffer.size();
+    }
+    
+    public long getDroppedCount() {
+        return droppedEvents.get();
+    }
+    
+    public long getFailedCount() {
+        return failedEvents.get();
+    }
+    
+    public long getUnknownVideoCount() {
+        return unknownVideoEvents.get();
+    }
+}
@@ -0,0 +1,14 @@
+package com.shortly.backend.domain.comment.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 댓글 작성/수정/삭제 트랜잭션 커밋 후 비디오의 댓글 목록 캐시를 비우기 위한 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class CommentChangedEvent {
+    
+    private final Long videoId;
+}
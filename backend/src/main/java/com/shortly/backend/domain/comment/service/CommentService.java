@@ -3,12 +3,18 @@ package com.shortly.backend.domain.comment.service;
 import com.shortly.backend.domain.comment.dto.CommentRequest;
 import com.shortly.backend.domain.comment.dto.CommentResponse;
 import com.shortly.backend.domain.comment.entity.Comment;
+import com.shortly.backend.domain.comment.event.CommentChangedEvent;
 import com.shortly.backend.domain.comment.repository.CommentRepository;
+import com.shortly.backend.domain.common.service.EngagementCounterService;
+import com.shortly.backend.domain.common.service.ResponseCache;
 import com.shortly.backend.domain.user.entity.User;
 import com.shortly.backend.domain.user.repository.UserRepository;
 import com.shortly.backend.domain.video.entity.Video;
 import com.shortly.backend.domain.video.repository.VideoRepository;
+import com.shortly.backend.domain.video.service.TrendingTagService;
+import com.shortly.backend.utils.Constants;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,18 +30,28 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final VideoRepository videoRepository;
+    private final EngagementCounterService engagementCounterService;
+    private final TrendingTagService trendingTagService;
+    private final ResponseCache responseCache;
+    private final ApplicationEventPublisher eventPublisher;
     
     public List<CommentResponse> getCommentsByVideoId(Long videoId) {
-        List<Comment> comments = commentRepository.findByVideoIdOrderByCreatedAtDesc(videoId);
-        return comments.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return getCommentsByVideoId(videoId, null);
     }
     
+    // 댓글 목록은 응답 캐시에 두고 작성자 여부만 요청한 사용자 기준으로 채움
     public List<CommentResponse> getCommentsByVideoId(Long videoId, String username) {
-        List<Comment> comments = commentRepository.findByVideoIdOrderByCreatedAtDesc(videoId);
-        return comments.stream()
-                .map(comment -> convertToResponse(comment, username))
+        List<CommentResponse> cached = responseCache.get("comments:" + videoId, () -> {
+            List<CommentResponse> comments = commentRepository.findByVideoIdOrderByCreatedAtDesc(videoId).stream()
+                    .map(this::convertToResponse)
+                    .collect(Collectors.toList());
+            return ResponseCache.Fragment.of(comments, estimateBytes(comments),
+                    List.of(ResponseCache.commentsToken(videoId)));
+        });
+        return cached.stream()
+                .map(comment -> comment.toBuilder()
+                        .isOwner(username != null && username.equals(comment.getUser().getUsername()))
+                        .build())
                 .collect(Collectors.toList());
     }
     
@@ -53,6 +69,9 @@ public class CommentService {
                 .build();
         
         Comment savedComment = commentRepository.save(comment);
+        engagementCounterService.increment(EngagementCounterService.Counter.VIDEO_COMMENTS, video.getId());
+        trendingTagService.recordEngagement(video.getId(), Constants.Trending.COMMENT_WEIGHT);
+        eventPublisher.publishEvent(new CommentChangedEvent(video.getId()));
         return convertToResponse(savedComment, username);
     }
     
@@ -76,6 +95,7 @@ public class CommentService {
                 .build();
         
         Comment updatedComment = commentRepository.save(comment);
+        eventPublisher.publishEvent(new CommentChangedEvent(updatedComment.getVideo().getId()));
         return convertToResponse(updatedComment, username);
     }
     
@@ -91,6 +111,8 @@ public class CommentService {
         }
         
         commentRepository.delete(comment);
+        engagementCounterService.decrement(EngagementCounterService.Counter.VIDEO_COMMENTS, comment.getVideo().getId());
+        eventPublisher.publishEvent(new CommentChangedEvent(comment.getVideo().getId()));
     }
     
     private CommentResponse convertToResponse(Comment comment) {
@@ -113,4 +135,14 @@ public class CommentService {
                 .isOwner(isOwner)
                 .build();
     }
-} 
\ No newline at end of file
+    
+    // 캐시 크기 계산용 대략적인 목록 크기
+    private static int estimateBytes(List<CommentResponse> comments) {
+        int bytes = 64;
+        for (CommentResponse comment : comments) {
+            bytes += 192 + ResponseCache.stringBytes(comment.getContent(), comment.getUser().getUsername(),
+                    comment.getUser().getProfilePicture());
+        }
+        return bytes;
+    }
+}
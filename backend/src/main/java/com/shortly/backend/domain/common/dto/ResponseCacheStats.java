@@ -0,0 +1,22 @@
+package com.shortly.backend.domain.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResponseCacheStats {
+    
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount; // 크기 상한/만료로 제거된 항목
+    private long invalidatedCount; // 변경 이벤트로 제거된 항목
+    private long entryCount;
+    private long estimatedBytes;
+    private long maxBytes;
+}
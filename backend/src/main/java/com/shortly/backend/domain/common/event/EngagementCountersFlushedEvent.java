@@ -0,0 +1,18 @@
+package com.shortly.backend.domain.common.event;
+
+import com.shortly.backend.domain.common.service.EngagementCounterService;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 좋아요/댓글/구독자 수 일괄 반영 후 값이 바뀐 행을 알리는 이벤트 (응답 캐시 무효화 등)
+ */
+@Getter
+@AllArgsConstructor
+public class EngagementCountersFlushedEvent {
+    
+    private final EngagementCounterService.Counter counter;
+    private final List<Long> ids;
+}
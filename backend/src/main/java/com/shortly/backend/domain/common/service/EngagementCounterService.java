@@ -0,0 +1,193 @@
+package com.shortly.backend.domain.common.service;
+
+import com.shortly.backend.domain.common.event.EngagementCountersFlushedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 좋아요/댓글/구독자 수 집계
+ * 요청마다 행을 갱신하지 않고 키별 LongAdder에 증감을 모았다가 주기적으로 "x = x + ?" 일괄 UPDATE로 반영한다.
+ * 반영 실패나 서버 종료 직전 유실 등으로 생긴 차이는 원본 테이블을 다시 세는 정합성 작업이 보정한다.
+ * 커밋 직후 버퍼에 담기기 전의 짧은 순간에 보정이 겹친 증감은 한 번 더 반영될 수 있으며 다음 보정에서 맞춰진다.
+ */
+@Service
+@RequiredArgsConstructor
+public class EngagementCounterService {
+    
+    public enum Counter {
+        VIDEO_LIKES("videos", "like_count", "video_likes", "video_id"),
+        VIDEO_COMMENTS("videos", "comment_count", "comments", "video_id"),
+        USER_SUBSCRIBERS("users", "subscriber_count", "subscriptions", "creator_id");
+        
+        private final String table;
+        private final String column;
+        // 다시 셀 원본 테이블과 대상 행을 가리키는 컬럼
+        private final String sourceTable;
+        private final String sourceColumn;
+        
+        Counter(String table, String column, String sourceTable, String sourceColumn) {
+            this.table = table;
+            this.column = column;
+            this.sourceTable = sourceTable;
+            this.sourceColumn = sourceColumn;
+        }
+        
+        private String countSql() {
+            return "(SELECT COUNT(*) FROM " + sourceTable + " s WHERE s." + sourceColumn + " = t.id)";
+        }
+    }
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${engagement.reconcile.batch-size:1000}")
+    private int reconcileBatchSize;
+    
+    private final Map<Counter, ConcurrentHashMap<Long, LongAdder>> buffers = new ConcurrentHashMap<>();
+    
+    // 트랜잭션 안에서 호출되면 커밋 후에 반영 (롤백된 변경은 세지 않음)
+    public void increment(Counter counter, Long id) {
+        record(counter, id, 1);
+    }
+    
+    public void decrement(Counter counter, Long id) {
+        record(counter, id, -1);
+    }
+    
+    private void record(Counter counter, Long id, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(counter, id, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(counter, id, delta);
+            }
+        });
+    }
+    
+    private void add(Counter counter, Long id, long delta) {
+        buffers.computeIfAbsent(counter, c -> new ConcurrentHashMap<>())
+                .computeIfAbsent(id, k -> new LongAdder())
+                .add(delta);
+    }
+    
+    @Scheduled(fixedDelayString = "${engagement.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+    
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+    
+    // 모인 증감을 카운터별 배치 UPDATE 한 번으로 반영
+    public synchronized void flush() {
+        for (Map.Entry<Counter, ConcurrentHashMap<Long, LongAdder>> buffer : buffers.entrySet()) {
+            Counter counter = buffer.getKey();
+            List<Object[]> batch = drain(counter, buffer.getValue());
+            if (batch.isEmpty()) {
+                continue;
+            }
+            try {
+                jdbcTemplate.batchUpdate("UPDATE " + counter.table + " SET " + counter.column + " = "
+                        + counter.column + " + ? WHERE id = ?", batch);
+            } catch (RuntimeException e) {
+                // 다음 주기에 다시 시도하도록 되돌려 둠
+                System.out.println("[EngagementCounter] " + counter + " 반영 실패 (" + batch.size() + "건): " + e.getMessage());
+                for (Object[] row : batch) {
+                    add(counter, (Long) row[1], (Long) row[0]);
+                }
+                continue;
+            }
+            List<Long> ids = new ArrayList<>(batch.size());
+            for (Object[] row : batch) {
+                ids.add((Long) row[1]);
+            }
+            eventPublisher.publishEvent(new EngagementCountersFlushedEvent(counter, ids));
+        }
+    }
+    
+    private List<Object[]> drain(Counter counter, ConcurrentHashMap<Long, LongAdder> adders) {
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : adders.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta != 0) {
+                batch.add(new Object[]{delta, entry.getKey()});
+                continue;
+            }
+            // 변화가 없던 키는 제거 (제거 직전에 들어온 증감은 다시 담음)
+            if (adders.remove(entry.getKey(), entry.getValue())) {
+                long late = entry.getValue().sumThenReset();
+                if (late != 0) {
+                    add(counter, entry.getKey(), late);
+                }
+            }
+        }
+        return batch;
+    }
+    
+    // 원본 테이블을 다시 세어 차이가 난 행만 보정 (ID 범위 단위로 나눠 잠금 시간을 짧게 유지)
+    // 범위마다 반영과 번갈아 실행되므로 보정이 오래 걸려도 증감 반영이 멈추지 않음
+    @Scheduled(cron = "${engagement.reconcile.cron:0 30 4 * * *}")
+    public void reconcile() {
+        for (Counter counter : Counter.values()) {
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + counter.table, Long.class);
+            if (maxId == null) {
+                continue;
+            }
+            int fixed = 0;
+            for (long afterId = 0; afterId < maxId; afterId += reconcileBatchSize) {
+                fixed += reconcileRange(counter, afterId, afterId + reconcileBatchSize);
+            }
+            System.out.println("[EngagementCounter] " + counter + " 정합성 보정 완료 - 보정된 행: " + fixed);
+        }
+    }
+    
+    // (afterId, toId] 범위를 다시 세고, 그 값에 이미 포함된 대기 중 증감은 버림
+    private synchronized int reconcileRange(Counter counter, long afterId, long toId) {
+        List<Long> discarded = new ArrayList<>();
+        Integer fixed = transactionTemplate.execute(status -> {
+            // 원본 행에 공유 잠금을 걸어 이 범위의 좋아요/댓글/구독 변경을 트랜잭션이 끝날 때까지 막음
+            // (이후 커밋되는 변경의 증감만 버퍼에 남아 다시 센 값 위에 한 번 더해짐)
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + counter.sourceTable + " WHERE "
+                    + counter.sourceColumn + " > ? AND " + counter.sourceColumn + " <= ? LOCK IN SHARE MODE",
+                    Long.class, afterId, toId);
+            // 잠금 전에 커밋된 변경은 다시 센 값에 들어가므로 버퍼의 증감은 버림
+            ConcurrentHashMap<Long, LongAdder> adders = buffers.get(counter);
+            if (adders != null) {
+                for (Map.Entry<Long, LongAdder> entry : adders.entrySet()) {
+                    Long id = entry.getKey();
+                    if (id > afterId && id <= toId && entry.getValue().sumThenReset() != 0) {
+                        discarded.add(id);
+                    }
+                }
+            }
+            return jdbcTemplate.update("UPDATE " + counter.table + " t SET t." + counter.column + " = "
+                    + counter.countSql() + " WHERE t.id > ? AND t.id <= ? AND t." + counter.column + " <> "
+                    + counter.countSql(), afterId, toId);
+        });
+        if (!discarded.isEmpty()) {
+            // 반영 대신 다시 센 값으로 바뀐 행도 캐시에서 비움
+            eventPublisher.publishEvent(new EngagementCountersFlushedEvent(counter, discarded));
+        }
+        return fixed != null ? fixed : 0;
+    }
+}
@@ -0,0 +1,332 @@
+package com.shortly.backend.domain.common.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.shortly.backend.domain.comment.event.CommentChangedEvent;
+import com.shortly.backend.domain.common.dto.ResponseCacheStats;
+import com.shortly.backend.domain.common.event.EngagementCountersFlushedEvent;
+import com.shortly.backend.domain.video.event.VideoDeletedEvent;
+import com.shortly.backend.domain.video.event.VideoMediaUpdatedEvent;
+import com.shortly.backend.domain.video.event.VideoPublishedEvent;
+import com.shortly.backend.domain.video.repository.VideoRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 사용자와 무관한 응답 조각 캐시 (피드/태그 목록 페이지, 비디오 댓글 목록)
+ * 추정 크기 합계에 상한을 두고 Caffeine(W-TinyLFU)이 자주 쓰이는 항목을 남긴다.
+ * 항목마다 담고 있는 비디오/작성자/목록 종류를 토큰으로 연결해 두고, 업로드·삭제·좋아요/댓글 수 반영·댓글 변경 이벤트가 오면
+ * 해당 토큰에 걸린 항목만 지운다. 좋아요 여부 같은 사용자별 값은 담지 않으며 호출한 쪽에서 복사본에 채운다.
+ * 같은 키의 동시 미스는 한 번만 적재해 인기 페이지가 만료될 때 DB로 요청이 몰리지 않게 한다.
+ * 다른 서버에서 생긴 변경은 이벤트가 오지 않으므로 짧은 만료 시간으로 따라잡는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ResponseCache {
+    
+    // 목록 종류 토큰 (비디오 추가/삭제로 내용이 밀리는 페이지)
+    public static final String FEED_HEAD = "feed:head"; // 전체 피드 커서 방식 첫 페이지
+    public static final String FEED_OFFSET = "feed:offset"; // 전체 피드 페이지 번호 방식 (전체 개수 포함)
+    public static final String TAG_OFFSET = "tag:offset"; // 모든 태그의 페이지 번호 방식 목록
+    
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+    // 무효화 순번을 기록하는 토큰 해시 구간 수 (2의 거듭제곱, 토큰마다 두지 않아 메모리가 고정됨)
+    private static final int TOKEN_STRIPES = 4096;
+    
+    private final VideoRepository videoRepository;
+    
+    @Value("${response-cache.max-size-mb:64}")
+    private long maxSizeMb;
+    
+    @Value("${response-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+    
+    private Cache<String, Entry> cache;
+    // 토큰 -> 연결된 캐시 키
+    private final ConcurrentHashMap<String, Set<String>> dependents = new ConcurrentHashMap<>();
+    // 적재 중인 키 -> 결과 (같은 키의 동시 미스는 한 번만 적재하고 나머지는 결과를 기다림)
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+    // 무효화마다 증가하는 순번과 토큰 구간별/전체 비움의 마지막 무효화 순번
+    // (적재하는 동안 그 결과의 토큰이 무효화되었으면 저장하지 않음, 관계없는 토큰의 무효화는 영향 없음)
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLongArray tokenInvalidatedAt = new AtomicLongArray(TOKEN_STRIPES);
+    private final AtomicLong allInvalidatedAt = new AtomicLong();
+    private final LongAdder invalidatedEntries = new LongAdder();
+    
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maxSizeMb * 1024 * 1024)
+                .weigher((String key, Entry entry) -> entry.weight)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                // 제거 알림을 호출한 스레드에서 바로 처리해 토큰 연결을 즉시 정리
+                .executor(Runnable::run)
+                .removalListener((String key, Entry entry, RemovalCause cause) -> {
+                    if (key != null && entry != null) {
+                        unlink(key, entry);
+                    }
+                })
+                .recordStats()
+                .build();
+        System.out.println("[ResponseCache] 시작 - 최대 " + maxSizeMb + "MB, 만료 " + ttlSeconds + "초");
+    }
+    
+    /**
+     * 캐시된 응답 조각 반환 (없으면 loader로 만들어 저장, 같은 키를 동시에 적재하지 않음)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Supplier<Fragment<T>> loader) {
+        Entry cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return (T) cached.value;
+        }
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = loading.putIfAbsent(key, created);
+        if (inFlight != null) {
+            return (T) await(inFlight);
+        }
+        try {
+            // 조회와 적재 등록 사이에 다른 적재가 끝나 저장했을 수 있음
+            cached = cache.policy().getIfPresentQuietly(key);
+            T value = cached != null ? (T) cached.value : load(key, loader);
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, created);
+        }
+    }
+    
+    private <T> T load(String key, Supplier<Fragment<T>> loader) {
+        long startedSequence = sequence.get();
+        Fragment<T> fragment = loader.get();
+        if (!invalidatedSince(fragment.tokens, startedSequence)) {
+            Entry entry = new Entry(fragment.value, fragment.tokens,
+                    ENTRY_OVERHEAD_BYTES + key.length() * 2 + fragment.estimatedBytes);
+            // 저장 중 크기 상한으로 바로 제거될 수 있으므로 제거 알림이 정리할 수 있게 연결을 먼저 둠
+            link(key, entry);
+            cache.put(key, entry);
+            // 연결 이후 무효화가 지나갔으면 저장 전이라 지우지 못했을 수 있으므로 버림
+            if (invalidatedSince(fragment.tokens, startedSequence)) {
+                cache.invalidate(key);
+            }
+        }
+        return fragment.value;
+    }
+    
+    // 적재를 맡은 스레드의 예외는 기다린 스레드에도 그대로 전달
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+    
+    private boolean invalidatedSince(Set<String> tokens, long startedSequence) {
+        if (allInvalidatedAt.get() > startedSequence) {
+            return true;
+        }
+        for (String token : tokens) {
+            if (tokenInvalidatedAt.get(stripe(token)) > startedSequence) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    public void invalidate(Collection<String> tokens) {
+        long invalidatedSequence = sequence.incrementAndGet();
+        for (String token : tokens) {
+            tokenInvalidatedAt.accumulateAndGet(stripe(token), invalidatedSequence, Math::max);
+            Set<String> keys = dependents.remove(token);
+            if (keys != null) {
+                invalidatedEntries.add(keys.size());
+                cache.invalidateAll(keys);
+            }
+        }
+    }
+    
+    // 관리 작업처럼 범위를 특정할 수 없는 변경 후 전체 비움
+    public void invalidateAll() {
+        allInvalidatedAt.accumulateAndGet(sequence.incrementAndGet(), Math::max);
+        invalidatedEntries.add(cache.estimatedSize());
+        cache.invalidateAll();
+        dependents.clear();
+    }
+    
+    private static int stripe(String token) {
+        int hash = token.hashCode();
+        return (hash ^ (hash >>> 16)) & (TOKEN_STRIPES - 1);
+    }
+    
+    private void link(String key, Entry entry) {
+        for (String token : entry.tokens) {
+            dependents.compute(token, (t, keys) -> {
+                Set<String> linked = keys != null ? keys : ConcurrentHashMap.newKeySet();
+                linked.add(key);
+                return linked;
+            });
+        }
+    }
+    
+    // 같은 키에 새 항목이 들어와 있으면 새 항목도 쓰는 토큰의 연결은 남김
+    private void unlink(String key, Entry entry) {
+        Entry current = cache.policy().getIfPresentQuietly(key);
+        for (String token : entry.tokens) {
+            if (current != null && current.tokens.contains(token)) {
+                continue;
+            }
+            dependents.computeIfPresent(token, (t, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+    
+    // 새 비디오가 앞에 추가되는 목록과 그 비디오 태그의 목록
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVideoPublished(VideoPublishedEvent event) {
+        List<String> tokens = new ArrayList<>(List.of(FEED_HEAD, FEED_OFFSET, videoToken(event.getVideoId())));
+        for (VideoRepository.VideoTagName tag : videoRepository.findTagNamesByVideoIds(List.of(event.getVideoId()))) {
+            tokens.add(tagHeadToken(tag.getName()));
+            tokens.add(tagOffsetToken(tag.getName()));
+        }
+        invalidate(tokens);
+    }
+    
+    // 삭제된 비디오가 들어 있던 페이지와, 뒤 항목이 당겨지는 페이지 번호 방식 목록 (태그는 이미 지워져 전체)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVideoDeleted(VideoDeletedEvent event) {
+        invalidate(List.of(videoToken(event.getVideoId()), commentsToken(event.getVideoId()), FEED_OFFSET, TAG_OFFSET));
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVideoMediaUpdated(VideoMediaUpdatedEvent event) {
+        invalidate(List.of(videoToken(event.getVideoId())));
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        invalidate(List.of(commentsToken(event.getVideoId())));
+    }
+    
+    // 좋아요/댓글 수는 DB에 반영된 뒤에 비워야 다시 적재할 때 새 값을 읽음
+    @EventListener
+    public void onEngagementCountersFlushed(EngagementCountersFlushedEvent event) {
+        List<String> tokens = new ArrayList<>(event.getIds().size());
+        for (Long id : event.getIds()) {
+            tokens.add(event.getCounter() == EngagementCounterService.Counter.USER_SUBSCRIBERS
+                    ? ownerToken(id) : videoToken(id));
+        }
+        invalidate(tokens);
+    }
+    
+    public ResponseCacheStats getStats() {
+        CacheStats stats = cache.stats();
+        long weightedSize = cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+        return ResponseCacheStats.builder()
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .invalidatedCount(invalidatedEntries.sum())
+                .entryCount(cache.estimatedSize())
+                .estimatedBytes(weightedSize)
+                .maxBytes(maxSizeMb * 1024 * 1024)
+                .build();
+    }
+    
+    public static String videoToken(Long videoId) {
+        return "video:" + videoId;
+    }
+    
+    public static String ownerToken(Long userId) {
+        return "user:" + userId;
+    }
+    
+    public static String tagHeadToken(String tagName) {
+        return "tag:head:" + tagName;
+    }
+    
+    public static String tagOffsetToken(String tagName) {
+        return "tag:offset:" + tagName;
+    }
+    
+    public static String commentsToken(Long videoId) {
+        return "comments:" + videoId;
+    }
+    
+    // 크기 추정용 문자열 바이트 수 (글자당 2바이트)
+    public static int stringBytes(String... values) {
+        int bytes = 0;
+        for (String value : values) {
+            if (value != null) {
+                bytes += 40 + value.length() * 2;
+            }
+        }
+        return bytes;
+    }
+    
+    /**
+     * 캐시에 넣을 값과 추정 크기, 무효화 토큰
+     */
+    public static class Fragment<T> {
+        private final T value;
+        private final int estimatedBytes;
+        private final Set<String> tokens;
+        
+        private Fragment(T value, int estimatedBytes, Set<String> tokens) {
+            this.value = value;
+            this.estimatedBytes = estimatedBytes;
+            this.tokens = tokens;
+        }
+        
+        public static <T> Fragment<T> of(T value, int estimatedBytes, Collection<String> tokens) {
+            return new Fragment<>(value, Math.max(0, estimatedBytes), new HashSet<>(tokens));
+        }
+    }
+    
+    private static class Entry {
+        private final Object value;
+        private final Set<String> tokens;
+        private final int weight;
+        
+        Entry(Object value, Set<String> tokens, int weight) {
+            this.value = value;
+            this.tokens = tokens;
+            this.weight = weight;
+        }
+    }
+}
@@ -2,8 +2,10 @@ package com.shortly.backend.domain.subscription.controller;
 
 import com.shortly.backend.domain.common.dto.ApiResponse;
 import com.shortly.backend.domain.subscription.service.SubscriptionService;
+import com.shortly.backend.domain.subscription.service.TimelineService;
 import com.shortly.backend.domain.subscription.dto.CreatorDto;
 import com.shortly.backend.domain.user.entity.User;
+import com.shortly.backend.domain.video.dto.VideoSearchResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -17,6 +19,7 @@ import java.util.List;
 public class SubscriptionController {
     
     private final SubscriptionService subscriptionService;
+    private final TimelineService timelineService;
     
     // 구독하기
     @PostMapping("/{creatorId}")
@@ -86,6 +89,21 @@ public class SubscriptionController {
         }
     }
     
+    // 구독 홈 타임라인 (cursor가 비어 있으면 첫 페이지, 응답의 nextCursor로 다음 페이지)
+    @GetMapping("/feed")
+    public ResponseEntity<ApiResponse<VideoSearchResponse>> getHomeTimeline(
+            Authentication authentication,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {
+            User user = (User) authentication.getPrincipal();
+            VideoSearchResponse timeline = timelineService.getHomeTimeline(user.getId(), cursor, size);
+            return ResponseEntity.ok(ApiResponse.success("구독 타임라인 조회 완료", timeline));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
     // 구독한 크리에이터들의 영상 조회
     @GetMapping("/videos")
     public ResponseEntity<ApiResponse<List<Long>>> getSubscribedCreatorIds(
@@ -0,0 +1,17 @@
+package com.shortly.backend.domain.subscription.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 타임라인 병합 단위 (비디오 ID와 정렬 기준 시각)
+ */
+@Getter
+@AllArgsConstructor
+public class TimelineItem {
+    
+    private Long videoId;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,43 @@
+package com.shortly.backend.domain.subscription.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 구독자별 타임라인 수신함 항목 (크리에이터 업로드 시 구독자마다 한 행씩 전달)
+ * 조인 없이 읽도록 ID와 정렬 기준 시각만 두며, 구독자당 개수는 TimelineService가 일정 수로 유지한다.
+ */
+@Entity
+@Table(name = "timeline_entries",
+    uniqueConstraints = @UniqueConstraint(name = "uk_timeline_subscriber_video", columnNames = {"subscriber_id", "video_id"}),
+    indexes = {
+        @Index(name = "idx_timeline_subscriber_created", columnList = "subscriber_id, video_created_at, video_id"),
+        @Index(name = "idx_timeline_video", columnList = "video_id")
+    })
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimelineEntry {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "subscriber_id", nullable = false)
+    private Long subscriberId;
+    
+    @Column(name = "video_id", nullable = false)
+    private Long videoId;
+    
+    @Column(name = "creator_id", nullable = false)
+    private Long creatorId;
+    
+    @Column(name = "video_created_at", nullable = false)
+    private LocalDateTime videoCreatedAt;
+}
@@ -0,0 +1,29 @@
+package com.shortly.backend.domain.subscription.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수신함 전달 대신 조회 시 병합하는 크리에이터 (구독자가 기준 이상)
+ * 업로드마다 구독 테이블을 세어 정하고, 다시 전달 방식으로 돌아갈 때까지 유지해 그 사이 영상을 조회에서 빠뜨리지 않는다.
+ */
+@Entity
+@Table(name = "timeline_pull_creators")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimelinePullCreator {
+    
+    @Id
+    @Column(name = "creator_id")
+    private Long creatorId;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
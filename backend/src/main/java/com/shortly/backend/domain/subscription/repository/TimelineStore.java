@@ -0,0 +1,216 @@
+package com.shortly.backend.domain.subscription.repository;
+
+import com.shortly.backend.domain.subscription.dto.TimelineItem;
+import com.shortly.backend.domain.video.dto.FeedCursor;
+import com.shortly.backend.utils.Constants;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 구독 타임라인 저장소 (JDBC)
+ * 수신함(timeline_entries) 일괄 추가/정리와, 구독자가 많은 크리에이터 영상을 읽을 때 바로 조회하는 쿼리를 담당한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TimelineStore {
+    
+    // (created_at, id) 내림차순으로 커서 다음 행부터
+    private static final String INBOX_AFTER_CURSOR =
+            " AND (video_created_at < ? OR (video_created_at = ? AND video_id < ?))";
+    private static final String VIDEO_AFTER_CURSOR =
+            " AND (v.created_at < ? OR (v.created_at = ? AND v.id < ?))";
+    
+    private static final RowMapper<TimelineItem> INBOX_ITEM = (rs, rowNum) ->
+            new TimelineItem(rs.getLong("video_id"), rs.getObject("video_created_at", LocalDateTime.class));
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    // 크리에이터의 구독자 수를 limit개까지만 셈 (creator_id 인덱스 범위를 limit개만 읽음)
+    public long countSubscribersUpTo(Long creatorId, long limit) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (SELECT 1 FROM subscriptions WHERE creator_id = ? LIMIT ?) s",
+                Long.class, creatorId, limit);
+        return count != null ? count : 0;
+    }
+    
+    public boolean isPullCreator(Long creatorId) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM timeline_pull_creators WHERE creator_id = ?", Long.class, creatorId);
+        return count != null && count > 0;
+    }
+    
+    public void markPullCreator(Long creatorId) {
+        jdbcTemplate.update(
+                "INSERT IGNORE INTO timeline_pull_creators (creator_id, created_at) VALUES (?, NOW())", creatorId);
+    }
+    
+    public void unmarkPullCreator(Long creatorId) {
+        jdbcTemplate.update("DELETE FROM timeline_pull_creators WHERE creator_id = ?", creatorId);
+    }
+    
+    // 크리에이터의 구독자 ID를 구독 ID 순으로 나눠 조회 ({구독 ID, 구독자 ID})
+    public List<long[]> findSubscribersAfter(Long creatorId, long afterSubscriptionId, int limit) {
+        return jdbcTemplate.query(
+                "SELECT id, subscriber_id FROM subscriptions WHERE creator_id = ? AND id > ? ORDER BY id LIMIT ?",
+                (rs, rowNum) -> new long[]{rs.getLong("id"), rs.getLong("subscriber_id")},
+                creatorId, afterSubscriptionId, limit);
+    }
+    
+    // 구독자들의 수신함에 비디오 추가 (이미 있으면 무시)
+    public void insertEntries(List<Long> subscriberIds, Long videoId, Long creatorId, LocalDateTime createdAt) {
+        if (subscriberIds.isEmpty()) {
+            return;
+        }
+        StringBuilder sql = new StringBuilder(
+                "INSERT IGNORE INTO timeline_entries (subscriber_id, video_id, creator_id, video_created_at) VALUES ");
+        Object[] args = new Object[subscriberIds.size() * 4];
+        int i = 0;
+        for (Long subscriberId : subscriberIds) {
+            sql.append(i == 0 ? "(?, ?, ?, ?)" : ", (?, ?, ?, ?)");
+            args[i++] = subscriberId;
+            args[i++] = videoId;
+            args[i++] = creatorId;
+            args[i++] = createdAt;
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+    
+    // 새로 구독한 크리에이터의 최근 영상을 수신함에 채움
+    public int backfillFromCreator(Long subscriberId, Long creatorId, int limit) {
+        return jdbcTemplate.update(
+                "INSERT IGNORE INTO timeline_entries (subscriber_id, video_id, creator_id, video_created_at) " +
+                "SELECT ?, v.id, v.owner_id, v.created_at FROM videos v " +
+                "WHERE v.owner_id = ? AND v.status = 'READY' ORDER BY v.created_at DESC, v.id DESC LIMIT ?",
+                subscriberId, creatorId, limit);
+    }
+    
+    // 구독 ID 범위 (afterSubscriptionId, toSubscriptionId]의 구독자 수신함에 크리에이터의 최근 영상을 채움
+    public int backfillSubscribersFromCreator(Long creatorId, long afterSubscriptionId, long toSubscriptionId, int limit) {
+        return jdbcTemplate.update(
+                "INSERT IGNORE INTO timeline_entries (subscriber_id, video_id, creator_id, video_created_at) " +
+                "SELECT s.subscriber_id, v.id, v.owner_id, v.created_at FROM subscriptions s " +
+                "JOIN (SELECT id, owner_id, created_at FROM videos WHERE owner_id = ? AND status = 'READY' " +
+                "ORDER BY created_at DESC, id DESC LIMIT ?) v " +
+                "WHERE s.creator_id = ? AND s.id > ? AND s.id <= ?",
+                creatorId, limit, creatorId, afterSubscriptionId, toSubscriptionId);
+    }
+    
+    public int deleteBySubscriberAndCreator(Long subscriberId, Long creatorId) {
+        return jdbcTemplate.update(
+                "DELETE FROM timeline_entries WHERE subscriber_id = ? AND creator_id = ?", subscriberId, creatorId);
+    }
+    
+    public int deleteByVideoId(Long videoId) {
+        return jdbcTemplate.update("DELETE FROM timeline_entries WHERE video_id = ?", videoId);
+    }
+    
+    public List<TimelineItem> findInbox(Long subscriberId, FeedCursor after, int limit) {
+        if (after == null) {
+            return jdbcTemplate.query(
+                    "SELECT video_id, video_created_at FROM timeline_entries WHERE subscriber_id = ? " +
+                    "ORDER BY video_created_at DESC, video_id DESC LIMIT ?",
+                    INBOX_ITEM, subscriberId, limit);
+        }
+        return jdbcTemplate.query(
+                "SELECT video_id, video_created_at FROM timeline_entries WHERE subscriber_id = ?" + INBOX_AFTER_CURSOR +
+                " ORDER BY video_created_at DESC, video_id DESC LIMIT ?",
+                INBOX_ITEM, subscriberId, after.getCreatedAt(), after.getCreatedAt(), after.getId(), limit);
+    }
+    
+    // 구독 중인 크리에이터 중 수신함 전달을 하지 않는(구독자가 많은) 크리에이터
+    public List<Long> findPullCreatorIds(Long subscriberId) {
+        return jdbcTemplate.queryForList(
+                "SELECT s.creator_id FROM subscriptions s JOIN timeline_pull_creators p ON p.creator_id = s.creator_id " +
+                "WHERE s.subscriber_id = ?",
+                Long.class, subscriberId);
+    }
+    
+    /**
+     * 크리에이터별 최근 영상 (각 크리에이터마다 limit개까지, 크리에이터별로 정렬된 목록)
+     * 크리에이터마다 인덱스 범위를 따로 읽도록 UNION ALL 한 번으로 조회한다.
+     */
+    public List<List<TimelineItem>> findCreatorVideos(List<Long> creatorIds, FeedCursor after, int limit) {
+        if (creatorIds.isEmpty()) {
+            return List.of();
+        }
+        StringBuilder sql = new StringBuilder();
+        List<Object> args = new ArrayList<>();
+        for (Long creatorId : creatorIds) {
+            if (!sql.isEmpty()) {
+                sql.append(" UNION ALL ");
+            }
+            sql.append("(SELECT v.owner_id, v.id, v.created_at FROM videos v WHERE v.owner_id = ? AND v.status = 'READY'");
+            args.add(creatorId);
+            if (after != null) {
+                sql.append(VIDEO_AFTER_CURSOR);
+                args.add(after.getCreatedAt());
+                args.add(after.getCreatedAt());
+                args.add(after.getId());
+            }
+            sql.append(" ORDER BY v.created_at DESC, v.id DESC LIMIT ?)");
+            args.add(limit);
+        }
+        
+        Map<Long, List<TimelineItem>> byCreator = new LinkedHashMap<>();
+        jdbcTemplate.query(sql.toString(), rs -> {
+            byCreator.computeIfAbsent(rs.getLong("owner_id"), id -> new ArrayList<>())
+                    .add(new TimelineItem(rs.getLong("id"), rs.getObject("created_at", LocalDateTime.class)));
+        }, args.toArray());
+        
+        // UNION 결과 순서는 보장되지 않으므로 크리에이터별로 다시 정렬
+        Comparator<TimelineItem> newestFirst = Comparator.comparing(TimelineItem::getCreatedAt)
+                .thenComparing(TimelineItem::getVideoId).reversed();
+        List<List<TimelineItem>> sources = new ArrayList<>();
+        for (List<TimelineItem> items : byCreator.values()) {
+            items.sort(newestFirst);
+            sources.add(items);
+        }
+        return sources;
+    }
+    
+    /**
+     * 구독자별로 최근 capacity개만 남기고 삭제 (삭제된 항목 수 반환)
+     * capacity+1번째 항목을 구독자마다 인덱스로 찾아(UNION ALL 한 번) 넘친 구독자만 그 항목부터 지운다.
+     */
+    public int trimInboxes(List<Long> subscriberIds, int capacity) {
+        int trimmed = 0;
+        for (int from = 0; from < subscriberIds.size(); from += Constants.Timeline.TRIM_SUBSCRIBERS_PER_QUERY) {
+            List<Long> chunk = subscriberIds.subList(from,
+                    Math.min(from + Constants.Timeline.TRIM_SUBSCRIBERS_PER_QUERY, subscriberIds.size()));
+            StringBuilder sql = new StringBuilder();
+            List<Object> args = new ArrayList<>(chunk.size() * 2);
+            for (Long subscriberId : chunk) {
+                if (!sql.isEmpty()) {
+                    sql.append(" UNION ALL ");
+                }
+                sql.append("(SELECT subscriber_id, video_id, video_created_at FROM timeline_entries WHERE subscriber_id = ? " +
+                        "ORDER BY video_created_at DESC, video_id DESC LIMIT 1 OFFSET ?)");
+                args.add(subscriberId);
+                args.add(capacity);
+            }
+            List<Object[]> boundaries = jdbcTemplate.query(sql.toString(), (rs, rowNum) -> {
+                LocalDateTime createdAt = rs.getObject("video_created_at", LocalDateTime.class);
+                return new Object[]{rs.getLong("subscriber_id"), createdAt, createdAt, rs.getLong("video_id")};
+            }, args.toArray());
+            if (boundaries.isEmpty()) {
+                continue;
+            }
+            int[] deleted = jdbcTemplate.batchUpdate(
+                    "DELETE FROM timeline_entries WHERE subscriber_id = ?" +
+                    " AND (video_created_at < ? OR (video_created_at = ? AND video_id <= ?))", boundaries);
+            for (int count : deleted) {
+                trimmed += Math.max(count, 0);
+            }
+        }
+        return trimmed;
+    }
+}
@@ -1,5 +1,6 @@
 package com.shortly.backend.domain.subscription.service;
 
+import com.shortly.backend.domain.common.service.EngagementCounterService;
 import com.shortly.backend.domain.subscription.entity.Subscription;
 import com.shortly.backend.domain.subscription.repository.SubscriptionRepository;
 import com.shortly.backend.domain.subscription.dto.CreatorDto;
@@ -19,6 +20,8 @@ public class SubscriptionService {
     
     private final SubscriptionRepository subscriptionRepository;
     private final UserRepository userRepository;
+    private final EngagementCounterService engagementCounterService;
+    private final TimelineService timelineService;
     
     // 구독하기
     public boolean subscribe(Long subscriberId, Long creatorId) {
@@ -39,6 +42,8 @@ public class SubscriptionService {
                 .creator(creator)
                 .build();
         subscriptionRepository.save(subscription);
+        engagementCounterService.increment(EngagementCounterService.Counter.USER_SUBSCRIBERS, creatorId);
+        timelineService.onSubscribed(subscriberId, creatorId);
         
         return true;
     }
@@ -52,7 +57,12 @@ public class SubscriptionService {
                 .orElseThrow(() -> new RuntimeException("크리에이터를 찾을 수 없습니다"));
         
         // 구독 관계 삭제
-        return subscriptionRepository.deleteBySubscriberAndCreator(subscriber, creator) > 0;
+        boolean removed = subscriptionRepository.deleteBySubscriberAndCreator(subscriber, creator) > 0;
+        if (removed) {
+            engagementCounterService.decrement(EngagementCounterService.Counter.USER_SUBSCRIBERS, creatorId);
+            timelineService.onUnsubscribed(subscriberId, creatorId);
+        }
+        return removed;
     }
     
     // 구독 상태 확인
@@ -0,0 +1,184 @@
+package com.shortly.backend.domain.subscription.service;
+
+import com.shortly.backend.domain.subscription.dto.TimelineItem;
+import com.shortly.backend.domain.subscription.repository.TimelineStore;
+import com.shortly.backend.domain.video.dto.FeedCursor;
+import com.shortly.backend.domain.video.dto.VideoSearchResponse;
+import com.shortly.backend.domain.video.event.VideoPublishedEvent;
+import com.shortly.backend.domain.video.service.VideoService;
+import com.shortly.backend.utils.Constants;
+import com.shortly.backend.utils.LongHashSet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 구독 타임라인
+ * 업로드가 끝난 영상은 크리에이터의 구독자 수신함마다 미리 넣어 두고(쓰기 시 전달),
+ * 구독자가 기준 이상인 크리에이터는 전달 비용이 커서 넣지 않고 조회할 때 최근 영상을 읽어 수신함과 병합한다.
+ * 수신함은 전달할 때마다 구독자별로 최근 일정 개수만 남긴다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TimelineService {
+    
+    // (created_at, id) 내림차순 = 최신 영상 먼저
+    private static final Comparator<TimelineItem> NEWEST_FIRST = Comparator.comparing(TimelineItem::getCreatedAt)
+            .thenComparing(TimelineItem::getVideoId).reversed();
+    
+    private final TimelineStore timelineStore;
+    private final VideoService videoService;
+    
+    @Value("${timeline.celebrity-threshold:10000}")
+    private long celebrityThreshold;
+    
+    @Value("${timeline.inbox-capacity:1000}")
+    private int inboxCapacity;
+    
+    @Value("${timeline.fanout-batch-size:1000}")
+    private int fanoutBatchSize;
+    
+    // 업로드 트랜잭션 커밋 후 전달 (처리 워커처럼 트랜잭션 밖에서 발행된 경우는 바로 처리)
+    @Async("timelineExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVideoPublished(VideoPublishedEvent event) {
+        fanOut(event);
+    }
+    
+    public void fanOut(VideoPublishedEvent event) {
+        Long creatorId = event.getOwnerId();
+        // 구독자 수는 집계 컬럼(반영 지연, 배포 직후 0) 대신 구독 테이블에서 기준 개수까지만 세어 판단
+        long subscriberCount = timelineStore.countSubscribersUpTo(creatorId, celebrityThreshold);
+        boolean pulled = timelineStore.isPullCreator(creatorId);
+        if (subscriberCount >= celebrityThreshold) {
+            if (!pulled) {
+                timelineStore.markPullCreator(creatorId);
+            }
+            System.out.println("[Timeline] 구독자가 많은 크리에이터 - 조회 시 병합: " + creatorId);
+            return;
+        }
+        // 기준 근처에서 오갈 때마다 수신함을 다시 채우지 않도록 기준의 90% 아래로 내려와야 전달 방식으로 되돌림
+        if (pulled && subscriberCount >= celebrityThreshold - celebrityThreshold / 10) {
+            return;
+        }
+        
+        // 구독 ID 순으로 나눠 배치마다 여러 행 INSERT 한 번, 넘친 수신함은 바로 정리
+        long afterSubscriptionId = 0;
+        int delivered = 0;
+        while (true) {
+            List<long[]> subscribers = timelineStore.findSubscribersAfter(creatorId, afterSubscriptionId, fanoutBatchSize);
+            if (subscribers.isEmpty()) {
+                break;
+            }
+            List<Long> subscriberIds = new ArrayList<>(subscribers.size());
+            for (long[] subscriber : subscribers) {
+                subscriberIds.add(subscriber[1]);
+            }
+            long lastSubscriptionId = subscribers.get(subscribers.size() - 1)[0];
+            timelineStore.insertEntries(subscriberIds, event.getVideoId(), creatorId, event.getCreatedAt());
+            if (pulled) {
+                // 조회 시 병합하던 동안 전달하지 않은 최근 영상도 채움
+                timelineStore.backfillSubscribersFromCreator(creatorId, afterSubscriptionId, lastSubscriptionId,
+                        Constants.Timeline.BACKFILL_PER_CREATOR);
+            }
+            timelineStore.trimInboxes(subscriberIds, inboxCapacity);
+            delivered += subscriberIds.size();
+            afterSubscriptionId = lastSubscriptionId;
+            if (subscribers.size() < fanoutBatchSize) {
+                break;
+            }
+        }
+        // 수신함을 다 채운 뒤에 해제해야 그 사이 조회에서 영상이 빠지지 않음
+        if (pulled) {
+            timelineStore.unmarkPullCreator(creatorId);
+            System.out.println("[Timeline] 수신함 전달 방식으로 전환: " + creatorId);
+        }
+        System.out.println("[Timeline] 수신함 전달 완료 - 비디오: " + event.getVideoId() + ", 구독자: " + delivered);
+    }
+    
+    // 새로 구독한 크리에이터의 최근 영상을 수신함에 채움 (조회 시 병합 대상이면 생략)
+    public void onSubscribed(Long subscriberId, Long creatorId) {
+        if (!timelineStore.isPullCreator(creatorId)) {
+            timelineStore.backfillFromCreator(subscriberId, creatorId, Constants.Timeline.BACKFILL_PER_CREATOR);
+            timelineStore.trimInboxes(List.of(subscriberId), inboxCapacity);
+        }
+    }
+    
+    public void onUnsubscribed(Long subscriberId, Long creatorId) {
+        timelineStore.deleteBySubscriberAndCreator(subscriberId, creatorId);
+    }
+    
+    /**
+     * 홈 타임라인 (cursor가 비어 있으면 첫 페이지)
+     * 수신함과 조회 시 병합할 크리에이터별 최근 영상은 각각 최신순이므로 k-way 병합으로 size+1개만 뽑는다.
+     */
+    public VideoSearchResponse getHomeTimeline(Long userId, String cursor, int size) {
+        FeedCursor after = FeedCursor.decode(cursor);
+        int limit = Math.max(1, Math.min(size, Constants.Api.MAX_PAGE_SIZE));
+        
+        List<List<TimelineItem>> sources = new ArrayList<>();
+        sources.add(timelineStore.findInbox(userId, after, limit + 1));
+        List<Long> pullCreatorIds = timelineStore.findPullCreatorIds(userId);
+        for (int from = 0; from < pullCreatorIds.size(); from += Constants.Timeline.PULL_CREATORS_PER_QUERY) {
+            List<Long> chunk = pullCreatorIds.subList(from,
+                    Math.min(from + Constants.Timeline.PULL_CREATORS_PER_QUERY, pullCreatorIds.size()));
+            sources.addAll(timelineStore.findCreatorVideos(chunk, after, limit + 1));
+        }
+        
+        List<TimelineItem> merged = merge(sources, limit + 1);
+        boolean hasNext = merged.size() > limit;
+        List<TimelineItem> page = hasNext ? merged.subList(0, limit) : merged;
+        
+        List<Long> videoIds = new ArrayList<>(page.size());
+        for (TimelineItem item : page) {
+            videoIds.add(item.getVideoId());
+        }
+        String nextCursor = null;
+        if (hasNext) {
+            TimelineItem last = page.get(page.size() - 1);
+            nextCursor = new FeedCursor(last.getCreatedAt(), last.getVideoId()).encode();
+        }
+        return VideoSearchResponse.builder()
+                .videos(videoService.getVideosByIds(videoIds))
+                .page(0)
+                .perPage(limit)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+    
+    // 정렬된 목록들을 최신순으로 병합 (수신함과 조회 병합 양쪽에 있는 영상은 한 번만)
+    private List<TimelineItem> merge(List<List<TimelineItem>> sources, int limit) {
+        // {목록 번호, 목록 내 위치}
+        PriorityQueue<int[]> heads = new PriorityQueue<>(Math.max(1, sources.size()),
+                (a, b) -> NEWEST_FIRST.compare(sources.get(a[0]).get(a[1]), sources.get(b[0]).get(b[1])));
+        for (int i = 0; i < sources.size(); i++) {
+            if (!sources.get(i).isEmpty()) {
+                heads.add(new int[]{i, 0});
+            }
+        }
+        
+        List<TimelineItem> merged = new ArrayList<>(limit);
+        LongHashSet seen = new LongHashSet(limit);
+        while (!heads.isEmpty() && merged.size() < limit) {
+            int[] head = heads.poll();
+            List<TimelineItem> source = sources.get(head[0]);
+            TimelineItem item = source.get(head[1]);
+            if (seen.add(item.getVideoId())) {
+                merged.add(item);
+            }
+            if (head[1] + 1 < source.size()) {
+                heads.add(new int[]{head[0], head[1] + 1});
+            }
+        }
+        return merged;
+    }
+}
@@ -19,6 +19,7 @@ public class UserResponse {
     private String email;
     private String profilePicture;
     private LocalDateTime createdAt;
+    private long subscriberCount;
     
     public static UserResponse from(User user) {
         return UserResponse.builder()
@@ -27,6 +28,7 @@ public class UserResponse {
                 .email(user.getEmail())
                 .profilePicture(user.getProfilePicture())
                 .createdAt(user.getCreatedAt())
+                .subscriberCount(user.getSubscriberCount())
                 .build();
     }
 } 
\ No newline at end of file
@@ -49,6 +49,11 @@ public class User implements UserDetails {
     @Enumerated(EnumType.STRING)
     private Role role;
     
+    // 구독자 수 (EngagementCounterService가 주기적으로 일괄 반영, JPA 저장으로는 쓰지 않음)
+    @Column(name = "subscriber_count", nullable = false, insertable = false, updatable = false, columnDefinition = "bigint default 0")
+    @Builder.Default
+    private long subscriberCount = 0L;
+    
 
     
     @ManyToMany(fetch = FetchType.LAZY)
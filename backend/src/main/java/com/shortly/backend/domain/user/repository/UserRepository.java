@@ -1,11 +1,14 @@
 package com.shortly.backend.domain.user.repository;
 
+import com.shortly.backend.domain.user.dto.UserResponse;
 import com.shortly.backend.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -21,4 +24,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     @Query("SELECT u FROM User u LEFT JOIN FETCH u.favoriteTags WHERE u.id = :userId")
     Optional<User> findByIdWithFavoriteTags(@Param("userId") Long userId);
+    
+    // 목록 조회용 작성자 정보 일괄 조회
+    @Query("SELECT new com.shortly.backend.domain.user.dto.UserResponse(u.id, u.username, u.email, u.profilePicture, u.createdAt, u.subscriberCount) " +
+           "FROM User u WHERE u.id IN :ids")
+    List<UserResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
 } 
\ No newline at end of file
@@ -5,8 +5,10 @@ import com.shortly.backend.domain.user.dto.SignupRequest;
 import com.shortly.backend.domain.user.dto.UserResponse;
 import com.shortly.backend.domain.user.entity.User;
 import com.shortly.backend.domain.user.repository.UserRepository;
+import com.shortly.backend.domain.video.dto.TagRef;
 import com.shortly.backend.domain.video.entity.Tag;
 import com.shortly.backend.domain.video.repository.TagRepository;
+import com.shortly.backend.domain.video.service.TagDictionary;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -14,9 +16,14 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,8 +33,10 @@ public class UserService {
     
     private final UserRepository userRepository;
     private final TagRepository tagRepository;
+    private final TagDictionary tagDictionary;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
+    private final TransactionTemplate transactionTemplate;
     
     @Transactional
     public UserResponse signup(SignupRequest request) {
@@ -85,23 +94,27 @@ public class UserService {
     }
     
     // 즐겨찾기 태그 관리 메서드들
-    @Transactional
+    // 태그 생성은 바로 커밋되어야 태그 사전에 롤백된 태그가 남지 않으므로 트랜잭션 밖에서 먼저 처리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void addFavoriteTag(String tagName) {
-        // fetch join으로 favoriteTags를 미리 로드
-        User currentUser = userRepository.findByIdWithFavoriteTags(getCurrentUserEntity().getId())
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        // 태그가 없으면 자동으로 생성
-        Tag tag = tagRepository.findByName(tagName)
-                .orElseGet(() -> {
-                    Tag newTag = Tag.builder().name(tagName).build();
-                    return tagRepository.save(newTag);
-                });
-        
-        if (!currentUser.hasFavoriteTag(tag)) {
-            currentUser.addFavoriteTag(tag);
-            userRepository.save(currentUser);
+        // 태그가 없으면 자동으로 생성 (정규화한 이름 기준으로 태그 사전에서 찾음)
+        List<TagRef> resolved = tagDictionary.resolve(List.of(tagName));
+        if (resolved.isEmpty()) {
+            throw new IllegalArgumentException("빈 태그는 입력할 수 없습니다.");
         }
+        Long userId = getCurrentUserEntity().getId();
+        
+        transactionTemplate.executeWithoutResult(status -> {
+            // fetch join으로 favoriteTags를 미리 로드
+            User currentUser = userRepository.findByIdWithFavoriteTags(userId)
+                    .orElseThrow(() -> new RuntimeException("User not found"));
+            Tag tag = tagRepository.getReferenceById(resolved.get(0).getId());
+            
+            if (!currentUser.hasFavoriteTag(tag)) {
+                currentUser.addFavoriteTag(tag);
+                userRepository.save(currentUser);
+            }
+        });
     }
     
     @Transactional
@@ -110,8 +123,9 @@ public class UserService {
         User currentUser = userRepository.findByIdWithFavoriteTags(getCurrentUserEntity().getId())
                 .orElseThrow(() -> new RuntimeException("User not found"));
         
-        Tag tag = tagRepository.findByName(tagName)
+        TagRef tagRef = tagDictionary.find(tagName)
                 .orElseThrow(() -> new RuntimeException("Tag not found"));
+        Tag tag = tagRepository.getReferenceById(tagRef.getId());
         
         currentUser.removeFavoriteTag(tag);
         userRepository.save(currentUser);
@@ -127,6 +141,15 @@ public class UserService {
                 .collect(Collectors.toList());
     }
 
+    // 사용자 ID별 공개 정보 (목록 응답의 작성자 정보를 한 번에 채울 때 사용)
+    public Map<Long, UserResponse> getUserResponses(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        return userRepository.findResponsesByIdIn(userIds).stream()
+                .collect(Collectors.toMap(UserResponse::getId, Function.identity()));
+    }
+    
     @Transactional
     public void changePassword(String currentPassword, String newPassword) {
         User currentUser = getCurrentUserEntity();
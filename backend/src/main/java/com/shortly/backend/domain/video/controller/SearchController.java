@@ -0,0 +1,28 @@
+package com.shortly.backend.domain.video.controller;
+
+import com.shortly.backend.domain.common.dto.ApiResponse;
+import com.shortly.backend.domain.video.dto.SuggestionResponse;
+import com.shortly.backend.domain.video.service.SearchSuggestService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+    
+    private final SearchSuggestService searchSuggestService;
+    
+    // 검색창/태그 입력 자동완성 (입력 중인 한글 음절도 접두어로 일치)
+    @GetMapping("/suggest")
+    public ApiResponse<List<SuggestionResponse>> suggest(
+            @RequestParam("q") String query,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return ApiResponse.success("Suggestions retrieved successfully", searchSuggestService.suggest(query, limit));
+    }
+}
@@ -0,0 +1,27 @@
+package com.shortly.backend.domain.video.controller;
+
+import com.shortly.backend.domain.common.dto.ApiResponse;
+import com.shortly.backend.domain.video.dto.TrendingTagResponse;
+import com.shortly.backend.domain.video.service.TrendingTagService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/tags")
+@RequiredArgsConstructor
+public class TagController {
+    
+    private final TrendingTagService trendingTagService;
+    
+    // 최근 사용/반응이 많은 태그 (반감기 감쇠 점수순)
+    @GetMapping("/trending")
+    public ApiResponse<List<TrendingTagResponse>> getTrendingTags(
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return ApiResponse.success("Trending tags retrieved successfully", trendingTagService.getTrendingTags(limit));
+    }
+}
@@ -1,13 +1,28 @@
 package com.shortly.backend.domain.video.controller;
 
 import com.shortly.backend.domain.common.dto.ApiResponse;
+import com.shortly.backend.domain.common.dto.ResponseCacheStats;
+import com.shortly.backend.domain.common.service.ResponseCache;
+import com.shortly.backend.domain.video.dto.BackfillStatusResponse;
 import com.shortly.backend.domain.video.dto.VideoResponse;
 import com.shortly.backend.domain.video.dto.VideoSearchResponse;
+import com.shortly.backend.domain.video.dto.VideoStatusResponse;
+import com.shortly.backend.domain.video.service.HlsPackagingService;
+import com.shortly.backend.domain.video.service.MediaLayoutMigrationService;
+import com.shortly.backend.domain.video.service.SpriteSheetService;
+import com.shortly.backend.domain.video.service.ThumbnailBackfillService;
+import com.shortly.backend.domain.video.service.ThumbnailService;
+import com.shortly.backend.domain.video.service.VideoSearchService;
 import com.shortly.backend.domain.video.service.VideoService;
+import com.shortly.backend.domain.video.service.VideoStreamingService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -15,11 +30,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/videos")
@@ -27,9 +43,18 @@ import java.util.List;
 public class VideoController {
     
     private final VideoService videoService;
+    private final VideoSearchService videoSearchService;
+    private final HlsPackagingService hlsPackagingService;
+    private final VideoStreamingService videoStreamingService;
+    private final ThumbnailBackfillService thumbnailBackfillService;
+    private final SpriteSheetService spriteSheetService;
+    private final ThumbnailService thumbnailService;
+    private final MediaLayoutMigrationService mediaLayoutMigrationService;
+    private final ResponseCache responseCache;
     
+    // 파일 저장 후 즉시 202 반환, 영상 처리는 백그라운드에서 진행 (상태는 /{videoId}/status 로 조회)
     @PostMapping
-    public ApiResponse<VideoResponse> uploadVideo(
+    public ResponseEntity<ApiResponse<VideoResponse>> uploadVideo(
             @RequestParam("title") String title,
             @RequestParam(value = "description", required = false) String description,
             @RequestParam("tags") String tagsJson,
@@ -45,25 +70,40 @@ public class VideoController {
         }
         
         VideoResponse videoResponse = videoService.uploadVideo(title, description, tags, videoFile);
-        return ApiResponse.success("Video uploaded successfully", videoResponse);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Video upload accepted", videoResponse));
     }
     
+    @GetMapping("/{videoId}/status")
+    public ApiResponse<VideoStatusResponse> getVideoStatus(@PathVariable Long videoId) {
+        VideoStatusResponse status = videoService.getVideoStatus(videoId);
+        return ApiResponse.success("Video status retrieved successfully", status);
+    }
+    
+    // 검색 색인에서 관련도순으로 조회 (각 결과에 일치 구간 highlight 포함)
+    // cursor 파라미터가 있으면 커서 방식(빈 값이면 첫 페이지, 응답의 nextCursor로 다음 페이지), 없으면 기존 page 방식
     @GetMapping("/search")
     public ApiResponse<VideoSearchResponse> searchVideos(
             @RequestParam("keyword") String keyword,
             @RequestParam(value = "page", defaultValue = "0") int page,
-            @RequestParam(value = "size", defaultValue = "10") int size) {
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "cursor", required = false) String cursor) {
         
-        VideoSearchResponse result = videoService.searchVideos(keyword, page, size);
+        VideoSearchResponse result = cursor != null
+                ? videoSearchService.searchByCursor(keyword, cursor, size)
+                : videoSearchService.search(keyword, page, size);
         return ApiResponse.success("Videos searched successfully", result);
     }
     
     @GetMapping
     public ApiResponse<VideoSearchResponse> getAllVideos(
             @RequestParam(value = "page", defaultValue = "0") int page,
-            @RequestParam(value = "size", defaultValue = "20") int size) {
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "cursor", required = false) String cursor) {
         
-        VideoSearchResponse result = videoService.getAllVideos(page, size);
+        VideoSearchResponse result = cursor != null
+                ? videoService.getAllVideosByCursor(cursor, size)
+                : videoService.getAllVideos(page, size);
         return ApiResponse.success("Videos retrieved successfully", result);
     }
     
@@ -71,9 +111,12 @@ public class VideoController {
     public ApiResponse<VideoSearchResponse> getVideosByTag(
             @PathVariable String tagName,
             @RequestParam(value = "page", defaultValue = "0") int page,
-            @RequestParam(value = "size", defaultValue = "20") int size) {
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "cursor", required = false) String cursor) {
         
-        VideoSearchResponse result = videoService.getVideosByTag(tagName, page, size);
+        VideoSearchResponse result = cursor != null
+                ? videoService.getVideosByTagByCursor(tagName, cursor, size)
+                : videoService.getVideosByTag(tagName, page, size);
         return ApiResponse.success("Videos retrieved by tag successfully", result);
     }
     
@@ -114,29 +157,88 @@ public class VideoController {
         return ApiResponse.success("Like status retrieved successfully", isLiked);
     }
     
+    // 썸네일 일괄 생성 (이전 진행 위치부터 재개, restart=true 시 처음부터)
     @PostMapping("/admin/generate-thumbnails")
-    public ApiResponse<String> generateThumbnails() {
-        videoService.generateThumbnailsForAllVideos();
-        return ApiResponse.success("Thumbnails generated successfully", "Thumbnails generated");
+    public ResponseEntity<ApiResponse<BackfillStatusResponse>> generateThumbnails(
+            @RequestParam(value = "restart", defaultValue = "false") boolean restart) {
+        BackfillStatusResponse status = thumbnailBackfillService.start(restart);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Thumbnail backfill started", status));
+    }
+    
+    @GetMapping("/admin/generate-thumbnails/status")
+    public ApiResponse<BackfillStatusResponse> getThumbnailBackfillStatus() {
+        BackfillStatusResponse status = thumbnailBackfillService.getStatus();
+        return ApiResponse.success("Thumbnail backfill status retrieved successfully", status);
+    }
+    
+    @PostMapping("/admin/generate-thumbnails/stop")
+    public ApiResponse<BackfillStatusResponse> stopThumbnailBackfill() {
+        BackfillStatusResponse status = thumbnailBackfillService.stop();
+        return ApiResponse.success("Thumbnail backfill stop requested", status);
+    }
+    
+    // 원본/썸네일을 해시 분산 디렉토리(및 설정된 볼륨)로 이동 (서비스 중 실행 가능, 다시 실행하면 남은 파일만 이동)
+    @PostMapping("/admin/migrate-media-layout")
+    public ResponseEntity<ApiResponse<BackfillStatusResponse>> migrateMediaLayout() {
+        BackfillStatusResponse status = mediaLayoutMigrationService.start();
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Media layout migration started", status));
+    }
+    
+    @GetMapping("/admin/migrate-media-layout/status")
+    public ApiResponse<BackfillStatusResponse> getMediaLayoutMigrationStatus() {
+        return ApiResponse.success("Media layout migration status retrieved successfully",
+                mediaLayoutMigrationService.getStatus());
+    }
+    
+    @PostMapping("/admin/migrate-media-layout/stop")
+    public ApiResponse<BackfillStatusResponse> stopMediaLayoutMigration() {
+        return ApiResponse.success("Media layout migration stop requested", mediaLayoutMigrationService.stop());
+    }
+    
+    // 목록/댓글 응답 캐시 적중률과 크기
+    @GetMapping("/admin/response-cache/stats")
+    public ApiResponse<ResponseCacheStats> getResponseCacheStats() {
+        return ApiResponse.success("Response cache stats retrieved successfully", responseCache.getStats());
     }
     
     @PostMapping("/admin/clear-thumbnails")
     public ApiResponse<String> clearThumbnails() {
-        videoService.clearAllThumbnails();
-        return ApiResponse.success("Thumbnails cleared successfully", "Thumbnails cleared");
+        int cleared = videoService.clearAllThumbnails();
+        responseCache.invalidateAll();
+        return ApiResponse.success("Thumbnails cleared successfully", cleared + " thumbnails cleared");
     }
     
-    // 정적 파일 접근을 위한 엔드포인트
-    @GetMapping("/file/{filename}")
-    public ResponseEntity<Resource> getVideoFile(@PathVariable String filename) {
+    // 비디오 파일 스트리밍 (Range 요청 시 206 부분 응답, HEAD 지원)
+    @RequestMapping(value = "/file/{filename}", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void getVideoFile(
+            @PathVariable String filename,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        videoStreamingService.streamVideo(filename, request, response);
+    }
+    
+    // 썸네일 (Accept로 AVIF/WebP/JPEG 선택, w=표시 너비(px), dpr=기기 픽셀 비율)
+    @GetMapping("/thumbnail/{filename}")
+    public ResponseEntity<Resource> getThumbnailFile(
+            @PathVariable String filename,
+            @RequestParam(value = "w", required = false) Integer width,
+            @RequestParam(value = "dpr", required = false) Double dpr,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        ThumbnailService.ThumbnailFile thumbnail = thumbnailService.resolve(filename, accept, width, dpr);
+        if (thumbnail == null) {
+            return ResponseEntity.badRequest().build();
+        }
         try {
-            // backend 디렉토리에서 실행되므로 uploads/videos 경로로 설정
-            Path filePath = Paths.get("uploads", "videos").resolve(filename).normalize();
-            Resource resource = new UrlResource(filePath.toUri());
+            Resource resource = new UrlResource(thumbnail.getPath().toUri());
             
             if (resource.exists() && resource.isReadable()) {
+                // 같은 URL이라도 Accept에 따라 다른 포맷을 응답하므로 캐시 키에 포함
                 return ResponseEntity.ok()
-                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .contentType(thumbnail.getMediaType())
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                    .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
                     .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + resource.getFilename() + "\"")
                     .body(resource);
             } else {
@@ -147,23 +249,61 @@ public class VideoController {
         }
     }
     
-    @GetMapping("/thumbnail/{filename}")
-    public ResponseEntity<Resource> getThumbnailFile(@PathVariable String filename) {
+    // 탐색 미리보기 스프라이트 시트(.jpg)와 타일 위치(.vtt)
+    @GetMapping("/sprites/{filename}")
+    public ResponseEntity<Resource> getSpriteFile(@PathVariable String filename) {
+        Path filePath = spriteSheetService.resolveSpriteFile(filename);
+        if (filePath == null) {
+            return ResponseEntity.badRequest().build();
+        }
         try {
-            // backend 디렉토리에서 실행되므로 uploads/thumbnails 경로로 설정
-            Path filePath = Paths.get("uploads", "thumbnails").resolve(filename).normalize();
             Resource resource = new UrlResource(filePath.toUri());
+            if (!resource.exists() || !resource.isReadable()) {
+                return ResponseEntity.notFound().build();
+            }
             
-            if (resource.exists() && resource.isReadable()) {
-                return ResponseEntity.ok()
-                    .contentType(MediaType.IMAGE_JPEG)
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + resource.getFilename() + "\"")
-                    .body(resource);
-            } else {
+            boolean vtt = filename.endsWith(".vtt");
+            return ResponseEntity.ok()
+                .contentType(vtt ? MediaType.parseMediaType("text/vtt;charset=UTF-8") : MediaType.IMAGE_JPEG)
+                .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .body(resource);
+        } catch (MalformedURLException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    // HLS 플레이리스트/세그먼트 (/hls/{key}/master.m3u8, /hls/{key}/{rendition}/index.m3u8, seg_000.ts)
+    @GetMapping("/hls/{hlsKey}/{filename}")
+    public ResponseEntity<Resource> getHlsMasterPlaylist(@PathVariable String hlsKey, @PathVariable String filename) {
+        return serveHlsFile(hlsPackagingService.resolveHlsFile(hlsKey, null, filename));
+    }
+    
+    @GetMapping("/hls/{hlsKey}/{rendition}/{filename}")
+    public ResponseEntity<Resource> getHlsRenditionFile(
+            @PathVariable String hlsKey,
+            @PathVariable String rendition,
+            @PathVariable String filename) {
+        return serveHlsFile(hlsPackagingService.resolveHlsFile(hlsKey, rendition, filename));
+    }
+    
+    private ResponseEntity<Resource> serveHlsFile(Path filePath) {
+        if (filePath == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            Resource resource = new UrlResource(filePath.toUri());
+            if (!resource.exists() || !resource.isReadable()) {
                 return ResponseEntity.notFound().build();
             }
+            
+            boolean playlist = filePath.getFileName().toString().endsWith(".m3u8");
+            // VOD 패키징 결과는 변경되지 않으므로 장기 캐시
+            return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(playlist ? "application/vnd.apple.mpegurl" : "video/mp2t"))
+                .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .body(resource);
         } catch (MalformedURLException e) {
             return ResponseEntity.badRequest().build();
         }
     }
-} 
\ No newline at end of file
+}
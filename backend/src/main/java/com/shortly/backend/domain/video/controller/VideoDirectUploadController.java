@@ -0,0 +1,46 @@
+package com.shortly.backend.domain.video.controller;
+
+import com.shortly.backend.domain.common.dto.ApiResponse;
+import com.shortly.backend.domain.video.dto.DirectUploadResponse;
+import com.shortly.backend.domain.video.dto.UploadSessionRequest;
+import com.shortly.backend.domain.video.dto.VideoResponse;
+import com.shortly.backend.domain.video.service.DirectUploadService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 저장소 직접 업로드 API (storage.type=s3 일 때 사용)
+ * 1. POST   /api/videos/direct-uploads                      presigned PUT URL 발급
+ * 2. PUT    {uploadUrl}                                     클라이언트가 저장소로 파일 전송 (응답의 Content-Type 사용)
+ * 3. POST   /api/videos/direct-uploads/{uploadId}/complete  업로드 완료 후 비디오 처리 시작
+ */
+@RestController
+@RequestMapping("/api/videos/direct-uploads")
+@RequiredArgsConstructor
+public class VideoDirectUploadController {
+    
+    private final DirectUploadService directUploadService;
+    
+    @PostMapping
+    public ResponseEntity<ApiResponse<DirectUploadResponse>> createUpload(@Valid @RequestBody UploadSessionRequest request) {
+        DirectUploadResponse upload = directUploadService.createUpload(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Upload URL issued", upload));
+    }
+    
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<ApiResponse<VideoResponse>> complete(@PathVariable String uploadId) {
+        VideoResponse videoResponse = directUploadService.complete(uploadId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Video upload accepted", videoResponse));
+    }
+    
+    @DeleteMapping("/{uploadId}")
+    public ApiResponse<String> abort(@PathVariable String uploadId) {
+        directUploadService.abort(uploadId);
+        return ApiResponse.success("Upload aborted", "Upload aborted");
+    }
+}
@@ -0,0 +1,72 @@
+package com.shortly.backend.domain.video.controller;
+
+import com.shortly.backend.domain.common.dto.ApiResponse;
+import com.shortly.backend.domain.video.dto.UploadSessionRequest;
+import com.shortly.backend.domain.video.dto.UploadSessionResponse;
+import com.shortly.backend.domain.video.dto.VideoResponse;
+import com.shortly.backend.domain.video.service.ResumableUploadService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+/**
+ * 이어 올리기 업로드 API (기존 POST /api/videos 단일 업로드와 병행)
+ * 1. POST   /api/videos/uploads               세션 생성
+ * 2. PATCH  /api/videos/uploads/{uploadId}    Upload-Offset 헤더 위치에 청크 기록 (병렬 전송 가능)
+ * 3. GET    /api/videos/uploads/{uploadId}    수신 오프셋/누락 청크 조회 (HEAD 도 지원)
+ * 4. POST   /api/videos/uploads/{uploadId}/complete  업로드 완료 후 비디오 처리 시작
+ */
+@RestController
+@RequestMapping("/api/videos/uploads")
+@RequiredArgsConstructor
+public class VideoUploadSessionController {
+    
+    private static final String UPLOAD_OFFSET_HEADER = "Upload-Offset";
+    
+    private final ResumableUploadService resumableUploadService;
+    
+    @PostMapping
+    public ResponseEntity<ApiResponse<UploadSessionResponse>> createSession(@Valid @RequestBody UploadSessionRequest request) {
+        UploadSessionResponse session = resumableUploadService.createSession(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(UPLOAD_OFFSET_HEADER, String.valueOf(session.getOffset()))
+                .body(ApiResponse.success("Upload session created", session));
+    }
+    
+    @PatchMapping("/{uploadId}")
+    public ResponseEntity<ApiResponse<UploadSessionResponse>> uploadChunk(
+            @PathVariable String uploadId,
+            @RequestHeader(UPLOAD_OFFSET_HEADER) long offset,
+            HttpServletRequest request) throws IOException {
+        UploadSessionResponse session = resumableUploadService.writeChunk(uploadId, offset, request.getInputStream());
+        return ResponseEntity.ok()
+                .header(UPLOAD_OFFSET_HEADER, String.valueOf(session.getOffset()))
+                .body(ApiResponse.success("Chunk uploaded", session));
+    }
+    
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<ApiResponse<UploadSessionResponse>> getStatus(@PathVariable String uploadId) {
+        UploadSessionResponse session = resumableUploadService.getStatus(uploadId);
+        return ResponseEntity.ok()
+                .header(UPLOAD_OFFSET_HEADER, String.valueOf(session.getOffset()))
+                .body(ApiResponse.success("Upload status retrieved", session));
+    }
+    
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<ApiResponse<VideoResponse>> complete(@PathVariable String uploadId) {
+        VideoResponse videoResponse = resumableUploadService.complete(uploadId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Video upload accepted", videoResponse));
+    }
+    
+    @DeleteMapping("/{uploadId}")
+    public ApiResponse<String> abort(@PathVariable String uploadId) {
+        resumableUploadService.abort(uploadId);
+        return ApiResponse.success("Upload aborted", "Upload aborted");
+    }
+}
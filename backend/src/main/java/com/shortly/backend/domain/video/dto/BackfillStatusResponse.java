@@ -0,0 +1,27 @@
+package com.shortly.backend.domain.video.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BackfillStatusResponse {
+    
+    private String jobName;
+    private String status;
+    private boolean running;
+    private Long lastProcessedId;
+    private long succeeded;
+    private long failed;
+    private long remaining;
+    private double ratePerSecond;
+    private Long etaSeconds;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+}
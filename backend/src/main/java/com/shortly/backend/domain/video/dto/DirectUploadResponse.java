@@ -0,0 +1,21 @@
+package com.shortly.backend.domain.video.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DirectUploadResponse {
+    
+    private String uploadId;
+    private String uploadUrl; // presigned PUT URL (저장소로 직접 전송)
+    private String contentType; // PUT 요청에 같은 Content-Type을 지정해야 함
+    private long totalSize;
+    private LocalDateTime expiresAt;
+}
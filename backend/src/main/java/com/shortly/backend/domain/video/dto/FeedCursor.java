@@ -0,0 +1,49 @@
+package com.shortly.backend.domain.video.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 목록 커서 (마지막으로 받은 비디오의 작성 시각과 ID)
+ * 클라이언트에는 내용을 알 수 없는 문자열로만 전달하고, 다음 페이지는 (created_at, id)가 이보다 작은 행부터 읽는다.
+ */
+@Getter
+@AllArgsConstructor
+public class FeedCursor {
+    
+    private LocalDateTime createdAt;
+    private Long id;
+    
+    public static FeedCursor of(VideoFeedRow row) {
+        return new FeedCursor(row.getCreatedAt(), row.getId());
+    }
+    
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    // 빈 문자열이면 첫 페이지 (null 반환)
+    public static FeedCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new FeedCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException, Base64 오류 포함
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.shortly.backend.domain.video.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 검색어와 일치한 구간 ({시작, 끝} UTF-16 위치, 끝 미포함)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHighlight {
+    
+    private List<int[]> title;
+    private List<int[]> description;
+}
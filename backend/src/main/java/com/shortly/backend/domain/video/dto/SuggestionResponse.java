@@ -0,0 +1,17 @@
+package com.shortly.backend.domain.video.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionResponse {
+    
+    private String text;
+    private String type; // TAG, TITLE
+    private long weight; // 태그는 붙은 비디오 수, 제목 단어는 등장한 비디오 수
+}
@@ -0,0 +1,15 @@
+package com.shortly.backend.domain.video.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 태그 사전 항목 (ID와 저장된 이름)
+ */
+@Getter
+@AllArgsConstructor
+public class TagRef {
+    
+    private Long id;
+    private String name;
+}
@@ -0,0 +1,16 @@
+package com.shortly.backend.domain.video.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingTagResponse {
+    
+    private String name;
+    private double score; // 반감기 감쇠를 적용한 최근 사용/반응 점수
+}
@@ -0,0 +1,35 @@
+package com.shortly.backend.domain.video.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSessionRequest {
+    
+    @NotBlank(message = "Title is required")
+    private String title;
+    
+    private String description;
+    
+    @NotEmpty(message = "At least one tag is required")
+    private List<String> tags;
+    
+    @NotBlank(message = "Filename is required")
+    private String filename;
+    
+    @NotNull(message = "Total size is required")
+    private Long totalSize;
+    
+    // 지정하지 않으면 기본 청크 크기 사용
+    private Long chunkSize;
+}
@@ -0,0 +1,24 @@
+package com.shortly.backend.domain.video.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSessionResponse {
+    
+    private String uploadId;
+    private long totalSize;
+    private long chunkSize;
+    private int totalChunks;
+    private long offset; // 앞에서부터 연속으로 수신된 바이트 수
+    private List<Integer> missingChunks;
+    private LocalDateTime expiresAt;
+}
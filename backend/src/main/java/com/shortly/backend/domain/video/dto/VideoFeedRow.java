@@ -0,0 +1,35 @@
+package com.shortly.backend.domain.video.dto;
+
+import com.shortly.backend.domain.video.entity.VideoStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 조회용 비디오 행 (VideoResponse에 필요한 컬럼만 읽는 생성자 프로젝션)
+ * 작성자와 태그는 페이지 단위로 따로 모아서 채운다.
+ */
+@Getter
+@AllArgsConstructor
+public class VideoFeedRow {
+    
+    private Long id;
+    private String title;
+    private String description;
+    private String url;
+    private String thumbnailUrl;
+    private Long ownerId;
+    private LocalDateTime createdAt;
+    private VideoStatus status;
+    private String hlsKey;
+    private String spriteKey;
+    private Double durationSeconds;
+    private Integer width;
+    private Integer height;
+    private String videoCodec;
+    private Double frameRate;
+    private Long bitrate;
+    private long likeCount;
+    private long commentCount;
+}
@@ -1,8 +1,10 @@
 package com.shortly.backend.domain.video.dto;
 
 import com.shortly.backend.domain.user.dto.UserResponse;
-import com.shortly.backend.domain.user.entity.User;
+import com.shortly.backend.domain.video.entity.MediaMetadata;
 import com.shortly.backend.domain.video.entity.Video;
+import com.shortly.backend.domain.video.entity.VideoStatus;
+import com.shortly.backend.domain.video.service.HlsPackagingService;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -13,7 +15,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class VideoResponse {
@@ -26,9 +28,31 @@ public class VideoResponse {
     private UserResponse owner;
     private List<String> tags;
     private LocalDateTime createdAt;
+    private VideoStatus status;
+    private String manifestUrl; // HLS 마스터 플레이리스트 (패키징 전에는 null, 원본 url 사용)
+    private String spriteUrl; // 탐색 미리보기 스프라이트 시트 (생성 전에는 null)
+    private String spriteVttUrl; // 스프라이트 타일 위치 (WebVTT, #xywh)
+    private Double durationSeconds;
+    private Integer width; // 표시 기준 해상도 (처리 전에는 null)
+    private Integer height;
+    private String videoCodec;
+    private Double frameRate;
+    private Long bitrate; // 평균 비트레이트 (bps)
+    private long likeCount; // 주기적으로 반영되므로 몇 초 늦을 수 있음
+    private long commentCount;
     private Boolean isLiked; // 좋아요 상태 추가
+    private SearchHighlight highlight; // 검색 결과일 때만 (검색어와 일치한 제목/설명 구간)
+    
+    public void setHighlight(SearchHighlight highlight) {
+        this.highlight = highlight;
+    }
+    
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
     
     public static VideoResponse from(Video video) {
+        MediaMetadata metadata = video.getMetadata();
         return VideoResponse.builder()
                 .id(video.getId())
                 .title(video.getTitle())
@@ -40,24 +64,60 @@ public class VideoResponse {
                         .map(vt -> vt.getTag().getName())
                         .collect(Collectors.toList()))
                 .createdAt(video.getCreatedAt())
+                .status(video.getStatus())
+                .manifestUrl(manifestUrlOf(video.getHlsKey()))
+                .spriteUrl(spriteUrlOf(video.getSpriteKey(), ".jpg"))
+                .spriteVttUrl(spriteUrlOf(video.getSpriteKey(), ".vtt"))
+                .durationSeconds(video.getDurationSeconds())
+                .width(metadata != null ? metadata.getWidth() : null)
+                .height(metadata != null ? metadata.getHeight() : null)
+                .videoCodec(metadata != null ? metadata.getVideoCodec() : null)
+                .frameRate(metadata != null ? metadata.getFrameRate() : null)
+                .bitrate(metadata != null ? metadata.getBitrate() : null)
+                .likeCount(video.getLikeCount())
+                .commentCount(video.getCommentCount())
                 .isLiked(null) // 기본값은 null
                 .build();
     }
     
-    // 좋아요 상태를 포함한 from 메서드
-    public static VideoResponse from(Video video, User currentUser, boolean isLiked) {
+    // 목록 조회용 (프로젝션 행 + 페이지 단위로 모은 작성자/태그)
+    public static VideoResponse from(VideoFeedRow row, UserResponse owner, List<String> tags, Boolean isLiked) {
         return VideoResponse.builder()
-                .id(video.getId())
-                .title(video.getTitle())
-                .description(video.getDescription())
-                .url(video.getUrl())
-                .thumbnailUrl(video.getThumbnailUrl())
-                .owner(UserResponse.from(video.getOwner()))
-                .tags(video.getVideoTags().stream()
-                        .map(vt -> vt.getTag().getName())
-                        .collect(Collectors.toList()))
-                .createdAt(video.getCreatedAt())
+                .id(row.getId())
+                .title(row.getTitle())
+                .description(row.getDescription())
+                .url(row.getUrl())
+                .thumbnailUrl(row.getThumbnailUrl())
+                .owner(owner)
+                .tags(tags)
+                .createdAt(row.getCreatedAt())
+                .status(row.getStatus())
+                .manifestUrl(manifestUrlOf(row.getHlsKey()))
+                .spriteUrl(spriteUrlOf(row.getSpriteKey(), ".jpg"))
+                .spriteVttUrl(spriteUrlOf(row.getSpriteKey(), ".vtt"))
+                .durationSeconds(row.getDurationSeconds())
+                .width(row.getWidth())
+                .height(row.getHeight())
+                .videoCodec(row.getVideoCodec())
+                .frameRate(row.getFrameRate())
+                .bitrate(row.getBitrate())
+                .likeCount(row.getLikeCount())
+                .commentCount(row.getCommentCount())
                 .isLiked(isLiked)
                 .build();
     }
-} 
\ No newline at end of file
+    
+    private static String spriteUrlOf(String spriteKey, String extension) {
+        if (spriteKey == null) {
+            return null;
+        }
+        return "/api/videos/sprites/" + spriteKey + extension;
+    }
+    
+    private static String manifestUrlOf(String hlsKey) {
+        if (hlsKey == null) {
+            return null;
+        }
+        return "/api/videos/hls/" + hlsKey + "/" + HlsPackagingService.MASTER_PLAYLIST;
+    }
+}
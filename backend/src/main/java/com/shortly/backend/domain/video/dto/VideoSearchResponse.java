@@ -8,13 +8,15 @@ import lombok.NoArgsConstructor;
 import java.util.List;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class VideoSearchResponse {
     
     private List<VideoResponse> videos;
-    private long total;
+    private Long total; // 커서 방식 조회에서는 전체 개수를 세지 않음 (null)
     private int page;
     private int perPage;
+    private String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
+    private boolean hasNext;
 } 
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.shortly.backend.domain.video.dto;
+
+import com.shortly.backend.domain.video.entity.Video;
+import com.shortly.backend.domain.video.entity.VideoStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VideoStatusResponse {
+    
+    private Long id;
+    private VideoStatus status;
+    private String failureReason;
+    private String thumbnailUrl;
+    private Double durationSeconds;
+    
+    public static VideoStatusResponse from(Video video) {
+        return VideoStatusResponse.builder()
+                .id(video.getId())
+                .status(video.getStatus())
+                .failureReason(video.getFailureReason())
+                .thumbnailUrl(video.getThumbnailUrl())
+                .durationSeconds(video.getDurationSeconds())
+                .build();
+    }
+}
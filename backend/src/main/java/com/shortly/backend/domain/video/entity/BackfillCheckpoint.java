@@ -0,0 +1,79 @@
+package com.shortly.backend.domain.video.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일괄 작업 진행 위치 (배치마다 함께 커밋되어 재시작 시 이어서 처리)
+ */
+@Entity
+@Table(name = "backfill_checkpoints")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BackfillCheckpoint {
+    
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_STOPPED = "STOPPED";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    
+    @Id
+    @Column(name = "job_name", length = 50)
+    private String jobName;
+    
+    // 이 ID까지 처리 완료 (다음 배치는 ID > lastProcessedId)
+    @Column(name = "last_processed_id", nullable = false)
+    @Builder.Default
+    private Long lastProcessedId = 0L;
+    
+    @Column(name = "succeeded_count", nullable = false)
+    @Builder.Default
+    private Long succeededCount = 0L;
+    
+    @Column(name = "failed_count", nullable = false)
+    @Builder.Default
+    private Long failedCount = 0L;
+    
+    @Column(nullable = false, length = 20)
+    private String status;
+    
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+    
+    public void restart() {
+        this.lastProcessedId = 0L;
+        this.succeededCount = 0L;
+        this.failedCount = 0L;
+        this.startedAt = LocalDateTime.now();
+        this.status = STATUS_RUNNING;
+    }
+    
+    public void resume() {
+        this.status = STATUS_RUNNING;
+    }
+    
+    public void advance(Long lastProcessedId, int succeeded, int failed) {
+        this.lastProcessedId = lastProcessedId;
+        this.succeededCount += succeeded;
+        this.failedCount += failed;
+    }
+    
+    public void markStatus(String status) {
+        this.status = status;
+    }
+}
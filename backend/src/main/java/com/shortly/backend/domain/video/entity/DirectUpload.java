@@ -0,0 +1,55 @@
+package com.shortly.backend.domain.video.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 완료 요청을 기다리는 저장소 직접 업로드 (어느 서버로 완료 요청이 와도, 재시작 후에도 이어서 처리)
+ * 완료 처리 중에는 claimedAt이 채워져 같은 업로드로 비디오가 두 번 만들어지지 않는다.
+ */
+@Entity
+@Table(name = "direct_uploads", indexes = {
+    @Index(name = "idx_direct_uploads_expires", columnList = "expires_at")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DirectUpload {
+    
+    @Id
+    @Column(length = 36)
+    private String id;
+    
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+    
+    @Column(nullable = false)
+    private String title;
+    
+    @Column(columnDefinition = "TEXT")
+    private String description;
+    
+    // 태그 이름 목록 (JSON 배열)
+    @Column(name = "tags_json", columnDefinition = "TEXT")
+    private String tagsJson;
+    
+    // 저장소 ingest/ 아래에 올라올 파일명
+    @Column(nullable = false)
+    private String filename;
+    
+    @Column(name = "total_size", nullable = false)
+    private Long totalSize;
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+    
+    // 완료 처리를 시작한 시각 (처리 전에는 null)
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+}
@@ -0,0 +1,72 @@
+package com.shortly.backend.domain.video.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용(SHA-256) 기준으로 저장된 원본 영상 파일
+ * 같은 파일을 올린 비디오들이 하나의 파일과 처리 결과(길이, 영상 정보, 썸네일, HLS)를 공유하며,
+ * 마지막으로 참조하던 비디오가 삭제될 때 파일도 삭제된다.
+ */
+@Entity
+@Table(name = "media_blobs")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MediaBlob {
+    
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+    
+    // 저장 파일명 (해시 + 확장자)
+    @Column(nullable = false)
+    private String filename;
+    
+    @Column(name = "size_bytes", nullable = false)
+    private Long sizeBytes;
+    
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount;
+    
+    // 처리 결과 (처리 전에는 null)
+    @Column(name = "duration_seconds")
+    private Double durationSeconds;
+    
+    @Embedded
+    private MediaMetadata metadata;
+    
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;
+    
+    @Column(name = "hls_key")
+    private String hlsKey;
+    
+    @Column(name = "sprite_key")
+    private String spriteKey;
+    
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    
+    public void markProcessed(String thumbnailUrl, double durationSeconds, MediaMetadata metadata) {
+        this.thumbnailUrl = thumbnailUrl;
+        this.durationSeconds = durationSeconds;
+        this.metadata = metadata;
+    }
+    
+    public boolean isProcessed() {
+        return durationSeconds != null;
+    }
+    
+    // 참조 해제 후 남은 참조 수 반환
+    public int release() {
+        refCount = Math.max(0, refCount - 1);
+        return refCount;
+    }
+}
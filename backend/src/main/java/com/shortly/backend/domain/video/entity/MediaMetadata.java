@@ -0,0 +1,39 @@
+package com.shortly.backend.domain.video.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 컨테이너 프로브로 읽은 영상 정보 (표시 기준 해상도, 코덱, 프레임레이트, 비트레이트)
+ */
+@Embeddable
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MediaMetadata {
+    
+    // 회전 정보를 반영한 표시 크기
+    @Column(name = "width")
+    private Integer width;
+    
+    @Column(name = "height")
+    private Integer height;
+    
+    @Column(name = "video_codec", length = 20)
+    private String videoCodec;
+    
+    @Column(name = "audio_codec", length = 20)
+    private String audioCodec;
+    
+    @Column(name = "frame_rate")
+    private Double frameRate;
+    
+    // 전체 평균 비트레이트 (bps)
+    @Column(name = "bitrate")
+    private Long bitrate;
+}
@@ -0,0 +1,33 @@
+package com.shortly.backend.domain.video.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 태그 집계 스냅샷 (재시작 시 집계를 처음부터 다시 쌓지 않도록 주기적으로 저장)
+ */
+@Entity
+@Table(name = "trending_snapshots")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingSnapshot {
+    
+    @Id
+    @Column(length = 50)
+    private String name;
+    
+    // TrendingCounter.toSnapshot 결과
+    @Lob
+    @Column(nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] payload;
+    
+    @Column(name = "saved_at", nullable = false)
+    private LocalDateTime savedAt;
+}
@@ -12,7 +12,15 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "videos")
+@Table(name = "videos", indexes = {
+    @Index(name = "idx_videos_content_hash", columnList = "content_hash"),
+    // 커서 방식 목록 조회 (status 고정, created_at/id 역순 범위 스캔)
+    @Index(name = "idx_videos_status_created_id", columnList = "status, created_at, id"),
+    // 구독 타임라인에서 크리에이터별 최근 영상 조회
+    @Index(name = "idx_videos_owner_status_created", columnList = "owner_id, status, created_at, id"),
+    // 검색 색인이 마지막 반영 시각 이후 변경분만 읽을 때 사용
+    @Index(name = "idx_videos_updated_id", columnList = "updated_at, id")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -43,6 +51,52 @@ public class Video {
     @JoinColumn(name = "owner_id", nullable = false)
     private User owner;
     
+    // 기존 데이터는 처리 완료 상태로 간주
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20, columnDefinition = "varchar(20) default 'READY'")
+    @Builder.Default
+    private VideoStatus status = VideoStatus.READY;
+    
+    @Column(name = "duration_seconds")
+    private Double durationSeconds;
+    
+    // 해상도, 코덱 등 영상 정보 (처리 전에는 null)
+    @Embedded
+    private MediaMetadata metadata;
+    
+    @Column(name = "failure_reason")
+    private String failureReason;
+    
+    // 원본 파일 내용 해시 (MediaBlob 참조, 이 기능 이전에 올라온 비디오는 null)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+    
+    // HLS 패키징 결과 디렉토리 키 (패키징 전에는 null)
+    @Column(name = "hls_key")
+    private String hlsKey;
+    
+    public void setHlsKey(String hlsKey) {
+        this.hlsKey = hlsKey;
+    }
+    
+    // 탐색 미리보기 스프라이트 키 (생성 전에는 null)
+    @Column(name = "sprite_key")
+    private String spriteKey;
+    
+    public void setSpriteKey(String spriteKey) {
+        this.spriteKey = spriteKey;
+    }
+    
+    // 좋아요/댓글 수 (EngagementCounterService가 주기적으로 일괄 반영, 원본 테이블과의 차이는 정합성 작업이 보정)
+    // 엔티티 저장 시 읽어 둔 옛 값으로 일괄 반영분을 덮어쓰지 않도록 JPA로는 쓰지 않음 (생성 시 DB 기본값 0)
+    @Column(name = "like_count", nullable = false, insertable = false, updatable = false, columnDefinition = "bigint default 0")
+    @Builder.Default
+    private long likeCount = 0L;
+    
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false, columnDefinition = "bigint default 0")
+    @Builder.Default
+    private long commentCount = 0L;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
@@ -75,4 +129,29 @@ public class Video {
     public void removeTag(Tag tag) {
         videoTags.removeIf(vt -> vt.getTag().equals(tag));
     }
+    
+    // 백그라운드 처리 결과 반영
+    public void markReady(String thumbnailUrl, double durationSeconds, MediaMetadata metadata) {
+        this.thumbnailUrl = thumbnailUrl;
+        this.durationSeconds = durationSeconds;
+        this.metadata = metadata;
+        this.failureReason = null;
+        this.status = VideoStatus.READY;
+    }
+    
+    // 직접 업로드된 파일을 내용 해시 기준 원본에 연결한 경우
+    public void attachContent(String contentHash, String filename) {
+        this.contentHash = contentHash;
+        this.url = filename;
+    }
+    
+    // 처리 실패 등으로 원본 참조를 해제한 경우
+    public void detachContent() {
+        this.contentHash = null;
+    }
+    
+    public void markFailed(String failureReason) {
+        this.failureReason = failureReason;
+        this.status = VideoStatus.FAILED;
+    }
 } 
\ No newline at end of file
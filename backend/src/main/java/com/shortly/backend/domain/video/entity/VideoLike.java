@@ -10,7 +10,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "video_likes")
+@Table(name = "video_likes", indexes = {
+    @Index(name = "idx_video_likes_user_video", columnList = "user_id, video_id")
+})
 @Getter
 @Builder
 @NoArgsConstructor
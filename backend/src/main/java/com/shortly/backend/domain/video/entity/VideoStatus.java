@@ -0,0 +1,10 @@
+package com.shortly.backend.domain.video.entity;
+
+/**
+ * 비디오 처리 상태
+ */
+public enum VideoStatus {
+    PROCESSING, // 업로드 완료, 백그라운드 처리 대기/진행 중
+    READY,      // 처리 완료, 피드에 노출
+    FAILED      // 처리 실패 (영상 길이 초과, 손상된 파일 등)
+}
@@ -7,7 +7,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "video_tags")
+@Table(name = "video_tags", indexes = {
+    @Index(name = "idx_video_tags_tag_video", columnList = "tag_id, video_id")
+})
 @Getter
 @Builder
 @NoArgsConstructor
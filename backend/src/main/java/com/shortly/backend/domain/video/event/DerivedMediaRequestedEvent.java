@@ -0,0 +1,17 @@
+package com.shortly.backend.domain.video.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 공개된 비디오의 파생 미디어(스프라이트, HLS 화질 묶음) 생성을 요청하는 이벤트 (수집 워커 밖에서 처리)
+ */
+@Getter
+@AllArgsConstructor
+public class DerivedMediaRequestedEvent {
+    
+    private final Long videoId;
+    private final String contentHash; // 같은 원본을 공유하는 비디오에 결과를 함께 반영 (없으면 null)
+    private final String filename;
+    private final double durationSeconds; // 스프라이트 타일 간격 계산용
+}
@@ -0,0 +1,7 @@
+package com.shortly.backend.domain.video.event;
+
+/**
+ * 미디어 파일 디렉토리 구조 이동 시작 요청
+ */
+public class MediaLayoutMigrationRequestedEvent {
+}
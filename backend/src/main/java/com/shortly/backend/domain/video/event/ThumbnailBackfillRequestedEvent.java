@@ -0,0 +1,14 @@
+package com.shortly.backend.domain.video.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 썸네일 일괄 생성 시작/재개 요청
+ */
+@Getter
+@AllArgsConstructor
+public class ThumbnailBackfillRequestedEvent {
+    
+    private final String jobName;
+}
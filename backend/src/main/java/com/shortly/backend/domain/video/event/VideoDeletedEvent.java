@@ -0,0 +1,14 @@
+package com.shortly.backend.domain.video.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 비디오 삭제 트랜잭션 커밋 후 검색 색인 등에서 제외하기 위한 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class VideoDeletedEvent {
+    
+    private final Long videoId;
+}
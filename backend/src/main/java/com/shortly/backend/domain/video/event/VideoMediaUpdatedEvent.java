@@ -0,0 +1,14 @@
+package com.shortly.backend.domain.video.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 공개 후 썸네일/스프라이트/HLS가 바뀐 비디오를 알리는 이벤트 (응답 캐시 무효화용)
+ */
+@Getter
+@AllArgsConstructor
+public class VideoMediaUpdatedEvent {
+    
+    private final Long videoId;
+}
@@ -0,0 +1,18 @@
+package com.shortly.backend.domain.video.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비디오가 처리 완료(READY)되어 피드에 노출되기 시작할 때 발행 (구독 타임라인 전달용)
+ */
+@Getter
+@AllArgsConstructor
+public class VideoPublishedEvent {
+    
+    private final Long videoId;
+    private final Long ownerId;
+    private final LocalDateTime createdAt;
+}
@@ -0,0 +1,14 @@
+package com.shortly.backend.domain.video.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 비디오 업로드 트랜잭션 커밋 후 백그라운드 처리를 시작하기 위한 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class VideoUploadedEvent {
+    
+    private final Long videoId;
+}
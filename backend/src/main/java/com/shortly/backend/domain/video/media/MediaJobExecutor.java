@@ -0,0 +1,273 @@
+package com.shortly.backend.domain.video.media;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FFmpeg/FFprobe 프로세스 실행을 한 곳에서 관리하는 작업 실행기
+ * - 동시에 실행되는 외부 프로세스 수를 media.process.max-concurrent 로 제한
+ * - 대기열은 우선순위(INTERACTIVE → DERIVED → BACKGROUND) 후 제출 순서로 처리
+ * - 작업별 제한 시간을 넘기면 감시 스레드가 프로세스를 강제 종료
+ * - 실행 파일 경로는 시작 시 한 번만 확인
+ */
+@Component
+public class MediaJobExecutor {
+    
+    // 프로세스 출력은 오류 메시지/프로브 결과 확인용으로 앞부분만 보관
+    private static final int MAX_OUTPUT_BYTES = 64 * 1024;
+    
+    private static final String[] WINDOWS_FFMPEG_DIRS = {
+        "C:\\ffmpeg\\bin\\",
+        "C:\\ffmpeg-2025-07-10-git-82aeee3c19-full_build\\bin\\"
+    };
+    
+    @Value("${media.process.max-concurrent:2}")
+    private int maxConcurrent;
+    
+    @Value("${ffmpeg.path:}")
+    private String ffmpegPath;
+    
+    @Value("${ffprobe.path:}")
+    private String ffprobePath;
+    
+    private final Map<MediaTool, String> binaries = new EnumMap<>(MediaTool.class);
+    private final Set<String> encoders = ConcurrentHashMap.newKeySet();
+    private final Set<Process> runningProcesses = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    
+    private ThreadPoolExecutor executor;
+    private ScheduledExecutorService watchdog;
+    
+    @PostConstruct
+    public void initialize() {
+        binaries.put(MediaTool.FFMPEG, resolveBinary("ffmpeg", ffmpegPath));
+        binaries.put(MediaTool.FFPROBE, resolveBinary("ffprobe", ffprobePath));
+        detectEncoders();
+        
+        int poolSize = Math.max(1, maxConcurrent);
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(), namedThreadFactory("media-job-"));
+        watchdog = Executors.newSingleThreadScheduledExecutor(namedThreadFactory("media-watchdog-"));
+        System.out.println("[MediaJob] 실행기 시작 - 동시 프로세스: " + poolSize + ", " + binaries);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        watchdog.shutdownNow();
+        runningProcesses.forEach(Process::destroyForcibly);
+    }
+    
+    // 설치된 FFmpeg 빌드가 해당 인코더를 포함하는지 (libwebp, libaom-av1 등은 빌드마다 다름)
+    public boolean supportsEncoder(String encoder) {
+        return encoders.contains(encoder);
+    }
+    
+    /**
+     * 작업을 대기열에 넣고 결과 Future 반환 (취소하면 실행 중인 프로세스도 종료)
+     */
+    public CompletableFuture<MediaJobResult> submit(MediaTool tool, List<String> args,
+                                                    MediaJobPriority priority, Duration timeout) {
+        List<String> command = new ArrayList<>(args.size() + 1);
+        command.add(binaries.get(tool));
+        command.addAll(args);
+        
+        MediaJob job = new MediaJob(command, priority, timeout, sequence.getAndIncrement());
+        executor.execute(job);
+        return job.result;
+    }
+    
+    /**
+     * 작업 완료까지 대기 (호출 스레드가 인터럽트되면 작업 취소)
+     */
+    public MediaJobResult run(MediaTool tool, List<String> args, MediaJobPriority priority, Duration timeout)
+            throws IOException, InterruptedException {
+        CompletableFuture<MediaJobResult> future = submit(tool, args, priority, timeout);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+    
+    private class MediaJob implements Runnable, Comparable<MediaJob> {
+        
+        private final List<String> command;
+        private final MediaJobPriority priority;
+        private final Duration timeout;
+        private final long sequence;
+        private final CompletableFuture<MediaJobResult> result = new CompletableFuture<>();
+        
+        MediaJob(List<String> command, MediaJobPriority priority, Duration timeout, long sequence) {
+            this.command = command;
+            this.priority = priority;
+            this.timeout = timeout;
+            this.sequence = sequence;
+        }
+        
+        @Override
+        public int compareTo(MediaJob other) {
+            int byPriority = priority.compareTo(other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+        
+        @Override
+        public void run() {
+            // 대기 중 취소된 작업은 프로세스를 띄우지 않음
+            if (result.isDone()) {
+                return;
+            }
+            
+            Process process;
+            try {
+                process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            } catch (IOException e) {
+                result.completeExceptionally(e);
+                return;
+            }
+            runningProcesses.add(process);
+            result.whenComplete((r, e) -> {
+                if (e instanceof CancellationException) {
+                    process.destroyForcibly();
+                }
+            });
+            
+            // 출력을 읽는 동안에도 제한 시간이 지나면 강제 종료되도록 별도 감시 스레드에서 처리
+            AtomicBoolean killed = new AtomicBoolean();
+            ScheduledFuture<?> kill = watchdog.schedule(() -> {
+                if (process.isAlive()) {
+                    killed.set(true);
+                    process.destroyForcibly();
+                    System.out.println("[MediaJob] 제한 시간 초과로 종료: " + command.get(0) + " (" + timeout.toSeconds() + "초)");
+                }
+            }, timeout.toMillis(), TimeUnit.MILLISECONDS);
+            
+            try {
+                String output = readOutput(process.getInputStream());
+                int exitCode = process.waitFor();
+                result.complete(new MediaJobResult(exitCode, output, killed.get()));
+            } catch (IOException e) {
+                process.destroyForcibly();
+                result.completeExceptionally(e);
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+                result.completeExceptionally(e);
+            } finally {
+                kill.cancel(false);
+                runningProcesses.remove(process);
+            }
+        }
+    }
+    
+    // 파이프 버퍼가 가득 차 프로세스가 멈추지 않도록 끝까지 읽되, 앞부분만 보관
+    private String readOutput(InputStream in) throws IOException {
+        ByteArrayOutputStream kept = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            int room = MAX_OUTPUT_BYTES - kept.size();
+            if (room > 0) {
+                kept.write(buffer, 0, Math.min(room, read));
+            }
+        }
+        return kept.toString(StandardCharsets.UTF_8);
+    }
+    
+    private void detectEncoders() {
+        try {
+            Process process = new ProcessBuilder(binaries.get(MediaTool.FFMPEG), "-hide_banner", "-encoders")
+                    .redirectErrorStream(true)
+                    .start();
+            // 인코더 목록 형식: " V....D libwebp    libwebp WebP image"
+            for (String line : readOutput(process.getInputStream()).split("\\R")) {
+                String[] tokens = line.trim().split("\\s+");
+                if (tokens.length >= 2 && tokens[0].length() == 6) {
+                    encoders.add(tokens[1]);
+                }
+            }
+            process.waitFor(10, TimeUnit.SECONDS);
+        } catch (IOException e) {
+            System.out.println("[MediaJob] 인코더 목록 확인 실패: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    // 설정된 경로 → PATH → Windows 기본 설치 경로 순으로 실행 가능한 바이너리 확인
+    private String resolveBinary(String name, String configuredPath) {
+        List<String> candidates = new ArrayList<>();
+        if (configuredPath != null && !configuredPath.isBlank()) {
+            candidates.add(configuredPath);
+        }
+        candidates.add(name);
+        if (System.getProperty("os.name").toLowerCase().contains("windows")) {
+            for (String dir : WINDOWS_FFMPEG_DIRS) {
+                candidates.add(dir + name + ".exe");
+            }
+            candidates.add(name + ".exe");
+        }
+        
+        for (String candidate : candidates) {
+            try {
+                Process process = new ProcessBuilder(candidate, "-version")
+                        .redirectErrorStream(true)
+                        .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                        .start();
+                if (process.waitFor(10, TimeUnit.SECONDS) && process.exitValue() == 0) {
+                    return candidate;
+                }
+                process.destroyForcibly();
+            } catch (IOException e) {
+                // 다음 후보 확인
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        System.out.println("[MediaJob] " + name + " 실행 파일을 찾을 수 없음, 기본 이름 사용");
+        return candidates.get(0);
+    }
+    
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,10 @@
+package com.shortly.backend.domain.video.media;
+
+/**
+ * 미디어 작업 우선순위 (낮은 ordinal이 먼저 실행)
+ */
+public enum MediaJobPriority {
+    INTERACTIVE, // 사용자 업로드의 공개 전 처리 (길이 확인, 썸네일)
+    DERIVED,     // 공개 후 파생 미디어 생성 (스프라이트, HLS 패키징)
+    BACKGROUND   // 관리자 일괄 작업 (썸네일 재생성 등)
+}
@@ -0,0 +1,20 @@
+package com.shortly.backend.domain.video.media;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 외부 프로세스 실행 결과
+ */
+@Getter
+@AllArgsConstructor
+public class MediaJobResult {
+    
+    private final int exitCode;
+    private final String output;
+    private final boolean timedOut;
+    
+    public boolean isSuccess() {
+        return !timedOut && exitCode == 0;
+    }
+}
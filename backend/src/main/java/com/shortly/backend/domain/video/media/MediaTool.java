@@ -0,0 +1,9 @@
+package com.shortly.backend.domain.video.media;
+
+/**
+ * 미디어 작업에 사용하는 외부 실행 파일
+ */
+public enum MediaTool {
+    FFMPEG,
+    FFPROBE
+}
@@ -0,0 +1,279 @@
+package com.shortly.backend.domain.video.media;
+
+import com.shortly.backend.domain.video.entity.MediaMetadata;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+/**
+ * MP4/MOV(ISO-BMFF) 컨테이너 헤더 파서
+ * 최상위 박스는 헤더만 읽고 건너뛰며(mdat은 읽지 않음), moov 박스만 메모리로 읽어
+ * mvhd/tkhd/mdhd/hdlr/stsd/stts에서 길이, 해상도, 코덱, 프레임레이트를 얻는다.
+ * 프로세스 실행 없이 수 KB~수백 KB만 읽으므로 FFprobe보다 훨씬 가볍다.
+ */
+public final class Mp4Probe {
+    
+    // 비정상적으로 큰 moov는 파싱하지 않고 FFprobe에 맡김
+    private static final long MAX_MOOV_SIZE = 32L * 1024 * 1024;
+    private static final int HANDLER_VIDEO = fourcc("vide");
+    private static final int HANDLER_AUDIO = fourcc("soun");
+    
+    private static final Map<String, String> CODEC_NAMES = Map.ofEntries(
+            Map.entry("avc1", "h264"),
+            Map.entry("avc3", "h264"),
+            Map.entry("hvc1", "hevc"),
+            Map.entry("hev1", "hevc"),
+            Map.entry("av01", "av1"),
+            Map.entry("vp09", "vp9"),
+            Map.entry("mp4v", "mpeg4"),
+            Map.entry("mp4a", "aac"),
+            Map.entry("Opus", "opus"),
+            Map.entry("ac-3", "ac3"),
+            Map.entry("ec-3", "eac3"),
+            Map.entry(".mp3", "mp3")
+    );
+    
+    private Mp4Probe() {
+    }
+    
+    /**
+     * ISO-BMFF 파일이 아니거나 필요한 박스가 없으면 null
+     */
+    public static VideoProbeResult probe(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            ByteBuffer header = ByteBuffer.allocate(16);
+            long position = 0;
+            boolean first = true;
+            boolean mdatSeen = false;
+            
+            while (position + 8 <= fileSize) {
+                header.clear().limit(8);
+                readFully(channel, header, position);
+                long size = Integer.toUnsignedLong(header.getInt(0));
+                String type = typeName(header.getInt(4));
+                int headerSize = 8;
+                if (size == 1) {
+                    header.clear().limit(8);
+                    readFully(channel, header, position + 8);
+                    size = header.getLong(0);
+                    headerSize = 16;
+                } else if (size == 0) {
+                    size = fileSize - position;
+                }
+                if (size < headerSize || position + size > fileSize) {
+                    return null;
+                }
+                // 첫 박스가 ftyp(MP4) 또는 QuickTime 박스가 아니면 다른 컨테이너
+                if (first && !type.equals("ftyp") && !type.equals("moov")
+                        && !type.equals("wide") && !type.equals("free") && !type.equals("mdat")) {
+                    return null;
+                }
+                first = false;
+                
+                if (type.equals("mdat")) {
+                    mdatSeen = true;
+                } else if (type.equals("moov")) {
+                    long bodySize = size - headerSize;
+                    if (bodySize > MAX_MOOV_SIZE) {
+                        return null;
+                    }
+                    ByteBuffer moov = ByteBuffer.allocate((int) bodySize);
+                    readFully(channel, moov, position + headerSize);
+                    moov.flip();
+                    return parseMoov(moov, fileSize, !mdatSeen);
+                }
+                position += size;
+            }
+            return null;
+        }
+    }
+    
+    private static VideoProbeResult parseMoov(ByteBuffer moov, long fileSize, boolean faststart) {
+        long movieTimescale = 0;
+        long movieDuration = 0;
+        Track video = null;
+        Track audio = null;
+        
+        for (ByteBuffer box = nextBox(moov); box != null; box = nextBox(moov)) {
+            String type = typeName(box.getInt(4));
+            ByteBuffer body = body(box);
+            if (type.equals("mvhd")) {
+                int version = body.get(0);
+                if (version == 1) {
+                    movieTimescale = Integer.toUnsignedLong(body.getInt(20));
+                    movieDuration = body.getLong(24);
+                } else {
+                    movieTimescale = Integer.toUnsignedLong(body.getInt(12));
+                    movieDuration = Integer.toUnsignedLong(body.getInt(16));
+                }
+            } else if (type.equals("trak")) {
+                Track track = parseTrak(body);
+                if (track.handler == HANDLER_VIDEO && video == null) {
+                    video = track;
+                } else if (track.handler == HANDLER_AUDIO && audio == null) {
+                    audio = track;
+                }
+            }
+        }
+        
+        double duration = movieTimescale > 0 ? (double) movieDuration / movieTimescale : 0;
+        if (duration <= 0 && video != null) {
+            duration = video.durationSeconds();
+        }
+        if (duration <= 0 || video == null) {
+            return null;
+        }
+        
+        MediaMetadata metadata = MediaMetadata.builder()
+                .width(video.width > 0 ? video.width : null)
+                .height(video.height > 0 ? video.height : null)
+                .videoCodec(video.codec)
+                .audioCodec(audio != null ? audio.codec : null)
+                .frameRate(video.frameRate())
+                .bitrate(Math.round(fileSize * 8 / duration))
+                .build();
+        return new VideoProbeResult(duration, metadata, faststart);
+    }
+    
+    private static Track parseTrak(ByteBuffer trak) {
+        Track track = new Track();
+        for (ByteBuffer box = nextBox(trak); box != null; box = nextBox(trak)) {
+            String type = typeName(box.getInt(4));
+            ByteBuffer body = body(box);
+            if (type.equals("tkhd")) {
+                parseTkhd(body, track);
+            } else if (type.equals("mdia")) {
+                parseContainer(body, track);
+            }
+        }
+        return track;
+    }
+    
+    // tkhd의 width/height는 16.16 고정소수점, 행렬이 90/270도 회전이면 표시 크기는 가로세로가 바뀜
+    private static void parseTkhd(ByteBuffer body, Track track) {
+        int version = body.get(0);
+        int matrixOffset = (version == 1 ? 4 + 8 + 8 + 4 + 4 + 8 : 4 + 4 + 4 + 4 + 4 + 4) + 8 + 2 + 2 + 2 + 2;
+        if (body.limit() < matrixOffset + 36 + 8) {
+            return;
+        }
+        int a = body.getInt(matrixOffset);
+        int b = body.getInt(matrixOffset + 4);
+        int width = body.getInt(matrixOffset + 36) >>> 16;
+        int height = body.getInt(matrixOffset + 40) >>> 16;
+        boolean rotated = a == 0 && Math.abs(b) == 0x10000;
+        track.width = rotated ? height : width;
+        track.height = rotated ? width : height;
+    }
+    
+    // mdia > minf > stbl 경로의 박스들
+    private static void parseContainer(ByteBuffer container, Track track) {
+        for (ByteBuffer box = nextBox(container); box != null; box = nextBox(container)) {
+            String type = typeName(box.getInt(4));
+            ByteBuffer body = body(box);
+            if (type.equals("minf") || type.equals("stbl")) {
+                parseContainer(body, track);
+            } else if (type.equals("mdhd")) {
+                int version = body.get(0);
+                if (version == 1) {
+                    track.timescale = Integer.toUnsignedLong(body.getInt(20));
+                    track.duration = body.getLong(24);
+                } else {
+                    track.timescale = Integer.toUnsignedLong(body.getInt(12));
+                    track.duration = Integer.toUnsignedLong(body.getInt(16));
+                }
+            } else if (type.equals("hdlr") && body.limit() >= 12) {
+                track.handler = body.getInt(8);
+            } else if (type.equals("stsd") && body.limit() >= 16) {
+                // 첫 번째 샘플 엔트리의 포맷이 코덱
+                String format = typeName(body.getInt(12));
+                track.codec = CODEC_NAMES.getOrDefault(format, format.trim());
+            } else if (type.equals("stts") && body.limit() >= 8) {
+                int entries = body.getInt(4);
+                long samples = 0;
+                for (int i = 0; i < entries && 8 + i * 8 + 8 <= body.limit(); i++) {
+                    samples += Integer.toUnsignedLong(body.getInt(8 + i * 8));
+                }
+                track.sampleCount = samples;
+            }
+        }
+    }
+    
+    // 버퍼 현재 위치의 박스 하나를 잘라 반환 (헤더 포함), 더 없으면 null
+    private static ByteBuffer nextBox(ByteBuffer parent) {
+        if (parent.remaining() < 8) {
+            return null;
+        }
+        int start = parent.position();
+        long size = Integer.toUnsignedLong(parent.getInt(start));
+        int headerSize = 8;
+        if (size == 1) {
+            if (parent.remaining() < 16) {
+                return null;
+            }
+            size = parent.getLong(start + 8);
+            headerSize = 16;
+        } else if (size == 0) {
+            size = parent.remaining();
+        }
+        if (size < headerSize || size > parent.remaining()) {
+            return null;
+        }
+        ByteBuffer box = parent.slice(start, (int) size);
+        // 본문 시작 위치 (body()에서 사용)
+        box.position(headerSize);
+        parent.position(start + (int) size);
+        return box;
+    }
+    
+    private static ByteBuffer body(ByteBuffer box) {
+        return box.slice(box.position(), box.limit() - box.position());
+    }
+    
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+            position += read;
+        }
+    }
+    
+    private static int fourcc(String type) {
+        byte[] bytes = type.getBytes(StandardCharsets.ISO_8859_1);
+        return ((bytes[0] & 0xFF) << 24) | ((bytes[1] & 0xFF) << 16) | ((bytes[2] & 0xFF) << 8) | (bytes[3] & 0xFF);
+    }
+    
+    private static String typeName(int type) {
+        return new String(ByteBuffer.allocate(4).putInt(type).array(), StandardCharsets.ISO_8859_1);
+    }
+    
+    private static class Track {
+        private int handler;
+        private int width;
+        private int height;
+        private String codec;
+        private long timescale;
+        private long duration;
+        private long sampleCount;
+        
+        private double durationSeconds() {
+            return timescale > 0 ? (double) duration / timescale : 0;
+        }
+        
+        // 샘플 수 / 트랙 길이 (가변 프레임레이트는 평균값)
+        private Double frameRate() {
+            double seconds = durationSeconds();
+            if (sampleCount <= 0 || seconds <= 0) {
+                return null;
+            }
+            return Math.round(sampleCount / seconds * 1000) / 1000.0;
+        }
+    }
+}
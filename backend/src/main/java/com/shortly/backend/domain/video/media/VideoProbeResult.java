@@ -0,0 +1,18 @@
+package com.shortly.backend.domain.video.media;
+
+import com.shortly.backend.domain.video.entity.MediaMetadata;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 영상 파일 프로브 결과
+ */
+@Getter
+@AllArgsConstructor
+public class VideoProbeResult {
+    
+    private final double durationSeconds;
+    private final MediaMetadata metadata;
+    // moov가 mdat 앞에 있어 다운로드 즉시 재생 가능한지 (MP4/MOV가 아니면 null)
+    private final Boolean faststart;
+}
@@ -0,0 +1,9 @@
+package com.shortly.backend.domain.video.repository;
+
+import com.shortly.backend.domain.video.entity.BackfillCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BackfillCheckpointRepository extends JpaRepository<BackfillCheckpoint, String> {
+}
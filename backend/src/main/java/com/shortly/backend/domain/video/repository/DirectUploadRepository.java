@@ -0,0 +1,46 @@
+package com.shortly.backend.domain.video.repository;
+
+import com.shortly.backend.domain.video.entity.DirectUpload;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface DirectUploadRepository extends JpaRepository<DirectUpload, String> {
+    
+    // 완료 처리 선점 (여러 서버에 동시에 완료 요청이 와도 한 곳만 1을 받음)
+    @Transactional
+    @Modifying
+    @Query("UPDATE DirectUpload u SET u.claimedAt = :now WHERE u.id = :id AND u.claimedAt IS NULL")
+    int claim(@Param("id") String id, @Param("now") LocalDateTime now);
+    
+    // 비디오 생성 실패 시 다시 완료 요청할 수 있도록 선점 해제
+    @Transactional
+    @Modifying
+    @Query("UPDATE DirectUpload u SET u.claimedAt = NULL WHERE u.id = :id")
+    int unclaim(@Param("id") String id);
+    
+    // 삭제한 쪽만 1을 받으므로 저장소 파일 정리도 한 번만 일어남
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM DirectUpload u WHERE u.id = :id")
+    int deleteAndCount(@Param("id") String id);
+    
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM DirectUpload u WHERE u.id = :id AND u.claimedAt IS NULL")
+    int deleteUnclaimed(@Param("id") String id);
+    
+    // 만료된 업로드 (완료 처리 중인 것은 claimedBefore 이전에 시작해 멈춘 경우만)
+    @Query("SELECT u FROM DirectUpload u WHERE u.expiresAt < :now " +
+           "AND (u.claimedAt IS NULL OR u.claimedAt < :claimedBefore) ORDER BY u.expiresAt")
+    List<DirectUpload> findExpired(@Param("now") LocalDateTime now, @Param("claimedBefore") LocalDateTime claimedBefore,
+                                   Pageable pageable);
+}
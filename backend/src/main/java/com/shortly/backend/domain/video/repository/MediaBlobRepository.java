@@ -0,0 +1,52 @@
+package com.shortly.backend.domain.video.repository;
+
+import com.shortly.backend.domain.video.entity.MediaBlob;
+import com.shortly.backend.domain.video.entity.VideoStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MediaBlobRepository extends JpaRepository<MediaBlob, String> {
+    
+    // 새 파일이면 생성(영향 행 1), 이미 있으면 참조 수 증가(영향 행 2)
+    // 한 문장으로 처리하므로 같은 파일이 동시에 올라와도 중복 생성되지 않는다.
+    @Modifying
+    @Query(value = "INSERT INTO media_blobs (content_hash, filename, size_bytes, ref_count, created_at) " +
+                   "VALUES (:contentHash, :filename, :sizeBytes, 1, NOW()) " +
+                   "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1", nativeQuery = true)
+    int acquire(@Param("contentHash") String contentHash,
+                @Param("filename") String filename,
+                @Param("sizeBytes") long sizeBytes);
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE MediaBlob b SET b.hlsKey = :hlsKey WHERE b.contentHash = :contentHash")
+    int updateHlsKey(@Param("contentHash") String contentHash, @Param("hlsKey") String hlsKey);
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE MediaBlob b SET b.spriteKey = :spriteKey WHERE b.contentHash = :contentHash")
+    int updateSpriteKey(@Param("contentHash") String contentHash, @Param("spriteKey") String spriteKey);
+    
+    // 처리는 끝났지만 스프라이트/HLS가 없는 원본 (공개된 비디오가 참조하는 것만, 해시 순으로 나눠 읽음)
+    @Query("SELECT b FROM MediaBlob b WHERE b.durationSeconds IS NOT NULL AND (b.hlsKey IS NULL OR b.spriteKey IS NULL) " +
+           "AND b.contentHash > :afterHash " +
+           "AND EXISTS (SELECT v.id FROM Video v WHERE v.contentHash = b.contentHash AND v.status = :status) " +
+           "ORDER BY b.contentHash")
+    List<MediaBlob> findMissingDerivedMedia(@Param("afterHash") String afterHash, @Param("status") VideoStatus status,
+                                            Pageable pageable);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM MediaBlob b WHERE b.contentHash = :contentHash")
+    Optional<MediaBlob> findByIdForUpdate(@Param("contentHash") String contentHash);
+}
@@ -1,9 +1,13 @@
 package com.shortly.backend.domain.video.repository;
 
 import com.shortly.backend.domain.video.entity.Tag;
+import com.shortly.backend.domain.video.entity.VideoStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +16,15 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
     Optional<Tag> findByName(String name);
     
     boolean existsByName(String name);
+    
+    interface TagUsage {
+        String getName();
+        
+        Long getUsageCount();
+    }
+    
+    // 자동완성 재구성용: 태그별로 붙은 비디오 수
+    @Query("SELECT t.name AS name, COUNT(vt.id) AS usageCount FROM VideoTag vt JOIN vt.tag t " +
+           "WHERE vt.video.status = :status GROUP BY t.name")
+    List<TagUsage> findUsageCounts(@Param("status") VideoStatus status);
 } 
\ No newline at end of file
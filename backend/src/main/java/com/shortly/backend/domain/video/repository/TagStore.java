@@ -0,0 +1,87 @@
+package com.shortly.backend.domain.video.repository;
+
+import com.shortly.backend.domain.video.dto.TagRef;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 태그 저장소 (JDBC)
+ * 없는 태그 일괄 생성과 비디오-태그 연결 일괄 추가를 한 문장씩으로 처리한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TagStore {
+    
+    private static final RowMapper<TagRef> TAG_REF = (rs, rowNum) ->
+            new TagRef(rs.getLong("id"), rs.getString("name"));
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    // 태그 사전 적재용 (ID 순으로 나눠 읽음)
+    public List<TagRef> findTagsAfterId(long afterId, int limit) {
+        return jdbcTemplate.query("SELECT id, name FROM tags WHERE id > ? ORDER BY id LIMIT ?", TAG_REF, afterId, limit);
+    }
+    
+    // 이름으로 태그 조회 (비교는 DB 콜레이션 기준, 없으면 null)
+    public TagRef findByName(String name) {
+        List<TagRef> rows = jdbcTemplate.query("SELECT id, name FROM tags WHERE name = ? LIMIT 1", TAG_REF, name);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+    
+    /**
+     * 없는 태그는 생성하고 요청한 이름별 태그 반환
+     * 동시에 같은 태그를 만들어도 고유 키 충돌 없이 한쪽 행으로 합쳐진다.
+     * 트랜잭션 밖에서 호출하면 문장마다 바로 커밋되므로, 업로드처럼 긴 트랜잭션은 열기 전에 호출해
+     * 고유 키 잠금을 트랜잭션 끝까지 잡거나 커넥션을 하나 더 쓰지 않게 한다.
+     * 조회는 이름 비교를 DB 콜레이션에 맡기므로(대소문자 등) 요청한 이름과 저장된 이름이 다를 수 있다.
+     */
+    public Map<String, TagRef> insertAndResolve(Collection<String> names) {
+        Map<String, TagRef> resolved = new HashMap<>();
+        if (names.isEmpty()) {
+            return resolved;
+        }
+        StringBuilder insert = new StringBuilder("INSERT INTO tags (name, created_at) VALUES ");
+        StringBuilder select = new StringBuilder();
+        Object[] insertArgs = new Object[names.size()];
+        Object[] selectArgs = new Object[names.size() * 2];
+        int i = 0;
+        for (String name : names) {
+            insert.append(i == 0 ? "(?, NOW())" : ", (?, NOW())");
+            select.append(i == 0 ? "" : " UNION ALL ")
+                    .append("SELECT ? AS requested, t.id, t.name FROM tags t WHERE t.name = ?");
+            insertArgs[i] = name;
+            selectArgs[i * 2] = name;
+            selectArgs[i * 2 + 1] = name;
+            i++;
+        }
+        insert.append(" ON DUPLICATE KEY UPDATE id = id");
+        jdbcTemplate.update(insert.toString(), insertArgs);
+        jdbcTemplate.query(select.toString(), rs -> {
+            resolved.put(rs.getString("requested"), new TagRef(rs.getLong("id"), rs.getString("name")));
+        }, selectArgs);
+        return resolved;
+    }
+    
+    // 비디오에 태그 연결 (한 문장으로 추가)
+    public void insertVideoTags(Long videoId, Collection<Long> tagIds) {
+        if (tagIds.isEmpty()) {
+            return;
+        }
+        StringBuilder sql = new StringBuilder("INSERT INTO video_tags (video_id, tag_id) VALUES ");
+        Object[] args = new Object[tagIds.size() * 2];
+        int i = 0;
+        for (Long tagId : tagIds) {
+            sql.append(i == 0 ? "(?, ?)" : ", (?, ?)");
+            args[i++] = videoId;
+            args[i++] = tagId;
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+}
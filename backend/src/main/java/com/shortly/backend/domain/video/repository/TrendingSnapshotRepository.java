@@ -0,0 +1,9 @@
+package com.shortly.backend.domain.video.repository;
+
+import com.shortly.backend.domain.video.entity.TrendingSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TrendingSnapshotRepository extends JpaRepository<TrendingSnapshot, String> {
+}
@@ -3,11 +3,13 @@ package com.shortly.backend.domain.video.repository;
 import com.shortly.backend.domain.user.entity.User;
 import com.shortly.backend.domain.video.entity.Video;
 import com.shortly.backend.domain.video.entity.VideoLike;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +20,11 @@ public interface VideoLikeRepository extends JpaRepository<VideoLike, Long> {
     
     boolean existsByUserAndVideo(User user, Video video);
     
-    @Query("SELECT v FROM Video v JOIN VideoLike vl ON v.id = vl.video.id WHERE vl.user = :user ORDER BY vl.createdAt DESC")
-    List<Video> findLikedVideosByUser(@Param("user") User user);
+    // 사용자가 좋아요한 비디오 ID (캐시 적재용, 최근 순)
+    @Query("SELECT vl.video.id FROM VideoLike vl WHERE vl.user.id = :userId ORDER BY vl.id DESC")
+    List<Long> findLikedVideoIds(@Param("userId") Long userId, Pageable pageable);
+    
+    // 주어진 비디오 중 사용자가 좋아요한 ID (페이지 단위 일괄 조회)
+    @Query("SELECT vl.video.id FROM VideoLike vl WHERE vl.user.id = :userId AND vl.video.id IN :videoIds")
+    List<Long> findLikedVideoIdsIn(@Param("userId") Long userId, @Param("videoIds") Collection<Long> videoIds);
 } 
\ No newline at end of file
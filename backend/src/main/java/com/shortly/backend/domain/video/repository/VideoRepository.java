@@ -1,31 +1,199 @@
 package com.shortly.backend.domain.video.repository;
 
 import com.shortly.backend.domain.user.entity.User;
+import com.shortly.backend.domain.video.dto.VideoFeedRow;
 import com.shortly.backend.domain.video.entity.Video;
+import com.shortly.backend.domain.video.entity.VideoStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface VideoRepository extends JpaRepository<Video, Long> {
     
-    Page<Video> findByOwner(User owner, Pageable pageable);
+    // 목록 조회용 프로젝션 (작성자는 ID만 읽어 지연 로딩을 일으키지 않음)
+    String FEED_ROW = "SELECT new com.shortly.backend.domain.video.dto.VideoFeedRow(" +
+            "v.id, v.title, v.description, v.url, v.thumbnailUrl, v.owner.id, v.createdAt, v.status, " +
+            "v.hlsKey, v.spriteKey, v.durationSeconds, v.metadata.width, v.metadata.height, " +
+            "v.metadata.videoCodec, v.metadata.frameRate, v.metadata.bitrate, v.likeCount, v.commentCount) ";
+    
+    interface VideoTagName {
+        Long getVideoId();
+        
+        String getName();
+    }
     
-    @Query("SELECT v FROM Video v JOIN v.videoTags vt JOIN vt.tag t " +
-           "WHERE t.name = :tagName")
-    Page<Video> findByTagName(@Param("tagName") String tagName, Pageable pageable);
+    // 검색 색인 적재용 (태그는 findTagNamesByVideoIds로 따로 조회)
+    String SEARCH_SOURCE = "SELECT v.id AS id, v.title AS title, v.description AS description, " +
+            "v.status AS status, v.updatedAt AS updatedAt ";
     
-    @Query("SELECT v FROM Video v WHERE " +
-           "LOWER(v.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(v.description) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    Page<Video> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    interface VideoSearchSource {
+        Long getId();
+        
+        String getTitle();
+        
+        String getDescription();
+        
+        VideoStatus getStatus();
+        
+        LocalDateTime getUpdatedAt();
+    }
+    
+    Page<Video> findByOwner(User owner, Pageable pageable);
     
     List<Video> findByOwnerOrderByCreatedAtDesc(User owner);
     
-    Page<Video> findAllByOrderByCreatedAtDesc(Pageable pageable);
+    List<Video> findByStatus(VideoStatus status);
+    
+    // 직접 업로드 파일로 만들어진 비디오가 있는지 (처리 전에는 url이 업로드 파일명)
+    boolean existsByUrl(String url);
+    
+    // 피드 조회는 처리 완료(READY)된 비디오만 노출
+    @Query(value = FEED_ROW + "FROM Video v WHERE v.status = :status ORDER BY v.createdAt DESC",
+           countQuery = "SELECT COUNT(v) FROM Video v WHERE v.status = :status")
+    Page<VideoFeedRow> findFeedRowsByStatus(@Param("status") VideoStatus status, Pageable pageable);
+    
+    @Query(value = FEED_ROW + "FROM Video v WHERE v.status = :status AND (" +
+                   "LOWER(v.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                   "LOWER(v.description) LIKE LOWER(CONCAT('%', :keyword, '%')))",
+           countQuery = "SELECT COUNT(v) FROM Video v WHERE v.status = :status AND (" +
+                   "LOWER(v.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                   "LOWER(v.description) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+    Page<VideoFeedRow> searchFeedRows(@Param("keyword") String keyword, @Param("status") VideoStatus status, Pageable pageable);
+    
+    @Query(value = FEED_ROW + "FROM Video v JOIN v.videoTags vt JOIN vt.tag t " +
+                   "WHERE t.name = :tagName AND v.status = :status",
+           countQuery = "SELECT COUNT(v) FROM Video v JOIN v.videoTags vt JOIN vt.tag t " +
+                   "WHERE t.name = :tagName AND v.status = :status")
+    Page<VideoFeedRow> findFeedRowsByTagName(@Param("tagName") String tagName, @Param("status") VideoStatus status, Pageable pageable);
+    
+    // 커서 방식 목록 조회: (created_at, id) 내림차순으로 커서 다음 행부터 읽고 개수는 세지 않음 (Slice)
+    String AFTER_CURSOR = "(v.createdAt < :cursorCreatedAt OR (v.createdAt = :cursorCreatedAt AND v.id < :cursorId)) ";
+    String CURSOR_ORDER = "ORDER BY v.createdAt DESC, v.id DESC";
+    String KEYWORD_MATCH = "(LOWER(v.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(v.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) ";
+    
+    @Query(FEED_ROW + "FROM Video v WHERE v.status = :status " + CURSOR_ORDER)
+    Slice<VideoFeedRow> findFeedSlice(@Param("status") VideoStatus status, Pageable pageable);
+    
+    @Query(FEED_ROW + "FROM Video v WHERE v.status = :status AND " + AFTER_CURSOR + CURSOR_ORDER)
+    Slice<VideoFeedRow> findFeedSliceAfter(@Param("status") VideoStatus status,
+                                           @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                           @Param("cursorId") Long cursorId, Pageable pageable);
+    
+    @Query(FEED_ROW + "FROM Video v WHERE v.status = :status AND " + KEYWORD_MATCH + CURSOR_ORDER)
+    Slice<VideoFeedRow> searchFeedSlice(@Param("keyword") String keyword, @Param("status") VideoStatus status,
+                                        Pageable pageable);
+    
+    @Query(FEED_ROW + "FROM Video v WHERE v.status = :status AND " + KEYWORD_MATCH + "AND " + AFTER_CURSOR + CURSOR_ORDER)
+    Slice<VideoFeedRow> searchFeedSliceAfter(@Param("keyword") String keyword, @Param("status") VideoStatus status,
+                                             @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                             @Param("cursorId") Long cursorId, Pageable pageable);
+    
+    @Query(FEED_ROW + "FROM Video v JOIN v.videoTags vt JOIN vt.tag t " +
+           "WHERE t.name = :tagName AND v.status = :status " + CURSOR_ORDER)
+    Slice<VideoFeedRow> findFeedSliceByTagName(@Param("tagName") String tagName, @Param("status") VideoStatus status,
+                                               Pageable pageable);
+    
+    @Query(FEED_ROW + "FROM Video v JOIN v.videoTags vt JOIN vt.tag t " +
+           "WHERE t.name = :tagName AND v.status = :status AND " + AFTER_CURSOR + CURSOR_ORDER)
+    Slice<VideoFeedRow> findFeedSliceByTagNameAfter(@Param("tagName") String tagName, @Param("status") VideoStatus status,
+                                                    @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                    @Param("cursorId") Long cursorId, Pageable pageable);
+    
+    @Query(FEED_ROW + "FROM Video v WHERE v.owner.id = :ownerId ORDER BY v.createdAt DESC")
+    List<VideoFeedRow> findFeedRowsByOwnerId(@Param("ownerId") Long ownerId);
+    
+    // 구독 타임라인처럼 ID 목록이 먼저 정해진 경우 (순서는 호출 측에서 맞춤)
+    @Query(FEED_ROW + "FROM Video v WHERE v.id IN :ids AND v.status = :status")
+    List<VideoFeedRow> findFeedRowsByIdIn(@Param("ids") Collection<Long> ids, @Param("status") VideoStatus status);
+    
+    @Query(FEED_ROW + "FROM Video v JOIN VideoLike vl ON v.id = vl.video.id " +
+           "WHERE vl.user.id = :userId ORDER BY vl.createdAt DESC")
+    List<VideoFeedRow> findLikedFeedRows(@Param("userId") Long userId);
+    
+    // 페이지에 포함된 비디오들의 태그 이름 일괄 조회
+    @Query("SELECT vt.video.id AS videoId, t.name AS name FROM VideoTag vt JOIN vt.tag t " +
+           "WHERE vt.video.id IN :videoIds ORDER BY vt.id")
+    List<VideoTagName> findTagNamesByVideoIds(@Param("videoIds") Collection<Long> videoIds);
+    
+    // 검색 색인 전체 적재 (ID 순으로 나눠 읽음)
+    @Query(SEARCH_SOURCE + "FROM Video v WHERE v.status = :status AND v.id > :afterId ORDER BY v.id")
+    List<VideoSearchSource> findSearchSourcesAfterId(@Param("status") VideoStatus status, @Param("afterId") Long afterId,
+                                                     Pageable pageable);
+    
+    // 검색 색인 이어 받기: (updatedAt, id) 순으로 기준 시각 이후 변경된 비디오 (상태 무관, READY가 아니면 색인에서 제외)
+    @Query(SEARCH_SOURCE + "FROM Video v WHERE v.updatedAt > :updatedAt OR (v.updatedAt = :updatedAt AND v.id > :afterId) " +
+           "ORDER BY v.updatedAt, v.id")
+    List<VideoSearchSource> findSearchSourcesUpdatedAfter(@Param("updatedAt") LocalDateTime updatedAt,
+                                                          @Param("afterId") Long afterId, Pageable pageable);
+    
+    @Query(SEARCH_SOURCE + "FROM Video v WHERE v.id IN :ids")
+    List<VideoSearchSource> findSearchSourcesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    interface VideoTitle {
+        Long getId();
+        
+        String getTitle();
+    }
+    
+    // 자동완성 제목 단어 집계 (ID 순으로 나눠 읽음)
+    @Query("SELECT v.id AS id, v.title AS title FROM Video v WHERE v.status = :status AND v.id > :afterId ORDER BY v.id")
+    List<VideoTitle> findTitlesAfterId(@Param("status") VideoStatus status, @Param("afterId") Long afterId,
+                                       Pageable pageable);
+    
+    // 썸네일 일괄 생성: ID 범위 기준으로 다음 배치 조회 (OFFSET 없이 인덱스 범위 스캔)
+    @Query("SELECT v FROM Video v WHERE v.id > :afterId AND v.status = :status " +
+           "AND (v.thumbnailUrl IS NULL OR v.thumbnailUrl = '') ORDER BY v.id")
+    List<Video> findThumbnailMissingAfter(@Param("afterId") Long afterId, @Param("status") VideoStatus status, Pageable pageable);
+    
+    @Query("SELECT COUNT(v) FROM Video v WHERE v.id > :afterId AND v.status = :status " +
+           "AND (v.thumbnailUrl IS NULL OR v.thumbnailUrl = '')")
+    long countThumbnailMissingAfter(@Param("afterId") Long afterId, @Param("status") VideoStatus status);
+    
+    @Modifying
+    @Query("UPDATE Video v SET v.thumbnailUrl = :thumbnailUrl WHERE v.id = :id")
+    int updateThumbnailUrl(@Param("id") Long id, @Param("thumbnailUrl") String thumbnailUrl);
+    
+    // 같은 원본을 공유하는 비디오 모두에 HLS 패키징 결과 반영
+    @Transactional
+    @Modifying
+    @Query("UPDATE Video v SET v.hlsKey = :hlsKey WHERE v.contentHash = :contentHash")
+    int updateHlsKeyByContentHash(@Param("contentHash") String contentHash, @Param("hlsKey") String hlsKey);
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE Video v SET v.spriteKey = :spriteKey WHERE v.contentHash = :contentHash")
+    int updateSpriteKeyByContentHash(@Param("contentHash") String contentHash, @Param("spriteKey") String spriteKey);
+    
+    // 같은 원본을 공유하는 비디오 ID (파생 미디어 반영 후 응답 캐시 무효화용)
+    @Query("SELECT v.id FROM Video v WHERE v.contentHash = :contentHash")
+    List<Long> findIdsByContentHash(@Param("contentHash") String contentHash);
+    
+    // 원본에는 있는 스프라이트/HLS 키가 빠진 비디오 (파생 미디어 생성 중에 중복 업로드로 만들어진 비디오 등)
+    @Query("SELECT v.id FROM Video v, MediaBlob b WHERE v.contentHash = b.contentHash AND v.status = :status " +
+           "AND ((v.hlsKey IS NULL AND b.hlsKey IS NOT NULL) OR (v.spriteKey IS NULL AND b.spriteKey IS NOT NULL))")
+    List<Long> findIdsMissingBlobDerivedKeys(@Param("status") VideoStatus status);
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE Video v SET " +
+           "v.hlsKey = (SELECT b.hlsKey FROM MediaBlob b WHERE b.contentHash = v.contentHash), " +
+           "v.spriteKey = (SELECT b.spriteKey FROM MediaBlob b WHERE b.contentHash = v.contentHash) " +
+           "WHERE v.id IN :ids")
+    int copyDerivedKeysFromBlob(@Param("ids") Collection<Long> ids);
+    
+    @Modifying
+    @Query("UPDATE Video v SET v.thumbnailUrl = NULL WHERE v.thumbnailUrl IS NOT NULL")
+    int clearAllThumbnailUrls();
 } 
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.shortly.backend.domain.video.search;
+
+/**
+ * 한글 음절을 자모(호환 자모) 순서로 분해
+ * 입력 중인 글자("고야" -> "고양", "달" -> "닭")도 접두어가 되도록 겹받침과 겹모음은 낱자로 나눈다.
+ * 초성과 종성은 같은 자모로 취급하므로 "각"과 "가ㄱ"은 같은 키가 된다.
+ */
+public final class HangulJamo {
+    
+    private static final int SYLLABLE_BASE = 0xAC00;
+    private static final int SYLLABLE_LAST = 0xD7A3;
+    private static final int MEDIAL_COUNT = 21;
+    private static final int FINAL_COUNT = 28;
+    
+    private static final String INITIALS = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String[] MEDIALS = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+    private static final String[] FINALS = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+    
+    // 따로 입력된 겹자모 (ㄳ, ㅘ 등)
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_PARTS = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"};
+    
+    private HangulJamo() {
+    }
+    
+    // 한글 외 글자는 소문자로만 바꿔 그대로 둠
+    public static String decompose(String text) {
+        StringBuilder builder = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int index = c - SYLLABLE_BASE;
+                builder.append(INITIALS.charAt(index / (MEDIAL_COUNT * FINAL_COUNT)));
+                builder.append(MEDIALS[(index / FINAL_COUNT) % MEDIAL_COUNT]);
+                builder.append(FINALS[index % FINAL_COUNT]);
+                continue;
+            }
+            int compound = COMPOUND_JAMO.indexOf(c);
+            if (compound >= 0) {
+                builder.append(COMPOUND_PARTS[compound]);
+            } else {
+                builder.append(Character.toLowerCase(c));
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,128 @@
+package com.shortly.backend.domain.video.search;
+
+import com.shortly.backend.utils.LongHashSet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색용 n-gram 토큰 분리
+ * 띄어쓰기나 형태소에 기대지 않고 글자/숫자가 이어진 구간마다 한 글자(유니그램)와 두 글자(바이그램) 토큰을 만든다.
+ * 한글은 조사가 붙어도("고양이가") 바이그램이 겹치므로 부분 일치가 된다.
+ * 토큰은 문자열 대신 코드 포인트를 담은 long 하나로 표현해 색인/조회 시 객체를 만들지 않는다.
+ */
+public final class NgramTokenizer {
+    
+    // 코드 포인트는 21비트 이내 (바이그램 = 앞 글자 << 21 | 뒷 글자)
+    private static final int CODE_POINT_BITS = 21;
+    private static final long UNIGRAM_FLAG = 1L << (CODE_POINT_BITS * 2);
+    
+    @FunctionalInterface
+    public interface TokenConsumer {
+        // start/end: 원문 기준 UTF-16 위치 (end 미포함)
+        void accept(long token, int start, int end);
+    }
+    
+    private NgramTokenizer() {
+    }
+    
+    // 색인용: 모든 유니그램과 바이그램
+    public static void tokenize(String text, TokenConsumer consumer) {
+        if (text == null) {
+            return;
+        }
+        int previous = -1;
+        int previousStart = -1;
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            int next = i + Character.charCount(codePoint);
+            if (Character.isLetterOrDigit(codePoint)) {
+                int folded = Character.toLowerCase(codePoint);
+                consumer.accept(UNIGRAM_FLAG | folded, i, next);
+                if (previous >= 0) {
+                    consumer.accept(((long) previous << CODE_POINT_BITS) | folded, previousStart, next);
+                }
+                previous = folded;
+                previousStart = i;
+            } else {
+                previous = -1;
+            }
+            i = next;
+        }
+    }
+    
+    /**
+     * 검색어 토큰 (중복 제거)
+     * 두 글자 이상 이어진 구간은 바이그램만, 한 글자 구간은 유니그램으로 찾는다.
+     */
+    public static long[] queryTokens(String query) {
+        if (query == null) {
+            return new long[0];
+        }
+        LongHashSet seen = new LongHashSet(16);
+        List<Long> tokens = new ArrayList<>();
+        int runLength = 0;
+        int previous = -1;
+        for (int i = 0; i <= query.length(); ) {
+            int codePoint = i < query.length() ? query.codePointAt(i) : -1;
+            boolean letter = codePoint >= 0 && Character.isLetterOrDigit(codePoint);
+            if (letter) {
+                int folded = Character.toLowerCase(codePoint);
+                if (previous >= 0) {
+                    addToken(((long) previous << CODE_POINT_BITS) | folded, seen, tokens);
+                }
+                previous = folded;
+                runLength++;
+            } else {
+                if (runLength == 1) {
+                    addToken(UNIGRAM_FLAG | previous, seen, tokens);
+                }
+                previous = -1;
+                runLength = 0;
+            }
+            i += codePoint >= 0 ? Character.charCount(codePoint) : 1;
+        }
+        long[] result = new long[tokens.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = tokens.get(i);
+        }
+        return result;
+    }
+    
+    private static void addToken(long token, LongHashSet seen, List<Long> tokens) {
+        if (seen.add(token)) {
+            tokens.add(token);
+        }
+    }
+    
+    /**
+     * 원문에서 검색어 토큰과 일치한 구간 ({시작, 끝}, 겹치거나 붙은 구간은 합침)
+     */
+    public static List<int[]> highlight(String text, long[] queryTokens) {
+        List<int[]> spans = new ArrayList<>();
+        if (text == null || queryTokens.length == 0) {
+            return spans;
+        }
+        LongHashSet wanted = new LongHashSet(queryTokens.length);
+        for (long token : queryTokens) {
+            wanted.add(token);
+        }
+        // 토큰은 시작 위치 순으로 나오지 않으므로(바이그램은 뒷 글자에서 나옴) 합칠 때 시작 위치 기준으로 처리
+        List<int[]> matches = new ArrayList<>();
+        tokenize(text, (token, start, end) -> {
+            if (wanted.contains(token)) {
+                matches.add(new int[]{start, end});
+            }
+        });
+        matches.sort((a, b) -> Integer.compare(a[0], b[0]));
+        for (int[] match : matches) {
+            int[] last = spans.isEmpty() ? null : spans.get(spans.size() - 1);
+            if (last != null && match[0] <= last[1]) {
+                last[1] = Math.max(last[1], match[1]);
+            } else {
+                spans.add(new int[]{match[0], match[1]});
+            }
+        }
+        return spans;
+    }
+}
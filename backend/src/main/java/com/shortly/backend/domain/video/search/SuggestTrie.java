@@ -0,0 +1,225 @@
+package com.shortly.backend.domain.video.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 자동완성용 접두어 트라이 (태그 이름, 제목 단어)
+ * 키는 자모로 분해한 소문자 문자열이고, 노드는 첫 자식/다음 형제 배열로 이어 노드마다 객체를 만들지 않는다.
+ * 노드마다 그 아래 항목 중 가중치 상위 TOP_K개를 미리 들고 있어 조회는 접두어 길이만큼 내려간 뒤 바로 끝난다.
+ * 가중치는 늘어나는 방향으로만 바로 반영하며(줄어든 값은 주기적인 재구성에서 반영), 쓰기 잠금으로 하나씩 처리한다.
+ */
+public class SuggestTrie {
+    
+    public enum Kind {
+        TAG, TITLE
+    }
+    
+    // 같은 글자의 태그/제목 단어가 겹쳐도 limit개를 채울 수 있도록 여유 있게 보관
+    private static final int TOP_K = 16;
+    private static final int NONE = -1;
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    // 노드 (0번이 루트)
+    private char[] labels = new char[1024];
+    private int[] firstChild = new int[1024];
+    private int[] nextSibling = new int[1024];
+    private int[][] topEntries = new int[1024][];
+    private int nodeCount;
+    
+    // 항목
+    private final Map<String, Integer> entryByKey = new HashMap<>();
+    private final List<String> texts = new ArrayList<>();
+    private final List<Kind> kinds = new ArrayList<>();
+    private long[] weights = new long[256];
+    
+    public SuggestTrie() {
+        newNode('\0');
+    }
+    
+    /**
+     * 항목 가중치 증가 (없던 항목이면 추가)
+     */
+    public void add(Kind kind, String text, long delta) {
+        if (text == null || text.isBlank() || delta <= 0) {
+            return;
+        }
+        String display = text.trim();
+        String normalized = display.toLowerCase(Locale.ROOT);
+        String key = HangulJamo.decompose(normalized);
+        
+        lock.writeLock().lock();
+        try {
+            Integer existing = entryByKey.get(kind.ordinal() + ":" + normalized);
+            int entry;
+            if (existing != null) {
+                entry = existing;
+            } else {
+                entry = texts.size();
+                texts.add(display);
+                kinds.add(kind);
+                if (entry == weights.length) {
+                    weights = Arrays.copyOf(weights, entry * 2);
+                }
+                entryByKey.put(kind.ordinal() + ":" + normalized, entry);
+            }
+            weights[entry] += delta;
+            
+            int node = 0;
+            for (int i = 0; i < key.length(); i++) {
+                node = childOrCreate(node, key.charAt(i));
+                promote(node, entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 접두어로 시작하는 항목을 가중치 순으로 최대 limit개 (같은 글자는 한 번만)
+     */
+    public List<Match> suggest(String prefix, int limit) {
+        List<Match> matches = new ArrayList<>();
+        if (prefix == null || prefix.isBlank() || limit <= 0) {
+            return matches;
+        }
+        String key = HangulJamo.decompose(prefix.trim().toLowerCase(Locale.ROOT));
+        
+        lock.readLock().lock();
+        try {
+            int node = 0;
+            for (int i = 0; i < key.length() && node != NONE; i++) {
+                node = child(node, key.charAt(i));
+            }
+            if (node == NONE || topEntries[node] == null) {
+                return matches;
+            }
+            Set<String> seen = new HashSet<>();
+            for (int entry : topEntries[node]) {
+                if (matches.size() >= limit) {
+                    break;
+                }
+                String text = texts.get(entry);
+                if (seen.add(text.toLowerCase(Locale.ROOT))) {
+                    matches.add(new Match(text, kinds.get(entry), weights[entry]));
+                }
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return texts.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // 노드의 상위 목록에 항목 반영 (가중치가 늘어난 경우만 처리하면 되므로 앞으로만 이동)
+    private void promote(int node, int entry) {
+        int[] top = topEntries[node];
+        if (top == null) {
+            topEntries[node] = new int[]{entry};
+            return;
+        }
+        int position = -1;
+        for (int i = 0; i < top.length; i++) {
+            if (top[i] == entry) {
+                position = i;
+                break;
+            }
+        }
+        if (position < 0) {
+            if (top.length < TOP_K) {
+                top = Arrays.copyOf(top, top.length + 1);
+                topEntries[node] = top;
+            } else if (!ranksBefore(entry, top[top.length - 1])) {
+                return;
+            }
+            position = top.length - 1;
+            top[position] = entry;
+        }
+        while (position > 0 && ranksBefore(top[position], top[position - 1])) {
+            int swap = top[position - 1];
+            top[position - 1] = top[position];
+            top[position] = swap;
+            position--;
+        }
+    }
+    
+    // 가중치가 크면 앞, 같으면 먼저 들어온 항목이 앞
+    private boolean ranksBefore(int entry, int other) {
+        return weights[entry] > weights[other] || (weights[entry] == weights[other] && entry < other);
+    }
+    
+    private int child(int node, char label) {
+        for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+            if (labels[child] == label) {
+                return child;
+            }
+        }
+        return NONE;
+    }
+    
+    private int childOrCreate(int node, char label) {
+        int existing = child(node, label);
+        if (existing != NONE) {
+            return existing;
+        }
+        int created = newNode(label);
+        nextSibling[created] = firstChild[node];
+        firstChild[node] = created;
+        return created;
+    }
+    
+    private int newNode(char label) {
+        if (nodeCount == labels.length) {
+            int capacity = labels.length * 2;
+            labels = Arrays.copyOf(labels, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            nextSibling = Arrays.copyOf(nextSibling, capacity);
+            topEntries = Arrays.copyOf(topEntries, capacity);
+        }
+        int node = nodeCount++;
+        labels[node] = label;
+        firstChild[node] = NONE;
+        nextSibling[node] = NONE;
+        return node;
+    }
+    
+    public static class Match {
+        private final String text;
+        private final Kind kind;
+        private final long weight;
+        
+        Match(String text, Kind kind, long weight) {
+            this.text = text;
+            this.kind = kind;
+            this.weight = weight;
+        }
+        
+        public String getText() {
+            return text;
+        }
+        
+        public Kind getKind() {
+            return kind;
+        }
+        
+        public long getWeight() {
+            return weight;
+        }
+    }
+}
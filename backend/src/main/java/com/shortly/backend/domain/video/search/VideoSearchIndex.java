@@ -0,0 +1,350 @@
+package com.shortly.backend.domain.video.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 비디오 제목/설명/태그 역색인 (메모리 상주)
+ * 토큰마다 문서 번호 오름차순 목록(posting)을 두고, 검색어 토큰을 모두 포함한 문서만 BM25F 점수로 순위를 매긴다.
+ * 문서 번호는 비디오가 처음 색인될 때 하나씩 늘려 주므로 새 문서는 목록 끝에 붙고, 수정은 같은 번호로 다시 넣는다.
+ * 읽기(검색)는 여러 스레드가 동시에, 색인 변경은 쓰기 잠금으로 하나씩 처리한다.
+ */
+public class VideoSearchIndex {
+    
+    private static final int TITLE = 0;
+    private static final int DESCRIPTION = 1;
+    private static final int TAGS = 2;
+    private static final int FIELD_COUNT = 3;
+    
+    // BM25F 파라미터 (필드 가중치는 제목 > 태그 > 설명)
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double[] FIELD_WEIGHT = new double[FIELD_COUNT];
+    
+    static {
+        FIELD_WEIGHT[TITLE] = 3.0;
+        FIELD_WEIGHT[DESCRIPTION] = 1.0;
+        FIELD_WEIGHT[TAGS] = 2.0;
+    }
+    
+    // 필드별 등장 횟수를 int 하나에 담음 (제목 10비트, 설명 11비트, 태그 10비트)
+    private static final int[] TF_SHIFT = {0, 10, 21};
+    private static final int[] TF_MAX = {1023, 2047, 1023};
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> docByVideoId = new HashMap<>();
+    
+    // 문서 번호별 정보 (삭제된 번호는 videoIds가 0)
+    private long[] videoIds = new long[1024];
+    private int[][] fieldLengths = new int[1024][];
+    private long[][] docTokens = new long[1024][];
+    private int[] contentHashes = new int[1024];
+    private int nextDoc;
+    
+    private int liveDocs;
+    private final long[] totalFieldLengths = new long[FIELD_COUNT];
+    
+    /**
+     * 비디오 색인 추가/갱신 (내용이 같으면 아무것도 하지 않음)
+     */
+    public void upsert(long videoId, String title, String description, List<String> tags) {
+        String tagText = tags == null ? "" : String.join(" ", tags);
+        int contentHash = Objects.hash(title, description, tagText);
+        
+        // 토큰 분리는 잠금 밖에서
+        Map<Long, int[]> termFrequencies = new HashMap<>();
+        int[] lengths = new int[FIELD_COUNT];
+        String[] fields = new String[FIELD_COUNT];
+        fields[TITLE] = title;
+        fields[DESCRIPTION] = description;
+        fields[TAGS] = tagText;
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            int current = field;
+            NgramTokenizer.tokenize(fields[field], (token, start, end) -> {
+                termFrequencies.computeIfAbsent(token, t -> new int[FIELD_COUNT])[current]++;
+                lengths[current]++;
+            });
+        }
+        
+        lock.writeLock().lock();
+        try {
+            Integer existing = docByVideoId.get(videoId);
+            int doc;
+            if (existing != null) {
+                doc = existing;
+                if (contentHashes[doc] == contentHash) {
+                    return;
+                }
+                unlink(doc);
+            } else {
+                doc = allocate(videoId);
+            }
+            
+            long[] tokens = new long[termFrequencies.size()];
+            int i = 0;
+            for (Map.Entry<Long, int[]> entry : termFrequencies.entrySet()) {
+                tokens[i++] = entry.getKey();
+                postings.computeIfAbsent(entry.getKey(), t -> new PostingList()).insert(doc, pack(entry.getValue()));
+            }
+            docTokens[doc] = tokens;
+            fieldLengths[doc] = lengths;
+            contentHashes[doc] = contentHash;
+            for (int field = 0; field < FIELD_COUNT; field++) {
+                totalFieldLengths[field] += lengths[field];
+            }
+            liveDocs++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public boolean remove(long videoId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByVideoId.remove(videoId);
+            if (doc == null) {
+                return false;
+            }
+            unlink(doc);
+            videoIds[doc] = 0;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 검색어 토큰을 모두 포함한 비디오를 점수순으로 offset부터 limit개 (총 일치 수 포함, limit이 0이면 개수만)
+     */
+    public SearchHits search(long[] queryTokens, int offset, int limit) {
+        if (queryTokens.length == 0) {
+            return new SearchHits(0, new long[0]);
+        }
+        lock.readLock().lock();
+        try {
+            PostingList[] lists = new PostingList[queryTokens.length];
+            for (int i = 0; i < queryTokens.length; i++) {
+                lists[i] = postings.get(queryTokens[i]);
+                if (lists[i] == null) {
+                    return new SearchHits(0, new long[0]);
+                }
+            }
+            // 가장 짧은 목록을 기준으로 나머지 목록에서 같은 문서를 찾아감
+            Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+            
+            double[] idf = new double[lists.length];
+            for (int i = 0; i < lists.length; i++) {
+                idf[i] = Math.log(1 + (liveDocs - lists[i].size + 0.5) / (lists[i].size + 0.5));
+            }
+            double[] averageLengths = new double[FIELD_COUNT];
+            for (int field = 0; field < FIELD_COUNT; field++) {
+                averageLengths[field] = liveDocs == 0 ? 1 : Math.max(1, (double) totalFieldLengths[field] / liveDocs);
+            }
+            
+            // 상위 offset + limit개만 유지 (점수가 가장 낮은 것이 맨 앞)
+            int window = limit > 0 ? offset + limit : 0;
+            PriorityQueue<Hit> top = new PriorityQueue<>(Math.max(1, Math.min(window, 1024)));
+            int total = 0;
+            int[] cursors = new int[lists.length];
+            PostingList lead = lists[0];
+            candidates:
+            for (int i = 0; i < lead.size; i++) {
+                int doc = lead.docs[i];
+                double score = idf[0] * saturate(lead.tfs[i], fieldLengths[doc], averageLengths);
+                for (int j = 1; j < lists.length; j++) {
+                    int position = lists[j].advance(cursors[j], doc);
+                    cursors[j] = position;
+                    if (position >= lists[j].size) {
+                        break candidates;
+                    }
+                    if (lists[j].docs[position] != doc) {
+                        continue candidates;
+                    }
+                    score += idf[j] * saturate(lists[j].tfs[position], fieldLengths[doc], averageLengths);
+                }
+                total++;
+                if (window == 0) {
+                    continue;
+                }
+                Hit hit = new Hit(videoIds[doc], score);
+                if (top.size() < window) {
+                    top.add(hit);
+                } else if (hit.compareTo(top.peek()) > 0) {
+                    top.poll();
+                    top.add(hit);
+                }
+            }
+            
+            List<Hit> ranked = new ArrayList<>(top);
+            ranked.sort((a, b) -> b.compareTo(a));
+            int from = Math.min(offset, ranked.size());
+            long[] page = new long[ranked.size() - from];
+            for (int i = from; i < ranked.size(); i++) {
+                page[i - from] = ranked.get(i).videoId;
+            }
+            return new SearchHits(total, page);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // 필드별 길이로 정규화한 가중 등장 횟수를 합친 뒤 한 번만 포화 (BM25F)
+    private static double saturate(int packedTf, int[] lengths, double[] averageLengths) {
+        double weighted = 0;
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            int tf = (packedTf >>> TF_SHIFT[field]) & TF_MAX[field];
+            if (tf > 0) {
+                double norm = 1 - B + B * lengths[field] / averageLengths[field];
+                weighted += FIELD_WEIGHT[field] * tf / norm;
+            }
+        }
+        return weighted * (K1 + 1) / (weighted + K1);
+    }
+    
+    private static int pack(int[] tf) {
+        int packed = 0;
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            packed |= Math.min(tf[field], TF_MAX[field]) << TF_SHIFT[field];
+        }
+        return packed;
+    }
+    
+    private int allocate(long videoId) {
+        if (nextDoc == videoIds.length) {
+            int capacity = videoIds.length * 2;
+            videoIds = Arrays.copyOf(videoIds, capacity);
+            fieldLengths = Arrays.copyOf(fieldLengths, capacity);
+            docTokens = Arrays.copyOf(docTokens, capacity);
+            contentHashes = Arrays.copyOf(contentHashes, capacity);
+        }
+        int doc = nextDoc++;
+        videoIds[doc] = videoId;
+        docByVideoId.put(videoId, doc);
+        return doc;
+    }
+    
+    // 문서의 토큰을 posting에서 빼고 통계에서 제외
+    private void unlink(int doc) {
+        long[] tokens = docTokens[doc];
+        if (tokens == null) {
+            return;
+        }
+        for (long token : tokens) {
+            PostingList list = postings.get(token);
+            if (list != null && list.delete(doc) && list.size == 0) {
+                postings.remove(token);
+            }
+        }
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            totalFieldLengths[field] -= fieldLengths[doc][field];
+        }
+        docTokens[doc] = null;
+        fieldLengths[doc] = null;
+        contentHashes[doc] = 0;
+        liveDocs--;
+    }
+    
+    public static class SearchHits {
+        private final int total;
+        private final long[] videoIds;
+        
+        SearchHits(int total, long[] videoIds) {
+            this.total = total;
+            this.videoIds = videoIds;
+        }
+        
+        public int getTotal() {
+            return total;
+        }
+        
+        public long[] getVideoIds() {
+            return videoIds;
+        }
+    }
+    
+    private static class Hit implements Comparable<Hit> {
+        private final long videoId;
+        private final double score;
+        
+        Hit(long videoId, double score) {
+            this.videoId = videoId;
+            this.score = score;
+        }
+        
+        // 점수가 같으면 최신 비디오(ID가 큰 쪽)를 위로
+        @Override
+        public int compareTo(Hit other) {
+            int byScore = Double.compare(score, other.score);
+            return byScore != 0 ? byScore : Long.compare(videoId, other.videoId);
+        }
+    }
+    
+    // 문서 번호 오름차순 posting (docs와 tfs는 같은 위치끼리 짝)
+    private static class PostingList {
+        private int[] docs = new int[4];
+        private int[] tfs = new int[4];
+        private int size;
+        
+        void insert(int doc, int tf) {
+            int position = Arrays.binarySearch(docs, 0, size, doc);
+            if (position >= 0) {
+                tfs[position] = tf;
+                return;
+            }
+            position = -position - 1;
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                tfs = Arrays.copyOf(tfs, size * 2);
+            }
+            System.arraycopy(docs, position, docs, position + 1, size - position);
+            System.arraycopy(tfs, position, tfs, position + 1, size - position);
+            docs[position] = doc;
+            tfs[position] = tf;
+            size++;
+        }
+        
+        boolean delete(int doc) {
+            int position = Arrays.binarySearch(docs, 0, size, doc);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(docs, position + 1, docs, position, size - position - 1);
+            System.arraycopy(tfs, position + 1, tfs, position, size - position - 1);
+            size--;
+            return true;
+        }
+        
+        // from 이후에서 doc 이상인 첫 위치 (간격을 두 배씩 늘려 범위를 잡은 뒤 이진 탐색)
+        int advance(int from, int doc) {
+            if (from >= size || docs[from] >= doc) {
+                return from;
+            }
+            int step = 1;
+            int low = from;
+            int high = from + 1;
+            while (high < size && docs[high] < doc) {
+                low = high;
+                step <<= 1;
+                high = from + step;
+            }
+            int position = Arrays.binarySearch(docs, low + 1, Math.min(high + 1, size), doc);
+            return position >= 0 ? position : -position - 1;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.shortly.backend.domain.video.service;
+
+import com.shortly.backend.domain.video.entity.MediaBlob;
+import com.shortly.backend.domain.video.entity.VideoStatus;
+import com.shortly.backend.domain.video.event.DerivedMediaRequestedEvent;
+import com.shortly.backend.domain.video.event.VideoMediaUpdatedEvent;
+import com.shortly.backend.domain.video.repository.MediaBlobRepository;
+import com.shortly.backend.domain.video.repository.VideoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공개 후 파생 미디어 생성 (탐색 미리보기 스프라이트, HLS 화질 묶음)
+ * 수집 워커와 내용 해시 잠금 밖의 전용 풀에서 실행해, 오래 걸리는 인코딩이 다른 업로드의 공개를 막지 않게 한다.
+ * 전용 풀 크기(기본 1)만큼만 동시에 돌려 나머지 FFmpeg 실행 슬롯은 공개 전 처리(길이 확인, 썸네일)에 남긴다.
+ * 재시작이나 대기열 거절로 잃어버린 작업은 시작 시와 주기 점검에서 파생 미디어가 빠진 원본을 찾아 다시 요청한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DerivedMediaService {
+    
+    private final FileService fileService;
+    private final SpriteSheetService spriteSheetService;
+    private final HlsPackagingService hlsPackagingService;
+    private final MediaBlobRepository mediaBlobRepository;
+    private final VideoRepository videoRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Value("${video.derived.resume-batch-size:50}")
+    private int resumeBatchSize;
+    
+    // 점검에서 다시 요청한 뒤 아직 끝나지 않은 원본 (같은 원본을 대기열에 중복으로 넣지 않음)
+    private final Set<String> resumedHashes = ConcurrentHashMap.newKeySet();
+    // 점검 위치 (한 번에 resumeBatchSize개씩 해시 순으로 돌아가며 요청, 계속 실패하는 원본이 다른 원본을 막지 않음)
+    private String resumeAfterHash = "";
+    
+    @Async("derivedMediaExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDerivedMediaRequested(DerivedMediaRequestedEvent event) {
+        Long videoId = event.getVideoId();
+        String contentHash = event.getContentHash();
+        String filename = event.getFilename();
+        try {
+            // 같은 원본이 여러 번 요청된 경우 이미 만들어진 쪽은 건너뜀
+            boolean needSprite = true;
+            boolean needHls = true;
+            if (contentHash != null) {
+                MediaBlob blob = mediaBlobRepository.findById(contentHash).orElse(null);
+                if (blob == null) {
+                    return;
+                }
+                needSprite = blob.getSpriteKey() == null;
+                needHls = blob.getHlsKey() == null;
+                if (!needSprite && !needHls) {
+                    return;
+                }
+            }
+            // 원격 저장소는 수집 단계가 남긴 작업 사본을 쓰고, 없으면 다시 내려받음
+            Path videoPath = fileService.fetchVideo(filename);
+            if (!Files.exists(videoPath)) {
+                System.out.println("[DerivedMedia] 원본을 찾을 수 없음 - ID: " + videoId);
+                return;
+            }
+            // 스프라이트가 짧게 끝나므로 먼저 만들어 미리보기부터 노출
+            if (needSprite) {
+                spriteSheetService.generateSprite(videoId, contentHash, videoPath, event.getDurationSeconds());
+            }
+            if (needHls) {
+                hlsPackagingService.packageVideo(videoId, contentHash, videoPath);
+            }
+        } catch (IOException e) {
+            System.out.println("[DerivedMedia] 원본 수신 실패 - ID: " + videoId + ", 오류: " + e.getMessage());
+        } finally {
+            fileService.releaseWorkingCopy(filename);
+            if (contentHash != null) {
+                resumedHashes.remove(contentHash);
+            }
+        }
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        resumeMissingDerivedMedia();
+    }
+    
+    @Scheduled(fixedDelayString = "${video.derived.resume-interval-ms:600000}",
+               initialDelayString = "${video.derived.resume-interval-ms:600000}")
+    public void scheduledResume() {
+        resumeMissingDerivedMedia();
+    }
+    
+    /**
+     * 원본에는 있는데 비디오에 빠진 키를 채우고, 파생 미디어가 없는 원본은 생성을 다시 요청
+     */
+    public synchronized void resumeMissingDerivedMedia() {
+        // 파생 미디어 생성 중 같은 파일로 공개된 비디오는 원본의 빈 키를 복사해 갔으므로 다시 채움
+        List<Long> staleIds = videoRepository.findIdsMissingBlobDerivedKeys(VideoStatus.READY);
+        if (!staleIds.isEmpty()) {
+            videoRepository.copyDerivedKeysFromBlob(staleIds);
+            for (Long videoId : staleIds) {
+                eventPublisher.publishEvent(new VideoMediaUpdatedEvent(videoId));
+            }
+            System.out.println("[DerivedMedia] 원본의 파생 미디어 키 반영 - 비디오 수: " + staleIds.size());
+        }
+        
+        List<MediaBlob> missing = mediaBlobRepository.findMissingDerivedMedia(resumeAfterHash, VideoStatus.READY,
+                PageRequest.of(0, resumeBatchSize));
+        resumeAfterHash = missing.size() < resumeBatchSize ? "" : missing.get(missing.size() - 1).getContentHash();
+        int requested = 0;
+        for (MediaBlob blob : missing) {
+            String contentHash = blob.getContentHash();
+            if (!resumedHashes.add(contentHash)) {
+                continue;
+            }
+            List<Long> videoIds = videoRepository.findIdsByContentHash(contentHash);
+            if (videoIds.isEmpty()) {
+                resumedHashes.remove(contentHash);
+                continue;
+            }
+            try {
+                eventPublisher.publishEvent(new DerivedMediaRequestedEvent(videoIds.get(0), contentHash,
+                        blob.getFilename(), blob.getDurationSeconds()));
+                requested++;
+            } catch (TaskRejectedException e) {
+                // 대기열이 가득 차면 나머지는 다음 점검에서 요청
+                resumedHashes.remove(contentHash);
+                resumeAfterHash = "";
+                break;
+            }
+        }
+        if (requested > 0) {
+            System.out.println("[DerivedMedia] 파생 미디어 재요청 - 원본 수: " + requested);
+        }
+    }
+}
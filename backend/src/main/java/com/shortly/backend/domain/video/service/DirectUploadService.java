@@ -0,0 +1,178 @@
+package com.shortly.backend.domain.video.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shortly.backend.domain.user.entity.User;
+import com.shortly.backend.domain.user.service.UserService;
+import com.shortly.backend.domain.video.dto.DirectUploadResponse;
+import com.shortly.backend.domain.video.dto.UploadSessionRequest;
+import com.shortly.backend.domain.video.dto.VideoResponse;
+import com.shortly.backend.domain.video.entity.DirectUpload;
+import com.shortly.backend.domain.video.repository.DirectUploadRepository;
+import com.shortly.backend.domain.video.repository.VideoRepository;
+import com.shortly.backend.utils.Constants;
+import com.shortly.backend.utils.FileUtils;
+import com.shortly.backend.utils.ValidationUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.net.URL;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 저장소 직접 업로드 (presigned PUT URL 발급 → 클라이언트가 저장소로 전송 → 완료 요청)
+ * 파일 바이트는 API 서버를 거치지 않고, 완료 후 백그라운드 워커가 처리용으로 내려받는다.
+ * 대기 중인 업로드는 DB에 저장해 다른 서버로 완료 요청이 오거나 재시작된 뒤에도 이어서 처리하고,
+ * 완료되지 않은 업로드의 저장소 파일(ingest/)은 주기적으로 정리한다.
+ * S3 호환 저장소를 사용할 때만 지원한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DirectUploadService {
+    
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<String>> TAG_LIST = new TypeReference<>() {};
+    
+    private final FileService fileService;
+    private final VideoService videoService;
+    private final VideoStreamingService videoStreamingService;
+    private final UserService userService;
+    private final DirectUploadRepository directUploadRepository;
+    private final VideoRepository videoRepository;
+    
+    public DirectUploadResponse createUpload(UploadSessionRequest request) {
+        if (!fileService.isRemoteStorage()) {
+            throw new IllegalArgumentException("현재 저장소는 직접 업로드를 지원하지 않습니다. 이어 올리기 업로드를 사용하세요.");
+        }
+        User currentUser = userService.getCurrentUserEntity();
+        
+        ValidationUtils.ValidationResult fileValidation =
+                ValidationUtils.validateFile(request.getFilename(), request.getTotalSize());
+        if (!fileValidation.isValid()) {
+            throw new IllegalArgumentException(fileValidation.getErrorMessage());
+        }
+        videoService.validateVideoMetadata(request.getTitle(), request.getDescription(), request.getTags());
+        
+        String filename = FileUtils.generateUniqueFileName(request.getFilename());
+        String contentType = videoStreamingService.getContentType(filename);
+        Duration ttl = Duration.ofMinutes(Constants.File.DIRECT_UPLOAD_TTL_MINUTES);
+        URL uploadUrl = fileService.getDirectUploadUrl(filename, contentType, ttl);
+        
+        DirectUpload upload = directUploadRepository.save(DirectUpload.builder()
+                .id(UUID.randomUUID().toString())
+                .ownerId(currentUser.getId())
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .tagsJson(writeTags(request.getTags()))
+                .filename(filename)
+                .totalSize(request.getTotalSize())
+                .expiresAt(LocalDateTime.now().plus(ttl))
+                .build());
+        System.out.println("[DirectUpload] 업로드 URL 발급 - ID: " + upload.getId() + ", 크기: " + upload.getTotalSize());
+        
+        return DirectUploadResponse.builder()
+                .uploadId(upload.getId())
+                .uploadUrl(uploadUrl.toString())
+                .contentType(contentType)
+                .totalSize(upload.getTotalSize())
+                .expiresAt(upload.getExpiresAt())
+                .build();
+    }
+    
+    public VideoResponse complete(String uploadId) {
+        DirectUpload upload = getOwnedUpload(uploadId);
+        
+        // 선언한 크기와 실제 올라온 크기가 같아야 함 (URL 유효 시간 안에 다른 파일로 덮어쓴 경우 포함)
+        long storedSize = fileService.getDirectUploadSize(upload.getFilename());
+        if (storedSize < 0) {
+            throw new IllegalArgumentException("저장소에 업로드된 파일이 없습니다.");
+        }
+        if (storedSize != upload.getTotalSize()) {
+            throw new IllegalArgumentException("업로드된 파일 크기가 올바르지 않습니다. 예상: " + upload.getTotalSize() + ", 실제: " + storedSize);
+        }
+        // 같은 업로드로 여러 서버에 동시에 완료 요청이 와도 한 곳만 비디오를 만듦
+        if (directUploadRepository.claim(uploadId, LocalDateTime.now()) == 0) {
+            throw new IllegalArgumentException("이미 완료된 업로드입니다.");
+        }
+        
+        System.out.println("[DirectUpload] 업로드 완료 - ID: " + uploadId);
+        User currentUser = userService.getCurrentUserEntity();
+        VideoResponse response;
+        try {
+            response = videoService.createDirectUploadVideo(currentUser, upload.getTitle(), upload.getDescription(),
+                    readTags(upload.getTagsJson()), upload.getFilename());
+        } catch (RuntimeException e) {
+            directUploadRepository.unclaim(uploadId);
+            throw e;
+        }
+        // 비디오가 파일을 넘겨받았으므로 대기 기록만 삭제 (실패해도 정리 작업이 비디오를 확인하고 기록만 지움)
+        directUploadRepository.deleteAndCount(uploadId);
+        return response;
+    }
+    
+    public void abort(String uploadId) {
+        DirectUpload upload = getOwnedUpload(uploadId);
+        if (directUploadRepository.deleteUnclaimed(uploadId) == 1) {
+            fileService.deleteDirectUpload(upload.getFilename());
+            System.out.println("[DirectUpload] 업로드 취소 - ID: " + uploadId);
+        }
+    }
+    
+    // 완료되지 않은 채 만료된 업로드 정리 (URL 만료 후에는 더 올라올 수 없음)
+    // 여러 서버에서 함께 돌아도 기록을 지운 서버만 저장소 파일을 삭제
+    @Scheduled(fixedDelay = 10 * 60 * 1000)
+    public void cleanupExpiredUploads() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime claimedBefore = now.minusMinutes(Constants.File.DIRECT_UPLOAD_CLAIM_TIMEOUT_MINUTES);
+        List<DirectUpload> expired = directUploadRepository.findExpired(now, claimedBefore,
+                PageRequest.of(0, Constants.File.DIRECT_UPLOAD_CLEANUP_BATCH_SIZE));
+        for (DirectUpload upload : expired) {
+            // 완료 처리 중 서버가 멈춘 경우 비디오가 이미 만들어졌으면 파일은 비디오 처리에 맡김
+            boolean ownedByVideo = upload.getClaimedAt() != null && videoRepository.existsByUrl(upload.getFilename());
+            if (directUploadRepository.deleteAndCount(upload.getId()) == 1 && !ownedByVideo) {
+                fileService.deleteDirectUpload(upload.getFilename());
+                System.out.println("[DirectUpload] 만료된 업로드 정리 - ID: " + upload.getId());
+            }
+        }
+    }
+    
+    private DirectUpload getOwnedUpload(String uploadId) {
+        DirectUpload upload = directUploadRepository.findById(uploadId).orElse(null);
+        if (upload == null) {
+            throw new IllegalArgumentException("업로드를 찾을 수 없습니다.");
+        }
+        User currentUser = userService.getCurrentUserEntity();
+        if (!upload.getOwnerId().equals(currentUser.getId())) {
+            throw new RuntimeException("You can only access your own uploads");
+        }
+        return upload;
+    }
+    
+    private static String writeTags(List<String> tags) {
+        if (tags == null) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.writeValueAsString(tags);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("태그 저장 실패", e);
+        }
+    }
+    
+    private static List<String> readTags(String tagsJson) {
+        if (tagsJson == null) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.readValue(tagsJson, TAG_LIST);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("태그 읽기 실패", e);
+        }
+    }
+}
@@ -1,50 +1,79 @@
 package com.shortly.backend.domain.video.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shortly.backend.domain.video.entity.MediaMetadata;
+import com.shortly.backend.domain.video.media.MediaJobExecutor;
+import com.shortly.backend.domain.video.media.MediaJobPriority;
+import com.shortly.backend.domain.video.media.MediaJobResult;
+import com.shortly.backend.domain.video.media.MediaTool;
+import com.shortly.backend.domain.video.media.Mp4Probe;
+import com.shortly.backend.domain.video.media.VideoProbeResult;
+import com.shortly.backend.domain.video.storage.MediaPathResolver;
+import com.shortly.backend.domain.video.storage.StorageBackend;
+import com.shortly.backend.utils.Constants;
+import com.shortly.backend.utils.FileUtils;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class FileService {
     
-    @Value("${ffmpeg.path:/usr/bin/ffmpeg}")
-    private String ffmpegPath;
+    private static final Duration THUMBNAIL_TIMEOUT = Duration.ofSeconds(60);
+    private static final Duration PROBE_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration REMUX_TIMEOUT = Duration.ofMinutes(2);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Duration PRESIGN_TTL = Duration.ofHours(1);
+    private static final String PART_SUFFIX = ".part";
     
-    @Value("${ffprobe.path:/usr/bin/ffprobe}")
-    private String ffprobePath;
+    private final MediaJobExecutor mediaJobExecutor;
+    private final StorageBackend storageBackend;
+    private final MediaPathResolver mediaPathResolver;
     
-    private final String uploadDir = "uploads/videos/";
-    private final String thumbnailDir = "uploads/thumbnails/";
+    private final String ingestDir = "uploads/ingest/";
     
-    public String uploadVideo(MultipartFile file) {
-        System.out.println("[FileService] 비디오 업로드 시작 - 파일명: " + file.getOriginalFilename() + ", 크기: " + file.getSize());
+    @Value("${spring.servlet.multipart.location:uploads/tmp}")
+    private String multipartTempDir;
+    
+    @PostConstruct
+    public void createDirectories() throws IOException {
+        Files.createDirectories(Paths.get(ingestDir));
+        Files.createDirectories(Paths.get(multipartTempDir));
+    }
+    
+    /**
+     * 업로드 파일을 스테이징 디렉토리에 한 번만 기록한다.
+     * 영상 길이 확인, 썸네일 생성, 최종 배치(원자적 이동)는 모두 이 경로를 사용한다.
+     * 멀티파트 임시 디렉토리가 같은 볼륨에 있으면 transferTo는 복사 없이 rename으로 처리된다.
+     */
+    public String stageUpload(MultipartFile file) {
+        System.out.println("[FileService] 비디오 스테이징 시작 - 파일명: " + file.getOriginalFilename() + ", 크기: " + file.getSize());
         try {
-            // 디렉토리 생성
-            Path uploadPath = Paths.get(uploadDir);
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
-            }
-            
-            // 파일명 생성
-            String originalFilename = file.getOriginalFilename();
-            String extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-            String filename = UUID.randomUUID().toString() + extension;
+            String filename = FileUtils.generateUniqueFileName(file.getOriginalFilename());
+            Path stagedPath = getStagedPath(filename).toAbsolutePath();
             
-            // 파일 저장
-            Path filePath = uploadPath.resolve(filename);
-            System.out.println("[FileService] 파일 저장 경로: " + filePath.toString());
-            Files.copy(file.getInputStream(), filePath);
-            System.out.println("[FileService] 비디오 업로드 완료: " + filename);
+            // 절대 경로의 File을 넘겨야 Tomcat Part.write가 임시 파일을 rename 한다 (Path 버전은 스트림 복사)
+            file.transferTo(stagedPath.toFile());
+            System.out.println("[FileService] 비디오 스테이징 완료: " + stagedPath);
             
             return filename;
         } catch (IOException e) {
@@ -52,145 +81,262 @@ public class FileService {
         }
     }
     
-    public String generateThumbnail(MultipartFile videoFile) {
-        System.out.println("[FileService] 썸네일 생성 시작");
+    public Path getStagedPath(String filename) {
+        return Paths.get(ingestDir, filename);
+    }
+    
+    // 처리 완료된 스테이징 파일을 저장소에 배치 (로컬 저장소는 비디오 디렉토리로 원자적 이동)
+    // 원격 저장소는 업로드 후 스프라이트/HLS 생성용 작업 사본을 비디오 디렉토리에 남긴다 (releaseWorkingCopy로 정리)
+    public Path publishStagedVideo(String filename) throws IOException {
+        Path stagedPath = getStagedPath(filename);
+        Path targetPath = getVideoPath(filename);
+        storageBackend.store(videoKey(filename), stagedPath);
+        if (storageBackend.isRemote() && Files.exists(stagedPath)) {
+            Files.createDirectories(targetPath.getParent());
+            try {
+                Files.move(stagedPath, targetPath, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(stagedPath, targetPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        System.out.println("[FileService] 비디오 배치 완료: " + videoKey(filename));
+        return targetPath;
+    }
+    
+    // 처리에 쓸 로컬 원본 (원격 저장소에만 있으면 작업 사본으로 내려받음)
+    public Path fetchVideo(String filename) throws IOException {
+        Path localPath = getVideoPath(filename);
+        if (!Files.exists(localPath) && storageBackend.isRemote() && storageBackend.exists(videoKey(filename))) {
+            Files.createDirectories(localPath.getParent());
+            storageBackend.fetch(videoKey(filename), localPath);
+        }
+        return localPath;
+    }
+    
+    public void releaseWorkingCopy(String filename) {
+        if (!storageBackend.isRemote()) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(getVideoPath(filename));
+        } catch (IOException e) {
+            System.out.println("[FileService] 작업 사본 삭제 실패: " + filename);
+        }
+    }
+    
+    public boolean isRemoteStorage() {
+        return storageBackend.isRemote();
+    }
+    
+    // 클라이언트가 저장소에서 직접 재생할 URL (로컬 저장소면 null)
+    public URL getVideoDownloadUrl(String filename) {
+        return storageBackend.presignGet(videoKey(filename), PRESIGN_TTL);
+    }
+    
+    // 클라이언트가 저장소로 직접 올릴 URL (로컬 저장소면 null)
+    public URL getDirectUploadUrl(String filename, String contentType, Duration ttl) {
+        return storageBackend.presignPut(ingestKey(filename), contentType, ttl);
+    }
+    
+    public long getDirectUploadSize(String filename) {
+        return storageBackend.size(ingestKey(filename));
+    }
+    
+    // 직접 업로드된 파일을 스테이징 디렉토리로 가져옴 (없으면 false)
+    public boolean fetchDirectUpload(String filename) throws IOException {
+        if (!storageBackend.isRemote() || !storageBackend.exists(ingestKey(filename))) {
+            return false;
+        }
+        storageBackend.fetch(ingestKey(filename), getStagedPath(filename));
+        return true;
+    }
+    
+    public void deleteDirectUpload(String filename) {
+        storageBackend.delete(ingestKey(filename));
+    }
+    
+    private String videoKey(String filename) {
+        return Constants.File.VIDEO_DIR + filename;
+    }
+    
+    private String ingestKey(String filename) {
+        return Constants.File.INGEST_DIR + filename;
+    }
+    
+    // 이어 올리기 중인 미완성 파일 (완료되면 스테이징 파일 이름으로 바뀜)
+    public Path getPartPath(String filename) {
+        return Paths.get(ingestDir, filename + PART_SUFFIX);
+    }
+    
+    // 다 받은 미완성 파일을 스테이징 파일로 전환 (이미 전환된 경우 그대로)
+    public void promotePartFile(String filename) {
+        Path partPath = getPartPath(filename);
         try {
-            // 디렉토리 생성
-            Path thumbnailPath = Paths.get(thumbnailDir);
-            if (!Files.exists(thumbnailPath)) {
-                Files.createDirectories(thumbnailPath);
+            if (Files.exists(partPath)) {
+                Files.move(partPath, getStagedPath(filename), StandardCopyOption.ATOMIC_MOVE);
             }
-            
-            // 썸네일 파일명 생성
-            String thumbnailFilename = UUID.randomUUID().toString() + ".jpg";
-            Path thumbnailFilePath = thumbnailPath.resolve(thumbnailFilename);
-            
-            // 임시로 비디오 파일 저장
-            Path tempVideoPath = Paths.get(uploadDir, UUID.randomUUID().toString() + ".mp4");
-            Files.copy(videoFile.getInputStream(), tempVideoPath);
-            
-            try {
-                System.out.println("[FileService] FFmpeg 썸네일 생성 시도");
-                
-                // FFmpeg 명령어 확인
-                String ffmpegCommand = "ffmpeg";
-                if (System.getProperty("os.name").toLowerCase().contains("windows")) {
-                    // Windows에서 FFmpeg 경로 확인
-                    String[] possiblePaths = {
-                        "C:\\ffmpeg\\bin\\ffmpeg.exe",
-                        "C:\\ffmpeg-2025-07-10-git-82aeee3c19-full_build\\bin\\ffmpeg.exe",
-                        "ffmpeg.exe"
-                    };
-                    
-                    for (String path : possiblePaths) {
-                        try {
-                            ProcessBuilder testPb = new ProcessBuilder(path, "-version");
-                            Process testProcess = testPb.start();
-                            if (testProcess.waitFor() == 0) {
-                                ffmpegCommand = path;
-                                System.out.println("[FileService] FFmpeg 경로 확인됨: " + path);
-                                break;
-                            }
-                        } catch (Exception e) {
-                            System.out.println("[FileService] FFmpeg 경로 테스트 실패: " + path);
-                        }
-                    }
-                }
-                
-                // FFmpeg를 사용하여 썸네일 생성
-                ProcessBuilder pb = new ProcessBuilder(
-                    ffmpegCommand, "-i", tempVideoPath.toString(),
-                    "-ss", "00:00:00.5", // 0.5초 지점에서 썸네일 추출 (더 빠름)
-                    "-vframes", "1",
-                    "-vf", "scale=320:240", // 썸네일 크기 조정
-                    "-y", // 기존 파일 덮어쓰기
-                    "-loglevel", "error", // 로그 레벨을 error로 설정하여 출력 줄이기
-                    thumbnailFilePath.toString()
-                );
-                
-                // 에러 스트림을 표준 출력으로 리다이렉트
-                pb.redirectErrorStream(true);
-                
-                Process process = pb.start();
-                System.out.println("[FileService] FFmpeg 프로세스 시작됨");
-                
-                // 타임아웃 설정 (60초로 증가)
-                boolean finished = process.waitFor(60, java.util.concurrent.TimeUnit.SECONDS);
-                
-                if (!finished) {
-                    System.out.println("[FileService] FFmpeg 타임아웃 발생, 프로세스 강제 종료");
-                    process.destroyForcibly();
-                    throw new RuntimeException("FFmpeg timeout");
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to complete upload", e);
+        }
+    }
+    
+    public void deletePartFile(String filename) {
+        try {
+            Files.deleteIfExists(getPartPath(filename));
+        } catch (IOException e) {
+            System.out.println("[FileService] 미완성 파일 삭제 실패: " + filename);
+        }
+    }
+    
+    // cutoff 이전에 마지막으로 기록된 미완성 파일 이름 (확장자 제외)
+    public List<String> findPartFilesModifiedBefore(Instant cutoff) {
+        List<String> filenames = new ArrayList<>();
+        try (Stream<Path> paths = Files.list(Paths.get(ingestDir))) {
+            paths.forEach(path -> {
+                String name = path.getFileName().toString();
+                if (!name.endsWith(PART_SUFFIX)) {
+                    return;
                 }
-                
-                int exitCode = process.exitValue();
-                System.out.println("[FileService] FFmpeg 종료 코드: " + exitCode);
-                
-                // FFmpeg 출력 로그 확인
-                try (java.io.BufferedReader reader = new java.io.BufferedReader(
-                        new java.io.InputStreamReader(process.getInputStream()))) {
-                    String line;
-                    while ((line = reader.readLine()) != null) {
-                        System.out.println("[FileService] FFmpeg: " + line);
+                try {
+                    if (Files.getLastModifiedTime(path).toInstant().isBefore(cutoff)) {
+                        filenames.add(name.substring(0, name.length() - PART_SUFFIX.length()));
                     }
+                } catch (IOException e) {
+                    // 목록 조회 중 삭제된 파일
                 }
-                
-                if (exitCode == 0 && Files.exists(thumbnailFilePath)) {
-                    System.out.println("[FileService] FFmpeg 썸네일 생성 성공");
-                    // 임시 비디오 파일 삭제
-                    Files.deleteIfExists(tempVideoPath);
-                    return thumbnailFilename;
-                } else {
-                    System.out.println("[FileService] FFmpeg 실패, 기본 썸네일 생성");
-                    // FFmpeg 실패 시 기본 썸네일 생성
-                    createDefaultThumbnail(thumbnailFilePath);
-                    Files.deleteIfExists(tempVideoPath);
-                    return thumbnailFilename;
-                }
-            } catch (Exception e) {
-                System.out.println("[FileService] FFmpeg 예외 발생: " + e.getMessage());
-                e.printStackTrace();
-                // FFmpeg가 없거나 실패한 경우 기본 썸네일 생성
-                createDefaultThumbnail(thumbnailFilePath);
-                Files.deleteIfExists(tempVideoPath);
-                return thumbnailFilename;
-            }
+            });
         } catch (IOException e) {
-            System.out.println("[FileService] 썸네일 생성 중 IOException: " + e.getMessage());
-            throw new RuntimeException("Failed to generate thumbnail", e);
+            System.out.println("[FileService] 스테이징 디렉토리 조회 실패: " + e.getMessage());
+        }
+        return filenames;
+    }
+    
+    // 스테이징 파일 이름 변경 (업로드 임시 이름 → 내용 해시 이름)
+    public void renameStagedVideo(String filename, String targetFilename) throws IOException {
+        Files.move(getStagedPath(filename), getStagedPath(targetFilename), StandardCopyOption.REPLACE_EXISTING);
+    }
+    
+    public void deleteStagedVideo(String filename) {
+        try {
+            Files.deleteIfExists(getStagedPath(filename));
+        } catch (IOException e) {
+            System.out.println("[FileService] 스테이징 파일 삭제 실패: " + filename);
         }
     }
 
     public String generateThumbnailFromFile(Path videoPath) throws IOException, InterruptedException {
-        Path thumbnailPath = Paths.get(thumbnailDir);
-        if (!Files.exists(thumbnailPath)) {
-            Files.createDirectories(thumbnailPath);
-        }
         String thumbnailFilename = UUID.randomUUID().toString() + ".jpg";
-        Path thumbnailFilePath = thumbnailPath.resolve(thumbnailFilename);
-
+        Path thumbnailFilePath = newThumbnailPath(thumbnailFilename);
+        
         try {
-            ProcessBuilder pb = new ProcessBuilder(
-                "ffmpeg", "-i", videoPath.toString(),
-                "-ss", "00:00:01",
-                "-vframes", "1",
-                "-vf", "scale=320:240",
-                thumbnailFilePath.toString()
-            );
-            Process process = pb.start();
-            int exitCode = process.waitFor();
-            if (exitCode == 0) {
-                return thumbnailFilename;
-            } else {
-                // FFmpeg 실패 시 기본 썸네일 생성
-                createDefaultThumbnail(thumbnailFilePath);
+            MediaJobResult result = mediaJobExecutor.run(MediaTool.FFMPEG,
+                    thumbnailArgs(videoPath, thumbnailFilePath), MediaJobPriority.INTERACTIVE, THUMBNAIL_TIMEOUT);
+            // 변형은 부가 결과이므로 기본 썸네일이 만들어졌으면 성공으로 처리
+            if (!result.isTimedOut() && Files.exists(thumbnailFilePath)) {
                 return thumbnailFilename;
             }
-        } catch (Exception e) {
-            // FFmpeg가 없거나 실패한 경우 기본 썸네일 생성
+            // FFmpeg 실패 시 기본 썸네일 생성
             createDefaultThumbnail(thumbnailFilePath);
             return thumbnailFilename;
+        } catch (IOException e) {
+            // FFmpeg가 없는 경우 기본 썸네일 생성
+            createDefaultThumbnail(thumbnailFilePath);
+            return thumbnailFilename;
+        }
+    }
+    
+    /**
+     * 일괄 작업용 썸네일 생성 (낮은 우선순위로 대기열에 넣고 바로 반환)
+     * 실패 시 기본 썸네일을 만들지 않고 null로 완료한다.
+     */
+    public CompletableFuture<String> generateThumbnailAsync(Path videoPath) {
+        String thumbnailFilename = UUID.randomUUID().toString() + ".jpg";
+        Path thumbnailFilePath;
+        try {
+            thumbnailFilePath = newThumbnailPath(thumbnailFilename);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return mediaJobExecutor.submit(MediaTool.FFMPEG, thumbnailArgs(videoPath, thumbnailFilePath),
+                        MediaJobPriority.BACKGROUND, THUMBNAIL_TIMEOUT)
+                .thenApply(result -> !result.isTimedOut() && Files.exists(thumbnailFilePath) ? thumbnailFilename : null);
+    }
+    
+    /**
+     * 썸네일 생성 인자: 한 번의 디코딩으로 기본 썸네일(320x240 JPEG)과
+     * 너비별(Constants.File.THUMBNAIL_WIDTHS) JPEG/WebP/AVIF 변형을 함께 만든다.
+     * WebP/AVIF는 설치된 FFmpeg에 인코더가 있을 때만 생성한다.
+     */
+    private List<String> thumbnailArgs(Path videoPath, Path thumbnailFilePath) {
+        List<String> formats = getThumbnailVariantFormats();
+        int[] widths = Constants.File.THUMBNAIL_WIDTHS;
+        String baseName = FileUtils.getFileNameWithoutExtension(thumbnailFilePath.getFileName().toString());
+        
+        StringBuilder filter = new StringBuilder("[0:v]split=" + (widths.length + 1) + "[base]");
+        for (int i = 0; i < widths.length; i++) {
+            filter.append("[w").append(i).append("]");
+        }
+        filter.append(";[base]scale=320:240[thumb]");
+        for (int i = 0; i < widths.length; i++) {
+            filter.append(";[w").append(i).append("]scale='min(").append(widths[i]).append(",iw)':-2,split=")
+                    .append(formats.size());
+            for (String format : formats) {
+                filter.append("[w").append(i).append(format.substring(1)).append("]");
+            }
+        }
+        
+        List<String> args = new ArrayList<>(List.of(
+                "-y",
+                "-loglevel", "error",
+                "-ss", "00:00:01",
+                "-i", videoPath.toString(),
+                "-filter_complex", filter.toString(),
+                "-map", "[thumb]", "-frames:v", "1", thumbnailFilePath.toString()
+        ));
+        for (int i = 0; i < widths.length; i++) {
+            for (String format : formats) {
+                args.addAll(List.of("-map", "[w" + i + format.substring(1) + "]", "-frames:v", "1"));
+                switch (format) {
+                    case ".webp" -> args.addAll(List.of("-c:v", "libwebp", "-quality", "75"));
+                    case ".avif" -> args.addAll(List.of("-c:v", "libaom-av1", "-still-picture", "1",
+                            "-crf", "32", "-cpu-used", "6", "-pix_fmt", "yuv420p"));
+                    default -> args.addAll(List.of("-q:v", "4"));
+                }
+                args.add(thumbnailFilePath.resolveSibling(thumbnailVariantName(baseName, widths[i], format)).toString());
+            }
+        }
+        return args;
+    }
+    
+    // 생성 가능한 변형 포맷 (JPEG는 항상 포함)
+    public List<String> getThumbnailVariantFormats() {
+        List<String> formats = new ArrayList<>(List.of(".jpg"));
+        if (mediaJobExecutor.supportsEncoder("libwebp")) {
+            formats.add(".webp");
         }
+        if (mediaJobExecutor.supportsEncoder("libaom-av1")) {
+            formats.add(".avif");
+        }
+        return formats;
+    }
+    
+    public Path getThumbnailVariantPath(String baseName, int width, String format) {
+        return mediaPathResolver.locate(MediaPathResolver.Kind.THUMBNAIL, thumbnailVariantName(baseName, width, format));
+    }
+    
+    public Path getThumbnailPath(String filename) {
+        return mediaPathResolver.locate(MediaPathResolver.Kind.THUMBNAIL, filename);
+    }
+    
+    // 새 썸네일 위치 (변형도 같은 디렉토리에 생성됨)
+    private Path newThumbnailPath(String thumbnailFilename) throws IOException {
+        Path thumbnailFilePath = mediaPathResolver.resolve(MediaPathResolver.Kind.THUMBNAIL, thumbnailFilename);
+        Files.createDirectories(thumbnailFilePath.getParent());
+        return thumbnailFilePath;
+    }
+    
+    private String thumbnailVariantName(String baseName, int width, String format) {
+        return baseName + "_" + width + format;
     }
     
     private void createDefaultThumbnail(Path thumbnailPath) throws IOException {
@@ -234,8 +380,11 @@ public class FileService {
     
     public void deleteVideo(String filename) {
         try {
-            Path filePath = Paths.get(uploadDir, filename);
+            Path filePath = getVideoPath(filename);
             Files.deleteIfExists(filePath);
+            if (storageBackend.isRemote()) {
+                storageBackend.delete(videoKey(filename));
+            }
         } catch (IOException e) {
             throw new RuntimeException("Failed to delete video", e);
         }
@@ -243,78 +392,150 @@ public class FileService {
     
     public void deleteThumbnail(String filename) {
         try {
-            Path filePath = Paths.get(thumbnailDir, filename);
+            Path filePath = getThumbnailPath(filename);
             Files.deleteIfExists(filePath);
+            
+            // 너비/포맷별 변형도 함께 삭제
+            String baseName = FileUtils.getFileNameWithoutExtension(filename);
+            for (int width : Constants.File.THUMBNAIL_WIDTHS) {
+                for (String format : Constants.File.THUMBNAIL_VARIANT_FORMATS) {
+                    Files.deleteIfExists(getThumbnailVariantPath(baseName, width, format));
+                }
+            }
         } catch (IOException e) {
             throw new RuntimeException("Failed to delete thumbnail", e);
         }
     }
     
-    public double getVideoDuration(MultipartFile videoFile) {
-        System.out.println("[FileService] 영상 길이 확인 시작");
+    // 원본 영상 위치 (해시 분산 디렉토리, 이동 전 파일은 이전 위치)
+    public Path getVideoPath(String filename) {
+        return mediaPathResolver.locate(MediaPathResolver.Kind.VIDEO, filename);
+    }
+    
+    /**
+     * 스트림 복사로 moov 박스를 파일 앞쪽으로 옮긴 뒤 원본을 교체 (재인코딩 없음)
+     * 실패하면 원본을 그대로 두고 false 반환 (재생은 가능하므로 업로드는 계속 진행)
+     */
+    public boolean remuxFaststart(Path videoPath) {
+        String filename = videoPath.getFileName().toString();
+        // 출력 형식은 확장자로 결정되므로 원본 확장자 유지
+        Path remuxPath = videoPath.resolveSibling(FileUtils.getFileNameWithoutExtension(filename)
+                + ".faststart" + FileUtils.getFileExtension(filename));
         try {
-            // 임시로 비디오 파일 저장
-            Path tempVideoPath = Paths.get(uploadDir, UUID.randomUUID().toString() + ".mp4");
-            Files.copy(videoFile.getInputStream(), tempVideoPath);
-            
+            MediaJobResult result = mediaJobExecutor.run(MediaTool.FFMPEG, List.of(
+                    "-y", "-loglevel", "error",
+                    "-i", videoPath.toString(),
+                    "-map", "0:v", "-map", "0:a?",
+                    "-c", "copy",
+                    "-map_metadata", "0",
+                    "-movflags", "+faststart",
+                    remuxPath.toString()
+            ), MediaJobPriority.INTERACTIVE, REMUX_TIMEOUT);
+            if (!result.isSuccess() || !Files.exists(remuxPath) || Files.size(remuxPath) == 0) {
+                System.out.println("[FileService] faststart 재배치 실패: " + result.getOutput().trim());
+                Files.deleteIfExists(remuxPath);
+                return false;
+            }
             try {
-                // FFprobe 명령어 확인
-                String ffprobeCommand = "ffprobe";
-                if (System.getProperty("os.name").toLowerCase().contains("windows")) {
-                    // Windows에서 FFprobe 경로 확인
-                    String[] possiblePaths = {
-                        "C:\\ffmpeg\\bin\\ffprobe.exe",
-                        "C:\\ffmpeg-2025-07-10-git-82aeee3c19-full_build\\bin\\ffprobe.exe",
-                        "ffprobe.exe"
-                    };
-                    
-                    for (String path : possiblePaths) {
-                        try {
-                            ProcessBuilder testPb = new ProcessBuilder(path, "-version");
-                            Process testProcess = testPb.start();
-                            if (testProcess.waitFor() == 0) {
-                                ffprobeCommand = path;
-                                System.out.println("[FileService] FFprobe 경로 확인됨: " + path);
-                                break;
-                            }
-                        } catch (Exception e) {
-                            System.out.println("[FileService] FFprobe 경로 테스트 실패: " + path);
-                        }
-                    }
-                }
-                
-                // FFprobe를 사용하여 영상 길이 확인
-                ProcessBuilder pb = new ProcessBuilder(
-                    ffprobeCommand, 
-                    "-v", "quiet", 
-                    "-show_entries", "format=duration", 
-                    "-of", "csv=p=0", 
-                    tempVideoPath.toString()
-                );
-                
-                Process process = pb.start();
-                BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
-                String output = reader.readLine();
-                
-                int exitCode = process.waitFor();
-                if (exitCode == 0 && output != null && !output.trim().isEmpty()) {
-                    double duration = Double.parseDouble(output.trim());
-                    System.out.println("[FileService] 영상 길이 확인 완료: " + duration + "초");
-                    return duration;
-                } else {
-                    System.out.println("[FileService] FFprobe 실행 실패, 기본값 반환");
-                    return 0.0;
+                Files.move(remuxPath, videoPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(remuxPath, videoPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+            System.out.println("[FileService] faststart 재배치 완료: " + filename);
+            return true;
+        } catch (IOException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            System.out.println("[FileService] faststart 재배치 오류: " + e.getMessage());
+            try {
+                Files.deleteIfExists(remuxPath);
+            } catch (IOException ignored) {
+                // 다음 재배치 시 덮어씀
+            }
+            return false;
+        }
+    }
+    
+    /**
+     * 영상 길이와 메타데이터 확인 (읽을 수 없는 파일이면 null)
+     * MP4/MOV는 컨테이너 헤더를 직접 파싱하고, 그 외 컨테이너만 FFprobe를 실행한다.
+     */
+    public VideoProbeResult probeVideo(Path videoPath) {
+        System.out.println("[FileService] 영상 정보 확인 시작: " + videoPath);
+        try {
+            VideoProbeResult result = Mp4Probe.probe(videoPath);
+            if (result != null) {
+                System.out.println("[FileService] 컨테이너 헤더로 확인 완료: " + result.getDurationSeconds() + "초");
+                return result;
+            }
+        } catch (IOException | RuntimeException e) {
+            // 손상되었거나 예상과 다른 박스 구조는 FFprobe로 재시도
+            System.out.println("[FileService] 컨테이너 헤더 파싱 실패, FFprobe 사용: " + e.getMessage());
+        }
+        return probeWithFfprobe(videoPath);
+    }
+    
+    private VideoProbeResult probeWithFfprobe(Path videoPath) {
+        try {
+            MediaJobResult result = mediaJobExecutor.run(MediaTool.FFPROBE, List.of(
+                    "-v", "quiet",
+                    "-show_entries", "format=duration,bit_rate:stream=codec_type,codec_name,width,height,avg_frame_rate",
+                    "-of", "json",
+                    videoPath.toString()
+            ), MediaJobPriority.INTERACTIVE, PROBE_TIMEOUT);
+            
+            if (!result.isSuccess()) {
+                System.out.println("[FileService] FFprobe 실행 실패: " + result.getOutput().trim());
+                return null;
+            }
+            
+            JsonNode root = OBJECT_MAPPER.readTree(result.getOutput());
+            double duration = root.path("format").path("duration").asDouble(0);
+            if (duration <= 0) {
+                System.out.println("[FileService] FFprobe 결과에 영상 길이 없음");
+                return null;
+            }
+            
+            JsonNode video = null;
+            JsonNode audio = null;
+            for (JsonNode stream : root.path("streams")) {
+                String type = stream.path("codec_type").asText();
+                if (type.equals("video") && video == null) {
+                    video = stream;
+                } else if (type.equals("audio") && audio == null) {
+                    audio = stream;
                 }
-                
-            } finally {
-                // 임시 파일 삭제
-                Files.deleteIfExists(tempVideoPath);
             }
             
+            long bitrate = root.path("format").path("bit_rate").asLong(0);
+            MediaMetadata.MediaMetadataBuilder metadata = MediaMetadata.builder()
+                    .bitrate(bitrate > 0 ? bitrate : null)
+                    .audioCodec(audio != null ? audio.path("codec_name").asText(null) : null);
+            if (video != null) {
+                metadata.width(video.path("width").asInt(0) > 0 ? video.path("width").asInt() : null)
+                        .height(video.path("height").asInt(0) > 0 ? video.path("height").asInt() : null)
+                        .videoCodec(video.path("codec_name").asText(null))
+                        .frameRate(parseFrameRate(video.path("avg_frame_rate").asText("")));
+            }
+            System.out.println("[FileService] FFprobe로 확인 완료: " + duration + "초");
+            return new VideoProbeResult(duration, metadata.build(), null);
         } catch (Exception e) {
-            System.out.println("[FileService] 영상 길이 확인 오류: " + e.getMessage());
+            System.out.println("[FileService] 영상 정보 확인 오류: " + e.getMessage());
             e.printStackTrace();
-            return 0.0;
+            return null;
+        }
+    }
+    
+    // "30000/1001" 형식의 프레임레이트
+    private Double parseFrameRate(String value) {
+        int slash = value.indexOf('/');
+        try {
+            double rate = slash < 0 ? Double.parseDouble(value)
+                    : Double.parseDouble(value.substring(0, slash)) / Double.parseDouble(value.substring(slash + 1));
+            return rate > 0 && Double.isFinite(rate) ? Math.round(rate * 1000) / 1000.0 : null;
+        } catch (NumberFormatException e) {
+            return null;
         }
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
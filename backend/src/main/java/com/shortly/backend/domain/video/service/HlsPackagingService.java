@@ -0,0 +1,234 @@
+package com.shortly.backend.domain.video.service;
+
+import com.shortly.backend.domain.video.entity.Video;
+import com.shortly.backend.domain.video.event.VideoMediaUpdatedEvent;
+import com.shortly.backend.domain.video.media.MediaJobExecutor;
+import com.shortly.backend.domain.video.media.MediaJobPriority;
+import com.shortly.backend.domain.video.media.MediaJobResult;
+import com.shortly.backend.domain.video.media.MediaTool;
+import com.shortly.backend.domain.video.repository.MediaBlobRepository;
+import com.shortly.backend.domain.video.repository.VideoRepository;
+import com.shortly.backend.utils.FileUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 업로드된 원본을 HLS 적응형 비트레이트 묶음(240p/480p/720p + 마스터 플레이리스트)으로 패키징
+ * FFmpeg 한 번 실행으로 모든 화질을 인코딩하며, 원본보다 큰 화질은 만들지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class HlsPackagingService {
+    
+    public static final String MASTER_PLAYLIST = "master.m3u8";
+    
+    // HLS 파일명 검증 (경로 조작 방지)
+    private static final Pattern SAFE_NAME = Pattern.compile("[A-Za-z0-9_-]+(\\.(m3u8|ts))?");
+    
+    private static final Duration PACKAGING_TIMEOUT = Duration.ofMinutes(10);
+    private static final Duration PROBE_TIMEOUT = Duration.ofSeconds(30);
+    
+    // 화질 단계: 짧은 변 기준 해상도, 영상 비트레이트, 오디오 비트레이트
+    private static final int[][] LADDER = {
+        {240, 400, 64},
+        {480, 1000, 96},
+        {720, 2500, 128}
+    };
+    
+    private final VideoRepository videoRepository;
+    private final MediaBlobRepository mediaBlobRepository;
+    private final MediaJobExecutor mediaJobExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    private final String hlsDir = "uploads/hls/";
+    
+    public Path getHlsDirectory(String hlsKey) {
+        return Paths.get(hlsDir, hlsKey);
+    }
+    
+    // 플레이리스트/세그먼트 파일 경로 (잘못된 이름은 null)
+    public Path resolveHlsFile(String hlsKey, String rendition, String filename) {
+        if (!SAFE_NAME.matcher(hlsKey).matches() || !SAFE_NAME.matcher(filename).matches()
+                || (rendition != null && !SAFE_NAME.matcher(rendition).matches())) {
+            return null;
+        }
+        Path dir = getHlsDirectory(hlsKey);
+        return rendition != null ? dir.resolve(rendition).resolve(filename) : dir.resolve(filename);
+    }
+    
+    // contentHash가 있으면 같은 원본을 공유하는 모든 비디오에 결과 반영
+    public void packageVideo(Long videoId, String contentHash, Path videoPath) {
+        String hlsKey = FileUtils.getFileNameWithoutExtension(videoPath.getFileName().toString());
+        Path outputDir = getHlsDirectory(hlsKey);
+        System.out.println("[HLS] 패키징 시작 - ID: " + videoId + ", 출력: " + outputDir);
+        
+        try {
+            Files.createDirectories(outputDir);
+            StreamInfo streamInfo = probeStreams(videoPath);
+            
+            List<int[]> rungs = new ArrayList<>();
+            for (int[] rung : LADDER) {
+                if (rungs.isEmpty() || streamInfo.shortSide <= 0 || rung[0] <= streamInfo.shortSide) {
+                    rungs.add(rung);
+                }
+            }
+            
+            MediaJobResult result = mediaJobExecutor.run(MediaTool.FFMPEG,
+                    buildArgs(videoPath, outputDir, rungs, streamInfo.hasAudio),
+                    MediaJobPriority.DERIVED, PACKAGING_TIMEOUT);
+            if (result.isTimedOut()) {
+                throw new RuntimeException("FFmpeg timeout");
+            }
+            if (!result.isSuccess() || !Files.exists(outputDir.resolve(MASTER_PLAYLIST))) {
+                throw new RuntimeException("FFmpeg 종료 코드: " + result.getExitCode() + " " + result.getOutput().trim());
+            }
+            
+            if (contentHash != null) {
+                if (mediaBlobRepository.updateHlsKey(contentHash, hlsKey) == 0) {
+                    // 패키징 중 마지막 참조 비디오가 삭제된 경우
+                    deleteHls(hlsKey);
+                    return;
+                }
+                videoRepository.updateHlsKeyByContentHash(contentHash, hlsKey);
+            } else {
+                Video video = videoRepository.findById(videoId).orElse(null);
+                if (video == null) {
+                    // 패키징 중 삭제된 비디오
+                    deleteHls(hlsKey);
+                    return;
+                }
+                video.setHlsKey(hlsKey);
+                videoRepository.save(video);
+            }
+            // 같은 원본을 공유하는 비디오 모두의 응답 캐시 무효화
+            List<Long> updatedIds = contentHash != null ? videoRepository.findIdsByContentHash(contentHash) : List.of(videoId);
+            for (Long updatedId : updatedIds) {
+                eventPublisher.publishEvent(new VideoMediaUpdatedEvent(updatedId));
+            }
+            System.out.println("[HLS] 패키징 완료 - ID: " + videoId + ", 화질 " + rungs.size() + "단계");
+        } catch (Exception e) {
+            // 패키징 실패 시에도 원본 재생은 가능하므로 비디오 상태는 유지
+            System.out.println("[HLS] 패키징 실패 - ID: " + videoId + ", 오류: " + e.getMessage());
+            deleteHls(hlsKey);
+        }
+    }
+    
+    public void deleteHls(String hlsKey) {
+        Path dir = getHlsDirectory(hlsKey);
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted((a, b) -> b.getNameCount() - a.getNameCount())
+                    .forEach(path -> {
+                        try {
+                            Files.deleteIfExists(path);
+                        } catch (IOException e) {
+                            System.out.println("[HLS] 파일 삭제 실패: " + path);
+                        }
+                    });
+        } catch (IOException e) {
+            System.out.println("[HLS] 디렉토리 삭제 실패: " + dir);
+        }
+    }
+    
+    private List<String> buildArgs(Path videoPath, Path outputDir, List<int[]> rungs, boolean hasAudio) {
+        List<String> command = new ArrayList<>(List.of("-y", "-loglevel", "error", "-i", videoPath.toString()));
+        
+        // 영상 스트림을 화질 수만큼 나누고 짧은 변 기준으로 축소 (세로/가로 영상 모두 지원)
+        StringBuilder filter = new StringBuilder("[0:v]split=" + rungs.size());
+        for (int i = 0; i < rungs.size(); i++) {
+            filter.append("[s").append(i).append("]");
+        }
+        for (int i = 0; i < rungs.size(); i++) {
+            int height = rungs.get(i)[0];
+            filter.append(";[s").append(i).append("]scale=w='if(gt(iw,ih),-2,").append(height)
+                    .append(")':h='if(gt(iw,ih),").append(height).append(",-2)'[v").append(i).append("]");
+        }
+        command.addAll(List.of("-filter_complex", filter.toString()));
+        
+        StringBuilder streamMap = new StringBuilder();
+        for (int i = 0; i < rungs.size(); i++) {
+            int[] rung = rungs.get(i);
+            command.addAll(List.of(
+                    "-map", "[v" + i + "]",
+                    "-c:v:" + i, "libx264",
+                    "-b:v:" + i, rung[1] + "k",
+                    "-maxrate:v:" + i, (rung[1] * 107 / 100) + "k",
+                    "-bufsize:v:" + i, (rung[1] * 2) + "k"
+            ));
+            if (hasAudio) {
+                command.addAll(List.of("-map", "0:a:0", "-c:a:" + i, "aac", "-b:a:" + i, rung[2] + "k", "-ac:a:" + i, "2"));
+            }
+            streamMap.append(i == 0 ? "" : " ").append("v:").append(i);
+            if (hasAudio) {
+                streamMap.append(",a:").append(i);
+            }
+            streamMap.append(",name:").append(rung[0]).append("p");
+        }
+        
+        command.addAll(List.of(
+                "-preset", "veryfast",
+                "-profile:v", "main",
+                "-g", "48", "-keyint_min", "48", "-sc_threshold", "0",
+                "-f", "hls",
+                "-hls_time", "4",
+                "-hls_playlist_type", "vod",
+                "-hls_flags", "independent_segments",
+                "-hls_segment_filename", outputDir.resolve("%v").resolve("seg_%03d.ts").toString(),
+                "-master_pl_name", MASTER_PLAYLIST,
+                "-var_stream_map", streamMap.toString(),
+                outputDir.resolve("%v").resolve("index.m3u8").toString()
+        ));
+        return command;
+    }
+    
+    // 화질 단계 선택과 오디오 매핑을 위한 스트림 정보 확인
+    private StreamInfo probeStreams(Path videoPath) throws IOException, InterruptedException {
+        MediaJobResult result = mediaJobExecutor.run(MediaTool.FFPROBE, List.of(
+                "-v", "error",
+                "-show_entries", "stream=codec_type,width,height",
+                "-of", "default=noprint_wrappers=1",
+                videoPath.toString()
+        ), MediaJobPriority.DERIVED, PROBE_TIMEOUT);
+        
+        StreamInfo info = new StreamInfo();
+        int width = 0;
+        int height = 0;
+        for (String line : result.getOutput().split("\\R")) {
+            if (line.equals("codec_type=audio")) {
+                info.hasAudio = true;
+            } else if (line.startsWith("width=") && width == 0) {
+                width = parseIntOrZero(line.substring(6));
+            } else if (line.startsWith("height=") && height == 0) {
+                height = parseIntOrZero(line.substring(7));
+            }
+        }
+        info.shortSide = Math.min(width, height);
+        return info;
+    }
+    
+    private int parseIntOrZero(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+    
+    private static class StreamInfo {
+        private boolean hasAudio;
+        private int shortSide;
+    }
+}
@@ -0,0 +1,171 @@
+package com.shortly.backend.domain.video.service;
+
+import com.shortly.backend.domain.video.repository.VideoLikeRepository;
+import com.shortly.backend.utils.Constants;
+import com.shortly.backend.utils.LongHashSet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongPredicate;
+
+/**
+ * 사용자별 좋아요한 비디오 ID 캐시
+ * 목록 조회 시 비디오마다 좋아요 여부를 조회하지 않도록 사용자의 좋아요 ID 전체를 long 해시 집합으로 들고 있고,
+ * 좋아요/취소가 커밋되면 바로 반영한다. 좋아요가 너무 많은 사용자는 캐시하지 않고 페이지마다 IN 조회 한 번으로 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LikedVideoCache {
+    
+    private static final long TTL_MILLIS = TimeUnit.MINUTES.toMillis(Constants.Like.CACHE_TTL_MINUTES);
+    private static final int STAMP_STRIPES = 64;
+    
+    private final VideoLikeRepository videoLikeRepository;
+    
+    // 접근 순서 LinkedHashMap으로 오래 쓰지 않은 사용자부터 제거
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > Constants.Like.MAX_CACHED_USERS;
+        }
+    };
+    
+    // 적재 중에 좋아요가 바뀌면 적재 결과를 버리기 위한 변경 번호 (사용자 ID로 나눈 구간별)
+    private final AtomicLongArray stamps = new AtomicLongArray(STAMP_STRIPES);
+    
+    /**
+     * 주어진 비디오들에 대한 좋아요 여부 판별기 (캐시가 없으면 쿼리 한 번으로 준비)
+     */
+    public LongPredicate likedAmong(Long userId, Collection<Long> videoIds) {
+        if (videoIds.isEmpty()) {
+            return videoId -> false;
+        }
+        Entry entry = getEntry(userId);
+        if (entry == null) {
+            entry = load(userId);
+        }
+        if (entry != null && entry.ids != null) {
+            Entry cached = entry;
+            return videoId -> cached.contains(videoId);
+        }
+        
+        // 좋아요가 많은 사용자는 페이지에 있는 비디오만 조회
+        Set<Long> liked = new HashSet<>(videoLikeRepository.findLikedVideoIdsIn(userId, videoIds));
+        return liked::contains;
+    }
+    
+    public boolean isLiked(Long userId, Long videoId) {
+        return likedAmong(userId, List.of(videoId)).test(videoId);
+    }
+    
+    // 트랜잭션 안에서 호출되면 커밋 후에 반영 (롤백 시 캐시 유지)
+    public void recordLike(Long userId, Long videoId) {
+        afterCommit(() -> apply(userId, videoId, true));
+    }
+    
+    public void recordUnlike(Long userId, Long videoId) {
+        afterCommit(() -> apply(userId, videoId, false));
+    }
+    
+    private void apply(Long userId, Long videoId, boolean liked) {
+        stamps.incrementAndGet(stripe(userId));
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(userId);
+        }
+        if (entry == null || entry.ids == null) {
+            return;
+        }
+        synchronized (entry) {
+            if (liked) {
+                entry.ids.add(videoId);
+            } else {
+                entry.ids.remove(videoId);
+            }
+            // 상한을 넘으면 IN 조회 방식으로 전환
+            if (entry.ids.size() > Constants.Like.MAX_CACHED_LIKES_PER_USER) {
+                synchronized (entries) {
+                    entries.put(userId, new Entry(null));
+                }
+            }
+        }
+    }
+    
+    private Entry getEntry(Long userId) {
+        synchronized (entries) {
+            Entry entry = entries.get(userId);
+            if (entry != null && System.currentTimeMillis() - entry.loadedAt > TTL_MILLIS) {
+                entries.remove(userId);
+                return null;
+            }
+            return entry;
+        }
+    }
+    
+    private Entry load(Long userId) {
+        long stamp = stamps.get(stripe(userId));
+        int limit = Constants.Like.MAX_CACHED_LIKES_PER_USER;
+        List<Long> ids = videoLikeRepository.findLikedVideoIds(userId, PageRequest.of(0, limit + 1));
+        
+        Entry entry;
+        if (ids.size() > limit) {
+            entry = new Entry(null);
+        } else {
+            LongHashSet set = new LongHashSet(ids.size());
+            for (Long id : ids) {
+                set.add(id);
+            }
+            entry = new Entry(set);
+        }
+        
+        // 조회 도중 이 구간에 좋아요 변경이 있었으면 캐시하지 않고 이번 요청에만 사용
+        synchronized (entries) {
+            if (stamps.get(stripe(userId)) == stamp) {
+                entries.put(userId, entry);
+            }
+        }
+        return entry;
+    }
+    
+    private int stripe(Long userId) {
+        return (int) (userId & (STAMP_STRIPES - 1));
+    }
+    
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+    
+    private static class Entry {
+        // null이면 좋아요가 너무 많아 캐시하지 않는 사용자
+        private final LongHashSet ids;
+        private final long loadedAt = System.currentTimeMillis();
+        
+        Entry(LongHashSet ids) {
+            this.ids = ids;
+        }
+        
+        synchronized boolean contains(long videoId) {
+            return ids.contains(videoId);
+        }
+    }
+}
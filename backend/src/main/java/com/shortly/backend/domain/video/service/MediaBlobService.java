@@ -0,0 +1,136 @@
+package com.shortly.backend.domain.video.service;
+
+import com.shortly.backend.domain.video.entity.MediaBlob;
+import com.shortly.backend.domain.video.entity.MediaMetadata;
+import com.shortly.backend.domain.video.repository.MediaBlobRepository;
+import com.shortly.backend.utils.FileUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * 내용 해시 기준 원본 파일 저장소 (참조 수 관리)
+ * 같은 파일이 다시 올라오면 새 사본은 버리고 기존 파일과 처리 결과를 공유한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MediaBlobService {
+    
+    private final MediaBlobRepository mediaBlobRepository;
+    private final FileService fileService;
+    private final HlsPackagingService hlsPackagingService;
+    private final SpriteSheetService spriteSheetService;
+    
+    /**
+     * 스테이징된 업로드를 해시 기준 blob에 연결 (호출한 트랜잭션에 참여)
+     * 처음 보는 파일이면 스테이징 파일을 해시 이름으로 바꾸고, 이미 있는 파일이면 스테이징 파일을 삭제한다.
+     */
+    @Transactional
+    public MediaBlob acquire(String contentHash, String stagedFilename) {
+        String blobFilename = contentHash + FileUtils.getFileExtension(stagedFilename).toLowerCase();
+        long sizeBytes;
+        try {
+            sizeBytes = Files.size(fileService.getStagedPath(stagedFilename));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read staged upload", e);
+        }
+        
+        boolean created = mediaBlobRepository.acquire(contentHash, blobFilename, sizeBytes) == 1;
+        if (created) {
+            try {
+                fileService.renameStagedVideo(stagedFilename, blobFilename);
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to store uploaded video", e);
+            }
+            // 비디오 생성이 롤백되면 이 파일을 참조하는 blob도 없으므로 정리
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        fileService.deleteStagedVideo(blobFilename);
+                    }
+                }
+            });
+            System.out.println("[MediaBlob] 새 파일 저장 - 해시: " + contentHash + ", 크기: " + sizeBytes);
+        } else {
+            fileService.deleteStagedVideo(stagedFilename);
+            System.out.println("[MediaBlob] 중복 업로드 - 기존 파일 재사용: " + contentHash);
+        }
+        
+        return mediaBlobRepository.findById(contentHash)
+                .orElseThrow(() -> new RuntimeException("Media blob not found: " + contentHash));
+    }
+    
+    /**
+     * 처리 결과 저장 (행 잠금 후 갱신하므로 동시에 증가한 참조 수를 덮어쓰지 않는다)
+     */
+    @Transactional
+    public void markProcessed(String contentHash, String thumbnailUrl, double durationSeconds, MediaMetadata metadata) {
+        mediaBlobRepository.findByIdForUpdate(contentHash).ifPresent(blob -> {
+            blob.markProcessed(thumbnailUrl, durationSeconds, metadata);
+            mediaBlobRepository.save(blob);
+        });
+    }
+    
+    /**
+     * 비디오 하나의 참조 해제, 마지막 참조였다면 커밋 후 원본/썸네일/HLS 삭제
+     * videoThumbnailUrl: 비디오에만 따로 지정된 썸네일(공유 썸네일과 다르면 함께 삭제)
+     */
+    @Transactional
+    public void release(String contentHash, String videoThumbnailUrl) {
+        MediaBlob blob = mediaBlobRepository.findByIdForUpdate(contentHash).orElse(null);
+        
+        if (videoThumbnailUrl != null && (blob == null || !videoThumbnailUrl.equals(blob.getThumbnailUrl()))) {
+            afterCommit(() -> fileService.deleteThumbnail(videoThumbnailUrl));
+        }
+        if (blob == null) {
+            return;
+        }
+        
+        int remaining = blob.release();
+        if (remaining > 0) {
+            mediaBlobRepository.save(blob);
+            return;
+        }
+        
+        mediaBlobRepository.delete(blob);
+        afterCommit(() -> deleteBlobFiles(blob));
+        System.out.println("[MediaBlob] 마지막 참조 해제 - 파일 삭제: " + blob.getFilename());
+    }
+    
+    private void deleteBlobFiles(MediaBlob blob) {
+        // 삭제 직후 같은 파일이 다시 올라온 경우 새 blob이 같은 파일명을 사용하므로 남겨둠
+        if (mediaBlobRepository.existsById(blob.getContentHash())) {
+            return;
+        }
+        fileService.deleteVideo(blob.getFilename());
+        fileService.deleteStagedVideo(blob.getFilename());
+        if (blob.getThumbnailUrl() != null) {
+            fileService.deleteThumbnail(blob.getThumbnailUrl());
+        }
+        if (blob.getHlsKey() != null) {
+            hlsPackagingService.deleteHls(blob.getHlsKey());
+        }
+        if (blob.getSpriteKey() != null) {
+            spriteSheetService.deleteSprite(blob.getSpriteKey());
+        }
+    }
+    
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    action.run();
+                } catch (RuntimeException e) {
+                    System.out.println("[MediaBlob] 파일 정리 실패: " + e.getMessage());
+                }
+            }
+        });
+    }
+}
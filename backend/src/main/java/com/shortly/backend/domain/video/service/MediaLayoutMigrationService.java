@@ -0,0 +1,187 @@
+package com.shortly.backend.domain.video.service;
+
+import com.shortly.backend.domain.video.dto.BackfillStatusResponse;
+import com.shortly.backend.domain.video.event.MediaLayoutMigrationRequestedEvent;
+import com.shortly.backend.domain.video.storage.MediaPathResolver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 기존 평면 디렉토리(uploads/videos, uploads/thumbnails)와 다른 볼륨에 있는 파일을
+ * MediaPathResolver가 정한 위치로 옮기는 작업 (서비스 중 실행 가능)
+ * 파일을 찾을 때 새 위치 → 이전 위치 순으로 확인하므로 이동 중에도 조회가 끊기지 않는다.
+ * 이미 제자리에 있는 파일은 건너뛰므로 중단 후 다시 실행하면 남은 파일만 이동한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MediaLayoutMigrationService {
+    
+    public static final String JOB_NAME = "media-layout-migration";
+    
+    // 볼륨 간 복사 중인 임시 파일 접미사
+    private static final String PARTIAL_SUFFIX = ".migrating";
+    
+    private final MediaPathResolver mediaPathResolver;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean stopRequested = new AtomicBoolean();
+    private final AtomicLong moved = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong scanned = new AtomicLong();
+    
+    private volatile String status = "IDLE";
+    private volatile long runStartedNanos;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime updatedAt;
+    
+    public BackfillStatusResponse start() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalArgumentException("파일 위치 이동이 이미 진행 중입니다.");
+        }
+        stopRequested.set(false);
+        moved.set(0);
+        failed.set(0);
+        scanned.set(0);
+        status = "RUNNING";
+        runStartedNanos = System.nanoTime();
+        startedAt = LocalDateTime.now();
+        updatedAt = startedAt;
+        System.out.println("[MediaLayoutMigration] 시작");
+        eventPublisher.publishEvent(new MediaLayoutMigrationRequestedEvent());
+        return getStatus();
+    }
+    
+    public BackfillStatusResponse stop() {
+        if (running.get()) {
+            stopRequested.set(true);
+            System.out.println("[MediaLayoutMigration] 중지 요청");
+        }
+        return getStatus();
+    }
+    
+    public BackfillStatusResponse getStatus() {
+        boolean active = running.get();
+        double elapsedSeconds = (System.nanoTime() - runStartedNanos) / 1_000_000_000.0;
+        double rate = active && elapsedSeconds > 0 ? scanned.get() / elapsedSeconds : 0.0;
+        return BackfillStatusResponse.builder()
+                .jobName(JOB_NAME)
+                .status(status)
+                .running(active)
+                .succeeded(moved.get())
+                .failed(failed.get())
+                .ratePerSecond(Math.round(rate * 100) / 100.0)
+                .startedAt(startedAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+    
+    @Async("backfillExecutor")
+    @EventListener
+    public void onMigrationRequested(MediaLayoutMigrationRequestedEvent event) {
+        String finalStatus = "STOPPED";
+        try {
+            boolean completed = true;
+            for (MediaPathResolver.Kind kind : MediaPathResolver.Kind.values()) {
+                for (Path root : mediaPathResolver.roots(kind)) {
+                    if (!migrateRoot(kind, root)) {
+                        completed = false;
+                        break;
+                    }
+                }
+                if (!completed) {
+                    break;
+                }
+            }
+            if (completed) {
+                finalStatus = "COMPLETED";
+            }
+        } catch (Exception e) {
+            System.out.println("[MediaLayoutMigration] 작업 오류: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            status = finalStatus;
+            updatedAt = LocalDateTime.now();
+            running.set(false);
+            System.out.println("[MediaLayoutMigration] 종료 - 상태: " + finalStatus + ", 이동: " + moved.get()
+                    + ", 실패: " + failed.get() + ", 확인: " + scanned.get());
+        }
+    }
+    
+    // 중지 요청 시 false
+    private boolean migrateRoot(MediaPathResolver.Kind kind, Path root) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return true;
+        }
+        try (Stream<Path> files = Files.walk(root)) {
+            Iterator<Path> iterator = files.filter(Files::isRegularFile).iterator();
+            while (iterator.hasNext()) {
+                if (stopRequested.get()) {
+                    return false;
+                }
+                Path source = iterator.next().toAbsolutePath().normalize();
+                String filename = source.getFileName().toString();
+                if (filename.endsWith(PARTIAL_SUFFIX)) {
+                    // 이전 실행에서 중단된 복사본
+                    Files.deleteIfExists(source);
+                    continue;
+                }
+                scanned.incrementAndGet();
+                Path target = mediaPathResolver.resolve(kind, filename).toAbsolutePath().normalize();
+                if (source.equals(target)) {
+                    continue;
+                }
+                try {
+                    moveFile(source, target);
+                    moved.incrementAndGet();
+                } catch (IOException e) {
+                    failed.incrementAndGet();
+                    System.out.println("[MediaLayoutMigration] 이동 실패: " + source + ", 오류: " + e.getMessage());
+                }
+                updatedAt = LocalDateTime.now();
+            }
+        }
+        return true;
+    }
+    
+    private void moveFile(Path source, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        if (Files.exists(target)) {
+            // 이미 새 위치에 같은 파일이 있으면 이전 위치의 사본만 정리
+            if (Files.size(target) != Files.size(source)) {
+                throw new IOException("different file already exists at " + target);
+            }
+            Files.delete(source);
+            return;
+        }
+        try {
+            // 같은 볼륨이면 rename 한 번으로 끝남
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            // 다른 볼륨: 임시 이름으로 복사를 끝낸 뒤 rename 해야 읽는 쪽이 복사 중인 파일을 보지 않음
+            Path partial = target.resolveSibling(target.getFileName() + PARTIAL_SUFFIX);
+            Files.copy(source, partial, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+            if (!Files.exists(source)) {
+                // 복사 중 삭제된 파일은 되살리지 않음
+                Files.deleteIfExists(partial);
+                return;
+            }
+            Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE);
+            Files.delete(source);
+        }
+    }
+}
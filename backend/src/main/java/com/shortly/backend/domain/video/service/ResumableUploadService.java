@@ -0,0 +1,350 @@
+package com.shortly.backend.domain.video.service;
+
+import com.shortly.backend.domain.user.entity.User;
+import com.shortly.backend.domain.user.service.UserService;
+import com.shortly.backend.domain.video.dto.UploadSessionRequest;
+import com.shortly.backend.domain.video.dto.UploadSessionResponse;
+import com.shortly.backend.domain.video.dto.VideoResponse;
+import com.shortly.backend.utils.Constants;
+import com.shortly.backend.utils.FileUtils;
+import com.shortly.backend.utils.ValidationUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세션 기반 이어 올리기 업로드 (tus 방식: 세션 생성 → 오프셋 단위 청크 전송 → 오프셋 조회 → 완료)
+ * 청크는 FileChannel 위치 지정 쓰기로 기록하므로 여러 청크를 동시에 전송할 수 있다.
+ * 받는 중인 파일은 스테이징 디렉토리에 .part로 두고, 완료되면 스테이징 파일로 바꿔 일반 업로드와 같은 비디오 생성/처리 과정을 탄다.
+ * 세션은 메모리에만 있으므로 재시작 전에 받던 .part 파일은 시작 시 정리한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ResumableUploadService {
+    
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    
+    private final FileService fileService;
+    private final VideoService videoService;
+    private final UserService userService;
+    
+    private final Map<String, UploadSession> sessions = new ConcurrentHashMap<>();
+    
+    public UploadSessionResponse createSession(UploadSessionRequest request) {
+        User currentUser = userService.getCurrentUserEntity();
+        
+        ValidationUtils.ValidationResult fileValidation =
+                ValidationUtils.validateFile(request.getFilename(), request.getTotalSize());
+        if (!fileValidation.isValid()) {
+            throw new IllegalArgumentException(fileValidation.getErrorMessage());
+        }
+        videoService.validateVideoMetadata(request.getTitle(), request.getDescription(), request.getTags());
+        
+        long chunkSize = request.getChunkSize() != null ? request.getChunkSize() : Constants.File.DEFAULT_CHUNK_SIZE;
+        if (chunkSize < Constants.File.MIN_CHUNK_SIZE || chunkSize > Constants.File.MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("청크 크기는 " + Constants.File.MIN_CHUNK_SIZE + " ~ "
+                    + Constants.File.MAX_CHUNK_SIZE + " 바이트여야 합니다.");
+        }
+        
+        String filename = FileUtils.generateUniqueFileName(request.getFilename());
+        UploadSession session = new UploadSession(UUID.randomUUID().toString(), currentUser.getId(),
+                request.getTitle(), request.getDescription(), request.getTags(),
+                filename, request.getTotalSize(), chunkSize);
+        
+        // 전체 크기만큼 미리 할당해 두고 청크는 해당 위치에 바로 기록
+        try (RandomAccessFile file = new RandomAccessFile(fileService.getPartPath(filename).toFile(), "rw")) {
+            file.setLength(request.getTotalSize());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to create upload session", e);
+        }
+        
+        sessions.put(session.id, session);
+        System.out.println("[ResumableUpload] 세션 생성 - ID: " + session.id + ", 크기: " + session.totalSize
+                + ", 청크: " + session.totalChunks + "개");
+        return toResponse(session);
+    }
+    
+    public UploadSessionResponse writeChunk(String uploadId, long offset, InputStream body) {
+        UploadSession session = getOwnedSession(uploadId);
+        
+        if (offset < 0 || offset >= session.totalSize || offset % session.chunkSize != 0) {
+            throw new IllegalArgumentException("잘못된 업로드 오프셋입니다: " + offset);
+        }
+        int chunkIndex = (int) (offset / session.chunkSize);
+        long expectedLength = Math.min(session.chunkSize, session.totalSize - offset);
+        
+        Path partPath = fileService.getPartPath(session.filename);
+        // 순서대로 도착한 청크는 기록하면서 바로 해시 계산 (완료 시 파일을 다시 읽지 않도록)
+        MessageDigest digest = session.beginInlineHash(offset);
+        long written = 0;
+        try (FileChannel channel = FileChannel.open(partPath, StandardOpenOption.WRITE)) {
+            byte[] buffer = new byte[WRITE_BUFFER_SIZE];
+            int read;
+            while (written < expectedLength
+                    && (read = body.read(buffer, 0, (int) Math.min(buffer.length, expectedLength - written))) != -1) {
+                if (digest != null) {
+                    digest.update(buffer, 0, read);
+                }
+                ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, read);
+                while (byteBuffer.hasRemaining()) {
+                    written += channel.write(byteBuffer, offset + written);
+                }
+            }
+        } catch (IOException e) {
+            session.finishInlineHash(digest, -1);
+            throw new RuntimeException("Failed to write upload chunk", e);
+        }
+        
+        // 끊긴 청크는 수신 처리하지 않음 (같은 오프셋으로 다시 전송)
+        if (written != expectedLength) {
+            session.finishInlineHash(digest, -1);
+            throw new IllegalArgumentException("청크 크기가 올바르지 않습니다. 예상: " + expectedLength + ", 수신: " + written);
+        }
+        
+        // 해시 반영과 수신 표시를 함께 해야 완료 요청이 해시가 덜 반영된 상태를 보지 않음
+        session.finishChunk(chunkIndex, digest, written);
+        return toResponse(session);
+    }
+    
+    public UploadSessionResponse getStatus(String uploadId) {
+        return toResponse(getOwnedSession(uploadId));
+    }
+    
+    public VideoResponse complete(String uploadId) {
+        UploadSession session = getOwnedSession(uploadId);
+        if (!session.isComplete()) {
+            throw new IllegalArgumentException("아직 전송되지 않은 청크가 있습니다.");
+        }
+        // 동시에 완료 요청이 들어와도 한 번만 비디오 생성
+        if (!sessions.remove(uploadId, session)) {
+            throw new IllegalArgumentException("이미 완료된 업로드입니다.");
+        }
+        
+        System.out.println("[ResumableUpload] 업로드 완료 - ID: " + uploadId);
+        User currentUser = userService.getCurrentUserEntity();
+        try {
+            String contentHash = session.contentHash(fileService.getPartPath(session.filename));
+            fileService.promotePartFile(session.filename);
+            return videoService.createStagedVideo(currentUser, session.title, session.description, session.tags,
+                    session.filename, contentHash);
+        } catch (RuntimeException e) {
+            // 비디오 생성 실패 시 세션을 되돌려 다시 완료 요청할 수 있게 함
+            sessions.put(uploadId, session);
+            throw e;
+        }
+    }
+    
+    public void abort(String uploadId) {
+        UploadSession session = getOwnedSession(uploadId);
+        if (sessions.remove(uploadId, session)) {
+            deleteFiles(session);
+            System.out.println("[ResumableUpload] 업로드 취소 - ID: " + uploadId);
+        }
+    }
+    
+    // 만료된 세션과 미완성 파일 정리 (세션 없이 남은 .part 파일 포함)
+    @Scheduled(fixedDelay = 10 * 60 * 1000)
+    public void cleanupExpiredSessions() {
+        LocalDateTime now = LocalDateTime.now();
+        sessions.values().removeIf(session -> {
+            if (session.expiresAt().isBefore(now)) {
+                deleteFiles(session);
+                System.out.println("[ResumableUpload] 만료된 세션 정리 - ID: " + session.id);
+                return true;
+            }
+            return false;
+        });
+        sweepOrphanedParts(Instant.now().minus(Duration.ofHours(Constants.File.UPLOAD_SESSION_TTL_HOURS)));
+    }
+    
+    // 이 프로세스가 시작되기 전에 기록된 .part 파일은 이어 받을 세션이 없음
+    @EventListener(ApplicationReadyEvent.class)
+    public void cleanupOrphanedPartsOnStartup() {
+        sweepOrphanedParts(Instant.ofEpochMilli(ManagementFactory.getRuntimeMXBean().getStartTime()));
+    }
+    
+    private void sweepOrphanedParts(Instant modifiedBefore) {
+        Set<String> active = new HashSet<>();
+        for (UploadSession session : sessions.values()) {
+            active.add(session.filename);
+        }
+        int deleted = 0;
+        for (String filename : fileService.findPartFilesModifiedBefore(modifiedBefore)) {
+            if (!active.contains(filename)) {
+                fileService.deletePartFile(filename);
+                deleted++;
+            }
+        }
+        if (deleted > 0) {
+            System.out.println("[ResumableUpload] 세션 없는 미완성 파일 정리 - 개수: " + deleted);
+        }
+    }
+    
+    // 완료 요청이 비디오 생성에 실패한 세션은 이미 스테이징 파일로 바뀌어 있을 수 있음
+    private void deleteFiles(UploadSession session) {
+        fileService.deletePartFile(session.filename);
+        fileService.deleteStagedVideo(session.filename);
+    }
+    
+    private UploadSession getOwnedSession(String uploadId) {
+        UploadSession session = sessions.get(uploadId);
+        if (session == null) {
+            throw new IllegalArgumentException("업로드 세션을 찾을 수 없습니다.");
+        }
+        User currentUser = userService.getCurrentUserEntity();
+        if (!session.ownerId.equals(currentUser.getId())) {
+            throw new RuntimeException("You can only access your own uploads");
+        }
+        return session;
+    }
+    
+    private UploadSessionResponse toResponse(UploadSession session) {
+        synchronized (session) {
+            return UploadSessionResponse.builder()
+                    .uploadId(session.id)
+                    .totalSize(session.totalSize)
+                    .chunkSize(session.chunkSize)
+                    .totalChunks(session.totalChunks)
+                    .offset(session.contiguousOffset())
+                    .missingChunks(session.missingChunks())
+                    .expiresAt(session.expiresAt())
+                    .build();
+        }
+    }
+    
+    private static class UploadSession {
+        private final String id;
+        private final Long ownerId;
+        private final String title;
+        private final String description;
+        private final List<String> tags;
+        private final String filename;
+        private final long totalSize;
+        private final long chunkSize;
+        private final int totalChunks;
+        private final BitSet receivedChunks;
+        private LocalDateTime lastActivityAt;
+        
+        // 앞에서부터 이어진 구간의 해시 (hashedOffset까지 반영, 순서가 어긋나 재계산이 필요하면 null)
+        private MessageDigest digest = FileUtils.newSha256();
+        private long hashedOffset;
+        private boolean hashing;
+        private String contentHash;
+        
+        UploadSession(String id, Long ownerId, String title, String description, List<String> tags,
+                      String filename, long totalSize, long chunkSize) {
+            this.id = id;
+            this.ownerId = ownerId;
+            this.title = title;
+            this.description = description;
+            this.tags = tags;
+            this.filename = filename;
+            this.totalSize = totalSize;
+            this.chunkSize = chunkSize;
+            this.totalChunks = (int) ((totalSize + chunkSize - 1) / chunkSize);
+            this.receivedChunks = new BitSet(totalChunks);
+            this.lastActivityAt = LocalDateTime.now();
+        }
+        
+        synchronized void finishChunk(int chunkIndex, MessageDigest used, long written) {
+            finishInlineHash(used, written);
+            receivedChunks.set(chunkIndex);
+            lastActivityAt = LocalDateTime.now();
+        }
+        
+        // 이 청크가 해시된 구간 바로 뒤에 이어지면 기록과 함께 해시할 digest 반환
+        synchronized MessageDigest beginInlineHash(long offset) {
+            if (offset < hashedOffset) {
+                // 이미 해시한 구간을 다시 쓰는 경우 완료 시 전체 재계산
+                digest = null;
+            }
+            if (digest == null || hashing || offset != hashedOffset) {
+                return null;
+            }
+            hashing = true;
+            return digest;
+        }
+        
+        // written < 0: 기록 실패 (digest에 일부만 반영되었으므로 완료 시 전체 재계산)
+        synchronized void finishInlineHash(MessageDigest used, long written) {
+            if (used == null) {
+                return;
+            }
+            hashing = false;
+            if (used != digest) {
+                return;
+            }
+            if (written < 0) {
+                digest = null;
+            } else {
+                hashedOffset += written;
+            }
+        }
+        
+        // 아직 해시하지 못한 뒷부분만 파일에서 읽어 최종 해시 계산
+        // 같은 청크를 다시 보내는 중이면 digest가 쓰이고 있으므로 거절 (전송이 끝난 뒤 다시 완료 요청)
+        synchronized String contentHash(Path partPath) {
+            if (hashing) {
+                throw new IllegalArgumentException("전송 중인 청크가 있습니다. 잠시 후 다시 시도해주세요.");
+            }
+            if (contentHash == null) {
+                try {
+                    if (digest == null) {
+                        contentHash = FileUtils.sha256Hex(partPath);
+                    } else {
+                        FileUtils.updateDigest(digest, partPath, hashedOffset);
+                        contentHash = FileUtils.toHex(digest.digest());
+                    }
+                } catch (IOException e) {
+                    throw new RuntimeException("Failed to hash upload", e);
+                } finally {
+                    digest = null;
+                }
+            }
+            return contentHash;
+        }
+        
+        synchronized boolean isComplete() {
+            return receivedChunks.cardinality() == totalChunks;
+        }
+        
+        synchronized long contiguousOffset() {
+            return Math.min(receivedChunks.nextClearBit(0) * chunkSize, totalSize);
+        }
+        
+        synchronized List<Integer> missingChunks() {
+            List<Integer> missing = new ArrayList<>();
+            for (int i = receivedChunks.nextClearBit(0); i < totalChunks; i = receivedChunks.nextClearBit(i + 1)) {
+                missing.add(i);
+            }
+            return missing;
+        }
+        
+        synchronized LocalDateTime expiresAt() {
+            return lastActivityAt.plusHours(Constants.File.UPLOAD_SESSION_TTL_HOURS);
+        }
+    }
+}
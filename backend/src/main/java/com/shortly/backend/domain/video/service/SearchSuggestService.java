@@ -0,0 +1,210 @@
+package com.shortly.backend.domain.video.service;
+
+import com.shortly.backend.domain.video.dto.SuggestionResponse;
+import com.shortly.backend.domain.video.entity.VideoStatus;
+import com.shortly.backend.domain.video.event.VideoPublishedEvent;
+import com.shortly.backend.domain.video.repository.TagRepository;
+import com.shortly.backend.domain.video.repository.VideoRepository;
+import com.shortly.backend.domain.video.search.SuggestTrie;
+import com.shortly.backend.utils.Constants;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 검색창/태그 입력 자동완성
+ * 태그는 붙은 비디오 수, 제목 단어는 등장한 비디오 수를 가중치로 트라이에 담아 두고 접두어로 조회한다.
+ * 비디오가 처리 완료(READY)되면 그 비디오의 태그와 제목 단어만 바로 더하고, 삭제 등으로 줄어든 값은 주기적인 재구성에서 반영한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SearchSuggestService {
+    
+    private final TagRepository tagRepository;
+    private final VideoRepository videoRepository;
+    
+    private volatile SuggestTrie trie = new SuggestTrie();
+    
+    // 재구성 중에 들어온 업로드는 새 트라이에도 다시 더함 (재구성 조회에 이미 포함된 경우 1만큼 크게 잡힐 수 있음)
+    private final Object rebuildLock = new Object();
+    private boolean rebuilding;
+    private final List<Upload> pendingUploads = new ArrayList<>();
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+    
+    @Scheduled(cron = "${search.suggest.rebuild-cron:0 0 * * * *}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+    
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            long startedAt = System.currentTimeMillis();
+            synchronized (this) {
+                rebuilding = true;
+                pendingUploads.clear();
+            }
+            SuggestTrie next = new SuggestTrie();
+            try {
+                for (TagRepository.TagUsage usage : tagRepository.findUsageCounts(VideoStatus.READY)) {
+                    next.add(SuggestTrie.Kind.TAG, usage.getName(), usage.getUsageCount());
+                }
+                for (Map.Entry<String, Long> term : countTitleTerms().entrySet()) {
+                    next.add(SuggestTrie.Kind.TITLE, term.getKey(), term.getValue());
+                }
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    rebuilding = false;
+                    pendingUploads.clear();
+                }
+                System.out.println("[SearchSuggest] 자동완성 재구성 실패: " + e.getMessage());
+                return;
+            }
+            synchronized (this) {
+                for (Upload upload : pendingUploads) {
+                    addUpload(next, upload);
+                }
+                pendingUploads.clear();
+                rebuilding = false;
+                trie = next;
+            }
+            System.out.println("[SearchSuggest] 자동완성 재구성 완료 - 항목: " + next.size() + ", 소요: "
+                    + (System.currentTimeMillis() - startedAt) + "ms");
+        }
+    }
+    
+    // 제목 단어별 등장 비디오 수 (많이 쓰인 순으로 상한까지, 표시용 글자는 처음 나온 형태)
+    private Map<String, Long> countTitleTerms() {
+        Map<String, Long> counts = new HashMap<>();
+        Map<String, String> displays = new HashMap<>();
+        long afterId = 0;
+        while (true) {
+            List<VideoRepository.VideoTitle> batch = videoRepository.findTitlesAfterId(
+                    VideoStatus.READY, afterId, PageRequest.of(0, Constants.Search.INDEX_LOAD_BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+            for (VideoRepository.VideoTitle video : batch) {
+                for (String term : titleTerms(video.getTitle())) {
+                    String key = term.toLowerCase(Locale.ROOT);
+                    counts.merge(key, 1L, Long::sum);
+                    displays.putIfAbsent(key, term);
+                }
+            }
+            afterId = batch.get(batch.size() - 1).getId();
+        }
+        
+        List<Map.Entry<String, Long>> ranked = new ArrayList<>(counts.entrySet());
+        ranked.sort((a, b) -> Long.compare(b.getValue(), a.getValue()));
+        Map<String, Long> terms = new HashMap<>();
+        for (int i = 0; i < ranked.size() && i < Constants.Search.MAX_SUGGEST_TITLE_TERMS; i++) {
+            Map.Entry<String, Long> entry = ranked.get(i);
+            terms.put(displays.get(entry.getKey()), entry.getValue());
+        }
+        return terms;
+    }
+    
+    // 제목에서 글자/숫자가 두 글자 이상 이어진 단어 (한 제목 안의 중복은 한 번만)
+    private static Set<String> titleTerms(String title) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (title == null) {
+            return terms;
+        }
+        int start = -1;
+        for (int i = 0; i <= title.length(); ) {
+            int codePoint = i < title.length() ? title.codePointAt(i) : -1;
+            if (codePoint >= 0 && Character.isLetterOrDigit(codePoint)) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                String term = title.substring(start, i);
+                if (term.codePointCount(0, term.length()) >= 2) {
+                    terms.add(term);
+                }
+                start = -1;
+            }
+            i += codePoint >= 0 ? Character.charCount(codePoint) : 1;
+        }
+        return terms;
+    }
+    
+    // 처리 완료(READY)된 비디오의 제목 단어와 태그 반영 (처리에 실패한 업로드는 자동완성에 남지 않음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVideoPublished(VideoPublishedEvent event) {
+        try {
+            for (VideoRepository.VideoSearchSource source : videoRepository.findSearchSourcesByIdIn(List.of(event.getVideoId()))) {
+                if (source.getStatus() != VideoStatus.READY) {
+                    continue;
+                }
+                List<String> tagNames = new ArrayList<>();
+                for (VideoRepository.VideoTagName tag : videoRepository.findTagNamesByVideoIds(List.of(source.getId()))) {
+                    tagNames.add(tag.getName());
+                }
+                apply(new Upload(source.getTitle(), tagNames));
+            }
+        } catch (RuntimeException e) {
+            // 빠진 값은 다음 재구성에서 반영
+            System.out.println("[SearchSuggest] 자동완성 반영 실패 - ID: " + event.getVideoId() + ", 오류: " + e.getMessage());
+        }
+    }
+    
+    private void apply(Upload upload) {
+        SuggestTrie current;
+        synchronized (this) {
+            if (rebuilding) {
+                pendingUploads.add(upload);
+            }
+            current = trie;
+        }
+        addUpload(current, upload);
+    }
+    
+    private static void addUpload(SuggestTrie target, Upload upload) {
+        for (String tagName : upload.tagNames) {
+            target.add(SuggestTrie.Kind.TAG, tagName, 1);
+        }
+        for (String term : titleTerms(upload.title)) {
+            target.add(SuggestTrie.Kind.TITLE, term, 1);
+        }
+    }
+    
+    public List<SuggestionResponse> suggest(String prefix, int limit) {
+        int size = Math.max(1, Math.min(limit, Constants.Search.MAX_SUGGESTIONS));
+        List<SuggestionResponse> suggestions = new ArrayList<>();
+        for (SuggestTrie.Match match : trie.suggest(prefix, size)) {
+            suggestions.add(SuggestionResponse.builder()
+                    .text(match.getText())
+                    .type(match.getKind().name())
+                    .weight(match.getWeight())
+                    .build());
+        }
+        return suggestions;
+    }
+    
+    private static class Upload {
+        private final String title;
+        private final List<String> tagNames;
+        
+        Upload(String title, List<String> tagNames) {
+            this.title = title;
+            this.tagNames = tagNames;
+        }
+    }
+}
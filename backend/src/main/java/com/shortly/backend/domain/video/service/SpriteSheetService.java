@@ -0,0 +1,161 @@
+package com.shortly.backend.domain.video.service;
+
+import com.shortly.backend.domain.video.entity.Video;
+import com.shortly.backend.domain.video.event.VideoMediaUpdatedEvent;
+import com.shortly.backend.domain.video.media.MediaJobExecutor;
+import com.shortly.backend.domain.video.media.MediaJobPriority;
+import com.shortly.backend.domain.video.media.MediaJobResult;
+import com.shortly.backend.domain.video.media.MediaTool;
+import com.shortly.backend.domain.video.repository.MediaBlobRepository;
+import com.shortly.backend.domain.video.repository.VideoRepository;
+import com.shortly.backend.utils.FileUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 탐색 미리보기용 스프라이트 시트 생성
+ * FFmpeg 한 번 실행으로 일정 간격의 프레임을 타일 한 장(JPEG)으로 만들고,
+ * 각 구간이 타일의 어느 위치인지 WebVTT(#xywh)로 기록한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SpriteSheetService {
+    
+    // 쇼츠(9:16) 기준 타일 크기, 가로 영상은 레터박스 처리
+    public static final int TILE_WIDTH = 108;
+    public static final int TILE_HEIGHT = 192;
+    
+    private static final int COLUMNS = 10;
+    // 긴 영상도 시트 크기가 커지지 않도록 프레임 수 상한 (간격을 늘림)
+    private static final int MAX_FRAMES = 100;
+    private static final Duration SPRITE_TIMEOUT = Duration.ofMinutes(3);
+    
+    private static final Pattern SAFE_NAME = Pattern.compile("[A-Za-z0-9_-]+\\.(jpg|vtt)");
+    
+    private final VideoRepository videoRepository;
+    private final MediaBlobRepository mediaBlobRepository;
+    private final MediaJobExecutor mediaJobExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    private final String spriteDir = "uploads/sprites/";
+    
+    public Path resolveSpriteFile(String filename) {
+        if (!SAFE_NAME.matcher(filename).matches()) {
+            return null;
+        }
+        return Paths.get(spriteDir, filename);
+    }
+    
+    // 스프라이트 생성 후 비디오(같은 원본을 공유하는 비디오 포함)에 반영
+    public void generateSprite(Long videoId, String contentHash, Path videoPath, double durationSeconds) {
+        String spriteKey = FileUtils.getFileNameWithoutExtension(videoPath.getFileName().toString());
+        try {
+            if (!createSprite(videoPath, spriteKey, durationSeconds)) {
+                deleteSprite(spriteKey);
+                return;
+            }
+            
+            if (contentHash != null) {
+                if (mediaBlobRepository.updateSpriteKey(contentHash, spriteKey) == 0) {
+                    // 생성 중 마지막 참조 비디오가 삭제된 경우
+                    deleteSprite(spriteKey);
+                    return;
+                }
+                videoRepository.updateSpriteKeyByContentHash(contentHash, spriteKey);
+            } else {
+                Video video = videoRepository.findById(videoId).orElse(null);
+                if (video == null) {
+                    deleteSprite(spriteKey);
+                    return;
+                }
+                video.setSpriteKey(spriteKey);
+                videoRepository.save(video);
+            }
+            // 같은 원본을 공유하는 비디오 모두의 응답 캐시 무효화
+            List<Long> updatedIds = contentHash != null ? videoRepository.findIdsByContentHash(contentHash) : List.of(videoId);
+            for (Long updatedId : updatedIds) {
+                eventPublisher.publishEvent(new VideoMediaUpdatedEvent(updatedId));
+            }
+            System.out.println("[Sprite] 스프라이트 생성 완료 - ID: " + videoId);
+        } catch (Exception e) {
+            // 미리보기는 부가 기능이므로 실패해도 비디오 상태는 유지
+            System.out.println("[Sprite] 스프라이트 생성 실패 - ID: " + videoId + ", 오류: " + e.getMessage());
+            deleteSprite(spriteKey);
+        }
+    }
+    
+    public void deleteSprite(String spriteKey) {
+        try {
+            Files.deleteIfExists(Paths.get(spriteDir, spriteKey + ".jpg"));
+            Files.deleteIfExists(Paths.get(spriteDir, spriteKey + ".vtt"));
+        } catch (IOException e) {
+            System.out.println("[Sprite] 파일 삭제 실패: " + spriteKey);
+        }
+    }
+    
+    private boolean createSprite(Path videoPath, String spriteKey, double durationSeconds)
+            throws IOException, InterruptedException {
+        Files.createDirectories(Paths.get(spriteDir));
+        
+        int interval = Math.max(1, (int) Math.ceil(durationSeconds / MAX_FRAMES));
+        int frames = Math.max(1, (int) Math.ceil(durationSeconds / interval));
+        int columns = Math.min(COLUMNS, frames);
+        int rows = (frames + columns - 1) / columns;
+        
+        Path imagePath = Paths.get(spriteDir, spriteKey + ".jpg");
+        String filter = "fps=1/" + interval
+                + ",scale=" + TILE_WIDTH + ":" + TILE_HEIGHT + ":force_original_aspect_ratio=decrease"
+                + ",pad=" + TILE_WIDTH + ":" + TILE_HEIGHT + ":(ow-iw)/2:(oh-ih)/2"
+                + ",tile=" + columns + "x" + rows;
+        
+        MediaJobResult result = mediaJobExecutor.run(MediaTool.FFMPEG, List.of(
+                "-y", "-loglevel", "error",
+                "-i", videoPath.toString(),
+                "-vf", filter,
+                "-frames:v", "1",
+                "-q:v", "5",
+                imagePath.toString()
+        ), MediaJobPriority.DERIVED, SPRITE_TIMEOUT);
+        if (!result.isSuccess() || !Files.exists(imagePath)) {
+            System.out.println("[Sprite] FFmpeg 실패: " + result.getOutput().trim());
+            return false;
+        }
+        
+        Files.writeString(Paths.get(spriteDir, spriteKey + ".vtt"),
+                buildVtt(spriteKey + ".jpg", frames, columns, interval, durationSeconds), StandardCharsets.UTF_8);
+        return true;
+    }
+    
+    // 구간별 타일 위치 (이미지 경로는 VTT 파일 기준 상대 경로)
+    private String buildVtt(String imageName, int frames, int columns, int interval, double durationSeconds) {
+        StringBuilder vtt = new StringBuilder("WEBVTT\n");
+        for (int i = 0; i < frames; i++) {
+            double start = (double) i * interval;
+            double end = Math.min(durationSeconds, start + interval);
+            int x = (i % columns) * TILE_WIDTH;
+            int y = (i / columns) * TILE_HEIGHT;
+            vtt.append('\n')
+                    .append(formatTimestamp(start)).append(" --> ").append(formatTimestamp(end)).append('\n')
+                    .append(imageName).append("#xywh=")
+                    .append(x).append(',').append(y).append(',').append(TILE_WIDTH).append(',').append(TILE_HEIGHT)
+                    .append('\n');
+        }
+        return vtt.toString();
+    }
+    
+    private String formatTimestamp(double seconds) {
+        long millis = Math.round(seconds * 1000);
+        return String.format("%02d:%02d:%02d.%03d",
+                millis / 3_600_000, (millis / 60_000) % 60, (millis / 1000) % 60, millis % 1000);
+    }
+}
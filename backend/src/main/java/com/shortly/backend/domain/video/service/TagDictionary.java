@@ -0,0 +1,158 @@
+package com.shortly.backend.domain.video.service;
+
+import com.shortly.backend.domain.video.dto.TagRef;
+import com.shortly.backend.domain.video.repository.TagStore;
+import com.shortly.backend.utils.Constants;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 태그 이름 -> 태그 사전
+ * 시작 시 전체 태그를 정규화한 이름으로 읽어 두고, 업로드/즐겨찾기에서 태그마다 조회/생성하던 왕복을 없앤다.
+ * 사전에 없는 태그는 한 번의 INSERT ... ON DUPLICATE KEY로 만든 뒤 사전에 더한다 (다른 서버가 만든 태그도 이때 채워짐).
+ * 정규화(NFC, 공백 정리, 앞의 '#' 제거, 소문자)로 같아지는 기존 태그가 여러 개면 먼저 만들어진 태그로 모은다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TagDictionary {
+    
+    private final TagStore tagStore;
+    
+    // 정규화한 이름 -> 태그
+    private final ConcurrentHashMap<String, TagRef> tagsByKey = new ConcurrentHashMap<>();
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long startedAt = System.currentTimeMillis();
+        long afterId = 0;
+        int loaded = 0;
+        try {
+            while (tagsByKey.size() < Constants.Tag.MAX_CACHED_TAGS) {
+                List<TagRef> batch = tagStore.findTagsAfterId(afterId, Constants.Tag.LOAD_BATCH_SIZE);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                for (TagRef tag : batch) {
+                    // ID 순으로 읽으므로 정규화 후 겹치는 태그는 먼저 만들어진 쪽이 남음
+                    remember(canonicalize(tag.getName()), tag);
+                }
+                loaded += batch.size();
+                afterId = batch.get(batch.size() - 1).getId();
+            }
+        } catch (RuntimeException e) {
+            // 사전 없이도 조회 시 채워지므로 시작은 계속
+            System.out.println("[TagDictionary] 태그 사전 적재 실패: " + e.getMessage());
+            return;
+        }
+        System.out.println("[TagDictionary] 태그 사전 적재 완료 - 태그: " + loaded + ", 사전: " + tagsByKey.size()
+                + ", 소요: " + (System.currentTimeMillis() - startedAt) + "ms");
+    }
+    
+    /**
+     * 태그 이름 정규화 (NFC, 앞뒤 공백 제거와 연속 공백 하나로, 앞의 '#' 제거, 소문자)
+     */
+    public static String canonicalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(name, Normalizer.Form.NFC).strip();
+        int start = 0;
+        while (start < normalized.length() && normalized.charAt(start) == '#') {
+            start++;
+        }
+        StringBuilder builder = new StringBuilder(normalized.length() - start);
+        boolean pendingSpace = false;
+        for (int i = start; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+                pendingSpace = builder.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                builder.append(' ');
+                pendingSpace = false;
+            }
+            builder.append(c);
+        }
+        return builder.toString().toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * 이름 목록을 태그로 변환 (입력 순서 유지, 같은 태그는 한 번만, 없는 태그는 한 번에 생성)
+     */
+    public List<TagRef> resolve(Collection<String> names) {
+        Map<String, TagRef> byKey = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String name : names) {
+            String key = canonicalize(name);
+            if (key.isEmpty() || byKey.containsKey(key)) {
+                continue;
+            }
+            TagRef tag = tagsByKey.get(key);
+            byKey.put(key, tag);
+            if (tag == null) {
+                missing.add(key);
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<String, TagRef> created = tagStore.insertAndResolve(missing);
+            for (String key : missing) {
+                TagRef tag = created.get(key);
+                if (tag == null) {
+                    throw new IllegalStateException("태그를 생성하지 못했습니다: " + key);
+                }
+                byKey.put(key, tag);
+                remember(key, tag);
+            }
+        }
+        
+        // 서로 다른 이름이 DB 콜레이션에서 같은 태그로 모인 경우 한 번만
+        List<TagRef> tags = new ArrayList<>(byKey.size());
+        Set<Long> seen = new HashSet<>();
+        for (TagRef tag : byKey.values()) {
+            if (seen.add(tag.getId())) {
+                tags.add(tag);
+            }
+        }
+        return tags;
+    }
+    
+    /**
+     * 기존 태그 조회 (생성하지 않음, 사전에 없으면 DB에서 찾아 채움)
+     */
+    public Optional<TagRef> find(String name) {
+        String key = canonicalize(name);
+        if (key.isEmpty()) {
+            return Optional.empty();
+        }
+        TagRef tag = tagsByKey.get(key);
+        if (tag == null) {
+            tag = tagStore.findByName(key);
+            if (tag != null) {
+                remember(key, tag);
+            }
+        }
+        return Optional.ofNullable(tag);
+    }
+    
+    // 상한을 넘으면 더 담지 않음 (사전에 없는 태그는 매번 DB에서 찾음)
+    private void remember(String key, TagRef tag) {
+        if (!key.isEmpty() && tagsByKey.size() < Constants.Tag.MAX_CACHED_TAGS) {
+            tagsByKey.putIfAbsent(key, tag);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.shortly.backend.domain.video.service;
+
+import com.shortly.backend.domain.video.dto.BackfillStatusResponse;
+import com.shortly.backend.domain.video.entity.BackfillCheckpoint;
+import com.shortly.backend.domain.video.entity.Video;
+import com.shortly.backend.domain.video.entity.VideoStatus;
+import com.shortly.backend.domain.video.event.ThumbnailBackfillRequestedEvent;
+import com.shortly.backend.domain.video.event.VideoMediaUpdatedEvent;
+import com.shortly.backend.domain.video.repository.BackfillCheckpointRepository;
+import com.shortly.backend.domain.video.repository.VideoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 썸네일 일괄 생성 작업
+ * ID 범위로 배치를 나눠 조회하고, 배치 전체를 미디어 작업 대기열(BACKGROUND)에 넣어 병렬로 생성한다.
+ * 배치마다 썸네일 반영과 진행 위치(checkpoint)를 한 트랜잭션으로 커밋하므로 중단되어도 이어서 처리할 수 있다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ThumbnailBackfillService {
+    
+    public static final String JOB_NAME = "thumbnail-backfill";
+    
+    @Value("${video.backfill.batch-size:20}")
+    private int batchSize;
+    
+    private final VideoRepository videoRepository;
+    private final BackfillCheckpointRepository checkpointRepository;
+    private final FileService fileService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean stopRequested = new AtomicBoolean();
+    
+    // 현재 실행 구간의 처리 속도 계산용
+    private volatile long runStartedNanos;
+    private volatile long processedInRun;
+    private volatile long remaining;
+    
+    /**
+     * 작업 시작 (이전 진행 위치가 있으면 이어서, restart 시 처음부터)
+     */
+    public BackfillStatusResponse start(boolean restart) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalArgumentException("썸네일 일괄 생성이 이미 진행 중입니다.");
+        }
+        try {
+            BackfillCheckpoint checkpoint = checkpointRepository.findById(JOB_NAME).orElse(null);
+            if (checkpoint == null) {
+                checkpoint = BackfillCheckpoint.builder().jobName(JOB_NAME).build();
+                checkpoint.restart();
+            } else if (restart || BackfillCheckpoint.STATUS_COMPLETED.equals(checkpoint.getStatus())) {
+                checkpoint.restart();
+            } else {
+                checkpoint.resume();
+            }
+            checkpointRepository.save(checkpoint);
+            
+            stopRequested.set(false);
+            runStartedNanos = System.nanoTime();
+            processedInRun = 0;
+            remaining = videoRepository.countThumbnailMissingAfter(checkpoint.getLastProcessedId(), VideoStatus.READY);
+            System.out.println("[ThumbnailBackfill] 시작 - 마지막 처리 ID: " + checkpoint.getLastProcessedId()
+                    + ", 남은 비디오: " + remaining);
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        eventPublisher.publishEvent(new ThumbnailBackfillRequestedEvent(JOB_NAME));
+        return getStatus();
+    }
+    
+    public BackfillStatusResponse stop() {
+        if (running.get()) {
+            stopRequested.set(true);
+            System.out.println("[ThumbnailBackfill] 중지 요청");
+        }
+        return getStatus();
+    }
+    
+    public BackfillStatusResponse getStatus() {
+        BackfillCheckpoint checkpoint = checkpointRepository.findById(JOB_NAME).orElse(null);
+        boolean active = running.get();
+        double elapsedSeconds = (System.nanoTime() - runStartedNanos) / 1_000_000_000.0;
+        double rate = active && elapsedSeconds > 0 ? processedInRun / elapsedSeconds : 0.0;
+        Long eta = rate > 0 ? (long) Math.ceil(remaining / rate) : null;
+        
+        return BackfillStatusResponse.builder()
+                .jobName(JOB_NAME)
+                .status(checkpoint != null ? checkpoint.getStatus() : "IDLE")
+                .running(active)
+                .lastProcessedId(checkpoint != null ? checkpoint.getLastProcessedId() : null)
+                .succeeded(checkpoint != null ? checkpoint.getSucceededCount() : 0)
+                .failed(checkpoint != null ? checkpoint.getFailedCount() : 0)
+                .remaining(active ? remaining : 0)
+                .ratePerSecond(Math.round(rate * 100) / 100.0)
+                .etaSeconds(eta)
+                .startedAt(checkpoint != null ? checkpoint.getStartedAt() : null)
+                .updatedAt(checkpoint != null ? checkpoint.getUpdatedAt() : null)
+                .build();
+    }
+    
+    // 서버가 작업 도중 종료된 경우 마지막 커밋 위치부터 재개
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedBackfill() {
+        checkpointRepository.findById(JOB_NAME)
+                .filter(checkpoint -> BackfillCheckpoint.STATUS_RUNNING.equals(checkpoint.getStatus()))
+                .ifPresent(checkpoint -> start(false));
+    }
+    
+    @Async("backfillExecutor")
+    @EventListener
+    public void onBackfillRequested(ThumbnailBackfillRequestedEvent event) {
+        String finalStatus = BackfillCheckpoint.STATUS_STOPPED;
+        try {
+            long lastId = checkpointRepository.findById(JOB_NAME)
+                    .map(BackfillCheckpoint::getLastProcessedId)
+                    .orElse(0L);
+            
+            while (!stopRequested.get()) {
+                List<Video> batch = videoRepository.findThumbnailMissingAfter(
+                        lastId, VideoStatus.READY, PageRequest.of(0, batchSize));
+                if (batch.isEmpty()) {
+                    finalStatus = BackfillCheckpoint.STATUS_COMPLETED;
+                    break;
+                }
+                lastId = processBatch(batch);
+                processedInRun += batch.size();
+                remaining = Math.max(0, remaining - batch.size());
+            }
+        } catch (Exception e) {
+            System.out.println("[ThumbnailBackfill] 작업 오류: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            String status = finalStatus;
+            checkpointRepository.findById(JOB_NAME).ifPresent(checkpoint -> {
+                checkpoint.markStatus(status);
+                checkpointRepository.save(checkpoint);
+            });
+            running.set(false);
+            System.out.println("[ThumbnailBackfill] 종료 - 상태: " + status + ", 이번 실행 처리: " + processedInRun);
+        }
+    }
+    
+    // 배치 하나를 병렬 생성 후 결과와 진행 위치를 함께 커밋, 마지막 처리 ID 반환
+    private Long processBatch(List<Video> batch) {
+        Map<Long, CompletableFuture<String>> jobs = new LinkedHashMap<>();
+        for (Video video : batch) {
+            Path videoPath;
+            try {
+                videoPath = fileService.fetchVideo(video.getUrl());
+            } catch (IOException e) {
+                System.out.println("[ThumbnailBackfill] 원본 수신 실패 - ID: " + video.getId() + ", 오류: " + e.getMessage());
+                videoPath = fileService.getVideoPath(video.getUrl());
+            }
+            jobs.put(video.getId(), Files.exists(videoPath)
+                    ? fileService.generateThumbnailAsync(videoPath)
+                    : CompletableFuture.completedFuture(null));
+        }
+        
+        Map<Long, String> generated = new LinkedHashMap<>();
+        int failed = 0;
+        for (Map.Entry<Long, CompletableFuture<String>> job : jobs.entrySet()) {
+            String thumbnailFilename = null;
+            try {
+                thumbnailFilename = job.getValue().join();
+            } catch (RuntimeException e) {
+                System.out.println("[ThumbnailBackfill] 썸네일 생성 실패 - ID: " + job.getKey() + ", 오류: " + e.getMessage());
+            }
+            if (thumbnailFilename != null) {
+                generated.put(job.getKey(), thumbnailFilename);
+            } else {
+                failed++;
+            }
+        }
+        
+        // 원격 저장소에서 내려받은 작업 사본 정리
+        batch.forEach(video -> fileService.releaseWorkingCopy(video.getUrl()));
+        
+        Long batchLastId = batch.get(batch.size() - 1).getId();
+        int failedCount = failed;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                generated.forEach((videoId, thumbnailFilename) -> {
+                    // 처리 중 삭제된 비디오의 썸네일은 바로 정리
+                    if (videoRepository.updateThumbnailUrl(videoId, thumbnailFilename) == 0) {
+                        fileService.deleteThumbnail(thumbnailFilename);
+                    } else {
+                        eventPublisher.publishEvent(new VideoMediaUpdatedEvent(videoId));
+                    }
+                });
+                BackfillCheckpoint checkpoint = checkpointRepository.findById(JOB_NAME)
+                        .orElseThrow(() -> new RuntimeException("Backfill checkpoint not found"));
+                checkpoint.advance(batchLastId, generated.size(), failedCount);
+                checkpointRepository.save(checkpoint);
+            });
+        } catch (RuntimeException e) {
+            // 커밋 실패 시 이번 배치에서 만든 파일은 고아가 되므로 삭제 (재개 시 다시 생성)
+            generated.values().forEach(fileService::deleteThumbnail);
+            throw e;
+        }
+        
+        System.out.println("[ThumbnailBackfill] 배치 커밋 - 마지막 ID: " + batchLastId
+                + ", 성공: " + generated.size() + ", 실패: " + failedCount);
+        return batchLastId;
+    }
+}
@@ -0,0 +1,97 @@
+package com.shortly.backend.domain.video.service;
+
+import com.shortly.backend.utils.Constants;
+import com.shortly.backend.utils.FileUtils;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 썸네일 변형 선택 (Accept 헤더로 포맷, w/dpr 파라미터로 너비 결정)
+ * 변형이 없는 기존 썸네일은 원본 JPEG를 그대로 반환한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ThumbnailService {
+    
+    public static final int DEFAULT_WIDTH = 320;
+    private static final double MAX_DPR = 3.0;
+    
+    private static final Pattern SAFE_NAME = Pattern.compile("[A-Za-z0-9-]+\\.(jpg|jpeg|png)");
+    
+    private static final Map<String, MediaType> FORMAT_TYPES = Map.of(
+            ".avif", MediaType.parseMediaType("image/avif"),
+            ".webp", MediaType.parseMediaType("image/webp"),
+            ".jpg", MediaType.IMAGE_JPEG
+    );
+    
+    private final FileService fileService;
+    
+    /**
+     * 요청에 맞는 썸네일 파일 선택 (잘못된 파일명은 null)
+     */
+    public ThumbnailFile resolve(String filename, String accept, Integer width, Double dpr) {
+        if (!SAFE_NAME.matcher(filename).matches()) {
+            return null;
+        }
+        String baseName = FileUtils.getFileNameWithoutExtension(filename);
+        
+        // 화면에 그려질 실제 픽셀 너비보다 크거나 같은 가장 작은 변형 선택
+        double density = dpr != null ? Math.max(1.0, Math.min(MAX_DPR, dpr)) : 1.0;
+        int targetWidth = (int) Math.ceil((width != null && width > 0 ? width : DEFAULT_WIDTH) * density);
+        int[] widths = Constants.File.THUMBNAIL_WIDTHS;
+        int selectedWidth = widths[widths.length - 1];
+        for (int candidate : widths) {
+            if (candidate >= targetWidth) {
+                selectedWidth = candidate;
+                break;
+            }
+        }
+        
+        for (String format : Constants.File.THUMBNAIL_VARIANT_FORMATS) {
+            MediaType type = FORMAT_TYPES.get(format);
+            if (!format.equals(".jpg") && !accepts(accept, type)) {
+                continue;
+            }
+            Path variant = fileService.getThumbnailVariantPath(baseName, selectedWidth, format);
+            if (Files.isReadable(variant)) {
+                return new ThumbnailFile(variant, type);
+            }
+        }
+        
+        Path original = fileService.getThumbnailPath(filename);
+        MediaType originalType = filename.endsWith(".png") ? MediaType.IMAGE_PNG : MediaType.IMAGE_JPEG;
+        return new ThumbnailFile(original, originalType);
+    }
+    
+    // Accept에 해당 타입이 명시되어 있고 q=0이 아닌지 확인 (image/* 만으로는 AVIF/WebP 지원을 알 수 없음)
+    private boolean accepts(String accept, MediaType type) {
+        if (accept == null) {
+            return false;
+        }
+        try {
+            for (MediaType accepted : MediaType.parseMediaTypes(accept)) {
+                if (accepted.getType().equals(type.getType()) && accepted.getSubtype().equals(type.getSubtype())) {
+                    return accepted.getQualityValue() > 0;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return false;
+    }
+    
+    @Getter
+    @AllArgsConstructor
+    public static class ThumbnailFile {
+        private final Path path;
+        private final MediaType mediaType;
+    }
+}
@@ -0,0 +1,230 @@
+package com.shortly.backend.domain.video.service;
+
+import com.shortly.backend.domain.analytics.entity.VideoEventType;
+import com.shortly.backend.domain.analytics.service.VideoEvent;
+import com.shortly.backend.domain.video.dto.TrendingTagResponse;
+import com.shortly.backend.domain.video.entity.TrendingSnapshot;
+import com.shortly.backend.domain.video.event.VideoPublishedEvent;
+import com.shortly.backend.domain.video.repository.TrendingSnapshotRepository;
+import com.shortly.backend.domain.video.repository.VideoRepository;
+import com.shortly.backend.domain.video.trending.TopKHeap;
+import com.shortly.backend.domain.video.trending.TrendingCounter;
+import com.shortly.backend.utils.Constants;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인기 태그 집계
+ * 태그 사용(공개된 업로드)과 비디오 반응(재생, 완료 시청, 좋아요, 댓글)을 점수로 모아 반감기마다 절반으로 줄어드는 메모리 집계에 더한다.
+ * 반응은 비디오 단위로 모았다가 주기적으로 태그를 한 번에 조회해 그 비디오의 태그마다 더하므로 요청 경로에서 DB 조회가 없다.
+ * 집계는 주기적으로 스냅샷을 저장해 재시작 후 이어서 쌓으며, 서버가 여러 대면 각 서버가 받은 이벤트만 반영한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TrendingTagService {
+    
+    private static final String SNAPSHOT_NAME = "tags";
+    
+    private final VideoRepository videoRepository;
+    private final TrendingSnapshotRepository trendingSnapshotRepository;
+    
+    @Value("${trending.half-life-minutes:360}")
+    private long halfLifeMinutes;
+    
+    private volatile TrendingCounter counter;
+    // 스냅샷 복원 전에는 반영하지 않고 쌓아 둠 (빈 집계로 저장된 스냅샷을 덮어쓰지 않도록)
+    private volatile boolean restored;
+    
+    // 다음 반영 때 더할 점수 (merge/remove 모두 키 단위 원자 연산이라 반영 중 들어온 값도 유실되지 않음)
+    private final ConcurrentHashMap<String, Double> pendingTags = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Double> pendingVideos = new ConcurrentHashMap<>();
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void restore() {
+        long now = System.currentTimeMillis();
+        try {
+            trendingSnapshotRepository.findById(SNAPSHOT_NAME).ifPresent(snapshot -> {
+                try {
+                    counter = TrendingCounter.fromSnapshot(snapshot.getPayload(), halfLifeMillis(),
+                            Constants.Trending.SKETCH_DEPTH, Constants.Trending.SKETCH_WIDTH,
+                            Constants.Trending.TRACKED_TAGS);
+                    System.out.println("[TrendingTag] 스냅샷 복원 - 저장 시각: " + snapshot.getSavedAt());
+                } catch (IOException e) {
+                    System.out.println("[TrendingTag] 스냅샷 복원 실패, 새로 집계: " + e.getMessage());
+                }
+            });
+        } catch (RuntimeException e) {
+            System.out.println("[TrendingTag] 스냅샷 조회 실패, 새로 집계: " + e.getMessage());
+        }
+        if (counter == null) {
+            counter = newCounter(now);
+        }
+        restored = true;
+    }
+    
+    // 처리 완료(READY)되어 공개된 비디오의 태그 반영 (처리에 실패한 업로드는 집계하지 않음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVideoPublished(VideoPublishedEvent event) {
+        try {
+            for (VideoRepository.VideoTagName tag : videoRepository.findTagNamesByVideoIds(List.of(event.getVideoId()))) {
+                pendingTags.merge(tag.getName(), Constants.Trending.TAG_USE_WEIGHT, Double::sum);
+            }
+        } catch (RuntimeException e) {
+            System.out.println("[TrendingTag] 태그 사용 반영 실패 - ID: " + event.getVideoId() + ", 오류: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 비디오 반응 반영 (트랜잭션 안이면 커밋 후, 비디오의 태그마다 다음 반영 주기에 더함)
+     */
+    public void recordEngagement(Long videoId, double weight) {
+        if (videoId == null || weight <= 0) {
+            return;
+        }
+        afterCommit(() -> pendingVideos.merge(videoId, weight, Double::sum));
+    }
+    
+    // 저장된 시청 이벤트 중 재생 시작/완료만 반영 (노출과 시청 시간 보고는 제외)
+    public void recordVideoEvents(List<VideoEvent> events) {
+        for (VideoEvent event : events) {
+            if (event.getType() == VideoEventType.PLAY_START) {
+                pendingVideos.merge(event.getVideoId(), Constants.Trending.PLAY_START_WEIGHT, Double::sum);
+            } else if (event.getType() == VideoEventType.COMPLETION) {
+                pendingVideos.merge(event.getVideoId(), Constants.Trending.COMPLETION_WEIGHT, Double::sum);
+            }
+        }
+    }
+    
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+    
+    @Scheduled(fixedDelayString = "${trending.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        if (!restored) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Map<String, Double> tagScores = new HashMap<>();
+        for (String name : pendingTags.keySet()) {
+            Double score = pendingTags.remove(name);
+            if (score != null) {
+                tagScores.merge(name, score, Double::sum);
+            }
+        }
+        
+        Map<Long, Double> videoScores = new HashMap<>();
+        for (Long videoId : pendingVideos.keySet()) {
+            Double score = pendingVideos.remove(videoId);
+            if (score != null) {
+                videoScores.put(videoId, score);
+            }
+        }
+        List<Long> videoIds = new ArrayList<>(videoScores.keySet());
+        for (int from = 0; from < videoIds.size(); from += Constants.Trending.TAG_LOOKUP_BATCH_SIZE) {
+            List<Long> chunk = videoIds.subList(from,
+                    Math.min(from + Constants.Trending.TAG_LOOKUP_BATCH_SIZE, videoIds.size()));
+            try {
+                for (VideoRepository.VideoTagName tag : videoRepository.findTagNamesByVideoIds(chunk)) {
+                    tagScores.merge(tag.getName(), videoScores.get(tag.getVideoId()), Double::sum);
+                }
+            } catch (RuntimeException e) {
+                // 다음 주기에 다시 시도하도록 되돌려 둠
+                System.out.println("[TrendingTag] 비디오 태그 조회 실패 (" + chunk.size() + "건): " + e.getMessage());
+                for (Long videoId : chunk) {
+                    pendingVideos.merge(videoId, videoScores.get(videoId), Double::sum);
+                }
+            }
+        }
+        
+        for (Map.Entry<String, Double> entry : tagScores.entrySet()) {
+            counter.add(entry.getKey(), entry.getValue(), now);
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${trending.snapshot-interval-ms:300000}",
+            initialDelayString = "${trending.snapshot-interval-ms:300000}")
+    public void scheduledSnapshot() {
+        saveSnapshot();
+    }
+    
+    @PreDestroy
+    public void saveOnShutdown() {
+        flush();
+        saveSnapshot();
+    }
+    
+    public synchronized void saveSnapshot() {
+        if (!restored) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        try {
+            byte[] payload = counter.toSnapshot(startedAt);
+            trendingSnapshotRepository.save(TrendingSnapshot.builder()
+                    .name(SNAPSHOT_NAME)
+                    .payload(payload)
+                    .savedAt(LocalDateTime.now())
+                    .build());
+            System.out.println("[TrendingTag] 스냅샷 저장 - 크기: " + payload.length + "B, 소요: "
+                    + (System.currentTimeMillis() - startedAt) + "ms");
+        } catch (RuntimeException e) {
+            System.out.println("[TrendingTag] 스냅샷 저장 실패: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 현재 인기 태그 (메모리 집계에서 바로 응답)
+     */
+    public List<TrendingTagResponse> getTrendingTags(int limit) {
+        int size = Math.max(1, Math.min(limit, Constants.Trending.MAX_TRENDING_TAGS));
+        TrendingCounter current = counter;
+        List<TrendingTagResponse> tags = new ArrayList<>();
+        if (current == null) {
+            return tags;
+        }
+        for (TopKHeap.Entry entry : current.top(size, Constants.Trending.MIN_SCORE, System.currentTimeMillis())) {
+            tags.add(TrendingTagResponse.builder()
+                    .name(entry.getKey())
+                    .score(Math.round(entry.getScore() * 100) / 100.0)
+                    .build());
+        }
+        return tags;
+    }
+    
+    private TrendingCounter newCounter(long now) {
+        return new TrendingCounter(halfLifeMillis(), Constants.Trending.SKETCH_DEPTH,
+                Constants.Trending.SKETCH_WIDTH, Constants.Trending.TRACKED_TAGS, now);
+    }
+    
+    private long halfLifeMillis() {
+        return TimeUnit.MINUTES.toMillis(Math.max(1, halfLifeMinutes));
+    }
+}
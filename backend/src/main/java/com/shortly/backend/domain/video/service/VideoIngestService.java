@@ -0,0 +1,258 @@
+package com.shortly.backend.domain.video.service;
+
+import com.shortly.backend.domain.video.entity.MediaBlob;
+import com.shortly.backend.domain.video.entity.Video;
+import com.shortly.backend.domain.video.entity.VideoStatus;
+import com.shortly.backend.domain.video.event.DerivedMediaRequestedEvent;
+import com.shortly.backend.domain.video.event.VideoPublishedEvent;
+import com.shortly.backend.domain.video.event.VideoUploadedEvent;
+import com.shortly.backend.domain.video.media.VideoProbeResult;
+import com.shortly.backend.domain.video.repository.MediaBlobRepository;
+import com.shortly.backend.domain.video.repository.VideoRepository;
+import com.shortly.backend.utils.Constants;
+import com.shortly.backend.utils.FileUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 업로드된 비디오의 백그라운드 처리 (영상 정보 확인, 길이 검증, faststart 재배치, 썸네일 생성)
+ * 같은 파일이 이미 처리되어 있으면 FFprobe/FFmpeg 없이 결과를 재사용한다.
+ * 요청 스레드와 DB 커넥션을 점유하지 않도록 별도 워커 풀에서 실행된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class VideoIngestService {
+    
+    // 내용 해시별 처리 중 표시 (같은 파일을 올린 비디오만 앞선 처리가 끝나길 기다리고, 다른 파일은 서로 막지 않음)
+    private static final ConcurrentHashMap<String, CompletableFuture<Void>> IN_FLIGHT = new ConcurrentHashMap<>();
+    
+    private final VideoRepository videoRepository;
+    private final MediaBlobRepository mediaBlobRepository;
+    private final MediaBlobService mediaBlobService;
+    private final FileService fileService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    
+    // 업로드 트랜잭션이 커밋된 뒤에만 처리 시작 (롤백된 업로드는 처리하지 않음)
+    // 트랜잭션 밖에서 발행된 이벤트(재처리)는 바로 처리
+    @Async("videoIngestExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVideoUploaded(VideoUploadedEvent event) {
+        process(event.getVideoId());
+    }
+    
+    // 서버 재시작 등으로 처리되지 못한 비디오 재처리
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumePendingVideos() {
+        List<Video> pending = videoRepository.findByStatus(VideoStatus.PROCESSING);
+        if (!pending.isEmpty()) {
+            System.out.println("[VideoIngest] 미처리 비디오 재처리 - 개수: " + pending.size());
+        }
+        for (Video video : pending) {
+            eventPublisher.publishEvent(new VideoUploadedEvent(video.getId()));
+        }
+    }
+    
+    public void process(Long videoId) {
+        Video video = videoRepository.findById(videoId).orElse(null);
+        if (video == null || video.getStatus() != VideoStatus.PROCESSING) {
+            return;
+        }
+        
+        String contentHash = video.getContentHash();
+        if (contentHash == null && fileService.isRemoteStorage()) {
+            contentHash = attachDirectUpload(video);
+            if (video.getStatus() == VideoStatus.FAILED) {
+                return;
+            }
+        }
+        if (contentHash == null) {
+            if (processFile(video, null)) {
+                publishProcessed(video, null);
+            }
+            return;
+        }
+        
+        // 같은 파일을 올린 비디오들은 한 번만 처리하고 결과를 공유
+        CompletableFuture<Void> mine = new CompletableFuture<>();
+        CompletableFuture<Void> running;
+        while ((running = IN_FLIGHT.putIfAbsent(contentHash, mine)) != null) {
+            // 같은 파일을 처리 중인 워커가 끝나면 그 결과를 재사용
+            running.join();
+        }
+        boolean processed;
+        try {
+            MediaBlob blob = mediaBlobRepository.findById(contentHash).orElse(null);
+            if (blob != null && blob.isProcessed()) {
+                System.out.println("[VideoIngest] 처리 결과 재사용 - ID: " + videoId + ", 해시: " + contentHash);
+                video.markReady(blob.getThumbnailUrl(), blob.getDurationSeconds(), blob.getMetadata());
+                video.setHlsKey(blob.getHlsKey());
+                video.setSpriteKey(blob.getSpriteKey());
+                videoRepository.save(video);
+                publish(video);
+                return;
+            }
+            processed = processFile(video, contentHash);
+        } finally {
+            IN_FLIGHT.remove(contentHash, mine);
+            mine.complete(null);
+        }
+        // 공개와 파생 미디어 요청은 표시를 지운 뒤에 해 기다리던 중복 업로드가 바로 결과를 재사용
+        if (processed) {
+            publishProcessed(video, contentHash);
+        }
+    }
+    
+    // 저장소에 직접 올라온 파일을 스테이징으로 내려받아 해시 계산 후 원본(blob)에 연결 (직접 업로드가 아니면 null)
+    private String attachDirectUpload(Video video) {
+        String filename = video.getUrl();
+        try {
+            if (!fileService.fetchDirectUpload(filename)) {
+                return null;
+            }
+            String contentHash = FileUtils.sha256Hex(fileService.getStagedPath(filename));
+            transactionTemplate.executeWithoutResult(status -> {
+                MediaBlob blob = mediaBlobService.acquire(contentHash, filename);
+                video.attachContent(contentHash, blob.getFilename());
+                videoRepository.save(video);
+            });
+            fileService.deleteDirectUpload(filename);
+            System.out.println("[VideoIngest] 직접 업로드 수신 - ID: " + video.getId() + ", 해시: " + contentHash);
+            return contentHash;
+        } catch (IOException | RuntimeException e) {
+            System.out.println("[VideoIngest] 직접 업로드 수신 실패 - ID: " + video.getId() + ", 오류: " + e.getMessage());
+            fileService.deleteStagedVideo(filename);
+            fail(video, Constants.ErrorMessages.UPLOAD_FAILED);
+            return null;
+        }
+    }
+    
+    // 처리 후 READY로 저장했으면 true (실패 처리했으면 false)
+    private boolean processFile(Video video, String contentHash) {
+        Long videoId = video.getId();
+        System.out.println("[VideoIngest] 처리 시작 - ID: " + videoId);
+        String filename = video.getUrl();
+        // 스테이징된 업로드 파일 하나로 길이 확인/썸네일 생성 후 최종 위치로 이동
+        // (재시작 시 이미 이동된 경우에는 최종 위치의 파일을 사용)
+        Path stagedPath = fileService.getStagedPath(filename);
+        boolean staged = Files.exists(stagedPath);
+        Path videoPath = staged ? stagedPath : fileService.getVideoPath(filename);
+        try {
+            if (!staged) {
+                // 원격 저장소에만 있는 원본은 작업 사본으로 내려받음
+                videoPath = fileService.fetchVideo(filename);
+            }
+            if (!Files.exists(videoPath)) {
+                discardFile(video, staged);
+                fail(video, "업로드된 파일을 찾을 수 없습니다.");
+                return false;
+            }
+            
+            // 영상 정보 확인 후 길이 검증
+            VideoProbeResult probe = fileService.probeVideo(videoPath);
+            if (probe == null) {
+                discardFile(video, staged);
+                fail(video, "영상 정보를 읽을 수 없는 파일입니다.");
+                return false;
+            }
+            double durationInSeconds = probe.getDurationSeconds();
+            System.out.println("[VideoIngest] 영상 길이: " + durationInSeconds + "초");
+            
+            if (durationInSeconds < Constants.Validation.MIN_VIDEO_DURATION_SECONDS
+                    || durationInSeconds > Constants.Validation.MAX_VIDEO_DURATION_SECONDS) {
+                discardFile(video, staged);
+                fail(video, "영상 길이는 5초 이상 3분 이하여야 합니다. 현재 길이: " + durationInSeconds + "초");
+                return false;
+            }
+            
+            // moov가 파일 끝에 있으면 재인코딩 없이 앞으로 옮겨 다운로드 시작 직후 재생되도록 함
+            // (공개 전 스테이징 파일에만 적용, 프로브가 faststart 여부를 모르는 컨테이너는 생략)
+            if (staged && Boolean.FALSE.equals(probe.getFaststart())) {
+                fileService.remuxFaststart(videoPath);
+            }
+            
+            // 썸네일 생성
+            String thumbnailUrl = fileService.generateThumbnailFromFile(videoPath);
+            
+            if (staged) {
+                fileService.publishStagedVideo(filename);
+            }
+            
+            if (contentHash != null) {
+                mediaBlobService.markProcessed(contentHash, thumbnailUrl, durationInSeconds, probe.getMetadata());
+            }
+            video.markReady(thumbnailUrl, durationInSeconds, probe.getMetadata());
+            videoRepository.save(video);
+            System.out.println("[VideoIngest] 처리 완료 - ID: " + videoId);
+            return true;
+        } catch (Exception e) {
+            System.out.println("[VideoIngest] 처리 실패 - ID: " + videoId + ", 오류: " + e.getMessage());
+            e.printStackTrace();
+            discardFile(video, staged);
+            fail(video, Constants.ErrorMessages.UPLOAD_FAILED);
+            return false;
+        }
+    }
+    
+    // 여기부터는 이미 READY로 저장된 비디오이므로 후속 작업이 실패해도 실패 처리하지 않음
+    private void publishProcessed(Video video, String contentHash) {
+        publish(video);
+        
+        // 원본으로 먼저 공개한 뒤 탐색 미리보기 스프라이트와 HLS 화질 묶음 생성 (완료되면 응답에 노출)
+        // 수집 워커를 오래 잡지 않도록 전용 풀로 넘김 (작업 사본은 그쪽에서 정리)
+        requestDerivedMedia(video.getId(), contentHash, video.getUrl(), video.getDurationSeconds());
+    }
+    
+    // 파생 미디어는 부가 기능이므로 대기열이 가득 차 거절되면 원본 재생만 제공 (DerivedMediaService 주기 점검에서 다시 요청)
+    private void requestDerivedMedia(Long videoId, String contentHash, String filename, double durationSeconds) {
+        try {
+            eventPublisher.publishEvent(new DerivedMediaRequestedEvent(videoId, contentHash, filename, durationSeconds));
+        } catch (TaskRejectedException e) {
+            System.out.println("[VideoIngest] 파생 미디어 대기열 가득 참 - ID: " + videoId);
+            fileService.releaseWorkingCopy(filename);
+        }
+    }
+    
+    // 구독자 타임라인 전달, 검색 색인/응답 캐시 반영 (리스너 오류는 기록만 하고 공개 상태는 유지)
+    private void publish(Video video) {
+        try {
+            eventPublisher.publishEvent(new VideoPublishedEvent(video.getId(), video.getOwner().getId(), video.getCreatedAt()));
+        } catch (RuntimeException e) {
+            System.out.println("[VideoIngest] 공개 이벤트 처리 실패 - ID: " + video.getId() + ", 오류: " + e.getMessage());
+        }
+    }
+    
+    // 실패한 비디오의 원본 정리 (공유 파일은 마지막 참조일 때만 삭제)
+    private void discardFile(Video video, boolean staged) {
+        if (video.getContentHash() != null) {
+            fileService.releaseWorkingCopy(video.getUrl());
+            mediaBlobService.release(video.getContentHash(), null);
+            video.detachContent();
+        } else if (staged) {
+            fileService.deleteStagedVideo(video.getUrl());
+        } else {
+            fileService.deleteVideo(video.getUrl());
+        }
+    }
+    
+    private void fail(Video video, String reason) {
+        System.out.println("[VideoIngest] 처리 실패 - ID: " + video.getId() + ", 사유: " + reason);
+        video.markFailed(reason);
+        videoRepository.save(video);
+    }
+}
@@ -0,0 +1,246 @@
+package com.shortly.backend.domain.video.service;
+
+import com.shortly.backend.domain.video.dto.SearchHighlight;
+import com.shortly.backend.domain.video.dto.VideoResponse;
+import com.shortly.backend.domain.video.dto.VideoSearchResponse;
+import com.shortly.backend.domain.video.entity.VideoStatus;
+import com.shortly.backend.domain.video.event.VideoDeletedEvent;
+import com.shortly.backend.domain.video.event.VideoPublishedEvent;
+import com.shortly.backend.domain.video.repository.VideoRepository;
+import com.shortly.backend.domain.video.search.NgramTokenizer;
+import com.shortly.backend.domain.video.search.VideoSearchIndex;
+import com.shortly.backend.utils.Constants;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 비디오 검색 (메모리 역색인)
+ * 시작 시 READY 비디오 전체를 색인하고, 이후에는 업로드 완료/삭제 이벤트로 바로 반영하면서
+ * 다른 서버에서 바뀐 비디오는 updatedAt 기준 시각 이후 변경분을 주기적으로 읽어 따라잡는다.
+ * 색인이 준비되기 전에는 기존 DB 검색(LIKE)으로 응답한다.
+ * 다른 서버에서 삭제된 비디오는 색인에 남을 수 있지만 응답 조립 시 조회되지 않아 결과에서 빠진다.
+ */
+@Service
+@RequiredArgsConstructor
+public class VideoSearchService {
+    
+    private final VideoRepository videoRepository;
+    private final VideoService videoService;
+    private final VideoSearchIndex index = new VideoSearchIndex();
+    
+    @Value("${search.index.sync-overlap-seconds:60}")
+    private long syncOverlapSeconds;
+    
+    private volatile boolean ready;
+    // 이 시각까지 변경된 비디오는 색인에 반영됨 (커밋이 늦은 트랜잭션을 고려해 조회 시 overlap만큼 앞에서 시작)
+    private volatile LocalDateTime watermark;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime syncFrom = LocalDateTime.now();
+        long afterId = 0;
+        int loaded = 0;
+        while (true) {
+            List<VideoRepository.VideoSearchSource> batch = videoRepository.findSearchSourcesAfterId(
+                    VideoStatus.READY, afterId, PageRequest.of(0, Constants.Search.INDEX_LOAD_BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+            apply(batch);
+            loaded += batch.size();
+            afterId = batch.get(batch.size() - 1).getId();
+        }
+        watermark = syncFrom;
+        ready = true;
+        System.out.println("[VideoSearch] 검색 색인 완료 - 비디오: " + loaded + ", 소요: "
+                + (System.currentTimeMillis() - startedAt) + "ms");
+    }
+    
+    // 기준 시각 이후 변경된 비디오 반영 (같은 내용이면 색인이 알아서 건너뜀)
+    @Scheduled(fixedDelayString = "${search.index.sync-interval-ms:30000}")
+    public synchronized void syncUpdated() {
+        if (!ready) {
+            return;
+        }
+        LocalDateTime updatedAt = watermark.minusSeconds(syncOverlapSeconds);
+        LocalDateTime newest = watermark;
+        long afterId = 0;
+        while (true) {
+            List<VideoRepository.VideoSearchSource> batch = videoRepository.findSearchSourcesUpdatedAfter(
+                    updatedAt, afterId, PageRequest.of(0, Constants.Search.INDEX_LOAD_BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+            apply(batch);
+            VideoRepository.VideoSearchSource last = batch.get(batch.size() - 1);
+            updatedAt = last.getUpdatedAt();
+            afterId = last.getId();
+            if (updatedAt.isAfter(newest)) {
+                newest = updatedAt;
+            }
+        }
+        watermark = newest;
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVideoPublished(VideoPublishedEvent event) {
+        apply(videoRepository.findSearchSourcesByIdIn(List.of(event.getVideoId())));
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVideoDeleted(VideoDeletedEvent event) {
+        index.remove(event.getVideoId());
+    }
+    
+    // READY 비디오는 태그와 함께 색인, 그 외 상태는 색인에서 제외
+    private void apply(List<VideoRepository.VideoSearchSource> sources) {
+        List<Long> readyIds = new ArrayList<>();
+        for (VideoRepository.VideoSearchSource source : sources) {
+            if (source.getStatus() == VideoStatus.READY) {
+                readyIds.add(source.getId());
+            } else {
+                index.remove(source.getId());
+            }
+        }
+        if (readyIds.isEmpty()) {
+            return;
+        }
+        Map<Long, List<String>> tagsByVideo = new HashMap<>();
+        for (VideoRepository.VideoTagName tag : videoRepository.findTagNamesByVideoIds(readyIds)) {
+            tagsByVideo.computeIfAbsent(tag.getVideoId(), id -> new ArrayList<>()).add(tag.getName());
+        }
+        for (VideoRepository.VideoSearchSource source : sources) {
+            if (source.getStatus() == VideoStatus.READY) {
+                index.upsert(source.getId(), source.getTitle(), source.getDescription(),
+                        tagsByVideo.get(source.getId()));
+            }
+        }
+    }
+    
+    public VideoSearchResponse search(String keyword, int page, int size) {
+        long[] tokens = NgramTokenizer.queryTokens(keyword);
+        if (!ready || tokens.length == 0) {
+            return videoService.searchVideos(keyword, page, size);
+        }
+        int limit = pageSize(size);
+        int offset = Math.max(0, page) * limit;
+        VideoIndexPage result = searchIndex(tokens, offset, limit);
+        return VideoSearchResponse.builder()
+                .videos(result.videos)
+                .total((long) result.total)
+                .page(page)
+                .perPage(limit)
+                .hasNext(result.hasNext)
+                .build();
+    }
+    
+    // 커서 방식 (점수순이라 (created_at, id) 커서 대신 결과 내 위치를 커서로 사용)
+    // 색인 준비 전 DB 검색에서 받은 (created_at, id) 커서는 준비 후에도 DB 검색으로 이어서 응답
+    public VideoSearchResponse searchByCursor(String keyword, String cursor, int size) {
+        long[] tokens = NgramTokenizer.queryTokens(keyword);
+        if (!ready || tokens.length == 0 || !isOffsetCursor(cursor)) {
+            return videoService.searchVideosByCursor(keyword, cursor, size);
+        }
+        int limit = pageSize(size);
+        int offset = decodeOffset(cursor);
+        VideoIndexPage result = searchIndex(tokens, offset, limit);
+        String nextCursor = result.hasNext ? encodeOffset(offset + limit) : null;
+        return VideoSearchResponse.builder()
+                .videos(result.videos)
+                .total((long) result.total)
+                .page(0)
+                .perPage(limit)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+    
+    private VideoIndexPage searchIndex(long[] tokens, int offset, int limit) {
+        VideoSearchIndex.SearchHits hits = offset < Constants.Search.MAX_RESULT_WINDOW
+                ? index.search(tokens, offset, Math.min(limit, Constants.Search.MAX_RESULT_WINDOW - offset))
+                : index.search(tokens, 0, 0);
+        List<Long> videoIds = new ArrayList<>(hits.getVideoIds().length);
+        for (long videoId : hits.getVideoIds()) {
+            videoIds.add(videoId);
+        }
+        List<VideoResponse> videos = videoService.getVideosByIds(videoIds);
+        for (VideoResponse video : videos) {
+            video.setHighlight(SearchHighlight.builder()
+                    .title(NgramTokenizer.highlight(video.getTitle(), tokens))
+                    .description(NgramTokenizer.highlight(video.getDescription(), tokens))
+                    .build());
+        }
+        boolean hasNext = offset + limit < Math.min(hits.getTotal(), Constants.Search.MAX_RESULT_WINDOW);
+        return new VideoIndexPage(videos, hits.getTotal(), hasNext);
+    }
+    
+    private int pageSize(int size) {
+        return Math.max(1, Math.min(size, Constants.Api.MAX_PAGE_SIZE));
+    }
+    
+    private String encodeOffset(int offset) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("o" + offset).getBytes(StandardCharsets.UTF_8));
+    }
+    
+    // 빈 커서와 해석할 수 없는 커서는 색인 쪽에서 처리 (첫 페이지 또는 decodeOffset에서 거절)
+    private boolean isOffsetCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return true;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8).startsWith("o");
+        } catch (IllegalArgumentException e) {
+            return true;
+        }
+    }
+    
+    // 빈 문자열이면 첫 페이지
+    private int decodeOffset(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            if (!raw.startsWith("o")) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            int offset = Integer.parseInt(raw.substring(1));
+            if (offset < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return offset;
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException, Base64 오류 포함
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+    
+    private static class VideoIndexPage {
+        private final List<VideoResponse> videos;
+        private final int total;
+        private final boolean hasNext;
+        
+        VideoIndexPage(List<VideoResponse> videos, int total, boolean hasNext) {
+            this.videos = videos;
+            this.total = total;
+            this.hasNext = hasNext;
+        }
+    }
+}
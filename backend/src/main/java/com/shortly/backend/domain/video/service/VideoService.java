@@ -1,47 +1,74 @@
 package com.shortly.backend.domain.video.service;
 
+import com.shortly.backend.domain.common.service.EngagementCounterService;
+import com.shortly.backend.domain.common.service.ResponseCache;
+import com.shortly.backend.domain.subscription.repository.TimelineStore;
+import com.shortly.backend.domain.user.dto.UserResponse;
 import com.shortly.backend.domain.user.entity.User;
 import com.shortly.backend.domain.user.service.UserService;
+import com.shortly.backend.domain.video.dto.FeedCursor;
+import com.shortly.backend.domain.video.dto.TagRef;
+import com.shortly.backend.domain.video.dto.VideoFeedRow;
 import com.shortly.backend.domain.video.dto.VideoResponse;
 import com.shortly.backend.domain.video.dto.VideoSearchResponse;
-import com.shortly.backend.domain.video.entity.Tag;
+import com.shortly.backend.domain.video.dto.VideoStatusResponse;
+import com.shortly.backend.domain.video.entity.MediaBlob;
 import com.shortly.backend.domain.video.entity.Video;
 import com.shortly.backend.domain.video.entity.VideoLike;
-import com.shortly.backend.domain.video.repository.TagRepository;
+import com.shortly.backend.domain.video.entity.VideoStatus;
+import com.shortly.backend.domain.video.event.VideoDeletedEvent;
+import com.shortly.backend.domain.video.event.VideoPublishedEvent;
+import com.shortly.backend.domain.video.event.VideoUploadedEvent;
+import com.shortly.backend.domain.video.repository.TagStore;
 import com.shortly.backend.domain.video.repository.VideoLikeRepository;
 import com.shortly.backend.domain.video.repository.VideoRepository;
 import com.shortly.backend.utils.Constants;
+import com.shortly.backend.utils.FileUtils;
 import com.shortly.backend.utils.ValidationUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.Optional;
+import java.util.function.LongPredicate;
 
 @Service
 @RequiredArgsConstructor
 public class VideoService {
     
     private final VideoRepository videoRepository;
-    private final TagRepository tagRepository;
+    private final TagDictionary tagDictionary;
+    private final TagStore tagStore;
     private final VideoLikeRepository videoLikeRepository;
     private final UserService userService;
     private final FileService fileService;
+    private final HlsPackagingService hlsPackagingService;
+    private final MediaBlobService mediaBlobService;
+    private final LikedVideoCache likedVideoCache;
+    private final EngagementCounterService engagementCounterService;
+    private final SpriteSheetService spriteSheetService;
+    private final TimelineStore timelineStore;
+    private final TrendingTagService trendingTagService;
+    private final ResponseCache responseCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
     
-    @Transactional
+    // 스테이징과 해시 계산(최대 100MB 읽기)은 트랜잭션 밖에서 하고 비디오 생성만 트랜잭션으로 묶음
     public VideoResponse uploadVideo(String title, String description, List<String> tagNames, MultipartFile videoFile) {
         System.out.println("[VideoService] 업로드 시작 - 제목: " + title + ", 파일 크기: " + videoFile.getSize());
         User currentUser = userService.getCurrentUserEntity();
@@ -53,6 +80,24 @@ public class VideoService {
             throw new IllegalArgumentException(fileValidation.getErrorMessage());
         }
         
+        validateVideoMetadata(title, description, tagNames);
+        
+        // 파일 스테이징 (영상 길이 검증, 썸네일 생성, 최종 배치는 백그라운드 워커에서 처리)
+        System.out.println("[VideoService] 비디오 파일 스테이징 시작");
+        String stagedFilename = fileService.stageUpload(videoFile);
+        String contentHash;
+        try {
+            contentHash = FileUtils.sha256Hex(fileService.getStagedPath(stagedFilename));
+        } catch (IOException e) {
+            fileService.deleteStagedVideo(stagedFilename);
+            throw new RuntimeException("Failed to upload video", e);
+        }
+        System.out.println("[VideoService] 비디오 파일 스테이징 완료: " + stagedFilename + ", 해시: " + contentHash);
+        
+        return createStagedVideo(currentUser, title, description, tagNames, stagedFilename, contentHash);
+    }
+    
+    public void validateVideoMetadata(String title, String description, List<String> tagNames) {
         ValidationUtils.ValidationResult titleValidation = ValidationUtils.validateTitle(title);
         if (!titleValidation.isValid()) {
             throw new IllegalArgumentException(titleValidation.getErrorMessage());
@@ -67,129 +112,314 @@ public class VideoService {
         if (!tagsValidation.isValid()) {
             throw new IllegalArgumentException(tagsValidation.getErrorMessage());
         }
-        
-        // 영상 길이 검증
-        System.out.println("[VideoService] 영상 길이 검증 시작");
-        double durationInSeconds = fileService.getVideoDuration(videoFile);
-        System.out.println("[VideoService] 영상 길이: " + durationInSeconds + "초");
-        
-        if (durationInSeconds < 5.0 || durationInSeconds > 180.0) {
-            throw new IllegalArgumentException("영상 길이는 5초 이상 3분 이하여야 합니다. 현재 길이: " + durationInSeconds + "초");
-        }
-        
-        // 파일 업로드
-        System.out.println("[VideoService] 비디오 파일 업로드 시작");
-        String videoUrl = fileService.uploadVideo(videoFile);
-        System.out.println("[VideoService] 비디오 파일 업로드 완료: " + videoUrl);
-        
-        System.out.println("[VideoService] 썸네일 생성 시작");
-        String thumbnailUrl = fileService.generateThumbnail(videoFile);
-        System.out.println("[VideoService] 썸네일 생성 완료: " + thumbnailUrl);
-        
-        // 비디오 생성
-        System.out.println("[VideoService] 비디오 엔티티 생성 시작");
-        Video video = Video.builder()
-                .title(title)
-                .description(description)
-                .url(videoUrl)
-                .thumbnailUrl(thumbnailUrl)
-                .owner(currentUser)
-                .build();
-        
+    }
+    
+    // 스테이징 디렉토리에 올라온 파일로 비디오 생성 (일반 업로드와 이어 올리기 업로드 공통)
+    // 같은 내용의 파일이 이미 저장되어 있으면 그 파일을 공유하고, 처리까지 끝난 파일이면 바로 READY
+    // (같은 클래스의 uploadVideo에서도 호출되므로 프록시 대신 TransactionTemplate으로 트랜잭션 시작)
+    public VideoResponse createStagedVideo(User currentUser, String title, String description, List<String> tagNames,
+                                           String stagedFilename, String contentHash) {
+        List<TagRef> tags = resolveTags(tagNames);
+        return transactionTemplate.execute(status -> {
+            MediaBlob blob = mediaBlobService.acquire(contentHash, stagedFilename);
+            
+            // 비디오 생성
+            System.out.println("[VideoService] 비디오 엔티티 생성 시작");
+            Video video = Video.builder()
+                    .title(title)
+                    .description(description)
+                    .url(blob.getFilename())
+                    .contentHash(contentHash)
+                    .status(VideoStatus.PROCESSING)
+                    .owner(currentUser)
+                    .build();
+            if (blob.isProcessed()) {
+                video.markReady(blob.getThumbnailUrl(), blob.getDurationSeconds(), blob.getMetadata());
+                video.setHlsKey(blob.getHlsKey());
+                video.setSpriteKey(blob.getSpriteKey());
+            }
+            
+            return saveUploadedVideo(video, tags);
+        });
+    }
+    
+    // 저장소에 직접 올라온 파일로 비디오 생성 (파일 수신/해시 계산/원본 연결은 백그라운드 워커에서 처리)
+    public VideoResponse createDirectUploadVideo(User currentUser, String title, String description, List<String> tagNames,
+                                                 String uploadedFilename) {
+        System.out.println("[VideoService] 직접 업로드 비디오 생성 - 파일: " + uploadedFilename);
+        List<TagRef> tags = resolveTags(tagNames);
+        return transactionTemplate.execute(status -> {
+            Video video = Video.builder()
+                    .title(title)
+                    .description(description)
+                    .url(uploadedFilename)
+                    .status(VideoStatus.PROCESSING)
+                    .owner(currentUser)
+                    .build();
+            return saveUploadedVideo(video, tags);
+        });
+    }
+    
+    // 태그 처리 (사전에서 찾고 없는 태그만 한 번에 생성)
+    // 업로드 트랜잭션을 열기 전에 호출해 태그 생성이 별도 커넥션을 잡거나 고유 키 잠금을 길게 잡지 않게 함
+    private List<TagRef> resolveTags(List<String> tagNames) {
+        System.out.println("[VideoService] 태그 처리 시작 - 태그 개수: " + (tagNames != null ? tagNames.size() : 0));
+        return tagDictionary.resolve(tagNames != null ? tagNames : List.of());
+    }
+    
+    private VideoResponse saveUploadedVideo(Video video, List<TagRef> tags) {
         Video savedVideo = videoRepository.save(video);
         System.out.println("[VideoService] 비디오 저장 완료 - ID: " + savedVideo.getId());
         
-        // 태그 처리
-        System.out.println("[VideoService] 태그 처리 시작 - 태그 개수: " + (tagNames != null ? tagNames.size() : 0));
-        if (tagNames != null && !tagNames.isEmpty()) {
-            for (String tagName : tagNames) {
-                if (tagName != null && !tagName.trim().isEmpty()) {
-                    String trimmedTagName = tagName.trim();
-                    System.out.println("[VideoService] 태그 처리 중: " + trimmedTagName);
-                    Tag tag = tagRepository.findByName(trimmedTagName)
-                            .orElseGet(() -> tagRepository.save(Tag.builder().name(trimmedTagName).build()));
-                    savedVideo.addTag(tag);
-                }
-            }
+        // 비디오-태그 연결은 한 번에 추가
+        List<Long> tagIds = new ArrayList<>(tags.size());
+        List<String> addedTagNames = new ArrayList<>(tags.size());
+        for (TagRef tag : tags) {
+            tagIds.add(tag.getId());
+            addedTagNames.add(tag.getName());
+        }
+        tagStore.insertVideoTags(savedVideo.getId(), tagIds);
+        
+        // 커밋 후 백그라운드 처리 시작 (이미 처리된 파일이면 바로 구독자 타임라인에 전달)
+        if (savedVideo.getStatus() == VideoStatus.PROCESSING) {
+            eventPublisher.publishEvent(new VideoUploadedEvent(savedVideo.getId()));
+        } else if (savedVideo.getStatus() == VideoStatus.READY) {
+            eventPublisher.publishEvent(new VideoPublishedEvent(savedVideo.getId(),
+                    savedVideo.getOwner().getId(), savedVideo.getCreatedAt()));
         }
         
         System.out.println("[VideoService] VideoResponse 생성 시작");
         VideoResponse response = VideoResponse.from(savedVideo);
-        System.out.println("[VideoService] 업로드 완료");
+        response.setTags(addedTagNames);
+        System.out.println("[VideoService] 업로드 접수 완료 - 처리 대기 중");
         return response;
     }
     
     public VideoSearchResponse searchVideos(String keyword, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Video> videoPage = videoRepository.searchByKeyword(keyword, pageable);
+        Page<VideoFeedRow> videoPage = videoRepository.searchFeedRows(keyword, VideoStatus.READY, pageable);
         
-        List<Video> rawVideos = videoPage.getContent();
-        System.out.println("검색 결과 Video 개수: " + rawVideos.size());
-        
-        // 현재 사용자 가져오기 (로그인된 경우에만)
-        User currentUser = null;
-        try {
-            currentUser = userService.getCurrentUserEntity();
-            System.out.println("현재 사용자: " + currentUser.getUsername());
-        } catch (Exception e) {
-            System.out.println("로그인되지 않은 사용자");
-        }
+        List<VideoFeedRow> rows = videoPage.getContent();
+        System.out.println("검색 결과 Video 개수: " + rows.size());
         
-        List<VideoResponse> videos = new ArrayList<>();
-        for (Video video : rawVideos) {
-            // 현재 사용자가 로그인된 경우 좋아요 상태 확인
-            if (currentUser != null) {
-                boolean isLiked = videoLikeRepository.existsByUserAndVideo(currentUser, video);
-                videos.add(VideoResponse.from(video, currentUser, isLiked));
-            } else {
-                videos.add(VideoResponse.from(video));
-            }
-        }
+        List<VideoResponse> videos = toVideoResponses(rows);
         
         return VideoSearchResponse.builder()
                 .videos(videos)
                 .total(videoPage.getTotalElements())
                 .page(page)
                 .perPage(size)
+                .hasNext(videoPage.hasNext())
                 .build();
     }
     
+    // 사용자와 무관한 목록은 응답 캐시에 두고 좋아요 여부만 요청마다 채움
     public VideoSearchResponse getAllVideos(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Video> videoPage = videoRepository.findAllByOrderByCreatedAtDesc(pageable);
+        VideoSearchResponse cached = responseCache.get("feed:p:" + page + ":" + size, () -> {
+            Pageable pageable = PageRequest.of(page, size);
+            Page<VideoFeedRow> videoPage = videoRepository.findFeedRowsByStatus(VideoStatus.READY, pageable);
+            
+            List<VideoFeedRow> rows = videoPage.getContent();
+            System.out.println("DB에서 조회된 Video 개수: " + rows.size());
+            
+            VideoSearchResponse response = VideoSearchResponse.builder()
+                    .videos(assembleResponses(rows, null))
+                    .total(videoPage.getTotalElements())
+                    .page(page)
+                    .perPage(size)
+                    .hasNext(videoPage.hasNext())
+                    .build();
+            return listFragment(response, rows, ResponseCache.FEED_OFFSET);
+        });
+        return withLikeStatus(cached);
+    }
     
-        List<Video> rawVideos = videoPage.getContent();
-        System.out.println("DB에서 조회된 Video 개수: " + rawVideos.size());
-        
-        // 현재 사용자 가져오기 (로그인된 경우에만)
-        User currentUser = null;
+    // 커서 방식 목록 조회 (무한 스크롤용, cursor가 비어 있으면 첫 페이지)
+    public VideoSearchResponse getAllVideosByCursor(String cursor, int size) {
+        FeedCursor after = FeedCursor.decode(cursor);
+        Pageable pageable = cursorPageable(size);
+        String key = "feed:c:" + pageable.getPageSize() + ":" + (after == null ? "" : after.encode());
+        VideoSearchResponse cached = responseCache.get(key, () -> {
+            Slice<VideoFeedRow> slice = after == null
+                    ? videoRepository.findFeedSlice(VideoStatus.READY, pageable)
+                    : videoRepository.findFeedSliceAfter(VideoStatus.READY, after.getCreatedAt(), after.getId(), pageable);
+            // 첫 페이지만 새 비디오가 앞에 붙어 바뀜 (이후 페이지는 커서 기준이라 그대로)
+            return after == null
+                    ? listFragment(toCursorResponse(slice), slice.getContent(), ResponseCache.FEED_HEAD)
+                    : listFragment(toCursorResponse(slice), slice.getContent());
+        });
+        return withLikeStatus(cached);
+    }
+    
+    public VideoSearchResponse searchVideosByCursor(String keyword, String cursor, int size) {
+        FeedCursor after = FeedCursor.decode(cursor);
+        Pageable pageable = cursorPageable(size);
+        Slice<VideoFeedRow> slice = after == null
+                ? videoRepository.searchFeedSlice(keyword, VideoStatus.READY, pageable)
+                : videoRepository.searchFeedSliceAfter(keyword, VideoStatus.READY, after.getCreatedAt(), after.getId(), pageable);
+        return withLikeStatus(toCursorResponse(slice));
+    }
+    
+    public VideoSearchResponse getVideosByTagByCursor(String tagName, String cursor, int size) {
+        String storedName = storedTagName(tagName);
+        FeedCursor after = FeedCursor.decode(cursor);
+        Pageable pageable = cursorPageable(size);
+        // 태그 이름에 ':'가 들어갈 수 있으므로 키 마지막에 둠
+        String key = "tag:c:" + pageable.getPageSize() + ":" + (after == null ? "" : after.encode()) + ":" + storedName;
+        VideoSearchResponse cached = responseCache.get(key, () -> {
+            Slice<VideoFeedRow> slice = after == null
+                    ? videoRepository.findFeedSliceByTagName(storedName, VideoStatus.READY, pageable)
+                    : videoRepository.findFeedSliceByTagNameAfter(storedName, VideoStatus.READY, after.getCreatedAt(), after.getId(), pageable);
+            return after == null
+                    ? listFragment(toCursorResponse(slice), slice.getContent(), ResponseCache.tagHeadToken(storedName))
+                    : listFragment(toCursorResponse(slice), slice.getContent());
+        });
+        return withLikeStatus(cached);
+    }
+    
+    // 정규화 전 이름("#Cat ")으로 요청해도 사전에 있는 태그의 저장된 이름으로 조회
+    // 없는 태그는 나중에 생성될 때의 이름(정규화한 이름)으로 두어 캐시 무효화 토큰과 맞춤
+    private String storedTagName(String tagName) {
+        return tagDictionary.find(tagName).map(TagRef::getName).orElse(TagDictionary.canonicalize(tagName));
+    }
+    
+    private Pageable cursorPageable(int size) {
+        return PageRequest.of(0, Math.max(1, Math.min(size, Constants.Api.MAX_PAGE_SIZE)));
+    }
+    
+    // 커서 방식 응답 (좋아요 여부 없이)
+    private VideoSearchResponse toCursorResponse(Slice<VideoFeedRow> slice) {
+        List<VideoFeedRow> rows = slice.getContent();
+        String nextCursor = null;
+        if (slice.hasNext() && !rows.isEmpty()) {
+            nextCursor = FeedCursor.of(rows.get(rows.size() - 1)).encode();
+        }
+        return VideoSearchResponse.builder()
+                .videos(assembleResponses(rows, null))
+                .page(0)
+                .perPage(slice.getSize())
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+    
+    // 목록 응답 변환 (로그인된 경우 페이지 전체의 좋아요 여부를 한 번에 확인)
+    private List<VideoResponse> toVideoResponses(List<VideoFeedRow> rows) {
+        User currentUser = currentUserOrNull();
+        LongPredicate liked = null;
+        if (currentUser != null && !rows.isEmpty()) {
+            List<Long> videoIds = rows.stream().map(VideoFeedRow::getId).collect(Collectors.toList());
+            liked = likedVideoCache.likedAmong(currentUser.getId(), videoIds);
+        }
+        return assembleResponses(rows, liked);
+    }
+    
+    // 캐시된 목록의 복사본에 현재 사용자의 좋아요 여부를 채움 (캐시된 객체는 건드리지 않음)
+    private VideoSearchResponse withLikeStatus(VideoSearchResponse cached) {
+        User currentUser = currentUserOrNull();
+        LongPredicate liked = null;
+        if (currentUser != null && !cached.getVideos().isEmpty()) {
+            List<Long> videoIds = cached.getVideos().stream().map(VideoResponse::getId).collect(Collectors.toList());
+            liked = likedVideoCache.likedAmong(currentUser.getId(), videoIds);
+        }
+        List<VideoResponse> videos = new ArrayList<>(cached.getVideos().size());
+        for (VideoResponse video : cached.getVideos()) {
+            videos.add(video.toBuilder()
+                    .isLiked(liked != null ? liked.test(video.getId()) : null)
+                    .build());
+        }
+        return cached.toBuilder().videos(videos).build();
+    }
+    
+    // 현재 사용자 가져오기 (로그인된 경우에만)
+    private User currentUserOrNull() {
         try {
-            currentUser = userService.getCurrentUserEntity();
+            User currentUser = userService.getCurrentUserEntity();
             System.out.println("현재 사용자: " + currentUser.getUsername());
+            return currentUser;
         } catch (Exception e) {
             System.out.println("로그인되지 않은 사용자");
+            return null;
         }
-        
-        List<VideoResponse> videos = new ArrayList<>();
-        for (Video video : rawVideos) {
-            // 현재 사용자가 로그인된 경우 좋아요 상태 확인
-            if (currentUser != null) {
-                boolean isLiked = videoLikeRepository.existsByUserAndVideo(currentUser, video);
-                System.out.println("비디오 " + video.getId() + " 좋아요 상태: " + isLiked);
-                videos.add(VideoResponse.from(video, currentUser, isLiked));
-            } else {
-                videos.add(VideoResponse.from(video));
+    }
+    
+    // 목록 캐시 항목 (담긴 비디오와 작성자(구독자 수 포함), 목록 종류 토큰에 연결)
+    private ResponseCache.Fragment<VideoSearchResponse> listFragment(VideoSearchResponse response, List<VideoFeedRow> rows,
+                                                                     String... listTokens) {
+        List<String> tokens = new ArrayList<>(List.of(listTokens));
+        Set<Long> ownerIds = new HashSet<>();
+        for (VideoFeedRow row : rows) {
+            tokens.add(ResponseCache.videoToken(row.getId()));
+            if (ownerIds.add(row.getOwnerId())) {
+                tokens.add(ResponseCache.ownerToken(row.getOwnerId()));
+            }
+        }
+        return ResponseCache.Fragment.of(response, estimateBytes(response), tokens);
+    }
+    
+    // 캐시 크기 계산용 대략적인 응답 크기
+    private static int estimateBytes(VideoSearchResponse response) {
+        int bytes = 64 + ResponseCache.stringBytes(response.getNextCursor());
+        for (VideoResponse video : response.getVideos()) {
+            bytes += 256 + ResponseCache.stringBytes(video.getTitle(), video.getDescription(), video.getUrl(),
+                    video.getThumbnailUrl(), video.getManifestUrl(), video.getSpriteUrl(), video.getSpriteVttUrl(),
+                    video.getVideoCodec());
+            if (video.getOwner() != null) {
+                bytes += 96 + ResponseCache.stringBytes(video.getOwner().getUsername(), video.getOwner().getEmail(),
+                        video.getOwner().getProfilePicture());
             }
+            for (String tag : video.getTags()) {
+                bytes += 8 + ResponseCache.stringBytes(tag);
+            }
+        }
+        return bytes;
+    }
+    
+    // 작성자와 태그를 페이지 단위로 한 번씩 모아서 응답 조립 (liked가 null이면 좋아요 상태 생략)
+    private List<VideoResponse> assembleResponses(List<VideoFeedRow> rows, LongPredicate liked) {
+        List<VideoResponse> videos = new ArrayList<>();
+        if (rows.isEmpty()) {
+            return videos;
+        }
+        
+        List<Long> videoIds = new ArrayList<>();
+        Set<Long> ownerIds = new HashSet<>();
+        for (VideoFeedRow row : rows) {
+            videoIds.add(row.getId());
+            ownerIds.add(row.getOwnerId());
+        }
+        Map<Long, UserResponse> owners = userService.getUserResponses(ownerIds);
+        Map<Long, List<String>> tagsByVideo = new HashMap<>();
+        for (VideoRepository.VideoTagName tag : videoRepository.findTagNamesByVideoIds(videoIds)) {
+            tagsByVideo.computeIfAbsent(tag.getVideoId(), id -> new ArrayList<>()).add(tag.getName());
         }
         
-        System.out.println("VideoResponse 변환 후 개수: " + videos.size());
+        for (VideoFeedRow row : rows) {
+            videos.add(VideoResponse.from(row,
+                    owners.get(row.getOwnerId()),
+                    tagsByVideo.getOrDefault(row.getId(), new ArrayList<>()),
+                    liked != null ? liked.test(row.getId()) : null));
+        }
+        return videos;
+    }
     
-        return VideoSearchResponse.builder()
-                .videos(videos)
-                .total(videoPage.getTotalElements())
-                .page(page)
-                .perPage(size)
-                .build();
+    // 정해진 ID 순서대로 응답 조립 (READY가 아니거나 삭제된 비디오는 제외)
+    public List<VideoResponse> getVideosByIds(List<Long> videoIds) {
+        if (videoIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, VideoFeedRow> byId = new HashMap<>();
+        for (VideoFeedRow row : videoRepository.findFeedRowsByIdIn(videoIds, VideoStatus.READY)) {
+            byId.put(row.getId(), row);
+        }
+        List<VideoFeedRow> rows = new ArrayList<>(byId.size());
+        for (Long videoId : videoIds) {
+            VideoFeedRow row = byId.get(videoId);
+            if (row != null) {
+                rows.add(row);
+            }
+        }
+        return toVideoResponses(rows);
     }
     
     public VideoResponse getVideoById(Long videoId) {
@@ -198,39 +428,37 @@ public class VideoService {
         return VideoResponse.from(video);
     }
     
-    public VideoSearchResponse getVideosByTag(String tagName, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Video> videoPage = videoRepository.findByTagName(tagName, pageable);
-        
-        List<Video> rawVideos = videoPage.getContent();
-        System.out.println("태그별 검색 결과 Video 개수: " + rawVideos.size());
-        
-        // 현재 사용자 가져오기 (로그인된 경우에만)
-        User currentUser = null;
-        try {
-            currentUser = userService.getCurrentUserEntity();
-            System.out.println("현재 사용자: " + currentUser.getUsername());
-        } catch (Exception e) {
-            System.out.println("로그인되지 않은 사용자");
-        }
+    public VideoStatusResponse getVideoStatus(Long videoId) {
+        User currentUser = userService.getCurrentUserEntity();
+        Video video = videoRepository.findById(videoId)
+                .orElseThrow(() -> new RuntimeException("Video not found"));
         
-        List<VideoResponse> videos = new ArrayList<>();
-        for (Video video : rawVideos) {
-            // 현재 사용자가 로그인된 경우 좋아요 상태 확인
-            if (currentUser != null) {
-                boolean isLiked = videoLikeRepository.existsByUserAndVideo(currentUser, video);
-                videos.add(VideoResponse.from(video, currentUser, isLiked));
-            } else {
-                videos.add(VideoResponse.from(video));
-            }
+        if (!video.getOwner().getId().equals(currentUser.getId())) {
+            throw new RuntimeException("You can only view the status of your own videos");
         }
         
-        return VideoSearchResponse.builder()
-                .videos(videos)
-                .total(videoPage.getTotalElements())
-                .page(page)
-                .perPage(size)
-                .build();
+        return VideoStatusResponse.from(video);
+    }
+    
+    public VideoSearchResponse getVideosByTag(String tagName, int page, int size) {
+        String storedName = storedTagName(tagName);
+        VideoSearchResponse cached = responseCache.get("tag:p:" + page + ":" + size + ":" + storedName, () -> {
+            Pageable pageable = PageRequest.of(page, size);
+            Page<VideoFeedRow> videoPage = videoRepository.findFeedRowsByTagName(storedName, VideoStatus.READY, pageable);
+            
+            List<VideoFeedRow> rows = videoPage.getContent();
+            System.out.println("태그별 검색 결과 Video 개수: " + rows.size());
+            
+            VideoSearchResponse response = VideoSearchResponse.builder()
+                    .videos(assembleResponses(rows, null))
+                    .total(videoPage.getTotalElements())
+                    .page(page)
+                    .perPage(size)
+                    .hasNext(videoPage.hasNext())
+                    .build();
+            return listFragment(response, rows, ResponseCache.tagOffsetToken(storedName), ResponseCache.TAG_OFFSET);
+        });
+        return withLikeStatus(cached);
     }
     
     @Transactional
@@ -243,29 +471,39 @@ public class VideoService {
             throw new RuntimeException("You can only delete your own videos");
         }
         
-        // 파일 삭제
-        fileService.deleteVideo(video.getUrl());
-        if (video.getThumbnailUrl() != null) {
-            fileService.deleteThumbnail(video.getThumbnailUrl());
+        if (video.getContentHash() != null) {
+            // 같은 원본을 공유하는 다른 비디오가 없을 때만 원본/썸네일/HLS 삭제
+            mediaBlobService.release(video.getContentHash(), video.getThumbnailUrl());
+        } else {
+            // 파일 삭제 (처리 중인 비디오는 스테이징 디렉토리에 있음)
+            fileService.deleteVideo(video.getUrl());
+            fileService.deleteStagedVideo(video.getUrl());
+            if (video.getThumbnailUrl() != null) {
+                fileService.deleteThumbnail(video.getThumbnailUrl());
+            }
+            if (video.getHlsKey() != null) {
+                hlsPackagingService.deleteHls(video.getHlsKey());
+            }
+            if (video.getSpriteKey() != null) {
+                spriteSheetService.deleteSprite(video.getSpriteKey());
+            }
         }
         
         videoRepository.delete(video);
+        timelineStore.deleteByVideoId(videoId);
+        eventPublisher.publishEvent(new VideoDeletedEvent(videoId));
     }
     
     public List<VideoResponse> getMyVideos() {
         User currentUser = userService.getCurrentUserEntity();
-        List<Video> videos = videoRepository.findByOwnerOrderByCreatedAtDesc(currentUser);
-        return videos.stream()
-                .map(VideoResponse::from)
-                .collect(Collectors.toList());
+        List<VideoFeedRow> rows = videoRepository.findFeedRowsByOwnerId(currentUser.getId());
+        return assembleResponses(rows, null);
     }
     
     public List<VideoResponse> getLikedVideos() {
         User currentUser = userService.getCurrentUserEntity();
-        List<Video> videos = videoLikeRepository.findLikedVideosByUser(currentUser);
-        return videos.stream()
-                .map(VideoResponse::from)
-                .collect(Collectors.toList());
+        List<VideoFeedRow> rows = videoRepository.findLikedFeedRows(currentUser.getId());
+        return assembleResponses(rows, null);
     }
     
     @Transactional
@@ -286,6 +524,9 @@ public class VideoService {
                 .build();
         
         videoLikeRepository.save(videoLike);
+        likedVideoCache.recordLike(currentUser.getId(), videoId);
+        engagementCounterService.increment(EngagementCounterService.Counter.VIDEO_LIKES, videoId);
+        trendingTagService.recordEngagement(videoId, Constants.Trending.LIKE_WEIGHT);
     }
     
     @Transactional
@@ -305,84 +546,24 @@ public class VideoService {
         
         // 좋아요 삭제
         videoLikeRepository.delete(videoLikeOpt.get());
+        likedVideoCache.recordUnlike(currentUser.getId(), videoId);
+        engagementCounterService.decrement(EngagementCounterService.Counter.VIDEO_LIKES, videoId);
         System.out.println("Video unliked successfully: " + videoId);
     }
     
     public boolean isVideoLiked(Long videoId) {
         User currentUser = userService.getCurrentUserEntity();
-        Video video = videoRepository.findById(videoId)
-                .orElseThrow(() -> new RuntimeException("Video not found"));
+        if (!videoRepository.existsById(videoId)) {
+            throw new RuntimeException("Video not found");
+        }
         
-        return videoLikeRepository.existsByUserAndVideo(currentUser, video);
+        return likedVideoCache.isLiked(currentUser.getId(), videoId);
     }
 
     @Transactional
-    public void generateThumbnailsForAllVideos() {
-        List<Video> videos = videoRepository.findAll();
-        for (Video video : videos) {
-            if (video.getThumbnailUrl() == null || video.getThumbnailUrl().isEmpty()) {
-                Path videoPath = Paths.get("uploads/videos", video.getUrl());
-                if (Files.exists(videoPath)) {
-                    String thumbnailFilename = UUID.randomUUID().toString() + ".jpg";
-                    Path thumbnailFilePath = Paths.get("uploads/thumbnails", thumbnailFilename);
-                    try {
-                        System.out.println("[FFmpeg] 실행 시작: " + videoPath.toString());
-                        System.out.println("[FFmpeg] 썸네일 경로: " + thumbnailFilePath.toString());
-                        System.out.println("[FFmpeg] 썸네일 폴더 존재: " + Files.exists(thumbnailFilePath.getParent()));
-                        ProcessBuilder pb = new ProcessBuilder(
-                            "ffmpeg",
-                            "-i", videoPath.toString(),
-                            "-ss", "00:00:01",
-                            "-vframes", "1",
-                            "-vf", "scale=320:240",
-                            "-y",
-                            thumbnailFilePath.toString()
-                        );
-                        pb.redirectErrorStream(true);
-                        Process process = pb.start();
-
-                        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-                            String line;
-                            while ((line = reader.readLine()) != null) {
-                                System.out.println("[FFmpeg] " + line);
-                            }
-                        }
-                        int exitCode = process.waitFor();
-                        System.out.println("[FFmpeg] 종료 코드: " + exitCode);
-
-                        if (exitCode == 0) {
-                            boolean fileCreated = Files.exists(thumbnailFilePath);
-                            System.out.println("[FFmpeg] 파일 생성 확인: " + fileCreated);
-                            System.out.println("[FFmpeg] 파일 크기: " + (fileCreated ? Files.size(thumbnailFilePath) : "파일 없음"));
-                            
-                            if (fileCreated) {
-                                video.setThumbnailUrl(thumbnailFilename);
-                                videoRepository.save(video);
-                                System.out.println("썸네일 생성 완료: " + video.getUrl());
-                            } else {
-                                System.out.println("[FFmpeg ERROR] 파일이 생성되지 않음: " + thumbnailFilePath);
-                            }
-                        } else {
-                            System.out.println("[FFmpeg ERROR] 종료 코드: " + exitCode);
-                        }
-                    } catch (Exception e) {
-                        System.out.println("[FFmpeg ERROR] " + e.getMessage());
-                        e.printStackTrace();
-                    }
-                } else {
-                    System.out.println("영상 파일 없음: " + video.getUrl());
-                }
-            }
-        }
-    }
-    
-    @Transactional
-    public void clearAllThumbnails() {
-        List<Video> videos = videoRepository.findAll();
-        for (Video video : videos) {
-            video.setThumbnailUrl(null);
-        }
-        videoRepository.saveAll(videos);
-        System.out.println("모든 썸네일 URL 초기화 완료");
+    public int clearAllThumbnails() {
+        int cleared = videoRepository.clearAllThumbnailUrls();
+        System.out.println("모든 썸네일 URL 초기화 완료: " + cleared + "개");
+        return cleared;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,191 @@
+package com.shortly.backend.domain.video.service;
+
+import com.shortly.backend.utils.FileUtils;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+
+/**
+ * 비디오 파일 스트리밍 (HTTP Range / If-Range / 206 Partial Content 지원)
+ * 본문은 힙 버퍼를 거치지 않도록 Tomcat sendfile에 맡기고, 지원되지 않는 커넥터에서는 FileChannel.transferTo로 전송한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class VideoStreamingService {
+    
+    // Tomcat sendfile 요청 속성 (org.apache.coyote.Constants)
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+    
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            ".mp4", "video/mp4",
+            ".mov", "video/quicktime",
+            ".avi", "video/x-msvideo",
+            ".mkv", "video/x-matroska",
+            ".webm", "video/webm"
+    );
+    
+    // 업로드 파일명은 UUID라 내용이 바뀌지 않으므로 길게 캐시
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+    
+    private static final long[] UNSATISFIABLE = new long[0];
+    
+    private final FileService fileService;
+    
+    public void streamVideo(String filename, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!FileUtils.sanitizeFileName(filename).equals(filename) || filename.startsWith(".")) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+        if (fileService.isRemoteStorage()) {
+            // 원격 저장소는 presigned URL로 보내 저장소(또는 CDN)가 Range 요청을 직접 처리하도록 함
+            URL downloadUrl = fileService.getVideoDownloadUrl(filename);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=600");
+            response.sendRedirect(downloadUrl.toString());
+            return;
+        }
+        Path filePath = fileService.getVideoPath(filename).toAbsolutePath().normalize();
+        if (!Files.isRegularFile(filePath) || !Files.isReadable(filePath)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        
+        BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+        long fileSize = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String eTag = "\"" + Long.toHexString(fileSize) + "-" + Long.toHexString(lastModified) + "\"";
+        
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        
+        if (eTag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        
+        long start = 0;
+        long end = fileSize - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && isRangeApplicable(request, eTag, lastModified)) {
+            long[] range = parseRange(rangeHeader, fileSize);
+            if (range == UNSATISFIABLE) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + fileSize);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (range != null) {
+                start = range[0];
+                end = range[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + fileSize);
+            }
+        }
+        
+        long length = end - start + 1;
+        response.setContentType(getContentType(filename));
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + filename + "\"");
+        response.setContentLengthLong(length);
+        
+        if ("HEAD".equals(request.getMethod()) || length == 0) {
+            return;
+        }
+        
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            // 커넥터가 응답 커밋 후 커널 sendfile로 직접 전송 (end는 배타적)
+            request.setAttribute(SENDFILE_FILENAME_ATTR, filePath.toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, end + 1);
+            return;
+        }
+        
+        try (FileChannel fileChannel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long transferred = fileChannel.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        } catch (IOException e) {
+            // 스크롤/탐색 중 클라이언트가 연결을 끊는 것은 정상 흐름
+            System.out.println("[VideoStreaming] 전송 중단: " + filename + " (" + e.getMessage() + ")");
+        }
+    }
+    
+    public String getContentType(String filename) {
+        return CONTENT_TYPES.getOrDefault(FileUtils.getFileExtension(filename).toLowerCase(), "application/octet-stream");
+    }
+    
+    // If-Range가 현재 파일과 일치할 때만 부분 응답 (불일치 시 전체 파일)
+    private boolean isRangeApplicable(HttpServletRequest request, String eTag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(eTag);
+        }
+        try {
+            long ifRangeTime = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return ifRangeTime != -1 && lastModified / 1000 <= ifRangeTime / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+    
+    // 단일 범위만 처리 (bytes=a-b, bytes=a-, bytes=-n), 해석할 수 없거나 다중 범위이면 null → 전체 응답
+    private long[] parseRange(String rangeHeader, long fileSize) {
+        if (!rangeHeader.startsWith("bytes=") || rangeHeader.indexOf(',') != -1) {
+            return null;
+        }
+        String spec = rangeHeader.substring(6).trim();
+        int dash = spec.indexOf('-');
+        if (dash == -1) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || fileSize == 0) {
+                    return UNSATISFIABLE;
+                }
+                return new long[]{Math.max(0, fileSize - suffix), fileSize - 1};
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+            if (end < start) {
+                return null;
+            }
+            // 끝을 생략한 범위도 시작이 파일 끝 이후면 만족 불가 (100바이트 파일의 bytes=100-)
+            if (start >= fileSize) {
+                return UNSATISFIABLE;
+            }
+            return new long[]{start, Math.min(end, fileSize - 1)};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.shortly.backend.domain.video.storage;
+
+import com.shortly.backend.utils.Constants;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+
+/**
+ * 기존 uploads/ 디렉토리를 그대로 쓰는 로컬 저장소 (기본값)
+ * 파일은 API 서버가 직접 스트리밍하므로 presigned URL은 지원하지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LocalStorageBackend implements StorageBackend {
+    
+    private final Path root = Paths.get(Constants.File.UPLOAD_DIR).toAbsolutePath().normalize();
+    
+    private final MediaPathResolver mediaPathResolver;
+    
+    @Override
+    public void store(String key, Path source) throws IOException {
+        Path target = isVideoKey(key)
+                ? mediaPathResolver.resolve(MediaPathResolver.Kind.VIDEO, videoFilename(key))
+                : resolve(key);
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+    
+    @Override
+    public void fetch(String key, Path target) throws IOException {
+        Path source = resolve(key);
+        if (!source.equals(target.toAbsolutePath().normalize())) {
+            Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+    
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+    
+    @Override
+    public long size(String key) {
+        try {
+            return Files.size(resolve(key));
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+    
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            System.out.println("[LocalStorage] 파일 삭제 실패: " + key);
+        }
+    }
+    
+    @Override
+    public URL presignGet(String key, Duration ttl) {
+        return null;
+    }
+    
+    @Override
+    public URL presignPut(String key, String contentType, Duration ttl) {
+        return null;
+    }
+    
+    @Override
+    public boolean isRemote() {
+        return false;
+    }
+    
+    // 원본 영상은 해시 분산 위치, 그 외(스테이징 등)는 uploads/ 아래 그대로
+    // uploads/ 밖을 가리키는 키는 거부
+    private Path resolve(String key) {
+        if (isVideoKey(key)) {
+            return mediaPathResolver.locate(MediaPathResolver.Kind.VIDEO, videoFilename(key));
+        }
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("Invalid storage key: " + key);
+        }
+        return path;
+    }
+    
+    private boolean isVideoKey(String key) {
+        return key.startsWith(Constants.File.VIDEO_DIR) && key.indexOf('/', Constants.File.VIDEO_DIR.length()) < 0;
+    }
+    
+    private String videoFilename(String key) {
+        String filename = key.substring(Constants.File.VIDEO_DIR.length());
+        if (filename.isEmpty() || filename.startsWith(".")) {
+            throw new IllegalArgumentException("Invalid storage key: " + key);
+        }
+        return filename;
+    }
+}
@@ -0,0 +1,175 @@
+package com.shortly.backend.domain.video.storage;
+
+import com.shortly.backend.utils.Constants;
+import com.shortly.backend.utils.FileUtils;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 원본 영상/썸네일 파일 위치 결정
+ * 파일명 해시로 2단계 하위 디렉토리(ab/cd/파일명)에 나눠 담아 한 디렉토리의 파일 수를 제한하고,
+ * 여러 볼륨이 설정되면 가중치 기반 rendezvous 해싱으로 볼륨을 고른다.
+ * 위치는 파일명만으로 계산되므로 DB에 경로를 저장하지 않으며, 볼륨이 추가되면 일부 파일만 이동 대상이 된다.
+ */
+@Component
+public class MediaPathResolver {
+    
+    public enum Kind {
+        VIDEO("videos"),
+        THUMBNAIL("thumbnails");
+        
+        private final String directory;
+        
+        Kind(String directory) {
+            this.directory = directory;
+        }
+    }
+    
+    // 썸네일 변형(<base>_<너비>.<ext>)은 기본 썸네일과 같은 디렉토리에 둠
+    private static final Pattern VARIANT_SUFFIX = Pattern.compile("_\\d+$");
+    
+    // "경로:가중치" 목록 (가중치 생략 시 1)
+    @Value("${media.volumes:" + Constants.File.UPLOAD_DIR + "}")
+    private String volumesConfig;
+    
+    private final List<Volume> volumes = new ArrayList<>();
+    
+    @PostConstruct
+    public void init() throws IOException {
+        for (String entry : volumesConfig.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            double weight = 1.0;
+            int colon = trimmed.lastIndexOf(':');
+            // Windows 드라이브 문자(C:\...)와 구분하기 위해 숫자일 때만 가중치로 해석
+            if (colon > 1 && trimmed.substring(colon + 1).matches("\\d+(\\.\\d+)?")) {
+                weight = Double.parseDouble(trimmed.substring(colon + 1));
+                trimmed = trimmed.substring(0, colon);
+            }
+            if (weight <= 0) {
+                continue;
+            }
+            Path root = Paths.get(trimmed).toAbsolutePath().normalize();
+            for (Kind kind : Kind.values()) {
+                Files.createDirectories(root.resolve(kind.directory));
+            }
+            volumes.add(new Volume(root, weight, seed(root.toString())));
+        }
+        if (volumes.isEmpty()) {
+            throw new IllegalStateException("media.volumes must contain at least one volume");
+        }
+        System.out.println("[MediaPathResolver] 볼륨 " + volumes.size() + "개: " + volumesConfig);
+    }
+    
+    /**
+     * 새 파일을 기록할 위치 (디렉토리는 호출 측에서 생성)
+     */
+    public Path resolve(Kind kind, String filename) {
+        String key = shardKey(filename);
+        byte[] digest = FileUtils.newSha256().digest(key.getBytes(StandardCharsets.UTF_8));
+        return placementVolume(digest).root.resolve(kind.directory).resolve(fanOut(digest)).resolve(filename);
+    }
+    
+    /**
+     * 기존 파일 위치 (이동 전 파일도 찾도록 다른 볼륨과 이전 평면 구조까지 확인, 없으면 새 파일 위치)
+     */
+    public Path locate(Kind kind, String filename) {
+        Path primary = resolve(kind, filename);
+        if (Files.exists(primary)) {
+            return primary;
+        }
+        for (Path candidate : candidates(kind, filename)) {
+            if (Files.exists(candidate)) {
+                return candidate;
+            }
+        }
+        return primary;
+    }
+    
+    // 볼륨별 종류 디렉토리 (이전 구조 파일 이동용)
+    public List<Path> roots(Kind kind) {
+        List<Path> roots = new ArrayList<>();
+        for (Volume volume : volumes) {
+            roots.add(volume.root.resolve(kind.directory));
+        }
+        return roots;
+    }
+    
+    private List<Path> candidates(Kind kind, String filename) {
+        String fanOut = fanOut(FileUtils.newSha256().digest(shardKey(filename).getBytes(StandardCharsets.UTF_8)));
+        List<Path> candidates = new ArrayList<>();
+        for (Volume volume : volumes) {
+            candidates.add(volume.root.resolve(kind.directory).resolve(fanOut).resolve(filename));
+        }
+        for (Volume volume : volumes) {
+            candidates.add(volume.root.resolve(kind.directory).resolve(filename));
+        }
+        return candidates;
+    }
+    
+    private String shardKey(String filename) {
+        String base = FileUtils.getFileNameWithoutExtension(filename);
+        return VARIANT_SUFFIX.matcher(base).replaceFirst("");
+    }
+    
+    private String fanOut(byte[] digest) {
+        HexFormat hex = HexFormat.of();
+        return hex.toHexDigits(digest[0]) + "/" + hex.toHexDigits(digest[1]);
+    }
+    
+    // 가중치 rendezvous 해싱: 점수 -w / ln(u)가 가장 큰 볼륨 선택 (볼륨 추가 시 새 볼륨 몫만큼만 재배치)
+    private Volume placementVolume(byte[] digest) {
+        if (volumes.size() == 1) {
+            return volumes.get(0);
+        }
+        long keyHash = ByteBuffer.wrap(digest, 8, 8).getLong();
+        Volume selected = null;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (Volume volume : volumes) {
+            double u = ((mix(keyHash ^ volume.seed) >>> 11) + 1) * 0x1.0p-53;
+            double score = -volume.weight / Math.log(u);
+            if (score > bestScore) {
+                bestScore = score;
+                selected = volume;
+            }
+        }
+        return selected;
+    }
+    
+    private static long seed(String value) {
+        return ByteBuffer.wrap(FileUtils.newSha256().digest(value.getBytes(StandardCharsets.UTF_8))).getLong();
+    }
+    
+    // splitmix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+    
+    private static class Volume {
+        private final Path root;
+        private final double weight;
+        private final long seed;
+        
+        Volume(Path root, double weight, long seed) {
+            this.root = root;
+            this.weight = weight;
+            this.seed = seed;
+        }
+    }
+}
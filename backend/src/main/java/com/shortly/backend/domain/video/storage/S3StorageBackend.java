@@ -0,0 +1,171 @@
+package com.shortly.backend.domain.video.storage;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.HttpMethod;
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.Executors;
+
+/**
+ * S3 호환 저장소 (AWS S3, MinIO 등)
+ * 업로드/다운로드는 TransferManager로 파트를 나눠 병렬 전송하고,
+ * 클라이언트는 presigned URL로 저장소에 직접 올리고 재생한다.
+ */
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3")
+public class S3StorageBackend implements StorageBackend {
+    
+    @Value("${aws.s3.bucket-name}")
+    private String bucketName;
+    
+    @Value("${aws.s3.region:ap-northeast-2}")
+    private String region;
+    
+    // MinIO 등 S3 호환 저장소 주소 (비어 있으면 AWS 기본 엔드포인트)
+    @Value("${aws.s3.endpoint:}")
+    private String endpoint;
+    
+    // 비어 있으면 기본 자격 증명 체인(환경 변수, 인스턴스 역할 등) 사용
+    @Value("${aws.s3.access-key-id:}")
+    private String accessKeyId;
+    
+    @Value("${aws.s3.secret-access-key:}")
+    private String secretAccessKey;
+    
+    @Value("${aws.s3.path-style-access:false}")
+    private boolean pathStyleAccess;
+    
+    @Value("${storage.s3.part-size-mb:16}")
+    private long partSizeMb;
+    
+    @Value("${storage.s3.transfer-threads:4}")
+    private int transferThreads;
+    
+    private AmazonS3 s3;
+    private TransferManager transferManager;
+    
+    @PostConstruct
+    public void init() {
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+                .withPathStyleAccessEnabled(pathStyleAccess);
+        if (!endpoint.isBlank()) {
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region));
+        } else {
+            builder.withRegion(region);
+        }
+        if (!accessKeyId.isBlank()) {
+            builder.withCredentials(new AWSStaticCredentialsProvider(
+                    new BasicAWSCredentials(accessKeyId, secretAccessKey)));
+        }
+        s3 = builder.build();
+        
+        // 파트 크기의 두 배를 넘는 파일부터 멀티파트로 병렬 업로드
+        long partSize = partSizeMb * 1024 * 1024;
+        transferManager = TransferManagerBuilder.standard()
+                .withS3Client(s3)
+                .withMinimumUploadPartSize(partSize)
+                .withMultipartUploadThreshold(partSize * 2)
+                .withExecutorFactory(() -> Executors.newFixedThreadPool(transferThreads))
+                .build();
+        System.out.println("[S3Storage] 저장소 연결 - 버킷: " + bucketName
+                + (endpoint.isBlank() ? ", 리전: " + region : ", 엔드포인트: " + endpoint));
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        if (transferManager != null) {
+            transferManager.shutdownNow(true);
+        }
+    }
+    
+    @Override
+    public void store(String key, Path source) throws IOException {
+        try {
+            transferManager.upload(bucketName, key, source.toFile()).waitForCompletion();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("S3 upload interrupted: " + key, e);
+        } catch (AmazonClientException e) {
+            throw new IOException("S3 upload failed: " + key, e);
+        }
+    }
+    
+    @Override
+    public void fetch(String key, Path target) throws IOException {
+        try {
+            transferManager.download(bucketName, key, target.toFile()).waitForCompletion();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("S3 download interrupted: " + key, e);
+        } catch (AmazonClientException e) {
+            throw new IOException("S3 download failed: " + key, e);
+        }
+    }
+    
+    @Override
+    public boolean exists(String key) {
+        return s3.doesObjectExist(bucketName, key);
+    }
+    
+    @Override
+    public long size(String key) {
+        try {
+            return s3.getObjectMetadata(bucketName, key).getContentLength();
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                return -1;
+            }
+            throw e;
+        }
+    }
+    
+    @Override
+    public void delete(String key) {
+        try {
+            s3.deleteObject(bucketName, key);
+        } catch (AmazonClientException e) {
+            System.out.println("[S3Storage] 객체 삭제 실패: " + key + ", 오류: " + e.getMessage());
+        }
+    }
+    
+    @Override
+    public URL presignGet(String key, Duration ttl) {
+        return s3.generatePresignedUrl(new GeneratePresignedUrlRequest(bucketName, key, HttpMethod.GET)
+                .withExpiration(expiration(ttl)));
+    }
+    
+    @Override
+    public URL presignPut(String key, String contentType, Duration ttl) {
+        // 서명에 Content-Type이 포함되므로 클라이언트는 같은 값으로 PUT 해야 한다
+        return s3.generatePresignedUrl(new GeneratePresignedUrlRequest(bucketName, key, HttpMethod.PUT)
+                .withExpiration(expiration(ttl))
+                .withContentType(contentType));
+    }
+    
+    @Override
+    public boolean isRemote() {
+        return true;
+    }
+    
+    private Date expiration(Duration ttl) {
+        return new Date(System.currentTimeMillis() + ttl.toMillis());
+    }
+}
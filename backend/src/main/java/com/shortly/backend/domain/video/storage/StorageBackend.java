@@ -0,0 +1,37 @@
+package com.shortly.backend.domain.video.storage;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 원본 영상 저장소 (storage.type 설정으로 로컬 디스크 또는 S3 호환 저장소 선택)
+ * 키는 "videos/파일명"처럼 디렉토리를 포함한 상대 경로이며,
+ * FFmpeg 처리는 항상 로컬 파일로 하고 결과 원본만 저장소에 둔다.
+ * 썸네일/탐색 스프라이트/HLS 묶음은 아직 로컬 디스크(file.upload-dir)에만 생성되므로
+ * 여러 서버로 운영할 때는 해당 디렉토리를 공유 볼륨으로 두어야 한다.
+ */
+public interface StorageBackend {
+    
+    // 로컬 파일을 키 위치에 저장 (로컬 저장소는 이동, 원격 저장소는 업로드 후 원본 파일을 남겨둠)
+    void store(String key, Path source) throws IOException;
+    
+    // 키의 내용을 로컬 파일로 가져옴
+    void fetch(String key, Path target) throws IOException;
+    
+    boolean exists(String key);
+    
+    // 저장된 크기 (없으면 -1)
+    long size(String key);
+    
+    void delete(String key);
+    
+    // 클라이언트가 저장소에 직접 접근하는 URL (지원하지 않으면 null)
+    URL presignGet(String key, Duration ttl);
+    
+    URL presignPut(String key, String contentType, Duration ttl);
+    
+    // 저장소가 로컬 디스크가 아니면 true (처리용 로컬 파일은 작업 사본)
+    boolean isRemote();
+}
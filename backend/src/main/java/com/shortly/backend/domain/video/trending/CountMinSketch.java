@@ -0,0 +1,109 @@
+package com.shortly.backend.domain.video.trending;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * 문자열 키별 누적값 근사 (count-min sketch)
+ * 키 수와 상관없이 depth x width 칸만 쓰며, 추정값은 실제보다 작아지지 않는다.
+ * 보수적 갱신(현재 추정값에 닿는 칸만 올림)으로 다른 키와 겹쳐 생기는 과대 추정을 줄인다.
+ */
+public class CountMinSketch {
+    
+    private final int depth;
+    private final int width; // 2의 거듭제곱
+    private final double[][] counts;
+    
+    public CountMinSketch(int depth, int width) {
+        if (depth <= 0 || width <= 0 || Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("depth는 양수, width는 2의 거듭제곱이어야 합니다.");
+        }
+        this.depth = depth;
+        this.width = width;
+        this.counts = new double[depth][width];
+    }
+    
+    /**
+     * 키에 값을 더하고 더한 뒤의 추정값 반환
+     */
+    public double add(String key, double delta) {
+        long hash = hash(key);
+        double estimate = Double.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counts[row][index(hash, row)]);
+        }
+        double target = estimate + delta;
+        for (int row = 0; row < depth; row++) {
+            int column = index(hash, row);
+            if (counts[row][column] < target) {
+                counts[row][column] = target;
+            }
+        }
+        return target;
+    }
+    
+    public double estimate(String key) {
+        long hash = hash(key);
+        double estimate = Double.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counts[row][index(hash, row)]);
+        }
+        return estimate;
+    }
+    
+    // 모든 칸에 같은 배율 적용 (감쇠 기준 시각 이동용)
+    public void scale(double factor) {
+        for (double[] row : counts) {
+            for (int column = 0; column < width; column++) {
+                row[column] *= factor;
+            }
+        }
+    }
+    
+    public int getDepth() {
+        return depth;
+    }
+    
+    public int getWidth() {
+        return width;
+    }
+    
+    public void writeTo(DataOutputStream out) throws IOException {
+        for (double[] row : counts) {
+            for (double count : row) {
+                out.writeDouble(count);
+            }
+        }
+    }
+    
+    public void readFrom(DataInputStream in) throws IOException {
+        for (double[] row : counts) {
+            for (int column = 0; column < width; column++) {
+                row[column] = in.readDouble();
+            }
+        }
+    }
+    
+    // 행마다 다른 칸을 고르도록 64비트 해시 하나를 둘로 나눠 사용 (h1 + row * h2)
+    private int index(long hash, int row) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return (h1 + row * h2) & (width - 1);
+    }
+    
+    // FNV-1a 후 비트 섞기 (String.hashCode는 짧은 키에서 하위 비트가 고르지 않음)
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,143 @@
+package com.shortly.backend.domain.video.trending;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 점수 상위 capacity개 키 (최소 힙 + 키별 힙 위치)
+ * 가장 낮은 점수가 루트에 있어 새 키는 루트보다 높을 때만 루트를 밀어내고 들어온다.
+ * 이미 있는 키의 점수는 늘어나기만 하므로 아래쪽으로만 내려 보낸다.
+ */
+public class TopKHeap {
+    
+    private final int capacity;
+    private final String[] keys;
+    private final double[] scores;
+    private final Map<String, Integer> positions = new HashMap<>();
+    private int size;
+    
+    public TopKHeap(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity는 양수여야 합니다.");
+        }
+        this.capacity = capacity;
+        this.keys = new String[capacity];
+        this.scores = new double[capacity];
+    }
+    
+    /**
+     * 키의 최신 점수 반영 (상위권 밖이면 무시)
+     */
+    public void offer(String key, double score) {
+        Integer position = positions.get(key);
+        if (position != null) {
+            if (score > scores[position]) {
+                scores[position] = score;
+                siftDown(position);
+            }
+            return;
+        }
+        if (size < capacity) {
+            keys[size] = key;
+            scores[size] = score;
+            positions.put(key, size);
+            siftUp(size++);
+            return;
+        }
+        if (score <= scores[0]) {
+            return;
+        }
+        positions.remove(keys[0]);
+        keys[0] = key;
+        scores[0] = score;
+        positions.put(key, 0);
+        siftDown(0);
+    }
+    
+    // 모든 점수에 같은 배율 적용 (순서는 그대로)
+    public void scale(double factor) {
+        for (int i = 0; i < size; i++) {
+            scores[i] *= factor;
+        }
+    }
+    
+    // 점수 높은 순
+    public List<Entry> sorted() {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(scores[b], scores[a]));
+        List<Entry> entries = new ArrayList<>(size);
+        for (int i : order) {
+            entries.add(new Entry(keys[i], scores[i]));
+        }
+        return entries;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (scores[parent] <= scores[position]) {
+                break;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+    }
+    
+    private void siftDown(int position) {
+        while (true) {
+            int smallest = position;
+            int left = position * 2 + 1;
+            int right = left + 1;
+            if (left < size && scores[left] < scores[smallest]) {
+                smallest = left;
+            }
+            if (right < size && scores[right] < scores[smallest]) {
+                smallest = right;
+            }
+            if (smallest == position) {
+                return;
+            }
+            swap(position, smallest);
+            position = smallest;
+        }
+    }
+    
+    private void swap(int a, int b) {
+        String key = keys[a];
+        double score = scores[a];
+        keys[a] = keys[b];
+        scores[a] = scores[b];
+        keys[b] = key;
+        scores[b] = score;
+        positions.put(keys[a], a);
+        positions.put(keys[b], b);
+    }
+    
+    public static class Entry {
+        private final String key;
+        private final double score;
+        
+        Entry(String key, double score) {
+            this.key = key;
+            this.score = score;
+        }
+        
+        public String getKey() {
+            return key;
+        }
+        
+        public double getScore() {
+            return score;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.shortly.backend.domain.video.trending;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시간에 따라 반감기마다 절반으로 줄어드는 키별 점수 (count-min sketch + 상위 K 힙)
+ * 값을 줄이러 모든 칸을 돌지 않도록 기준 시각(landmark) 이후 경과 시간만큼 키워서 더하고(forward decay),
+ * 조회할 때 현재 시각까지의 감쇠를 한 번에 곱한다. 모든 키가 같은 비율로 줄어드므로 힙 순서는 감쇠로 바뀌지 않는다.
+ * 배율이 너무 커지기 전에 기준 시각을 현재로 옮기며 전체를 한 번 줄인다.
+ */
+public class TrendingCounter {
+    
+    private static final int SNAPSHOT_VERSION = 1;
+    // e^30 (약 1e13)을 넘기 전에 기준 시각 이동
+    private static final double MAX_EXPONENT = 30;
+    
+    private final double decayPerMilli;
+    private final CountMinSketch sketch;
+    private final TopKHeap topK;
+    private long landmarkMillis;
+    
+    public TrendingCounter(long halfLifeMillis, int depth, int width, int capacity, long nowMillis) {
+        if (halfLifeMillis <= 0) {
+            throw new IllegalArgumentException("반감기는 양수여야 합니다.");
+        }
+        this.decayPerMilli = Math.log(2) / halfLifeMillis;
+        this.sketch = new CountMinSketch(depth, width);
+        this.topK = new TopKHeap(capacity);
+        this.landmarkMillis = nowMillis;
+    }
+    
+    public synchronized void add(String key, double weight, long nowMillis) {
+        if (key == null || weight <= 0) {
+            return;
+        }
+        if (decayPerMilli * (nowMillis - landmarkMillis) > MAX_EXPONENT) {
+            moveLandmark(nowMillis);
+        }
+        double scaled = weight * Math.exp(decayPerMilli * (nowMillis - landmarkMillis));
+        topK.offer(key, sketch.add(key, scaled));
+    }
+    
+    /**
+     * 현재 시각 기준 점수 상위 키 (minScore 미만은 제외)
+     */
+    public synchronized List<TopKHeap.Entry> top(int limit, double minScore, long nowMillis) {
+        double decay = Math.exp(-decayPerMilli * (nowMillis - landmarkMillis));
+        List<TopKHeap.Entry> entries = new ArrayList<>();
+        for (TopKHeap.Entry entry : topK.sorted()) {
+            double score = entry.getScore() * decay;
+            if (entries.size() >= limit || score < minScore) {
+                break;
+            }
+            entries.add(new TopKHeap.Entry(entry.getKey(), score));
+        }
+        return entries;
+    }
+    
+    public synchronized double estimate(String key, long nowMillis) {
+        return sketch.estimate(key) * Math.exp(-decayPerMilli * (nowMillis - landmarkMillis));
+    }
+    
+    private void moveLandmark(long nowMillis) {
+        double factor = Math.exp(-decayPerMilli * (nowMillis - landmarkMillis));
+        sketch.scale(factor);
+        topK.scale(factor);
+        landmarkMillis = nowMillis;
+    }
+    
+    /**
+     * 현재 시각 기준 값으로 직렬화 (반감기가 바뀌어도 복원 후 새 반감기로 이어서 줄어듦)
+     */
+    public synchronized byte[] toSnapshot(long nowMillis) {
+        moveLandmark(nowMillis);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeLong(landmarkMillis);
+            out.writeInt(sketch.getDepth());
+            out.writeInt(sketch.getWidth());
+            sketch.writeTo(out);
+            List<TopKHeap.Entry> entries = topK.sorted();
+            out.writeInt(entries.size());
+            for (TopKHeap.Entry entry : entries) {
+                out.writeUTF(entry.getKey());
+                out.writeDouble(entry.getScore());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("스냅샷 직렬화 실패", e);
+        }
+        return bytes.toByteArray();
+    }
+    
+    /**
+     * 스냅샷 복원 (저장 후 지난 시간만큼은 조회 시 감쇠로 반영됨, 크기 설정이 다르면 예외)
+     */
+    public static TrendingCounter fromSnapshot(byte[] snapshot, long halfLifeMillis, int depth, int width,
+                                               int capacity) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(snapshot))) {
+            int version = in.readInt();
+            if (version != SNAPSHOT_VERSION) {
+                throw new IOException("지원하지 않는 스냅샷 버전: " + version);
+            }
+            long landmarkMillis = in.readLong();
+            int savedDepth = in.readInt();
+            int savedWidth = in.readInt();
+            if (savedDepth != depth || savedWidth != width) {
+                throw new IOException("스냅샷 크기가 다름: " + savedDepth + "x" + savedWidth);
+            }
+            TrendingCounter counter = new TrendingCounter(halfLifeMillis, depth, width, capacity, landmarkMillis);
+            counter.sketch.readFrom(in);
+            int entries = in.readInt();
+            for (int i = 0; i < entries; i++) {
+                counter.topK.offer(in.readUTF(), in.readDouble());
+            }
+            return counter;
+        }
+    }
+}
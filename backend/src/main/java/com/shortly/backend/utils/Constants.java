@@ -20,7 +20,74 @@ public final class Constants {
         public static final String[] SUPPORTED_IMAGE_FORMATS = {".jpg", ".jpeg", ".png", ".gif"};
         public static final String UPLOAD_DIR = "uploads/";
         public static final String VIDEO_DIR = "videos/";
+        public static final String INGEST_DIR = "ingest/"; // 처리 전 업로드 (저장소 직접 업로드 포함)
         public static final String THUMBNAIL_DIR = "thumbnails/";
+        
+        // 썸네일 변형 (너비별 JPEG/WebP/AVIF)
+        public static final int[] THUMBNAIL_WIDTHS = {160, 320, 640};
+        public static final String[] THUMBNAIL_VARIANT_FORMATS = {".avif", ".webp", ".jpg"}; // 선호 순서
+        
+        // 이어 올리기(청크) 업로드
+        public static final long DEFAULT_CHUNK_SIZE = 5 * 1024 * 1024; // 5MB
+        public static final long MIN_CHUNK_SIZE = 256 * 1024; // 256KB
+        public static final long MAX_CHUNK_SIZE = 16 * 1024 * 1024; // 16MB
+        public static final long UPLOAD_SESSION_TTL_HOURS = 24;
+        
+        // 저장소 직접 업로드 (presigned PUT URL 유효 시간)
+        public static final long DIRECT_UPLOAD_TTL_MINUTES = 30;
+        // 완료 처리를 시작한 뒤 이 시간이 지나도 남아 있으면 중단된 것으로 보고 정리
+        public static final long DIRECT_UPLOAD_CLAIM_TIMEOUT_MINUTES = 10;
+        public static final int DIRECT_UPLOAD_CLEANUP_BATCH_SIZE = 500;
+    }
+    
+    // 좋아요 관련 상수
+    public static final class Like {
+        // 사용자별 좋아요 ID 캐시 (목록 조회 시 좋아요 여부 확인용)
+        public static final int MAX_CACHED_USERS = 10_000;
+        public static final int MAX_CACHED_LIKES_PER_USER = 20_000; // 초과 사용자는 페이지마다 IN 조회
+        public static final long CACHE_TTL_MINUTES = 10;
+    }
+    
+    // 시청 이벤트 수집 관련 상수
+    public static final class Analytics {
+        public static final int MAX_EVENTS_PER_REQUEST = 500;
+        public static final long MAX_WATCH_MILLIS_PER_EVENT = 10 * 60 * 1000; // 10분 (보고 주기보다 긴 값은 잘라냄)
+    }
+    
+    // 구독 타임라인 관련 상수
+    public static final class Timeline {
+        public static final int BACKFILL_PER_CREATOR = 30; // 새로 구독 시 수신함에 채우는 최근 영상 수
+        public static final int PULL_CREATORS_PER_QUERY = 100; // 조회 시 병합하는 크리에이터 영상 쿼리 한 번의 크리에이터 수
+        public static final int TRIM_SUBSCRIBERS_PER_QUERY = 100; // 수신함 정리 시 넘친 항목을 찾는 쿼리 한 번의 구독자 수
+    }
+    
+    // 검색 관련 상수
+    public static final class Search {
+        public static final int MAX_RESULT_WINDOW = 1000; // 점수순 결과는 앞에서부터 이 개수까지만 페이지 이동 가능
+        public static final int INDEX_LOAD_BATCH_SIZE = 1000;
+        public static final int MAX_SUGGESTIONS = 10;
+        public static final int MAX_SUGGEST_TITLE_TERMS = 50_000; // 자동완성에 넣는 제목 단어 수 (많이 쓰인 순)
+    }
+    
+    // 태그 사전 관련 상수
+    public static final class Tag {
+        public static final int MAX_CACHED_TAGS = 500_000; // 초과분은 조회 시마다 DB에서 찾음
+        public static final int LOAD_BATCH_SIZE = 5000;
+    }
+    
+    // 인기 태그 관련 상수 (점수 가중치는 반감기 감쇠 전 이벤트 1건 기준)
+    public static final class Trending {
+        public static final double TAG_USE_WEIGHT = 5.0; // 업로드에 태그가 붙음
+        public static final double PLAY_START_WEIGHT = 1.0;
+        public static final double COMPLETION_WEIGHT = 2.0;
+        public static final double LIKE_WEIGHT = 3.0;
+        public static final double COMMENT_WEIGHT = 4.0;
+        public static final double MIN_SCORE = 1.0; // 이보다 낮아진 태그는 목록에서 제외
+        public static final int MAX_TRENDING_TAGS = 50;
+        public static final int TRACKED_TAGS = 200; // 상위 힙 크기 (응답 최대 개수보다 여유 있게)
+        public static final int SKETCH_DEPTH = 4;
+        public static final int SKETCH_WIDTH = 4096; // 2의 거듭제곱
+        public static final int TAG_LOOKUP_BATCH_SIZE = 1000;
     }
     
     // 유효성 검사 관련 상수
@@ -31,6 +98,8 @@ public final class Constants {
         public static final int MAX_TAG_LENGTH = 20;
         public static final int MIN_PASSWORD_LENGTH = 6;
         public static final int MAX_PASSWORD_LENGTH = 50;
+        public static final double MIN_VIDEO_DURATION_SECONDS = 5.0;
+        public static final double MAX_VIDEO_DURATION_SECONDS = 180.0; // 3분
     }
     
     // JWT 관련 상수
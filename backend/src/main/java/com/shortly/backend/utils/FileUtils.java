@@ -4,9 +4,15 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.UUID;
 
 /**
@@ -150,6 +156,50 @@ public final class FileUtils {
                      .trim();
     }
     
+    /**
+     * 파일 내용의 SHA-256 해시 (16진수 문자열)
+     */
+    public static String sha256Hex(Path path) throws IOException {
+        MessageDigest digest = newSha256();
+        updateDigest(digest, path, 0);
+        return toHex(digest.digest());
+    }
+    
+    /**
+     * 파일의 지정 위치부터 끝까지 해시에 반영 (이어 올리기에서 미처 계산하지 못한 뒷부분 처리용)
+     */
+    public static void updateDigest(MessageDigest digest, Path path, long fromOffset) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1024 * 1024);
+            long position = fromOffset;
+            int read;
+            while ((read = channel.read(buffer, position)) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+                position += read;
+            }
+        }
+    }
+    
+    /**
+     * SHA-256 MessageDigest 생성
+     */
+    public static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+    
+    /**
+     * 바이트 배열을 16진수 문자열로 변환
+     */
+    public static String toHex(byte[] bytes) {
+        return HexFormat.of().formatHex(bytes);
+    }
+    
     private FileUtils() {
         // 유틸리티 클래스이므로 인스턴스화 방지
     }
@@ -0,0 +1,111 @@
+package com.shortly.backend.utils;
+
+/**
+ * long 값 전용 해시 집합 (박싱 없이 배열 하나에 저장, 선형 탐사)
+ * 0은 빈 칸 표시로 쓰므로 따로 기록한다. 동기화하지 않으므로 호출 측에서 잠금 필요.
+ */
+public final class LongHashSet {
+    
+    private static final long EMPTY = 0L;
+    private static final double LOAD_FACTOR = 0.6;
+    
+    private long[] table;
+    private int size;
+    private boolean containsZero;
+    
+    public LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        table = new long[capacity];
+    }
+    
+    public boolean contains(long value) {
+        if (value == EMPTY) {
+            return containsZero;
+        }
+        int mask = table.length - 1;
+        for (int i = index(value, mask); ; i = (i + 1) & mask) {
+            long current = table[i];
+            if (current == EMPTY) {
+                return false;
+            }
+            if (current == value) {
+                return true;
+            }
+        }
+    }
+    
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            boolean added = !containsZero;
+            containsZero = true;
+            return added;
+        }
+        if (size + 1 > table.length * LOAD_FACTOR) {
+            rehash(table.length << 1);
+        }
+        int mask = table.length - 1;
+        for (int i = index(value, mask); ; i = (i + 1) & mask) {
+            long current = table[i];
+            if (current == value) {
+                return false;
+            }
+            if (current == EMPTY) {
+                table[i] = value;
+                size++;
+                return true;
+            }
+        }
+    }
+    
+    public boolean remove(long value) {
+        if (value == EMPTY) {
+            boolean removed = containsZero;
+            containsZero = false;
+            return removed;
+        }
+        int mask = table.length - 1;
+        int i = index(value, mask);
+        while (table[i] != value) {
+            if (table[i] == EMPTY) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        table[i] = EMPTY;
+        size--;
+        // 뒤따르는 항목을 다시 배치해 탐사 경로가 끊기지 않게 함
+        for (int j = (i + 1) & mask; table[j] != EMPTY; j = (j + 1) & mask) {
+            long moved = table[j];
+            table[j] = EMPTY;
+            size--;
+            add(moved);
+        }
+        return true;
+    }
+    
+    public int size() {
+        return size + (containsZero ? 1 : 0);
+    }
+    
+    private void rehash(int capacity) {
+        long[] old = table;
+        table = new long[capacity];
+        size = 0;
+        for (long value : old) {
+            if (value != EMPTY) {
+                add(value);
+            }
+        }
+    }
+    
+    private static int index(long value, int mask) {
+        // 연속된 ID가 한쪽에 몰리지 않도록 섞음
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+    
+    @Override
+    public String toString() {
+        return "LongHashSet{size=" + size() + ", capacity=" + table.length + "}";
+    }
+}
@@ -0,0 +1,90 @@
+package com.shortly.backend.utils;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 크기가 고정된 잠금 없는 링 버퍼 (여러 생산자, 소비자 하나)
+ * 칸마다 순번을 두어 생산자는 CAS로 자리를 잡고, 소비자는 순번으로 기록 완료 여부를 확인한다.
+ * 가득 차면 offer가 기다리지 않고 false를 반환한다.
+ */
+public final class MpscRingBuffer<E> {
+    
+    private final int capacity;
+    private final int mask;
+    private final Object[] slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    
+    // 소비자 스레드만 갱신 (size 계산용으로 volatile)
+    private volatile long head;
+    
+    public MpscRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.slots = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+    
+    public boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots[index] = element;
+                    // 순번 기록이 내용 공개 시점 (소비자는 순번을 먼저 읽음)
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                // 한 바퀴 전 내용을 아직 소비하지 않음 = 가득 참
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+    
+    /**
+     * 기록이 끝난 항목을 최대 maxElements개까지 꺼냄 (소비자 스레드 전용)
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(Collection<? super E> sink, int maxElements) {
+        long position = head;
+        int drained = 0;
+        while (drained < maxElements) {
+            int index = (int) position & mask;
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            E element = (E) slots[index];
+            slots[index] = null;
+            sequences.set(index, position + capacity);
+            position++;
+            sink.add(element);
+            drained++;
+        }
+        head = position;
+        return drained;
+    }
+    
+    // 대략적인 적재량 (모니터링용)
+    public int size() {
+        long size = tail.get() - head;
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+    
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -18,13 +18,23 @@ public final class ValidationUtils {
             return ValidationResult.error("파일이 선택되지 않았습니다.");
         }
         
+        return validateFile(file.getOriginalFilename(), file.getSize());
+    }
+    
+    /**
+     * 파일명/크기 유효성 검사 (이어 올리기 세션 생성 시 사용)
+     */
+    public static ValidationResult validateFile(String originalFilename, long size) {
+        if (size <= 0) {
+            return ValidationResult.error("파일이 선택되지 않았습니다.");
+        }
+        
         // 파일 크기 검사
-        if (file.getSize() > Constants.File.MAX_FILE_SIZE) {
+        if (size > Constants.File.MAX_FILE_SIZE) {
             return ValidationResult.error(Constants.ErrorMessages.FILE_TOO_LARGE);
         }
         
         // 파일 확장자 검사
-        String originalFilename = file.getOriginalFilename();
         if (originalFilename == null || !isValidVideoFormat(originalFilename)) {
             return ValidationResult.error(Constants.ErrorMessages.INVALID_FILE_FORMAT);
         }
@@ -0,0 +1,157 @@
+package com.shortly.backend.domain.common.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResponseCacheTest {
+
+	private static final Set<String> VIDEO_1 = Set.of(ResponseCache.videoToken(1L));
+
+	private ResponseCache cache;
+	private ExecutorService executor;
+
+	@BeforeEach
+	void setUp() {
+		cache = new ResponseCache(null);
+		ReflectionTestUtils.setField(cache, "maxSizeMb", 1L);
+		ReflectionTestUtils.setField(cache, "ttlSeconds", 60L);
+		cache.init();
+		executor = Executors.newFixedThreadPool(8);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void concurrentMissesLoadOnce() throws Exception {
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch loaderEntered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		List<Future<String>> results = new ArrayList<>();
+		results.add(executor.submit(() -> cache.get("feed:0", () -> {
+			loads.incrementAndGet();
+			loaderEntered.countDown();
+			await(release);
+			return ResponseCache.Fragment.of("page", 10, VIDEO_1);
+		})));
+		assertTrue(loaderEntered.await(5, TimeUnit.SECONDS));
+		// 첫 적재가 끝나기 전에 들어온 미스는 적재하지 않고 결과를 기다림
+		for (int i = 0; i < 7; i++) {
+			results.add(executor.submit(() -> cache.get("feed:0", () -> {
+				loads.incrementAndGet();
+				return ResponseCache.Fragment.of("other", 10, VIDEO_1);
+			})));
+		}
+		Thread.sleep(100);
+		release.countDown();
+
+		for (Future<String> result : results) {
+			assertEquals("page", result.get(5, TimeUnit.SECONDS));
+		}
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	void unrelatedInvalidationDuringLoadKeepsResult() {
+		AtomicInteger loads = new AtomicInteger();
+		cache.get("feed:0", () -> {
+			loads.incrementAndGet();
+			// 좋아요 수 반영처럼 다른 비디오의 무효화가 적재 중에 지나감
+			cache.invalidate(List.of(ResponseCache.videoToken(2L)));
+			return ResponseCache.Fragment.of("page", 10, VIDEO_1);
+		});
+
+		cache.get("feed:0", () -> {
+			loads.incrementAndGet();
+			return ResponseCache.Fragment.of("reloaded", 10, VIDEO_1);
+		});
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	void invalidationOfOwnTokenDuringLoadDiscardsResult() {
+		cache.get("feed:0", () -> {
+			cache.invalidate(List.of(ResponseCache.videoToken(1L)));
+			return ResponseCache.Fragment.of("stale", 10, VIDEO_1);
+		});
+
+		String value = cache.get("feed:0", () -> ResponseCache.Fragment.of("fresh", 10, VIDEO_1));
+		assertEquals("fresh", value);
+	}
+
+	@Test
+	void invalidateAllDuringLoadDiscardsResult() {
+		cache.get("feed:0", () -> {
+			cache.invalidateAll();
+			return ResponseCache.Fragment.of("stale", 10, VIDEO_1);
+		});
+
+		assertEquals("fresh", cache.get("feed:0", () -> ResponseCache.Fragment.of("fresh", 10, VIDEO_1)));
+	}
+
+	@Test
+	void invalidateRemovesLinkedEntriesOnly() {
+		cache.get("feed:0", () -> ResponseCache.Fragment.of("feed", 10, Set.of(ResponseCache.FEED_HEAD)));
+		cache.get("comments:1", () -> ResponseCache.Fragment.of("comments", 10,
+				Set.of(ResponseCache.commentsToken(1L))));
+
+		cache.invalidate(List.of(ResponseCache.FEED_HEAD));
+
+		assertEquals("feed-2", cache.get("feed:0",
+				() -> ResponseCache.Fragment.of("feed-2", 10, Set.of(ResponseCache.FEED_HEAD))));
+		assertEquals("comments", cache.get("comments:1",
+				() -> ResponseCache.Fragment.of("comments-2", 10, Set.of(ResponseCache.commentsToken(1L)))));
+	}
+
+	@Test
+	void loaderFailureReachesWaitersAndNextCallRetries() throws Exception {
+		CountDownLatch loaderEntered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		Future<String> leader = executor.submit(() -> cache.get("feed:0", () -> {
+			loaderEntered.countDown();
+			await(release);
+			throw new IllegalStateException("db down");
+		}));
+		assertTrue(loaderEntered.await(5, TimeUnit.SECONDS));
+		Future<String> waiter = executor.submit(() -> cache.get("feed:0",
+				() -> ResponseCache.Fragment.of("unused", 10, VIDEO_1)));
+		Thread.sleep(100);
+		release.countDown();
+
+		Exception leaderError = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+		assertTrue(leaderError.getCause() instanceof IllegalStateException);
+		Exception waiterError = assertThrows(Exception.class, () -> waiter.get(5, TimeUnit.SECONDS));
+		assertTrue(waiterError.getCause() instanceof IllegalStateException);
+
+		// 실패한 적재는 남지 않아 다음 요청이 다시 적재
+		assertEquals("recovered", cache.get("feed:0", () -> ResponseCache.Fragment.of("recovered", 10, VIDEO_1)));
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
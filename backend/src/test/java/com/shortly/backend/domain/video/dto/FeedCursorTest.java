@@ -0,0 +1,75 @@
+package com.shortly.backend.domain.video.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FeedCursorTest {
+
+	@Test
+	void encodeDecodeRoundTrip() {
+		LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_456_000);
+		FeedCursor decoded = FeedCursor.decode(new FeedCursor(createdAt, 42L).encode());
+
+		assertEquals(createdAt, decoded.getCreatedAt());
+		assertEquals(42L, decoded.getId());
+	}
+
+	@Test
+	void roundTripKeepsWholeMinutesAndLargeIds() {
+		// LocalDateTime.toString은 초가 0이면 생략함 ("2024-03-01T12:30")
+		LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 12, 30);
+		FeedCursor decoded = FeedCursor.decode(new FeedCursor(createdAt, Long.MAX_VALUE).encode());
+
+		assertEquals(createdAt, decoded.getCreatedAt());
+		assertEquals(Long.MAX_VALUE, decoded.getId());
+	}
+
+	@Test
+	void encodedCursorIsUrlSafe() {
+		String encoded = new FeedCursor(LocalDateTime.of(2024, 12, 31, 23, 59, 59, 999_999_999), 1L).encode();
+
+		assertFalse(encoded.contains("+"));
+		assertFalse(encoded.contains("/"));
+		assertFalse(encoded.contains("="));
+		assertTrue(encoded.matches("[A-Za-z0-9_-]+"));
+	}
+
+	@Test
+	void blankCursorMeansFirstPage() {
+		assertNull(FeedCursor.decode(null));
+		assertNull(FeedCursor.decode(""));
+		assertNull(FeedCursor.decode("  "));
+	}
+
+	@Test
+	void rejectsMalformedCursors() {
+		// Base64가 아님
+		assertMalformed("!!!");
+		// 구분자 없음
+		assertMalformed(encode("2024-03-01T12:30:15"));
+		// 시각 형식 오류
+		assertMalformed(encode("yesterday|42"));
+		// ID 형식 오류
+		assertMalformed(encode("2024-03-01T12:30:15|abc"));
+		assertMalformed(encode("2024-03-01T12:30:15|"));
+		assertMalformed(encode("2024-03-01T12:30:15|99999999999999999999"));
+	}
+
+	private static void assertMalformed(String cursor) {
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> FeedCursor.decode(cursor));
+		assertEquals("잘못된 커서입니다.", e.getMessage());
+	}
+
+	private static String encode(String raw) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
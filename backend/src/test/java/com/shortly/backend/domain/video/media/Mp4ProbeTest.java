@@ -0,0 +1,115 @@
+package com.shortly.backend.domain.video.media;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class Mp4ProbeTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void readsMetadataFromMoovAfterMdat() throws Exception {
+		// 세로로 촬영된 1920x1080 영상 (90도 회전 행렬), 30fps 10초
+		byte[] moov = box("moov",
+				mvhd(1000, 10_000),
+				trak(tkhd(1920, 1080, true), mdia(30_000, 300_000, "vide", "avc1", 300)),
+				trak(tkhd(0, 0, false), mdia(44_100, 441_000, "soun", "mp4a", 431)));
+		Path file = write(box("ftyp", "isom".getBytes(StandardCharsets.ISO_8859_1)),
+				box("mdat", new byte[1000]), moov);
+
+		VideoProbeResult result = Mp4Probe.probe(file);
+
+		assertNotNull(result);
+		assertEquals(10.0, result.getDurationSeconds(), 0.001);
+		assertEquals(1080, result.getMetadata().getWidth());
+		assertEquals(1920, result.getMetadata().getHeight());
+		assertEquals("h264", result.getMetadata().getVideoCodec());
+		assertEquals("aac", result.getMetadata().getAudioCodec());
+		assertEquals(30.0, result.getMetadata().getFrameRate(), 0.001);
+		assertEquals(Files.size(file) * 8 / 10, result.getMetadata().getBitrate());
+		assertFalse(result.getFaststart());
+	}
+
+	@Test
+	void reportsFaststartAndRejectsOtherContainers() throws Exception {
+		byte[] moov = box("moov",
+				mvhd(600, 3000),
+				trak(tkhd(720, 1280, false), mdia(600, 3000, "vide", "hvc1", 150)));
+		Path faststart = write(box("ftyp", "mp42".getBytes(StandardCharsets.ISO_8859_1)), moov, box("mdat", new byte[16]));
+
+		VideoProbeResult result = Mp4Probe.probe(faststart);
+
+		assertNotNull(result);
+		assertTrue(result.getFaststart());
+		assertEquals(720, result.getMetadata().getWidth());
+		assertEquals("hevc", result.getMetadata().getVideoCodec());
+
+		// WebM(EBML) 헤더는 파싱하지 않고 FFprobe에 맡긴다
+		Path webm = write(new byte[]{0x1A, 0x45, (byte) 0xDF, (byte) 0xA3, 0, 0, 0, 0, 0, 0, 0, 0});
+		assertNull(Mp4Probe.probe(webm));
+	}
+
+	private Path write(byte[]... parts) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		for (byte[] part : parts) {
+			out.write(part);
+		}
+		Path file = Files.createTempFile(tempDir, "probe", ".mp4");
+		Files.write(file, out.toByteArray());
+		return file;
+	}
+
+	private static byte[] box(String type, byte[]... children) {
+		int size = 8;
+		for (byte[] child : children) {
+			size += child.length;
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(size).putInt(size).put(type.getBytes(StandardCharsets.ISO_8859_1));
+		for (byte[] child : children) {
+			buffer.put(child);
+		}
+		return buffer.array();
+	}
+
+	private static byte[] mvhd(int timescale, int duration) {
+		return box("mvhd", ByteBuffer.allocate(100).putInt(0).putInt(0).putInt(0).putInt(timescale).putInt(duration).array());
+	}
+
+	private static byte[] trak(byte[]... children) {
+		return box("trak", children);
+	}
+
+	private static byte[] tkhd(int width, int height, boolean rotated) {
+		ByteBuffer body = ByteBuffer.allocate(84).putInt(0).putInt(0).putInt(0).putInt(1).putInt(0).putInt(0)
+				.putLong(0).putShort((short) 0).putShort((short) 0).putShort((short) 0).putShort((short) 0);
+		int[] matrix = rotated
+				? new int[]{0, 0x10000, 0, -0x10000, 0, 0, 0, 0, 0x40000000}
+				: new int[]{0x10000, 0, 0, 0, 0x10000, 0, 0, 0, 0x40000000};
+		for (int value : matrix) {
+			body.putInt(value);
+		}
+		body.putInt(width << 16).putInt(height << 16);
+		return box("tkhd", body.array());
+	}
+
+	private static byte[] mdia(int timescale, int duration, String handler, String format, int samples) {
+		byte[] mdhd = box("mdhd", ByteBuffer.allocate(24).putInt(0).putInt(0).putInt(0).putInt(timescale).putInt(duration).array());
+		byte[] hdlr = box("hdlr", ByteBuffer.allocate(24).putInt(0).putInt(0).put(handler.getBytes(StandardCharsets.ISO_8859_1)).array());
+		byte[] stsd = box("stsd", ByteBuffer.allocate(16).putInt(0).putInt(1).putInt(8).put(format.getBytes(StandardCharsets.ISO_8859_1)).array());
+		byte[] stts = box("stts", ByteBuffer.allocate(16).putInt(0).putInt(1).putInt(samples).putInt(duration / samples).array());
+		return box("mdia", mdhd, hdlr, box("minf", box("stbl", stsd, stts)));
+	}
+}
@@ -0,0 +1,139 @@
+package com.shortly.backend.domain.video.repository;
+
+import com.shortly.backend.domain.user.entity.User;
+import com.shortly.backend.domain.video.dto.FeedCursor;
+import com.shortly.backend.domain.video.dto.VideoFeedRow;
+import com.shortly.backend.domain.video.entity.Video;
+import com.shortly.backend.domain.video.entity.VideoStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 운영 DB(MySQL) 대신 내장 H2에서 JPQL 커서 조건만 확인
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class VideoRepositoryCursorTest {
+
+	private static final LocalDateTime NOON = LocalDateTime.of(2024, 3, 1, 12, 0);
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private VideoRepository videoRepository;
+
+	private User owner;
+
+	@BeforeEach
+	void setUp() {
+		owner = entityManager.persist(User.builder()
+				.username("owner")
+				.email("owner@example.com")
+				.password("password")
+				.role(User.Role.USER)
+				.build());
+	}
+
+	@Test
+	void keysetPagingNeitherSkipsNorRepeatsTiedRows() {
+		List<Long> expected = new ArrayList<>();
+		// 같은 시각에 올라온 비디오 여러 개가 페이지 경계에 걸치도록 배치
+		Long newest = video(NOON.plusMinutes(1));
+		List<Long> tiedAtNoon = List.of(video(NOON), video(NOON), video(NOON), video(NOON));
+		List<Long> tiedBefore = List.of(video(NOON.minusMinutes(1)), video(NOON.minusMinutes(1)));
+		Long oldest = video(NOON.minusMinutes(2));
+		video(NOON, VideoStatus.PROCESSING);
+		entityManager.flush();
+		entityManager.clear();
+
+		// (created_at, id) 내림차순
+		expected.add(newest);
+		expected.addAll(tiedAtNoon.reversed());
+		expected.addAll(tiedBefore.reversed());
+		expected.add(oldest);
+
+		for (int size = 1; size <= 4; size++) {
+			assertEquals(expected, readAllPages(size), "페이지 크기 " + size);
+		}
+	}
+
+	@Test
+	void cursorBetweenTiedRowsContinuesWithLowerIds() {
+		Long first = video(NOON);
+		Long second = video(NOON);
+		Long third = video(NOON);
+		entityManager.flush();
+		entityManager.clear();
+
+		Slice<VideoFeedRow> slice = videoRepository.findFeedSliceAfter(VideoStatus.READY, NOON, second,
+				PageRequest.of(0, 10));
+		assertEquals(List.of(first), ids(slice.getContent()));
+		assertFalse(slice.hasNext());
+
+		slice = videoRepository.findFeedSliceAfter(VideoStatus.READY, NOON, third + 1, PageRequest.of(0, 10));
+		assertEquals(List.of(third, second, first), ids(slice.getContent()));
+	}
+
+	private List<Long> readAllPages(int size) {
+		List<Long> seen = new ArrayList<>();
+		Set<Long> unique = new HashSet<>();
+		FeedCursor cursor = null;
+		while (true) {
+			Slice<VideoFeedRow> slice = cursor == null
+					? videoRepository.findFeedSlice(VideoStatus.READY, PageRequest.of(0, size))
+					: videoRepository.findFeedSliceAfter(VideoStatus.READY, cursor.getCreatedAt(), cursor.getId(),
+							PageRequest.of(0, size));
+			for (VideoFeedRow row : slice.getContent()) {
+				assertTrue(unique.add(row.getId()), "중복된 행: " + row.getId());
+				seen.add(row.getId());
+			}
+			if (!slice.hasNext()) {
+				return seen;
+			}
+			// 서비스와 같이 문자열로 주고받는 과정까지 포함
+			cursor = FeedCursor.decode(FeedCursor.of(slice.getContent().get(slice.getContent().size() - 1)).encode());
+		}
+	}
+
+	private Long video(LocalDateTime createdAt) {
+		return video(createdAt, VideoStatus.READY);
+	}
+
+	// created_at은 @PrePersist가 현재 시각으로 채우므로 저장 후 직접 덮어씀
+	private Long video(LocalDateTime createdAt, VideoStatus status) {
+		Video video = entityManager.persist(Video.builder()
+				.title("video")
+				.url("video.mp4")
+				.owner(owner)
+				.status(status)
+				.build());
+		entityManager.flush();
+		entityManager.getEntityManager()
+				.createQuery("UPDATE Video v SET v.createdAt = :createdAt WHERE v.id = :id")
+				.setParameter("createdAt", createdAt)
+				.setParameter("id", video.getId())
+				.executeUpdate();
+		return video.getId();
+	}
+
+	private static List<Long> ids(List<VideoFeedRow> rows) {
+		List<Long> ids = new ArrayList<>();
+		for (VideoFeedRow row : rows) {
+			ids.add(row.getId());
+		}
+		return ids;
+	}
+}
@@ -0,0 +1,40 @@
+package com.shortly.backend.domain.video.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HangulJamoTest {
+
+	@Test
+	void decomposesSyllablesIntoJamo() {
+		assertEquals("ㄱㅗㅇㅑㅇㅇㅣ", HangulJamo.decompose("고양이"));
+		assertEquals("ㄷㅏㄹㄱ", HangulJamo.decompose("닭"));
+		assertEquals("ㄱㅗㅏ", HangulJamo.decompose("과"));
+	}
+
+	@Test
+	void partialSyllableIsPrefixOfCompletedWord() {
+		// 받침을 치기 전 "고야"는 "고양"의 접두어
+		assertTrue(HangulJamo.decompose("고양이").startsWith(HangulJamo.decompose("고야")));
+		// 겹받침의 앞 자음까지만 친 "달"은 "닭"의 접두어
+		assertTrue(HangulJamo.decompose("닭갈비").startsWith(HangulJamo.decompose("달")));
+		// 겹모음의 앞 모음까지만 친 "고"는 "과"의 접두어
+		assertTrue(HangulJamo.decompose("과자").startsWith(HangulJamo.decompose("고")));
+	}
+
+	@Test
+	void finalConsonantMatchesNextInitial() {
+		// "각"과 "가ㄱ"은 같은 키
+		assertEquals(HangulJamo.decompose("각"), HangulJamo.decompose("가ㄱ"));
+		assertEquals(HangulJamo.decompose("닭"), HangulJamo.decompose("다ㄺ"));
+		assertEquals(HangulJamo.decompose("과"), HangulJamo.decompose("ㄱㅘ"));
+	}
+
+	@Test
+	void lowercasesOtherCharacters() {
+		assertEquals("cat 1ㄱㅏ", HangulJamo.decompose("CaT 1가"));
+		assertEquals("", HangulJamo.decompose(""));
+	}
+}
@@ -0,0 +1,97 @@
+package com.shortly.backend.domain.video.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NgramTokenizerTest {
+
+	@Test
+	void tokenizeEmitsUnigramsAndBigramsWithOffsets() {
+		List<String> emitted = new ArrayList<>();
+		NgramTokenizer.tokenize("Ab c", (token, start, end) -> emitted.add(start + "-" + end));
+
+		// A, b, Ab(바이그램은 뒷 글자에서 나옴), c (공백에서 끊겨 b-c 바이그램은 없음)
+		assertEquals(List.of("0-1", "1-2", "0-2", "3-4"), emitted);
+	}
+
+	@Test
+	void queryTokensUseBigramsForLongRunsAndUnigramsForSingleLetters() {
+		long[] bigram = NgramTokenizer.queryTokens("ab");
+		long[] unigram = NgramTokenizer.queryTokens("c");
+		assertEquals(1, bigram.length);
+		assertEquals(1, unigram.length);
+
+		// 색인 토큰과 같은 값이어야 검색이 됨
+		List<Long> indexed = new ArrayList<>();
+		NgramTokenizer.tokenize("ab c", (token, start, end) -> indexed.add(token));
+		assertTrue(indexed.contains(bigram[0]));
+		assertTrue(indexed.contains(unigram[0]));
+
+		assertEquals(2, NgramTokenizer.queryTokens("a, b").length);
+		assertEquals(0, NgramTokenizer.queryTokens("  !? ").length);
+		assertEquals(0, NgramTokenizer.queryTokens(null).length);
+	}
+
+	@Test
+	void queryTokensFoldCaseAndRemoveDuplicates() {
+		assertArrayEquals(NgramTokenizer.queryTokens("cat"), NgramTokenizer.queryTokens("CaT"));
+		// abab -> ab, ba (두 번째 ab는 중복)
+		assertEquals(2, NgramTokenizer.queryTokens("abab").length);
+	}
+
+	@Test
+	void highlightFindsHangulWordFollowedByParticle() {
+		String text = "귀여운 고양이가 잔다";
+		List<int[]> spans = NgramTokenizer.highlight(text, NgramTokenizer.queryTokens("고양이"));
+
+		assertEquals(1, spans.size());
+		assertSpan(spans.get(0), 4, 7);
+		assertEquals("고양이", text.substring(4, 7));
+	}
+
+	@Test
+	void highlightMergesOverlappingAndTouchingMatches() {
+		// "고양"과 "이가"는 붙어 있어 한 구간으로 합쳐짐
+		List<int[]> touching = NgramTokenizer.highlight("고양이가", NgramTokenizer.queryTokens("고양 이가"));
+		assertEquals(1, touching.size());
+		assertSpan(touching.get(0), 0, 4);
+
+		List<int[]> separate = NgramTokenizer.highlight("cat and cat", NgramTokenizer.queryTokens("cat"));
+		assertEquals(2, separate.size());
+		assertSpan(separate.get(0), 0, 3);
+		assertSpan(separate.get(1), 8, 11);
+	}
+
+	@Test
+	void highlightOffsetsCountSurrogatePairsAsTwoChars() {
+		// U+2070E, U+20731: 보충 평면 한자 (UTF-16 두 칸씩)
+		String text = "x𠜎𠜱y";
+		List<int[]> spans = NgramTokenizer.highlight(text, NgramTokenizer.queryTokens("𠜎𠜱"));
+
+		assertEquals(1, spans.size());
+		assertSpan(spans.get(0), 1, 5);
+		assertEquals("𠜎𠜱", text.substring(1, 5));
+
+		// 이모지는 글자가 아니라 토큰 경계로만 쓰임
+		List<int[]> afterEmoji = NgramTokenizer.highlight("😀고양이", NgramTokenizer.queryTokens("고양"));
+		assertSpan(afterEmoji.get(0), 2, 4);
+	}
+
+	@Test
+	void highlightWithoutMatchIsEmpty() {
+		assertTrue(NgramTokenizer.highlight("강아지", NgramTokenizer.queryTokens("고양이")).isEmpty());
+		assertTrue(NgramTokenizer.highlight(null, NgramTokenizer.queryTokens("고양이")).isEmpty());
+		assertTrue(NgramTokenizer.highlight("강아지", new long[0]).isEmpty());
+	}
+
+	private static void assertSpan(int[] span, int start, int end) {
+		assertEquals(start, span[0]);
+		assertEquals(end, span[1]);
+	}
+}
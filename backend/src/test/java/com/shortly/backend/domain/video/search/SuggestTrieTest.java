@@ -0,0 +1,109 @@
+package com.shortly.backend.domain.video.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SuggestTrieTest {
+
+	@Test
+	void suggestsWhileSyllableIsStillBeingTyped() {
+		SuggestTrie trie = new SuggestTrie();
+		trie.add(SuggestTrie.Kind.TAG, "고양이", 5);
+		trie.add(SuggestTrie.Kind.TAG, "닭갈비", 3);
+		trie.add(SuggestTrie.Kind.TAG, "고구마", 1);
+
+		assertEquals(List.of("고양이"), texts(trie.suggest("고야", 10)));
+		assertEquals(List.of("닭갈비"), texts(trie.suggest("달", 10)));
+		assertEquals(List.of("고양이", "고구마"), texts(trie.suggest("고", 10)));
+		assertEquals(List.of("고양이", "고구마"), texts(trie.suggest("ㄱ", 10)));
+		assertTrue(trie.suggest("강", 10).isEmpty());
+	}
+
+	@Test
+	void ordersByWeightAndKeepsOnlyTopK() {
+		SuggestTrie trie = new SuggestTrie();
+		// 상위 목록(16개)보다 많은 항목
+		for (int i = 1; i <= 20; i++) {
+			trie.add(SuggestTrie.Kind.TITLE, "cat" + i, i);
+		}
+
+		List<SuggestTrie.Match> top = trie.suggest("cat", 100);
+		assertEquals(16, top.size());
+		assertEquals("cat20", top.get(0).getText());
+		assertEquals(20, top.get(0).getWeight());
+		assertEquals("cat5", top.get(15).getText());
+		for (int i = 1; i < top.size(); i++) {
+			assertTrue(top.get(i - 1).getWeight() >= top.get(i).getWeight());
+		}
+		assertEquals(3, trie.suggest("cat", 3).size());
+	}
+
+	@Test
+	void weightIncreasePromotesEntryIntoTopK() {
+		SuggestTrie trie = new SuggestTrie();
+		for (int i = 1; i <= 20; i++) {
+			trie.add(SuggestTrie.Kind.TITLE, "cat" + i, i);
+		}
+		// 목록 밖이던 cat1이 가중치가 늘어 맨 앞으로 올라감
+		trie.add(SuggestTrie.Kind.TITLE, "cat1", 100);
+
+		List<SuggestTrie.Match> top = trie.suggest("cat", 100);
+		assertEquals(16, top.size());
+		assertEquals("cat1", top.get(0).getText());
+		assertEquals(101, top.get(0).getWeight());
+		assertEquals("cat6", top.get(15).getText());
+		// 더 긴 접두어 노드에도 반영
+		assertEquals("cat1", trie.suggest("cat1", 1).get(0).getText());
+		assertEquals(20, trie.size());
+	}
+
+	@Test
+	void equalWeightsKeepInsertionOrder() {
+		SuggestTrie trie = new SuggestTrie();
+		trie.add(SuggestTrie.Kind.TAG, "dog", 2);
+		trie.add(SuggestTrie.Kind.TAG, "dolphin", 2);
+		trie.add(SuggestTrie.Kind.TAG, "donut", 2);
+
+		assertEquals(List.of("dog", "dolphin", "donut"), texts(trie.suggest("do", 10)));
+	}
+
+	@Test
+	void sameTextFromTagAndTitleIsSuggestedOnce() {
+		SuggestTrie trie = new SuggestTrie();
+		trie.add(SuggestTrie.Kind.TAG, "Cat", 3);
+		trie.add(SuggestTrie.Kind.TITLE, "cat", 5);
+		trie.add(SuggestTrie.Kind.TITLE, "catch", 1);
+
+		List<SuggestTrie.Match> matches = trie.suggest("CA", 10);
+		assertEquals(List.of("cat", "catch"), texts(matches));
+		assertEquals(SuggestTrie.Kind.TITLE, matches.get(0).getKind());
+		assertEquals(3, trie.size());
+	}
+
+	@Test
+	void ignoresBlankTextAndNonPositiveDelta() {
+		SuggestTrie trie = new SuggestTrie();
+		trie.add(SuggestTrie.Kind.TAG, " ", 1);
+		trie.add(SuggestTrie.Kind.TAG, null, 1);
+		trie.add(SuggestTrie.Kind.TAG, "cat", 0);
+		trie.add(SuggestTrie.Kind.TAG, "cat", -1);
+
+		assertEquals(0, trie.size());
+		assertTrue(trie.suggest("c", 10).isEmpty());
+		assertTrue(trie.suggest("", 10).isEmpty());
+		assertTrue(trie.suggest("c", 0).isEmpty());
+	}
+
+	private static List<String> texts(List<SuggestTrie.Match> matches) {
+		List<String> texts = new ArrayList<>();
+		for (SuggestTrie.Match match : matches) {
+			texts.add(match.getText());
+		}
+		return texts;
+	}
+}
@@ -0,0 +1,160 @@
+package com.shortly.backend.domain.video.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VideoSearchIndexTest {
+
+	@Test
+	void matchesOnlyDocumentsContainingEveryQueryToken() {
+		VideoSearchIndex index = new VideoSearchIndex();
+		index.upsert(1, "고양이 영상", "", List.of());
+		index.upsert(2, "강아지 영상", "", List.of());
+		index.upsert(3, "고양이와 강아지", "", List.of());
+
+		assertArrayEquals(new long[]{3}, search(index, "고양이 강아지").getVideoIds());
+		assertEquals(2, search(index, "고양이").getTotal());
+		assertEquals(0, search(index, "햄스터").getTotal());
+		assertEquals(0, search(index, "").getTotal());
+	}
+
+	@Test
+	void findsHangulWordWithParticleAndIgnoresCase() {
+		VideoSearchIndex index = new VideoSearchIndex();
+		index.upsert(1, "고양이가 박스에 들어감", "", List.of());
+		index.upsert(2, "Funny CATS", "", List.of());
+
+		assertArrayEquals(new long[]{1}, search(index, "고양이").getVideoIds());
+		assertArrayEquals(new long[]{2}, search(index, "cats").getVideoIds());
+	}
+
+	@Test
+	void intersectsLongPostingListsWithoutMissingDocuments() {
+		VideoSearchIndex index = new VideoSearchIndex();
+		Set<Long> expected = new HashSet<>();
+		// 모든 문서에 있는 토큰과 드문드문 있는 토큰 두 개를 교차 (advance가 여러 칸씩 건너뜀)
+		for (long id = 1; id <= 3000; id++) {
+			List<String> tags = new ArrayList<>();
+			if (id % 7 == 0) {
+				tags.add("칠배수");
+			}
+			if (id % 11 == 0) {
+				tags.add("십일배수");
+			}
+			if (id % 77 == 0) {
+				expected.add(id);
+			}
+			index.upsert(id, "공통 제목 " + id, "", tags);
+		}
+
+		VideoSearchIndex.SearchHits hits = index.search(NgramTokenizer.queryTokens("공통 칠배수 십일배수"), 0, 1000);
+		assertEquals(expected.size(), hits.getTotal());
+		Set<Long> found = new HashSet<>();
+		for (long id : hits.getVideoIds()) {
+			found.add(id);
+		}
+		assertEquals(expected, found);
+	}
+
+	@Test
+	void ranksTitleAboveTagsAboveDescription() {
+		VideoSearchIndex index = new VideoSearchIndex();
+		index.upsert(1, "일상 브이로그", "고양이 간식 만들기", List.of());
+		index.upsert(2, "일상 브이로그", "", List.of("고양이"));
+		index.upsert(3, "고양이 간식", "일상 브이로그", List.of());
+
+		assertArrayEquals(new long[]{3, 2, 1}, search(index, "고양이").getVideoIds());
+	}
+
+	@Test
+	void ranksMoreOccurrencesAndShorterFieldsHigher() {
+		VideoSearchIndex index = new VideoSearchIndex();
+		index.upsert(1, "고양이", "", List.of());
+		index.upsert(2, "고양이 고양이 고양이", "", List.of());
+		index.upsert(3, "오늘 하루 종일 집에서 놀던 고양이", "", List.of());
+
+		long[] ranked = search(index, "고양이").getVideoIds();
+		assertEquals(2, ranked[0]);
+		assertEquals(3, ranked[2]);
+	}
+
+	@Test
+	void equalScoresPutNewerVideoFirst() {
+		VideoSearchIndex index = new VideoSearchIndex();
+		index.upsert(5, "고양이", "", List.of());
+		index.upsert(9, "고양이", "", List.of());
+		index.upsert(7, "고양이", "", List.of());
+
+		assertArrayEquals(new long[]{9, 7, 5}, search(index, "고양이").getVideoIds());
+	}
+
+	@Test
+	void pagesByOffsetAndLimitAndCountsWithZeroLimit() {
+		VideoSearchIndex index = new VideoSearchIndex();
+		for (long id = 1; id <= 10; id++) {
+			index.upsert(id, "고양이", "", List.of());
+		}
+		long[] query = NgramTokenizer.queryTokens("고양이");
+
+		VideoSearchIndex.SearchHits second = index.search(query, 3, 3);
+		assertEquals(10, second.getTotal());
+		assertArrayEquals(new long[]{7, 6, 5}, second.getVideoIds());
+
+		VideoSearchIndex.SearchHits countOnly = index.search(query, 0, 0);
+		assertEquals(10, countOnly.getTotal());
+		assertEquals(0, countOnly.getVideoIds().length);
+
+		assertEquals(0, index.search(query, 20, 5).getVideoIds().length);
+	}
+
+	@Test
+	void upsertReplacesPreviousContent() {
+		VideoSearchIndex index = new VideoSearchIndex();
+		index.upsert(1, "고양이 영상", "", List.of());
+		index.upsert(1, "강아지 영상", "", List.of("산책"));
+
+		assertEquals(1, index.size());
+		assertEquals(0, search(index, "고양이").getTotal());
+		assertArrayEquals(new long[]{1}, search(index, "강아지 산책").getVideoIds());
+
+		// 내용이 같으면 변화 없음
+		index.upsert(1, "강아지 영상", "", List.of("산책"));
+		assertEquals(1, index.size());
+		assertEquals(1, search(index, "강아지").getTotal());
+	}
+
+	@Test
+	void removeExcludesVideoAndAllowsReinsert() {
+		VideoSearchIndex index = new VideoSearchIndex();
+		index.upsert(1, "고양이", "", List.of());
+		index.upsert(2, "고양이", "", List.of());
+
+		assertTrue(index.remove(1));
+		assertFalse(index.remove(1));
+		assertFalse(index.remove(42));
+		assertEquals(1, index.size());
+		assertArrayEquals(new long[]{2}, search(index, "고양이").getVideoIds());
+
+		index.upsert(1, "고양이", "", List.of());
+		assertEquals(2, index.size());
+		assertEquals(2, search(index, "고양이").getTotal());
+
+		assertTrue(index.remove(1));
+		assertTrue(index.remove(2));
+		assertEquals(0, index.size());
+		assertEquals(0, search(index, "고양이").getTotal());
+	}
+
+	private static VideoSearchIndex.SearchHits search(VideoSearchIndex index, String query) {
+		return index.search(NgramTokenizer.queryTokens(query), 0, 100);
+	}
+}
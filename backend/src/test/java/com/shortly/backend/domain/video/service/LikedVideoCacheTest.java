@@ -0,0 +1,113 @@
+package com.shortly.backend.domain.video.service;
+
+import com.shortly.backend.domain.video.repository.VideoLikeRepository;
+import com.shortly.backend.utils.Constants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongPredicate;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LikedVideoCacheTest {
+
+	private static final Long USER = 7L;
+
+	private VideoLikeRepository repository;
+	private LikedVideoCache cache;
+
+	@BeforeEach
+	void setUp() {
+		repository = mock(VideoLikeRepository.class);
+		cache = new LikedVideoCache(repository);
+	}
+
+	@Test
+	void loadsOnceAndAnswersFromCache() {
+		when(repository.findLikedVideoIds(eq(USER), any(Pageable.class))).thenReturn(List.of(1L, 2L, 3L));
+
+		LongPredicate liked = cache.likedAmong(USER, List.of(1L, 4L));
+		assertTrue(liked.test(1));
+		assertFalse(liked.test(4));
+		assertTrue(cache.isLiked(USER, 3L));
+
+		verify(repository, times(1)).findLikedVideoIds(eq(USER), any(Pageable.class));
+		verify(repository, never()).findLikedVideoIdsIn(any(), anyCollection());
+	}
+
+	@Test
+	void committedLikeAndUnlikeUpdateCachedSet() {
+		when(repository.findLikedVideoIds(eq(USER), any(Pageable.class))).thenReturn(List.of(1L));
+		assertFalse(cache.isLiked(USER, 5L));
+
+		// 트랜잭션 밖에서는 바로 반영
+		cache.recordLike(USER, 5L);
+		cache.recordUnlike(USER, 1L);
+
+		assertTrue(cache.isLiked(USER, 5L));
+		assertFalse(cache.isLiked(USER, 1L));
+		verify(repository, times(1)).findLikedVideoIds(eq(USER), any(Pageable.class));
+	}
+
+	@Test
+	void likeDuringLoadDiscardsLoadedSet() {
+		// 적재 쿼리가 읽은 뒤 결과가 반환되기 전에 좋아요가 커밋됨
+		when(repository.findLikedVideoIds(eq(USER), any(Pageable.class)))
+				.thenAnswer(invocation -> {
+					cache.recordLike(USER, 9L);
+					return List.of(1L);
+				})
+				.thenReturn(List.of(1L, 9L));
+
+		// 이번 요청에는 읽은 결과를 쓰지만 캐시에는 남기지 않음
+		assertFalse(cache.isLiked(USER, 9L));
+		// 다음 요청은 다시 적재해 새 좋아요를 봄
+		assertTrue(cache.isLiked(USER, 9L));
+		assertTrue(cache.isLiked(USER, 9L));
+		verify(repository, times(2)).findLikedVideoIds(eq(USER), any(Pageable.class));
+	}
+
+	@Test
+	void likeByUserInOtherStripeDoesNotDiscardLoad() {
+		Long otherStripeUser = USER + 1;
+		when(repository.findLikedVideoIds(eq(USER), any(Pageable.class)))
+				.thenAnswer(invocation -> {
+					cache.recordLike(otherStripeUser, 9L);
+					return List.of(1L);
+				});
+
+		assertTrue(cache.isLiked(USER, 1L));
+		assertTrue(cache.isLiked(USER, 1L));
+		verify(repository, times(1)).findLikedVideoIds(eq(USER), any(Pageable.class));
+	}
+
+	@Test
+	void userWithTooManyLikesUsesPerPageQuery() {
+		List<Long> many = new ArrayList<>();
+		for (long id = 1; id <= Constants.Like.MAX_CACHED_LIKES_PER_USER + 1; id++) {
+			many.add(id);
+		}
+		when(repository.findLikedVideoIds(eq(USER), any(Pageable.class))).thenReturn(many);
+		when(repository.findLikedVideoIdsIn(eq(USER), anyCollection())).thenReturn(List.of(2L));
+
+		LongPredicate liked = cache.likedAmong(USER, List.of(2L, 3L));
+		assertTrue(liked.test(2));
+		assertFalse(liked.test(3));
+		// 캐시하지 않는 사용자로 기억되어 다시 전체를 읽지 않음
+		cache.likedAmong(USER, List.of(2L));
+		verify(repository, times(1)).findLikedVideoIds(eq(USER), any(Pageable.class));
+		verify(repository, times(2)).findLikedVideoIdsIn(eq(USER), anyCollection());
+	}
+}
@@ -0,0 +1,118 @@
+package com.shortly.backend.domain.video.service;
+
+import com.shortly.backend.domain.video.dto.FeedCursor;
+import com.shortly.backend.domain.video.dto.VideoResponse;
+import com.shortly.backend.domain.video.dto.VideoSearchResponse;
+import com.shortly.backend.domain.video.entity.VideoStatus;
+import com.shortly.backend.domain.video.repository.VideoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VideoSearchServiceTest {
+
+	private VideoRepository videoRepository;
+	private VideoService videoService;
+	private VideoSearchService searchService;
+
+	@BeforeEach
+	void setUp() {
+		videoRepository = mock(VideoRepository.class);
+		videoService = mock(VideoService.class);
+		searchService = new VideoSearchService(videoRepository, videoService);
+
+		List<VideoRepository.VideoSearchSource> sources = new ArrayList<>();
+		for (long id = 1; id <= 5; id++) {
+			sources.add(source(id, "고양이 영상 " + id));
+		}
+		when(videoRepository.findSearchSourcesAfterId(eq(VideoStatus.READY), eq(0L), any(Pageable.class))).thenReturn(sources);
+		when(videoRepository.findSearchSourcesAfterId(eq(VideoStatus.READY), eq(5L), any(Pageable.class))).thenReturn(List.of());
+		when(videoService.getVideosByIds(anyList())).thenAnswer(invocation -> {
+			List<VideoResponse> videos = new ArrayList<>();
+			for (Long id : invocation.<List<Long>>getArgument(0)) {
+				videos.add(VideoResponse.builder().id(id).title("고양이 영상 " + id).build());
+			}
+			return videos;
+		});
+	}
+
+	@Test
+	void fallbackCursorKeepsWorkingAfterIndexBecomesReady() {
+		// 색인 준비 전: DB 검색이 (created_at, id) 커서를 돌려줌
+		String dbCursor = new FeedCursor(LocalDateTime.of(2024, 3, 1, 12, 0), 3L).encode();
+		VideoSearchResponse firstPage = VideoSearchResponse.builder().nextCursor(dbCursor).hasNext(true).build();
+		VideoSearchResponse secondPage = VideoSearchResponse.builder().hasNext(false).build();
+		when(videoService.searchVideosByCursor("고양이", null, 2)).thenReturn(firstPage);
+		when(videoService.searchVideosByCursor("고양이", dbCursor, 2)).thenReturn(secondPage);
+
+		assertSame(firstPage, searchService.searchByCursor("고양이", null, 2));
+
+		searchService.rebuild();
+
+		// 준비 후에도 받은 커서로 다음 페이지를 이어서 읽음 (400 아님)
+		assertSame(secondPage, searchService.searchByCursor("고양이", dbCursor, 2));
+		verify(videoService).searchVideosByCursor("고양이", dbCursor, 2);
+	}
+
+	@Test
+	void readyIndexPagesWithOffsetCursors() {
+		searchService.rebuild();
+
+		VideoSearchResponse first = searchService.searchByCursor("고양이", null, 2);
+		assertEquals(5L, first.getTotal());
+		assertEquals(List.of(5L, 4L), ids(first));
+		assertNotNull(first.getNextCursor());
+
+		VideoSearchResponse second = searchService.searchByCursor("고양이", first.getNextCursor(), 2);
+		assertEquals(List.of(3L, 2L), ids(second));
+
+		VideoSearchResponse third = searchService.searchByCursor("고양이", second.getNextCursor(), 2);
+		assertEquals(List.of(1L), ids(third));
+		assertNull(third.getNextCursor());
+		verify(videoService, never()).searchVideosByCursor(anyString(), any(), anyInt());
+	}
+
+	@Test
+	void malformedCursorIsRejectedWhenIndexIsReady() {
+		searchService.rebuild();
+
+		// Base64가 아니면 DB 검색으로 넘기지 않고 색인 쪽에서 거절
+		assertThrows(IllegalArgumentException.class, () -> searchService.searchByCursor("고양이", "!!!", 2));
+		verify(videoService, never()).searchVideosByCursor(anyString(), any(), anyInt());
+	}
+
+	private static List<Long> ids(VideoSearchResponse response) {
+		List<Long> ids = new ArrayList<>();
+		for (VideoResponse video : response.getVideos()) {
+			ids.add(video.getId());
+		}
+		return ids;
+	}
+
+	private static VideoRepository.VideoSearchSource source(long id, String title) {
+		VideoRepository.VideoSearchSource source = mock(VideoRepository.VideoSearchSource.class);
+		when(source.getId()).thenReturn(id);
+		when(source.getTitle()).thenReturn(title);
+		when(source.getStatus()).thenReturn(VideoStatus.READY);
+		return source;
+	}
+}
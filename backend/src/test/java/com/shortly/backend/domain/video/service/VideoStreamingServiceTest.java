@@ -0,0 +1,179 @@
+package com.shortly.backend.domain.video.service;
+
+import com.shortly.backend.domain.common.service.ResponseCache;
+import com.shortly.backend.domain.video.controller.VideoController;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+
+class VideoStreamingServiceTest {
+
+	private static final String FILENAME = "clip.mp4";
+	private static final String PATH = "/api/videos/file/" + FILENAME;
+	private static final int SIZE = 100;
+	private static final Instant LAST_MODIFIED = Instant.parse("2024-03-01T00:00:00Z");
+
+	@TempDir
+	Path dir;
+
+	private FileService fileService;
+	private MockMvc mockMvc;
+	private byte[] content;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		content = new byte[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			content[i] = (byte) i;
+		}
+		Path file = dir.resolve(FILENAME);
+		Files.write(file, content);
+		Files.setLastModifiedTime(file, FileTime.from(LAST_MODIFIED));
+
+		fileService = mock(FileService.class);
+		when(fileService.getVideoPath(anyString())).thenAnswer(invocation -> dir.resolve(invocation.<String>getArgument(0)));
+		VideoController controller = new VideoController(mock(VideoService.class), mock(VideoSearchService.class),
+				mock(HlsPackagingService.class), new VideoStreamingService(fileService), mock(ThumbnailBackfillService.class),
+				mock(SpriteSheetService.class), mock(ThumbnailService.class), mock(MediaLayoutMigrationService.class),
+				mock(ResponseCache.class));
+		mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+	}
+
+	@Test
+	void withoutRangeReturnsWholeFile() throws Exception {
+		MockHttpServletResponse response = perform(get(PATH));
+
+		assertEquals(200, response.getStatus());
+		assertArrayEquals(content, response.getContentAsByteArray());
+		assertEquals("100", response.getHeader(HttpHeaders.CONTENT_LENGTH));
+		assertEquals("bytes", response.getHeader(HttpHeaders.ACCEPT_RANGES));
+		assertEquals("video/mp4", response.getContentType());
+		assertNull(response.getHeader(HttpHeaders.CONTENT_RANGE));
+	}
+
+	@Test
+	void boundedRangeReturnsPartialContent() throws Exception {
+		assertPartial(perform(get(PATH).header(HttpHeaders.RANGE, "bytes=10-19")), 10, 19);
+		assertPartial(perform(get(PATH).header(HttpHeaders.RANGE, "bytes=0-0")), 0, 0);
+		// 끝이 파일보다 크면 마지막 바이트까지
+		assertPartial(perform(get(PATH).header(HttpHeaders.RANGE, "bytes=90-500")), 90, 99);
+	}
+
+	@Test
+	void openEndedAndSuffixRanges() throws Exception {
+		assertPartial(perform(get(PATH).header(HttpHeaders.RANGE, "bytes=95-")), 95, 99);
+		assertPartial(perform(get(PATH).header(HttpHeaders.RANGE, "bytes=-10")), 90, 99);
+		// 파일보다 긴 접미 범위는 파일 전체
+		assertPartial(perform(get(PATH).header(HttpHeaders.RANGE, "bytes=-500")), 0, 99);
+	}
+
+	@Test
+	void unsatisfiableRangeReturns416() throws Exception {
+		for (String range : new String[]{"bytes=100-", "bytes=150-200", "bytes=-0"}) {
+			MockHttpServletResponse response = perform(get(PATH).header(HttpHeaders.RANGE, range));
+			assertEquals(416, response.getStatus(), range);
+			assertEquals("bytes */100", response.getHeader(HttpHeaders.CONTENT_RANGE), range);
+		}
+	}
+
+	@Test
+	void multiRangeAndUnparsableRangesFallBackToWholeFile() throws Exception {
+		for (String range : new String[]{"bytes=0-9,20-29", "bytes=20-10", "bytes=a-b", "bytes=10", "items=0-9"}) {
+			MockHttpServletResponse response = perform(get(PATH).header(HttpHeaders.RANGE, range));
+			assertEquals(200, response.getStatus(), range);
+			assertArrayEquals(content, response.getContentAsByteArray(), range);
+			assertNull(response.getHeader(HttpHeaders.CONTENT_RANGE), range);
+		}
+	}
+
+	@Test
+	void ifRangeWithCurrentValidatorHonorsRange() throws Exception {
+		String eTag = perform(head(PATH)).getHeader(HttpHeaders.ETAG);
+
+		assertPartial(perform(get(PATH).header(HttpHeaders.RANGE, "bytes=0-9").header(HttpHeaders.IF_RANGE, eTag)), 0, 9);
+		assertPartial(perform(get(PATH).header(HttpHeaders.RANGE, "bytes=0-9")
+				.header(HttpHeaders.IF_RANGE, "Fri, 01 Mar 2024 00:00:00 GMT")), 0, 9);
+	}
+
+	@Test
+	void ifRangeWithStaleValidatorReturnsWholeFile() throws Exception {
+		String[] staleValidators = {"\"other-etag\"", "W/\"weak\"", "Thu, 29 Feb 2024 23:59:59 GMT", "not a date"};
+		for (String ifRange : staleValidators) {
+			MockHttpServletResponse response = perform(get(PATH).header(HttpHeaders.RANGE, "bytes=0-9")
+					.header(HttpHeaders.IF_RANGE, ifRange));
+			assertEquals(200, response.getStatus(), ifRange);
+			assertArrayEquals(content, response.getContentAsByteArray(), ifRange);
+		}
+	}
+
+	@Test
+	void ifNoneMatchWithCurrentETagReturns304() throws Exception {
+		String eTag = perform(head(PATH)).getHeader(HttpHeaders.ETAG);
+
+		MockHttpServletResponse notModified = perform(get(PATH).header(HttpHeaders.IF_NONE_MATCH, eTag)
+				.header(HttpHeaders.RANGE, "bytes=0-9"));
+		assertEquals(304, notModified.getStatus());
+		assertEquals(0, notModified.getContentAsByteArray().length);
+
+		MockHttpServletResponse changed = perform(get(PATH).header(HttpHeaders.IF_NONE_MATCH, "\"other-etag\""));
+		assertEquals(200, changed.getStatus());
+		assertArrayEquals(content, changed.getContentAsByteArray());
+	}
+
+	@Test
+	void headReturnsHeadersWithoutBody() throws Exception {
+		MockHttpServletResponse response = perform(head(PATH).header(HttpHeaders.RANGE, "bytes=10-19"));
+
+		assertEquals(206, response.getStatus());
+		assertEquals("10", response.getHeader(HttpHeaders.CONTENT_LENGTH));
+		assertEquals(0, response.getContentAsByteArray().length);
+	}
+
+	@Test
+	void rejectsHiddenAndMissingFiles() throws Exception {
+		assertEquals(400, perform(get("/api/videos/file/.clip.mp4")).getStatus());
+		assertEquals(404, perform(get("/api/videos/file/missing.mp4")).getStatus());
+	}
+
+	@Test
+	void remoteStorageRedirectsToDownloadUrl() throws Exception {
+		when(fileService.isRemoteStorage()).thenReturn(true);
+		when(fileService.getVideoDownloadUrl(FILENAME)).thenReturn(URI.create("https://cdn.example.com/clip.mp4?sig=abc").toURL());
+
+		MockHttpServletResponse response = perform(get(PATH).header(HttpHeaders.RANGE, "bytes=0-9"));
+		assertEquals(302, response.getStatus());
+		assertEquals("https://cdn.example.com/clip.mp4?sig=abc", response.getRedirectedUrl());
+	}
+
+	private MockHttpServletResponse perform(MockHttpServletRequestBuilder request) throws Exception {
+		return mockMvc.perform(request).andReturn().getResponse();
+	}
+
+	private void assertPartial(MockHttpServletResponse response, int start, int end) {
+		assertEquals(206, response.getStatus());
+		assertEquals("bytes " + start + "-" + end + "/" + SIZE, response.getHeader(HttpHeaders.CONTENT_RANGE));
+		assertEquals(String.valueOf(end - start + 1), response.getHeader(HttpHeaders.CONTENT_LENGTH));
+		assertArrayEquals(Arrays.copyOfRange(content, start, end + 1), response.getContentAsByteArray());
+	}
+}
@@ -0,0 +1,278 @@
+package com.shortly.backend.domain.video.storage;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 테스트용 S3 호환 서버 (경로 방식 주소, 단일/멀티파트 업로드, 조회/범위 조회/삭제)
+ * 서명은 검증하지 않으며 SDK가 보내는 aws-chunked 본문만 풀어서 저장한다.
+ */
+class FakeS3Server implements AutoCloseable {
+
+	private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d*)");
+
+	private final HttpServer server;
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+	private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+	private final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+	private final AtomicInteger uploadSequence = new AtomicInteger();
+	// "메서드 경로?쿼리" 형태의 요청 기록
+	private final List<String> requests = Collections.synchronizedList(new ArrayList<>());
+
+	FakeS3Server() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", this::handle);
+		server.setExecutor(executor);
+		server.start();
+	}
+
+	String endpoint() {
+		return "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	StoredObject object(String bucket, String key) {
+		return objects.get(bucket + "/" + key);
+	}
+
+	List<String> requests() {
+		synchronized (requests) {
+			return new ArrayList<>(requests);
+		}
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			String method = exchange.getRequestMethod();
+			String path = exchange.getRequestURI().getPath().substring(1);
+			Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+			requests.add(method + " /" + path + (query.isEmpty() ? "" : "?" + String.join("&", query.keySet())));
+
+			byte[] body = exchange.getRequestBody().readAllBytes();
+			String sha256 = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+			if (sha256 != null && sha256.startsWith("STREAMING-")) {
+				body = decodeChunked(body);
+			}
+
+			switch (method) {
+				case "PUT" -> handlePut(exchange, path, query, body);
+				case "POST" -> handlePost(exchange, path, query, body);
+				case "GET" -> {
+					if (query.containsKey("uploadId")) {
+						handleListParts(exchange, path, query.get("uploadId"));
+					} else {
+						handleGet(exchange, path, false);
+					}
+				}
+				case "HEAD" -> handleGet(exchange, path, true);
+				case "DELETE" -> {
+					if (query.containsKey("uploadId")) {
+						uploads.remove(query.get("uploadId"));
+					} else {
+						objects.remove(path);
+					}
+					exchange.sendResponseHeaders(204, -1);
+				}
+				default -> exchange.sendResponseHeaders(405, -1);
+			}
+		}
+	}
+
+	private void handlePut(HttpExchange exchange, String path, Map<String, String> query, byte[] body) throws IOException {
+		String etag = "\"" + md5Hex(body) + "\"";
+		if (query.containsKey("uploadId")) {
+			Map<Integer, byte[]> parts = uploads.get(query.get("uploadId"));
+			if (parts == null) {
+				sendError(exchange, 404, "NoSuchUpload");
+				return;
+			}
+			parts.put(Integer.parseInt(query.get("partNumber")), body);
+		} else {
+			String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+			objects.put(path, new StoredObject(body, contentType, etag));
+		}
+		exchange.getResponseHeaders().set("ETag", etag);
+		exchange.sendResponseHeaders(200, -1);
+	}
+
+	private void handlePost(HttpExchange exchange, String path, Map<String, String> query, byte[] body) throws IOException {
+		String bucket = path.substring(0, path.indexOf('/'));
+		String key = path.substring(path.indexOf('/') + 1);
+		if (query.containsKey("uploads")) {
+			String uploadId = "upload-" + uploadSequence.incrementAndGet();
+			uploads.put(uploadId, Collections.synchronizedSortedMap(new TreeMap<>()));
+			sendXml(exchange, "<InitiateMultipartUploadResult><Bucket>" + bucket + "</Bucket><Key>" + key
+					+ "</Key><UploadId>" + uploadId + "</UploadId></InitiateMultipartUploadResult>");
+			return;
+		}
+		Map<Integer, byte[]> parts = uploads.remove(query.get("uploadId"));
+		if (parts == null) {
+			sendError(exchange, 404, "NoSuchUpload");
+			return;
+		}
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		for (byte[] part : parts.values()) {
+			content.write(part);
+		}
+		// 멀티파트 ETag는 "-파트 수"가 붙어 SDK가 MD5 비교를 하지 않음
+		String etag = "\"" + md5Hex(content.toByteArray()) + "-" + parts.size() + "\"";
+		objects.put(path, new StoredObject(content.toByteArray(), null, etag));
+		sendXml(exchange, "<CompleteMultipartUploadResult><Bucket>" + bucket + "</Bucket><Key>" + key
+				+ "</Key><ETag>" + etag.replace("\"", "&quot;") + "</ETag></CompleteMultipartUploadResult>");
+	}
+
+	// 이어 올리기 확인용 업로드된 파트 목록
+	private void handleListParts(HttpExchange exchange, String path, String uploadId) throws IOException {
+		Map<Integer, byte[]> parts = uploads.get(uploadId);
+		if (parts == null) {
+			sendError(exchange, 404, "NoSuchUpload");
+			return;
+		}
+		StringBuilder xml = new StringBuilder("<ListPartsResult><Key>")
+				.append(path.substring(path.indexOf('/') + 1)).append("</Key><UploadId>").append(uploadId)
+				.append("</UploadId><IsTruncated>false</IsTruncated>");
+		for (Map.Entry<Integer, byte[]> part : parts.entrySet()) {
+			xml.append("<Part><PartNumber>").append(part.getKey()).append("</PartNumber><ETag>&quot;")
+					.append(md5Hex(part.getValue())).append("&quot;</ETag><Size>").append(part.getValue().length)
+					.append("</Size></Part>");
+		}
+		sendXml(exchange, xml.append("</ListPartsResult>").toString());
+	}
+
+	private void handleGet(HttpExchange exchange, String path, boolean head) throws IOException {
+		StoredObject object = objects.get(path);
+		if (object == null) {
+			if (head) {
+				exchange.sendResponseHeaders(404, -1);
+			} else {
+				sendError(exchange, 404, "NoSuchKey");
+			}
+			return;
+		}
+		byte[] content = object.content();
+		int start = 0;
+		int end = content.length - 1;
+		int status = 200;
+		String range = exchange.getRequestHeaders().getFirst("Range");
+		Matcher matcher = range != null ? RANGE.matcher(range) : null;
+		if (matcher != null && matcher.matches()) {
+			start = Integer.parseInt(matcher.group(1));
+			if (!matcher.group(2).isEmpty()) {
+				end = Math.min(end, Integer.parseInt(matcher.group(2)));
+			}
+			status = 206;
+			exchange.getResponseHeaders().set("Content-Range", "bytes " + start + "-" + end + "/" + content.length);
+		}
+		exchange.getResponseHeaders().set("ETag", object.etag());
+		exchange.getResponseHeaders().set("Content-Type",
+				object.contentType() != null ? object.contentType() : "application/octet-stream");
+		exchange.getResponseHeaders().set("Last-Modified", "Thu, 01 Jan 2026 00:00:00 GMT");
+		if (head) {
+			exchange.getResponseHeaders().set("Content-Length", String.valueOf(content.length));
+			exchange.sendResponseHeaders(200, -1);
+			return;
+		}
+		int length = end - start + 1;
+		exchange.sendResponseHeaders(status, length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(content, start, length);
+		}
+	}
+
+	private static void sendXml(HttpExchange exchange, String xml) throws IOException {
+		byte[] bytes = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + xml).getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/xml");
+		exchange.sendResponseHeaders(200, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	private static void sendError(HttpExchange exchange, int status, String code) throws IOException {
+		byte[] bytes = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?><Error><Code>" + code + "</Code><Message>" + code
+				+ "</Message></Error>").getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/xml");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	// "크기(16진수);chunk-signature=...\r\n데이터\r\n" 반복, 크기 0 청크로 끝남
+	private static byte[] decodeChunked(byte[] body) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		int pos = 0;
+		while (pos < body.length) {
+			int lineEnd = indexOfCrlf(body, pos);
+			String header = new String(body, pos, lineEnd - pos, StandardCharsets.US_ASCII);
+			int size = Integer.parseInt(header.substring(0, header.indexOf(';')), 16);
+			if (size == 0) {
+				break;
+			}
+			out.write(body, lineEnd + 2, size);
+			pos = lineEnd + 2 + size + 2;
+		}
+		return out.toByteArray();
+	}
+
+	private static int indexOfCrlf(byte[] body, int from) {
+		for (int i = from; i < body.length - 1; i++) {
+			if (body[i] == '\r' && body[i + 1] == '\n') {
+				return i;
+			}
+		}
+		throw new IllegalArgumentException("잘못된 aws-chunked 본문");
+	}
+
+	private static Map<String, String> parseQuery(String rawQuery) {
+		Map<String, String> query = new HashMap<>();
+		if (rawQuery == null || rawQuery.isEmpty()) {
+			return query;
+		}
+		for (String pair : rawQuery.split("&")) {
+			int eq = pair.indexOf('=');
+			String name = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+			String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+			query.put(name, value);
+		}
+		return query;
+	}
+
+	private static String md5Hex(byte[] content) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(content));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	record StoredObject(byte[] content, String contentType, String etag) {
+	}
+}
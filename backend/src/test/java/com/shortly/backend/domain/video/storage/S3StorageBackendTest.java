@@ -0,0 +1,159 @@
+package com.shortly.backend.domain.video.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class S3StorageBackendTest {
+
+	private static final String BUCKET = "shortly-test";
+
+	@TempDir
+	Path tempDir;
+
+	private FakeS3Server server;
+	private S3StorageBackend backend;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = new FakeS3Server();
+		backend = new S3StorageBackend();
+		ReflectionTestUtils.setField(backend, "bucketName", BUCKET);
+		ReflectionTestUtils.setField(backend, "region", "us-east-1");
+		ReflectionTestUtils.setField(backend, "endpoint", server.endpoint());
+		ReflectionTestUtils.setField(backend, "accessKeyId", "test-access-key");
+		ReflectionTestUtils.setField(backend, "secretAccessKey", "test-secret-key");
+		ReflectionTestUtils.setField(backend, "pathStyleAccess", true);
+		// 1MB 파트: 2MB를 넘는 파일부터 멀티파트 업로드
+		ReflectionTestUtils.setField(backend, "partSizeMb", 1L);
+		ReflectionTestUtils.setField(backend, "transferThreads", 2);
+		backend.init();
+	}
+
+	@AfterEach
+	void tearDown() {
+		backend.shutdown();
+		server.close();
+	}
+
+	@Test
+	void storesAndFetchesSmallFile() throws Exception {
+		byte[] content = randomBytes(100 * 1024);
+		Path source = write("small.mp4", content);
+
+		backend.store("videos/small.mp4", source);
+
+		// 원격 저장소는 업로드 후 원본 파일을 남겨둠
+		assertTrue(Files.exists(source));
+		assertTrue(backend.exists("videos/small.mp4"));
+		assertEquals(content.length, backend.size("videos/small.mp4"));
+
+		Path target = tempDir.resolve("fetched-small.mp4");
+		backend.fetch("videos/small.mp4", target);
+		assertArrayEquals(content, Files.readAllBytes(target));
+	}
+
+	@Test
+	void uploadsLargeFileInParts() throws Exception {
+		byte[] content = randomBytes(3 * 1024 * 1024 + 123);
+		backend.store("videos/large.mp4", write("large.mp4", content));
+
+		assertTrue(server.requests().contains("POST /" + BUCKET + "/videos/large.mp4?uploads"));
+		assertEquals(content.length, backend.size("videos/large.mp4"));
+
+		Path target = tempDir.resolve("fetched-large.mp4");
+		backend.fetch("videos/large.mp4", target);
+		assertArrayEquals(content, Files.readAllBytes(target));
+	}
+
+	@Test
+	void deletesObject() throws Exception {
+		backend.store("videos/deleted.mp4", write("deleted.mp4", randomBytes(1024)));
+
+		backend.delete("videos/deleted.mp4");
+
+		assertFalse(backend.exists("videos/deleted.mp4"));
+		assertEquals(-1, backend.size("videos/deleted.mp4"));
+	}
+
+	@Test
+	void reportsMissingObject() {
+		assertFalse(backend.exists("videos/missing.mp4"));
+		assertEquals(-1, backend.size("videos/missing.mp4"));
+		assertThrows(IOException.class, () -> backend.fetch("videos/missing.mp4", tempDir.resolve("missing.mp4")));
+		// 없는 객체 삭제는 예외 없이 넘어감
+		backend.delete("videos/missing.mp4");
+	}
+
+	@Test
+	void presignedPutAndGetReachStoredObject() throws Exception {
+		byte[] content = randomBytes(64 * 1024);
+
+		URL putUrl = backend.presignPut("uploads/direct.mp4", "video/mp4", Duration.ofMinutes(10));
+		assertNotNull(putUrl);
+		// 서명에 Content-Type이 포함되어 클라이언트가 다른 형식으로 올릴 수 없음
+		assertTrue(putUrl.getQuery().contains("X-Amz-Signature="));
+		assertTrue(putUrl.getQuery().contains("X-Amz-SignedHeaders=content-type%3Bhost"));
+		// 만료 시각을 초 단위로 내림하므로 요청한 10분에서 1초 이내
+		long expires = Long.parseLong(putUrl.getQuery().replaceAll(".*X-Amz-Expires=(\\d+).*", "$1"));
+		assertTrue(expires >= 599 && expires <= 600);
+
+		HttpURLConnection put = (HttpURLConnection) putUrl.openConnection();
+		put.setRequestMethod("PUT");
+		put.setDoOutput(true);
+		put.setRequestProperty("Content-Type", "video/mp4");
+		try (OutputStream out = put.getOutputStream()) {
+			out.write(content);
+		}
+		assertEquals(200, put.getResponseCode());
+		put.disconnect();
+
+		assertTrue(backend.exists("uploads/direct.mp4"));
+		assertEquals("video/mp4", server.object(BUCKET, "uploads/direct.mp4").contentType());
+
+		URL getUrl = backend.presignGet("uploads/direct.mp4", Duration.ofMinutes(5));
+		assertTrue(getUrl.getQuery().contains("X-Amz-Signature="));
+		HttpURLConnection get = (HttpURLConnection) getUrl.openConnection();
+		assertEquals(200, get.getResponseCode());
+		try (InputStream in = get.getInputStream()) {
+			assertArrayEquals(content, in.readAllBytes());
+		}
+		get.disconnect();
+
+		// 직접 올라온 파일을 처리용으로 내려받는 경로도 같은 객체를 읽음
+		Path target = tempDir.resolve("fetched-direct.mp4");
+		backend.fetch("uploads/direct.mp4", target);
+		assertArrayEquals(content, Files.readAllBytes(target));
+	}
+
+	private Path write(String name, byte[] content) throws IOException {
+		Path file = tempDir.resolve(name);
+		Files.write(file, content);
+		return file;
+	}
+
+	private static byte[] randomBytes(int length) {
+		byte[] bytes = new byte[length];
+		new Random(length).nextBytes(bytes);
+		return bytes;
+	}
+}
@@ -0,0 +1,125 @@
+package com.shortly.backend.domain.video.trending;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CountMinSketchTest {
+
+	@Test
+	void rejectsInvalidDimensions() {
+		assertThrows(IllegalArgumentException.class, () -> new CountMinSketch(0, 16));
+		assertThrows(IllegalArgumentException.class, () -> new CountMinSketch(4, 0));
+		assertThrows(IllegalArgumentException.class, () -> new CountMinSketch(4, 12));
+	}
+
+	@Test
+	void addReturnsEstimateAndSumsRepeatedAdds() {
+		CountMinSketch sketch = new CountMinSketch(4, 1024);
+		assertEquals(0, sketch.estimate("a"));
+		assertEquals(2.5, sketch.add("a", 2.5));
+		assertEquals(4, sketch.add("a", 1.5));
+		assertEquals(4, sketch.estimate("a"));
+	}
+
+	@Test
+	void conservativeUpdateLeavesCellsAboveTargetUntouched() throws IOException {
+		CountMinSketch sketch = new CountMinSketch(3, 16);
+		// 0번 행만 모든 칸이 10인 상태 (다른 키들로 이미 채워진 행)
+		double[][] cells = new double[3][16];
+		Arrays.fill(cells[0], 10);
+		load(sketch, cells);
+
+		assertEquals(1, sketch.add("b", 1));
+
+		double[][] after = dump(sketch);
+		// 보통 갱신이면 0번 행의 한 칸이 11이 되지만, 추정값(1)에 닿지 않는 칸은 그대로
+		for (double cell : after[0]) {
+			assertEquals(10, cell);
+		}
+		for (int row = 1; row < 3; row++) {
+			double sum = 0;
+			for (double cell : after[row]) {
+				sum += cell;
+			}
+			assertEquals(1, sum);
+		}
+		assertEquals(1, sketch.estimate("b"));
+	}
+
+	@Test
+	void neverUnderestimatesWithCollisions() {
+		// 칸보다 키가 훨씬 많아 충돌이 잦음
+		CountMinSketch sketch = new CountMinSketch(3, 16);
+		Map<String, Double> actual = new HashMap<>();
+		Random random = new Random(7);
+		for (int i = 0; i < 5_000; i++) {
+			String key = "video:" + random.nextInt(200);
+			double delta = 1 + random.nextInt(5);
+			actual.merge(key, delta, Double::sum);
+			sketch.add(key, delta);
+		}
+		for (Map.Entry<String, Double> entry : actual.entrySet()) {
+			assertTrue(sketch.estimate(entry.getKey()) >= entry.getValue(), entry.getKey());
+		}
+	}
+
+	@Test
+	void scaleAndSerializationPreserveEstimates() throws IOException {
+		CountMinSketch sketch = new CountMinSketch(4, 64);
+		sketch.add("a", 8);
+		sketch.add("b", 3);
+		sketch.scale(0.5);
+		assertEquals(4, sketch.estimate("a"));
+
+		CountMinSketch copy = new CountMinSketch(4, 64);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			sketch.writeTo(out);
+		}
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			copy.readFrom(in);
+		}
+		assertEquals(sketch.estimate("a"), copy.estimate("a"));
+		assertEquals(sketch.estimate("b"), copy.estimate("b"));
+	}
+
+	private static void load(CountMinSketch sketch, double[][] cells) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			for (double[] row : cells) {
+				for (double cell : row) {
+					out.writeDouble(cell);
+				}
+			}
+		}
+		sketch.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+	}
+
+	private static double[][] dump(CountMinSketch sketch) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			sketch.writeTo(out);
+		}
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		double[][] cells = new double[sketch.getDepth()][sketch.getWidth()];
+		for (double[] row : cells) {
+			for (int column = 0; column < row.length; column++) {
+				row[column] = in.readDouble();
+			}
+		}
+		return cells;
+	}
+}
@@ -0,0 +1,103 @@
+package com.shortly.backend.domain.video.trending;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TopKHeapTest {
+
+	@Test
+	void rejectsNonPositiveCapacity() {
+		assertThrows(IllegalArgumentException.class, () -> new TopKHeap(0));
+	}
+
+	@Test
+	void keepsHighestScoresWhenFull() {
+		TopKHeap heap = new TopKHeap(3);
+		heap.offer("a", 5);
+		heap.offer("b", 1);
+		heap.offer("c", 3);
+		// 최솟값(b)보다 높으면 밀어내고, 낮거나 같으면 무시
+		heap.offer("d", 4);
+		heap.offer("e", 3);
+
+		assertEquals(List.of("a", "d", "c"), keys(heap));
+		assertEquals(3, heap.size());
+	}
+
+	@Test
+	void existingKeyOnlyMovesUp() {
+		TopKHeap heap = new TopKHeap(3);
+		heap.offer("a", 5);
+		heap.offer("b", 4);
+		heap.offer("c", 3);
+
+		heap.offer("c", 10);
+		assertEquals(List.of("c", "a", "b"), keys(heap));
+		// 점수가 줄어든 값은 반영하지 않음
+		heap.offer("a", 1);
+		assertEquals(List.of("c", "a", "b"), keys(heap));
+		assertEquals(5, heap.sorted().get(1).getScore());
+
+		// 루트였던 b가 올라가도 다음 새 키는 새 최솟값과 비교됨
+		heap.offer("b", 6);
+		heap.offer("d", 5.5);
+		assertEquals(List.of("c", "b", "d"), keys(heap));
+	}
+
+	@Test
+	void scaleKeepsOrderAndMultipliesScores() {
+		TopKHeap heap = new TopKHeap(4);
+		heap.offer("a", 8);
+		heap.offer("b", 2);
+		heap.offer("c", 4);
+		heap.scale(0.25);
+
+		List<TopKHeap.Entry> sorted = heap.sorted();
+		assertEquals(List.of("a", "c", "b"), keys(heap));
+		assertEquals(2, sorted.get(0).getScore());
+		assertEquals(0.5, sorted.get(2).getScore());
+
+		// 줄어든 최솟값(b) 기준으로 새 키를 받음
+		heap.offer("d", 1.5);
+		heap.offer("e", 0.75);
+		assertEquals(List.of("a", "d", "c", "e"), keys(heap));
+	}
+
+	@Test
+	void matchesTopScoresUnderRandomIncreasingOffers() {
+		int capacity = 10;
+		TopKHeap heap = new TopKHeap(capacity);
+		Map<String, Double> finalScores = new HashMap<>();
+		Random random = new Random(3);
+		for (int i = 0; i < 20_000; i++) {
+			String key = "k" + random.nextInt(100);
+			// 실제 사용처처럼 키별 점수는 늘어나기만 함
+			double score = finalScores.getOrDefault(key, 0.0) + random.nextDouble();
+			finalScores.put(key, score);
+			heap.offer(key, score);
+		}
+
+		List<String> expected = new ArrayList<>(finalScores.keySet());
+		expected.sort((a, b) -> Double.compare(finalScores.get(b), finalScores.get(a)));
+		assertEquals(expected.subList(0, capacity), keys(heap));
+		for (TopKHeap.Entry entry : heap.sorted()) {
+			assertEquals(finalScores.get(entry.getKey()), entry.getScore());
+		}
+	}
+
+	private static List<String> keys(TopKHeap heap) {
+		List<String> keys = new ArrayList<>();
+		for (TopKHeap.Entry entry : heap.sorted()) {
+			keys.add(entry.getKey());
+		}
+		return keys;
+	}
+}
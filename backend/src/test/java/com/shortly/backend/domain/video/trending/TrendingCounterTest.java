@@ -0,0 +1,117 @@
+package com.shortly.backend.domain.video.trending;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrendingCounterTest {
+
+	private static final long HALF_LIFE = 60_000;
+	private static final long T0 = 1_700_000_000_000L;
+
+	@Test
+	void scoresHalveEveryHalfLife() {
+		TrendingCounter counter = newCounter();
+		counter.add("a", 8, T0);
+
+		assertEquals(8, counter.estimate("a", T0), 1e-9);
+		assertEquals(4, counter.estimate("a", T0 + HALF_LIFE), 1e-9);
+		assertEquals(2, counter.top(10, 0, T0 + 2 * HALF_LIFE).get(0).getScore(), 1e-9);
+	}
+
+	@Test
+	void recentActivityOutranksOlderActivity() {
+		TrendingCounter counter = newCounter();
+		counter.add("old", 3, T0);
+		counter.add("new", 2, T0 + HALF_LIFE);
+
+		// 같은 시각에 보면 old는 1.5, new는 2
+		List<TopKHeap.Entry> top = counter.top(10, 0, T0 + HALF_LIFE);
+		assertEquals(List.of("new", "old"), keys(top));
+		assertEquals(1.5, top.get(1).getScore(), 1e-9);
+
+		counter.add("old", 1, T0 + HALF_LIFE);
+		assertEquals(List.of("old", "new"), keys(counter.top(10, 0, T0 + 2 * HALF_LIFE)));
+	}
+
+	@Test
+	void topAppliesLimitAndMinScore() {
+		TrendingCounter counter = newCounter();
+		counter.add("a", 10, T0);
+		counter.add("b", 5, T0);
+		counter.add("c", 1, T0);
+		counter.add("d", 0, T0);
+		counter.add(null, 5, T0);
+
+		assertEquals(List.of("a", "b"), keys(counter.top(2, 0, T0)));
+		assertEquals(List.of("a", "b"), keys(counter.top(10, 2, T0)));
+		// 한 반감기 뒤에는 b가 2.5라 남고, 두 반감기 뒤에는 빠짐
+		assertEquals(List.of("a", "b"), keys(counter.top(10, 2, T0 + HALF_LIFE)));
+		assertEquals(List.of("a"), keys(counter.top(10, 2, T0 + 2 * HALF_LIFE)));
+	}
+
+	@Test
+	void staysAccurateAfterLandmarkMoves() {
+		TrendingCounter counter = newCounter();
+		counter.add("a", 1, T0);
+		// 배율 지수가 30을 넘는 시점 (반감기 약 43번) 이후에도 값이 맞아야 함
+		long later = T0 + 100 * HALF_LIFE;
+		counter.add("b", 4, later);
+		counter.add("b", 4, later + HALF_LIFE);
+
+		assertEquals(6, counter.estimate("b", later + HALF_LIFE), 1e-9);
+		assertTrue(counter.estimate("a", later) < 1e-20);
+		assertEquals(List.of("b"), keys(counter.top(10, 1e-6, later + HALF_LIFE)));
+	}
+
+	@Test
+	void snapshotRoundTripKeepsScoresAndKeepsDecaying() throws IOException {
+		TrendingCounter counter = newCounter();
+		counter.add("a", 8, T0);
+		counter.add("b", 4, T0 + HALF_LIFE);
+		byte[] snapshot = counter.toSnapshot(T0 + HALF_LIFE);
+
+		TrendingCounter restored = TrendingCounter.fromSnapshot(snapshot, HALF_LIFE, 4, 256, 8);
+		long later = T0 + 3 * HALF_LIFE;
+		assertEquals(counter.estimate("a", later), restored.estimate("a", later), 1e-9);
+		assertEquals(1, restored.estimate("b", later), 1e-9);
+		List<TopKHeap.Entry> top = restored.top(10, 0, later);
+		assertEquals(keys(counter.top(10, 0, later)), keys(top));
+		assertEquals(1, top.get(0).getScore(), 1e-9);
+
+		// 복원한 뒤에도 이어서 더할 수 있음
+		restored.add("b", 1, later);
+		assertEquals(2, restored.estimate("b", later), 1e-9);
+	}
+
+	@Test
+	void snapshotWithOtherDimensionsOrVersionIsRejected() {
+		TrendingCounter counter = newCounter();
+		counter.add("a", 1, T0);
+		byte[] snapshot = counter.toSnapshot(T0);
+
+		assertThrows(IOException.class, () -> TrendingCounter.fromSnapshot(snapshot, HALF_LIFE, 4, 512, 8));
+		byte[] otherVersion = snapshot.clone();
+		ByteBuffer.wrap(otherVersion).putInt(0, 99);
+		assertThrows(IOException.class, () -> TrendingCounter.fromSnapshot(otherVersion, HALF_LIFE, 4, 256, 8));
+	}
+
+	private static TrendingCounter newCounter() {
+		return new TrendingCounter(HALF_LIFE, 4, 256, 8, T0);
+	}
+
+	private static List<String> keys(List<TopKHeap.Entry> entries) {
+		List<String> keys = new ArrayList<>();
+		for (TopKHeap.Entry entry : entries) {
+			keys.add(entry.getKey());
+		}
+		return keys;
+	}
+}
@@ -0,0 +1,151 @@
+package com.shortly.backend.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongHashSetTest {
+
+	// new LongHashSet(1000)의 테이블 크기 (1000 / 0.6 이상인 2의 거듭제곱)
+	private static final int CAPACITY_FOR_1000 = 2048;
+
+	@Test
+	void zeroIsStoredOutsideTable() {
+		LongHashSet set = new LongHashSet(4);
+		assertFalse(set.contains(0));
+		assertTrue(set.add(0));
+		assertFalse(set.add(0));
+		assertTrue(set.contains(0));
+		assertEquals(1, set.size());
+
+		assertTrue(set.add(7));
+		assertEquals(2, set.size());
+		assertTrue(set.remove(0));
+		assertFalse(set.remove(0));
+		assertFalse(set.contains(0));
+		assertTrue(set.contains(7));
+		assertEquals(1, set.size());
+	}
+
+	@Test
+	void addReportsDuplicatesAndNegativeValues() {
+		LongHashSet set = new LongHashSet(4);
+		assertTrue(set.add(-1));
+		assertTrue(set.add(Long.MIN_VALUE));
+		assertTrue(set.add(Long.MAX_VALUE));
+		assertFalse(set.add(-1));
+		assertTrue(set.contains(Long.MIN_VALUE));
+		assertTrue(set.contains(Long.MAX_VALUE));
+		assertFalse(set.contains(1));
+		assertEquals(3, set.size());
+	}
+
+	@Test
+	void removeInsideClusterKeepsLaterProbesReachable() {
+		LongHashSet set = new LongHashSet(1000);
+		int home = 100;
+		// 같은 칸에서 시작하는 값 5개와 바로 다음 칸에서 시작하는 값 2개로 한 덩어리를 만듦
+		List<Long> sameHome = valuesWithHome(home, 5);
+		List<Long> nextHome = valuesWithHome(home + 1, 2);
+		List<Long> cluster = new ArrayList<>(sameHome);
+		cluster.addAll(nextHome);
+		for (long value : cluster) {
+			assertTrue(set.add(value));
+		}
+
+		// 덩어리 앞쪽을 지워도 뒤로 밀려난 값들을 계속 찾을 수 있어야 함
+		assertTrue(set.remove(sameHome.get(0)));
+		assertTrue(set.remove(sameHome.get(2)));
+		assertFalse(set.contains(sameHome.get(0)));
+		assertFalse(set.contains(sameHome.get(2)));
+		for (long value : List.of(sameHome.get(1), sameHome.get(3), sameHome.get(4), nextHome.get(0), nextHome.get(1))) {
+			assertTrue(set.contains(value), "덩어리 안의 값을 찾지 못함: " + value);
+		}
+		assertEquals(5, set.size());
+
+		assertFalse(set.remove(sameHome.get(0)));
+		assertTrue(set.add(sameHome.get(0)));
+		assertEquals(6, set.size());
+	}
+
+	@Test
+	void removeClusterWrappingAroundTableEnd() {
+		LongHashSet set = new LongHashSet(1000);
+		// 마지막 칸에서 시작해 0번 칸 쪽으로 이어지는 덩어리
+		List<Long> wrapping = valuesWithHome(CAPACITY_FOR_1000 - 1, 4);
+		List<Long> first = valuesWithHome(0, 1);
+		for (long value : wrapping) {
+			set.add(value);
+		}
+		set.add(first.get(0));
+
+		assertTrue(set.remove(wrapping.get(0)));
+		assertTrue(set.remove(wrapping.get(1)));
+		assertTrue(set.contains(wrapping.get(2)));
+		assertTrue(set.contains(wrapping.get(3)));
+		assertTrue(set.contains(first.get(0)));
+		assertEquals(3, set.size());
+	}
+
+	@Test
+	void growsPastInitialCapacity() {
+		LongHashSet set = new LongHashSet(2);
+		for (long value = 1; value <= 10_000; value++) {
+			assertTrue(set.add(value));
+		}
+		assertEquals(10_000, set.size());
+		for (long value = 1; value <= 10_000; value++) {
+			assertTrue(set.contains(value));
+		}
+		for (long value = 2; value <= 10_000; value += 2) {
+			assertTrue(set.remove(value));
+		}
+		assertEquals(5_000, set.size());
+		for (long value = 1; value <= 10_000; value++) {
+			assertEquals(value % 2 == 1, set.contains(value));
+		}
+	}
+
+	@Test
+	void matchesHashSetUnderRandomOperations() {
+		Random random = new Random(42);
+		LongHashSet set = new LongHashSet(16);
+		Set<Long> expected = new HashSet<>();
+		for (int i = 0; i < 200_000; i++) {
+			// 좁은 범위의 값으로 충돌과 삭제 후 재배치가 자주 일어나게 함
+			long value = random.nextInt(3_000) - 100;
+			int op = random.nextInt(3);
+			if (op == 0) {
+				assertEquals(expected.add(value), set.add(value));
+			} else if (op == 1) {
+				assertEquals(expected.remove(value), set.remove(value));
+			} else {
+				assertEquals(expected.contains(value), set.contains(value));
+			}
+		}
+		assertEquals(expected.size(), set.size());
+		for (long value = -100; value < 2_900; value++) {
+			assertEquals(expected.contains(value), set.contains(value), "불일치: " + value);
+		}
+	}
+
+	// LongHashSet.index와 같은 섞기로 시작 칸이 home인 값을 찾음
+	private static List<Long> valuesWithHome(int home, int count) {
+		List<Long> values = new ArrayList<>(count);
+		for (long value = 1; values.size() < count; value++) {
+			long h = value * 0x9E3779B97F4A7C15L;
+			if (((int) (h ^ (h >>> 32)) & (CAPACITY_FOR_1000 - 1)) == home) {
+				values.add(value);
+			}
+		}
+		return values;
+	}
+}
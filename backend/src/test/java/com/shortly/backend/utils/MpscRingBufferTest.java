@@ -0,0 +1,122 @@
+package com.shortly.backend.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MpscRingBufferTest {
+
+	@Test
+	void rejectsCapacityThatIsNotPowerOfTwo() {
+		assertThrows(IllegalArgumentException.class, () -> new MpscRingBuffer<>(0));
+		assertThrows(IllegalArgumentException.class, () -> new MpscRingBuffer<>(1));
+		assertThrows(IllegalArgumentException.class, () -> new MpscRingBuffer<>(6));
+	}
+
+	@Test
+	void offerFailsWhenFullAndSucceedsAfterDrain() {
+		MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+		for (int i = 0; i < 4; i++) {
+			assertTrue(buffer.offer(i));
+		}
+		assertFalse(buffer.offer(4));
+		assertEquals(4, buffer.size());
+
+		List<Integer> drained = new ArrayList<>();
+		assertEquals(2, buffer.drainTo(drained, 2));
+		assertEquals(List.of(0, 1), drained);
+
+		// 비운 칸만큼 다시 들어가고 그다음은 다시 가득 참
+		assertTrue(buffer.offer(4));
+		assertTrue(buffer.offer(5));
+		assertFalse(buffer.offer(6));
+	}
+
+	@Test
+	void drainKeepsOfferOrderAcrossWrapAround() {
+		MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(8);
+		List<Integer> drained = new ArrayList<>();
+		int next = 0;
+		// 여러 바퀴를 돌며 칸 순번이 계속 맞는지 확인
+		for (int round = 0; round < 10; round++) {
+			for (int i = 0; i < 5; i++) {
+				assertTrue(buffer.offer(next++));
+			}
+			buffer.drainTo(drained, Integer.MAX_VALUE);
+		}
+		assertEquals(50, drained.size());
+		for (int i = 0; i < drained.size(); i++) {
+			assertEquals(i, drained.get(i));
+		}
+		assertEquals(0, buffer.size());
+		assertEquals(0, buffer.drainTo(drained, 10));
+	}
+
+	@Test
+	void concurrentProducersDeliverEveryElementOnceInPerProducerOrder() throws Exception {
+		int producers = 4;
+		int perProducer = 100_000;
+		MpscRingBuffer<long[]> buffer = new MpscRingBuffer<>(1024);
+		ExecutorService executor = Executors.newFixedThreadPool(producers);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Integer>> results = new ArrayList<>();
+		try {
+			for (int p = 0; p < producers; p++) {
+				long producer = p;
+				results.add(executor.submit(() -> {
+					start.await();
+					int rejected = 0;
+					for (long seq = 0; seq < perProducer; seq++) {
+						// 가득 차면 false를 받고 다시 시도 (기다리지 않음)
+						while (!buffer.offer(new long[]{producer, seq})) {
+							rejected++;
+							Thread.onSpinWait();
+						}
+					}
+					return rejected;
+				}));
+			}
+
+			start.countDown();
+			long[] nextSeq = new long[producers];
+			List<long[]> batch = new ArrayList<>();
+			int received = 0;
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+			while (received < producers * perProducer) {
+				assertTrue(System.nanoTime() < deadline, "소비가 제때 끝나지 않음: " + received);
+				batch.clear();
+				if (buffer.drainTo(batch, 256) == 0) {
+					Thread.onSpinWait();
+					continue;
+				}
+				for (long[] element : batch) {
+					int producer = (int) element[0];
+					// 같은 생산자의 항목은 넣은 순서대로, 빠짐이나 중복 없이 나옴
+					assertEquals(nextSeq[producer], element[1]);
+					nextSeq[producer]++;
+				}
+				received += batch.size();
+			}
+			for (Future<Integer> result : results) {
+				result.get(5, TimeUnit.SECONDS);
+			}
+			for (long seq : nextSeq) {
+				assertEquals(perProducer, seq);
+			}
+			assertEquals(0, buffer.size());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}